@@ -20,9 +20,21 @@
 package org.apache.fineract.avro.generator;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 
 public interface ByteBufferSerializable {
 
     ByteBuffer toByteBuffer() throws IOException;
+
+    /**
+     * Writes the serialized form into the given stream, letting callers reuse their own buffers instead of allocating a
+     * new {@link ByteBuffer} per message.
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        ByteBuffer buffer = toByteBuffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        out.write(bytes);
+    }
 }
@@ -0,0 +1,148 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.command;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.commands.domain.CommandProcessingResultType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Transaction cost of a write command in {@code SynchronousCommandProcessingService}: the default path commits the
+ * command source, the business changes and the command result in three transactions, the single transaction path
+ * ({@code fineract.command.single-transaction.enabled}) commits all of them once. Both benchmarks issue the same
+ * statements with the propagation and isolation of {@code CommandSourceService} against scratch tables, so the
+ * difference is the cost of the two extra commits and connection checkouts.
+ * <p>
+ * Unlike the calculation benchmarks this one needs a database, configured with the {@code FINERACT_BENCHMARK_JDBC_URL},
+ * {@code FINERACT_BENCHMARK_JDBC_USERNAME} and {@code FINERACT_BENCHMARK_JDBC_PASSWORD} environment variables (MariaDB
+ * on localhost by default). Run it with several threads ({@code -t}) as well, commits of concurrent transactions are
+ * grouped by the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandTransactionBenchmark {
+
+    private static final String INSERT_COMMAND_SOURCE = "insert into bench_command_source (idempotency_key, status) values (?, ?)";
+    private static final String INSERT_BUSINESS_ROW = "insert into bench_business_row (command_id, amount) values (?, ?)";
+    private static final String UPDATE_COMMAND_SOURCE = "update bench_command_source set status = ?, result_status_code = ?, result = ? "
+            + "where id = ?";
+    private static final String RESULT = "{\"resourceId\":1,\"changes\":{}}";
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate newTransaction;
+    private TransactionTemplate transaction;
+
+    @Setup
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(env("FINERACT_BENCHMARK_JDBC_URL", "jdbc:mariadb://localhost:3306/fineract_default"));
+        config.setUsername(env("FINERACT_BENCHMARK_JDBC_USERNAME", "root"));
+        config.setPassword(env("FINERACT_BENCHMARK_JDBC_PASSWORD", "mysql"));
+        config.setMaximumPoolSize(Runtime.getRuntime().availableProcessors() * 2);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        newTransaction = new TransactionTemplate(transactionManager);
+        newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        newTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        transaction = new TransactionTemplate(transactionManager);
+
+        String identity = config.getJdbcUrl().startsWith("jdbc:postgresql") ? "bigserial" : "bigint auto_increment";
+        dropTables();
+        jdbcTemplate.execute("create table bench_command_source (id " + identity + " primary key, idempotency_key varchar(50) not null, "
+                + "status smallint not null, result_status_code int, result text, unique (idempotency_key))");
+        jdbcTemplate.execute("create table bench_business_row (id " + identity + " primary key, command_id bigint not null, "
+                + "amount decimal(19, 6) not null)");
+    }
+
+    @TearDown
+    public void tearDown() {
+        dropTables();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public long separateTransactions() {
+        // saveInitialNewTransaction, processCommand and saveResultSameTransaction without an enclosing transaction
+        long commandId = Objects.requireNonNull(newTransaction.execute(status -> insertCommandSource()));
+        transaction.executeWithoutResult(status -> insertBusinessRow(commandId));
+        transaction.executeWithoutResult(status -> updateCommandSource(commandId));
+        return commandId;
+    }
+
+    @Benchmark
+    public long singleTransaction() {
+        return Objects.requireNonNull(transaction.execute(status -> {
+            long commandId = insertCommandSource();
+            insertBusinessRow(commandId);
+            updateCommandSource(commandId);
+            return commandId;
+        }));
+    }
+
+    private long insertCommandSource() {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_COMMAND_SOURCE, new String[] { "id" });
+            statement.setString(1, UUID.randomUUID().toString());
+            statement.setInt(2, CommandProcessingResultType.UNDER_PROCESSING.getValue());
+            return statement;
+        }, keyHolder);
+        return Objects.requireNonNull(keyHolder.getKey()).longValue();
+    }
+
+    private void insertBusinessRow(long commandId) {
+        jdbcTemplate.update(INSERT_BUSINESS_ROW, commandId, BigDecimal.TEN);
+    }
+
+    private void updateCommandSource(long commandId) {
+        jdbcTemplate.update(UPDATE_COMMAND_SOURCE, CommandProcessingResultType.PROCESSED.getValue(), 200, RESULT, commandId);
+    }
+
+    private void dropTables() {
+        jdbcTemplate.execute("drop table if exists bench_business_row");
+        jdbcTemplate.execute("drop table if exists bench_command_source");
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.event;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.avro.BulkMessageItemV1;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.apache.fineract.infrastructure.event.external.service.support.ExternalEventPayloadSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per-event cost of turning the Avro DTOs raised within one transaction into {@code m_external_event} payloads: the
+ * former allocate-and-copy path through {@link ByteBufferConverter}, the reused per-thread buffer of
+ * {@link ExternalEventPayloadSerializer}, and the same with payload compression switched on.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(ExternalEventSerializationBenchmark.EVENTS_PER_TRANSACTION)
+public class ExternalEventSerializationBenchmark {
+
+    static final int EVENTS_PER_TRANSACTION = 50;
+
+    @Param({ "256", "2048" })
+    private int payloadSize;
+
+    private final ByteBufferConverter byteBufferConverter = new ByteBufferConverter();
+    private final ExternalEventPayloadSerializer payloadSerializer = new ExternalEventPayloadSerializer(new FineractProperties());
+    private List<BulkMessageItemV1> events;
+
+    @Setup
+    public void setUp() {
+        events = new ArrayList<>(EVENTS_PER_TRANSACTION);
+        for (int i = 0; i < EVENTS_PER_TRANSACTION; i++) {
+            events.add(new BulkMessageItemV1((long) i + 1, "LoanTransactionMakeRepaymentPostBusinessEvent", "Loan",
+                    "org.apache.fineract.avro.loan.v1.LoanTransactionDataV1", ByteBuffer.wrap(payload(i))));
+        }
+    }
+
+    @Benchmark
+    public void byteBufferCopy(Blackhole blackhole) throws IOException {
+        for (BulkMessageItemV1 event : events) {
+            blackhole.consume(byteBufferConverter.convert(event.toByteBuffer()));
+        }
+    }
+
+    @Benchmark
+    public void reusedBuffer(Blackhole blackhole) throws IOException {
+        for (BulkMessageItemV1 event : events) {
+            blackhole.consume(payloadSerializer.serialize(event, false));
+        }
+    }
+
+    @Benchmark
+    public void reusedBufferCompressed(Blackhole blackhole) throws IOException {
+        for (BulkMessageItemV1 event : events) {
+            blackhole.consume(payloadSerializer.serialize(event, true));
+        }
+    }
+
+    private byte[] payload(int seed) {
+        // field names repeat across events like they do in the serialized loan DTOs, amounts and ids differ
+        StringBuilder builder = new StringBuilder(payloadSize);
+        int field = 0;
+        while (builder.length() < payloadSize) {
+            builder.append("amount").append(field++).append('=').append((seed * 31 + field) % 10_000).append(".00;");
+        }
+        return builder.substring(0, payloadSize).getBytes(StandardCharsets.UTF_8);
+    }
+}
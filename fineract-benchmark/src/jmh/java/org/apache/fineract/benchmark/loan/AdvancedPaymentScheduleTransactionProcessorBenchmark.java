@@ -0,0 +1,215 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.loan;
+
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.ANNUAL_INTEREST_RATE;
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.CURRENCY;
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.DISBURSEMENT_DATE;
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.MONETARY_CURRENCY;
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.PRINCIPAL;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.domain.ChangedTransactionDetail;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanChargeOffBehaviour;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanPaymentAllocationRule;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanTransaction;
+import org.apache.fineract.portfolio.loanaccount.domain.transactionprocessor.impl.AdvancedPaymentScheduleTransactionProcessor;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleProcessingType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleType;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.apache.fineract.portfolio.loanproduct.calc.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanproduct.calc.data.RepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.domain.AmortizationMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.FutureInstallmentAllocationRule;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestCalculationPeriodMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProduct;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanProductRelatedDetail;
+import org.apache.fineract.portfolio.loanproduct.domain.PaymentAllocationTransactionType;
+import org.apache.fineract.portfolio.loanproduct.domain.PaymentAllocationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Full reprocessing of a progressive loan with the advanced payment allocation strategy, the work done on every
+ * backdated transaction, reversal and COB recalculation. The loan, its installments and its transactions are plain
+ * entities that are never persisted, so the score reflects the processor and the EMI calculator rather than persistence.
+ * <p>
+ * Reprocessing mutates the installments and the transactions, so both are rebuilt before every invocation. One
+ * invocation takes milliseconds, which keeps the per invocation setup overhead out of the score.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AdvancedPaymentScheduleTransactionProcessorBenchmark {
+
+    @Param({ "120" })
+    private int numberOfRepayments;
+
+    @Param({ "100", "500" })
+    private int numberOfTransactions;
+
+    private final ProgressiveEMICalculator emiCalculator = new ProgressiveEMICalculator();
+    private final AdvancedPaymentScheduleTransactionProcessor processor = new AdvancedPaymentScheduleTransactionProcessor(emiCalculator,
+            null, null, null);
+
+    private Loan loan;
+    private List<RepaymentPeriod> schedule;
+    private BigDecimal repaymentAmount;
+    private long termInDays;
+
+    private List<LoanRepaymentScheduleInstallment> installments;
+    private List<LoanTransaction> transactions;
+
+    @Setup(Level.Trial)
+    public void setUpLoan() {
+        final LocalDate maturityDate = DISBURSEMENT_DATE.plusMonths(numberOfRepayments);
+        LoanBenchmarkSupport.initializeContext(maturityDate);
+
+        final ProgressiveLoanInterestScheduleModel model = emiCalculator.generatePeriodInterestScheduleModel(
+                LoanBenchmarkSupport.monthlyRepaymentPeriods(numberOfRepayments),
+                LoanBenchmarkSupport.progressiveProductDetail(numberOfRepayments), List.of(), null, MoneyHelper.getMathContext());
+        emiCalculator.addDisbursement(model, DISBURSEMENT_DATE, LoanBenchmarkSupport.money(PRINCIPAL));
+        schedule = model.repaymentPeriods();
+
+        final BigDecimal totalDue = schedule.stream().map(period -> period.getDuePrincipal().plus(period.getDueInterest()).getAmount())
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        repaymentAmount = totalDue.divide(BigDecimal.valueOf(numberOfTransactions), 2, RoundingMode.HALF_EVEN);
+        termInDays = ChronoUnit.DAYS.between(DISBURSEMENT_DATE, maturityDate);
+
+        loan = newLoan();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpTransactions() {
+        installments = new ArrayList<>(schedule.size());
+        int installmentNumber = 1;
+        for (RepaymentPeriod period : schedule) {
+            installments.add(new LoanRepaymentScheduleInstallment(loan, installmentNumber++, period.getFromDate(), period.getDueDate(),
+                    period.getDuePrincipal().getAmount(), period.getDueInterest().getAmount(), BigDecimal.ZERO, BigDecimal.ZERO, false,
+                    null, BigDecimal.ZERO));
+        }
+
+        transactions = new ArrayList<>(numberOfTransactions + 1);
+        final LoanTransaction disbursement = LoanTransaction.disbursement(loan, LoanBenchmarkSupport.money(PRINCIPAL), null,
+                DISBURSEMENT_DATE, ExternalId.empty(), Money.zero(MONETARY_CURRENCY));
+        disbursement.updateLoan(loan);
+        transactions.add(disbursement);
+        final Money repayment = LoanBenchmarkSupport.money(repaymentAmount);
+        for (int i = 1; i <= numberOfTransactions; i++) {
+            final LocalDate transactionDate = DISBURSEMENT_DATE.plusDays(termInDays * i / (numberOfTransactions + 1));
+            final LoanTransaction transaction = LoanTransaction.repayment(null, repayment, null, transactionDate, ExternalId.empty());
+            transaction.updateLoan(loan);
+            transactions.add(transaction);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LoanBenchmarkSupport.resetContext();
+    }
+
+    @Benchmark
+    public ChangedTransactionDetail reprocessTransactions() {
+        return processor.reprocessLoanTransactions(DISBURSEMENT_DATE, transactions, MONETARY_CURRENCY, installments, Set.of());
+    }
+
+    private Loan newLoan() {
+        final LoanProductRelatedDetail detail = LoanProductRelatedDetail.createFrom(CURRENCY, PRINCIPAL, ANNUAL_INTEREST_RATE,
+                PeriodFrequencyType.YEARS, ANNUAL_INTEREST_RATE, InterestMethod.DECLINING_BALANCE, InterestCalculationPeriodMethod.DAILY,
+                false, 1, PeriodFrequencyType.MONTHS, numberOfRepayments, null, null, null, null, AmortizationMethod.EQUAL_INSTALLMENTS,
+                null, null, DaysInMonthType.ACTUAL.getValue(), DaysInYearType.ACTUAL.getValue(), false, false, false, null, false,
+                LoanScheduleType.PROGRESSIVE, LoanScheduleProcessingType.HORIZONTAL, null, false, List.of(), LoanChargeOffBehaviour.REGULAR,
+                false, null);
+        final Loan loan = new UnpersistedLoan(detail);
+        loan.setExpectedDisbursementDate(DISBURSEMENT_DATE);
+        loan.getPaymentAllocationRules().add(new LoanPaymentAllocationRule(loan, PaymentAllocationTransactionType.DEFAULT,
+                Arrays.asList(PaymentAllocationType.values()), FutureInstallmentAllocationRule.NEXT_INSTALLMENT));
+        return loan;
+    }
+
+    /**
+     * The loan entity reads its terms from columns of the embedded product detail, which are only filled by JPA or the
+     * application assembler; this loan answers them from a detail built in memory instead.
+     */
+    private static final class UnpersistedLoan extends Loan {
+
+        private final LoanProductRelatedDetail detail;
+        private final LoanProduct loanProduct = new LoanProduct();
+
+        private UnpersistedLoan(LoanProductRelatedDetail detail) {
+            this.detail = detail;
+        }
+
+        @Override
+        public LoanProductRelatedDetail getLoanProductRelatedDetail() {
+            return detail;
+        }
+
+        @Override
+        public LoanProductRelatedDetail getLoanRepaymentScheduleDetail() {
+            return detail;
+        }
+
+        @Override
+        public LoanProduct getLoanProduct() {
+            return loanProduct;
+        }
+
+        @Override
+        public MonetaryCurrency getCurrency() {
+            return detail.getCurrency();
+        }
+
+        @Override
+        public Money getPrincipal() {
+            return detail.getPrincipal();
+        }
+
+        @Override
+        public boolean isInterestRecalculationEnabled() {
+            return detail.isInterestRecalculationEnabled();
+        }
+    }
+}
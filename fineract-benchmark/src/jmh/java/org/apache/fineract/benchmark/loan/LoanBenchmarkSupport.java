@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.loan;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.data.LoanProductRelatedDetailMinimumData;
+import org.apache.fineract.portfolio.loanproduct.domain.AmortizationMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestCalculationPeriodMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.mockito.Mockito;
+
+/**
+ * Shared fixtures of the loan benchmarks. The calculation engines read the rounding mode, the tenant and the business
+ * date from static holders which are normally filled by Spring and the tenant filter, so every benchmark state has to
+ * call {@link #initializeContext(LocalDate)} on the thread that runs the benchmark.
+ */
+final class LoanBenchmarkSupport {
+
+    static final CurrencyData CURRENCY = new CurrencyData("USD", "US Dollar", 2, 1, "$", "USD");
+    static final MonetaryCurrency MONETARY_CURRENCY = MonetaryCurrency.fromCurrencyData(CURRENCY);
+    static final LocalDate DISBURSEMENT_DATE = LocalDate.of(2024, 1, 1);
+    static final BigDecimal PRINCIPAL = BigDecimal.valueOf(100_000);
+    static final BigDecimal ANNUAL_INTEREST_RATE = BigDecimal.valueOf(9.5);
+
+    private LoanBenchmarkSupport() {}
+
+    static void initializeContext(LocalDate businessDate) {
+        ConfigurationDomainService configurationDomainService = Mockito.mock(ConfigurationDomainService.class);
+        Mockito.when(configurationDomainService.getRoundingMode()).thenReturn(6); // HALF_EVEN, the default
+        MoneyHelper moneyHelper = new MoneyHelper();
+        try {
+            Field field = MoneyHelper.class.getDeclaredField("configurationDomainService");
+            field.setAccessible(true);
+            field.set(moneyHelper, configurationDomainService);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to initialize the money helper", e);
+        }
+        moneyHelper.initialize();
+
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "UTC", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, businessDate)));
+    }
+
+    static void resetContext() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    static Money money(BigDecimal amount) {
+        return Money.of(MONETARY_CURRENCY, amount);
+    }
+
+    static List<LoanScheduleModelRepaymentPeriod> monthlyRepaymentPeriods(int numberOfRepayments) {
+        final Money zero = Money.zero(CURRENCY, MoneyHelper.getMathContext());
+        final List<LoanScheduleModelRepaymentPeriod> periods = new ArrayList<>(numberOfRepayments);
+        for (int i = 0; i < numberOfRepayments; i++) {
+            final LocalDate fromDate = DISBURSEMENT_DATE.plusMonths(i);
+            periods.add(LoanScheduleModelRepaymentPeriod.repayment(i + 1, fromDate, fromDate.plusMonths(1), zero, zero, zero, zero, zero,
+                    zero, false, MoneyHelper.getMathContext()));
+        }
+        return periods;
+    }
+
+    static LoanProductRelatedDetailMinimumData progressiveProductDetail(int numberOfRepayments) {
+        return new LoanProductRelatedDetailMinimumData(CURRENCY, ANNUAL_INTEREST_RATE, ANNUAL_INTEREST_RATE, null, null, null, null,
+                InterestMethod.DECLINING_BALANCE, InterestCalculationPeriodMethod.DAILY, DaysInYearType.ACTUAL, DaysInMonthType.ACTUAL,
+                AmortizationMethod.EQUAL_INSTALLMENTS, PeriodFrequencyType.MONTHS, 1, numberOfRepayments, false, null);
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.loan;
+
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.ANNUAL_INTEREST_RATE;
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.CURRENCY;
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.DISBURSEMENT_DATE;
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.PRINCIPAL;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.organisation.workingdays.domain.RepaymentRescheduleType;
+import org.apache.fineract.organisation.workingdays.domain.WorkingDays;
+import org.apache.fineract.portfolio.common.domain.DayOfWeekType;
+import org.apache.fineract.portfolio.common.domain.DaysInMonthType;
+import org.apache.fineract.portfolio.common.domain.DaysInYearType;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.data.HolidayDetailDTO;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.data.LoanSchedulePlan;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.CumulativeDecliningBalanceInterestLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultPaymentPeriodsInOneYearCalculator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanApplicationTerms;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanRepaymentScheduleModelData;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModel;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleProcessingType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.ProgressiveLoanScheduleGenerator;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.apache.fineract.portfolio.loanproduct.domain.AmortizationMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestCalculationPeriodMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.InterestMethod;
+import org.apache.fineract.portfolio.loanproduct.domain.LoanPreCloseInterestCalculationStrategy;
+import org.apache.fineract.portfolio.loanproduct.domain.RepaymentStartDateType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Full repayment schedule generation with the cumulative declining balance generator (the
+ * {@code AbstractCumulativeLoanScheduleGenerator} code path) and with the progressive generator. The loan application
+ * terms are assembled inside the measured method, because the generators mutate them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoanScheduleGeneratorBenchmark {
+
+    @Param({ "12", "120", "360" })
+    private int numberOfRepayments;
+
+    private final DefaultScheduledDateGenerator scheduledDateGenerator = new DefaultScheduledDateGenerator();
+    private final DefaultPaymentPeriodsInOneYearCalculator periodsInOneYearCalculator = new DefaultPaymentPeriodsInOneYearCalculator();
+    private final CumulativeDecliningBalanceInterestLoanScheduleGenerator cumulativeGenerator = //
+            new CumulativeDecliningBalanceInterestLoanScheduleGenerator(scheduledDateGenerator, periodsInOneYearCalculator);
+    private final ProgressiveLoanScheduleGenerator progressiveGenerator = new ProgressiveLoanScheduleGenerator(scheduledDateGenerator,
+            new ProgressiveEMICalculator());
+    private final HolidayDetailDTO holidayDetail = new HolidayDetailDTO(false, List.of(), new WorkingDays(
+            "FREQ=WEEKLY;INTERVAL=1;BYDAY=MO,TU,WE,TH,FR,SA,SU", RepaymentRescheduleType.MOVE_TO_NEXT_WORKING_DAY.getValue(), false, false),
+            false, false);
+
+    @Setup
+    public void setUp() {
+        LoanBenchmarkSupport.initializeContext(DISBURSEMENT_DATE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        LoanBenchmarkSupport.resetContext();
+    }
+
+    @Benchmark
+    public LoanScheduleModel cumulativeDecliningBalance() {
+        return cumulativeGenerator.generate(MoneyHelper.getMathContext(), cumulativeTerms(), Set.of(), holidayDetail);
+    }
+
+    @Benchmark
+    public LoanSchedulePlan progressive() {
+        final LoanRepaymentScheduleModelData modelData = new LoanRepaymentScheduleModelData(DISBURSEMENT_DATE, CURRENCY, PRINCIPAL,
+                DISBURSEMENT_DATE, numberOfRepayments, 1, PeriodFrequencyType.MONTHS.name(), ANNUAL_INTEREST_RATE, false,
+                DaysInMonthType.ACTUAL, DaysInYearType.ACTUAL, BigDecimal.ZERO, null, null, false, null);
+        return progressiveGenerator.generate(MoneyHelper.getMathContext(), modelData);
+    }
+
+    private LoanApplicationTerms cumulativeTerms() {
+        final Money principal = LoanBenchmarkSupport.money(PRINCIPAL);
+        final BigDecimal monthlyRate = ANNUAL_INTEREST_RATE.divide(BigDecimal.valueOf(12), MoneyHelper.getMathContext());
+        return LoanApplicationTerms.assembleFrom(CURRENCY, numberOfRepayments, PeriodFrequencyType.MONTHS, numberOfRepayments, 1,
+                PeriodFrequencyType.MONTHS, null, DayOfWeekType.INVALID, AmortizationMethod.EQUAL_INSTALLMENTS,
+                InterestMethod.DECLINING_BALANCE, monthlyRate, PeriodFrequencyType.MONTHS, ANNUAL_INTEREST_RATE,
+                InterestCalculationPeriodMethod.SAME_AS_REPAYMENT_PERIOD, false, principal, DISBURSEMENT_DATE, null,
+                DISBURSEMENT_DATE.plusMonths(1), null, null, null, null, null, LoanBenchmarkSupport.money(BigDecimal.ZERO), false, null,
+                List.of(), PRINCIPAL, null, DaysInMonthType.ACTUAL, DaysInYearType.ACTUAL, false, null, null, null, null, null,
+                BigDecimal.ZERO, null, LoanPreCloseInterestCalculationStrategy.NONE, null, PRINCIPAL, List.of(), true, 0, false,
+                holidayDetail, false, false, false, null, false, false, null, false, RepaymentStartDateType.DISBURSEMENT_DATE,
+                DISBURSEMENT_DATE, LoanScheduleType.CUMULATIVE, LoanScheduleProcessingType.HORIZONTAL, null, false, null, null, false,
+                null);
+    }
+}
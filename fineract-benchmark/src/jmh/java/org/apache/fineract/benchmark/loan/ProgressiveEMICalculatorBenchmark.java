@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.loan;
+
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.DISBURSEMENT_DATE;
+import static org.apache.fineract.benchmark.loan.LoanBenchmarkSupport.PRINCIPAL;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyHelper;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanScheduleModelRepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.calc.ProgressiveEMICalculator;
+import org.apache.fineract.portfolio.loanproduct.calc.data.PeriodDueDetails;
+import org.apache.fineract.portfolio.loanproduct.calc.data.ProgressiveLoanInterestScheduleModel;
+import org.apache.fineract.portfolio.loanproduct.calc.data.RepaymentPeriod;
+import org.apache.fineract.portfolio.loanproduct.data.LoanProductRelatedDetailMinimumData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Interest model operations of the progressive EMI calculator: building the model of a fresh schedule, disbursing in
+ * several tranches and replaying early repayments together with an interest rate change, which recalculates the EMI of
+ * every following period on each step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProgressiveEMICalculatorBenchmark {
+
+    @Param({ "12", "120", "360" })
+    private int numberOfRepayments;
+
+    private final ProgressiveEMICalculator emiCalculator = new ProgressiveEMICalculator();
+    private List<LoanScheduleModelRepaymentPeriod> repaymentPeriods;
+    private LoanProductRelatedDetailMinimumData productDetail;
+
+    @Setup
+    public void setUp() {
+        LoanBenchmarkSupport.initializeContext(DISBURSEMENT_DATE);
+        repaymentPeriods = LoanBenchmarkSupport.monthlyRepaymentPeriods(numberOfRepayments);
+        productDetail = LoanBenchmarkSupport.progressiveProductDetail(numberOfRepayments);
+    }
+
+    @TearDown
+    public void tearDown() {
+        LoanBenchmarkSupport.resetContext();
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel singleDisbursement() {
+        final ProgressiveLoanInterestScheduleModel model = newModel();
+        emiCalculator.addDisbursement(model, DISBURSEMENT_DATE, LoanBenchmarkSupport.money(PRINCIPAL));
+        return model;
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel multiTrancheDisbursement() {
+        final ProgressiveLoanInterestScheduleModel model = newModel();
+        final Money tranche = LoanBenchmarkSupport.money(PRINCIPAL.divide(BigDecimal.valueOf(3), MoneyHelper.getMathContext()));
+        emiCalculator.addDisbursement(model, DISBURSEMENT_DATE, tranche);
+        emiCalculator.addDisbursement(model, DISBURSEMENT_DATE.plusMonths(1).plusDays(10), tranche);
+        emiCalculator.addDisbursement(model, DISBURSEMENT_DATE.plusMonths(2).plusDays(20), tranche);
+        return model;
+    }
+
+    @Benchmark
+    public ProgressiveLoanInterestScheduleModel interestRecalculation() {
+        final ProgressiveLoanInterestScheduleModel model = newModel();
+        emiCalculator.addDisbursement(model, DISBURSEMENT_DATE, LoanBenchmarkSupport.money(PRINCIPAL));
+
+        final List<RepaymentPeriod> periods = model.repaymentPeriods();
+        final int rateChangeIndex = periods.size() / 2;
+        for (int i = 0; i < periods.size() - 1; i++) {
+            final RepaymentPeriod period = periods.get(i);
+            if (i == rateChangeIndex) {
+                emiCalculator.changeInterestRate(model, period.getFromDate().plusDays(1), BigDecimal.valueOf(7.25));
+            }
+            // paying a few days early moves balance into the past of the period, so the rest of the model is recalculated
+            final LocalDate transactionDate = period.getDueDate().minusDays(5);
+            final PeriodDueDetails due = emiCalculator.getDueAmounts(model, period.getDueDate(), transactionDate);
+            emiCalculator.payInterest(model, period.getDueDate(), transactionDate, due.getDueInterest());
+            emiCalculator.payPrincipal(model, period.getDueDate(), transactionDate, due.getDuePrincipal());
+        }
+        return model;
+    }
+
+    private ProgressiveLoanInterestScheduleModel newModel() {
+        return emiCalculator.generatePeriodInterestScheduleModel(repaymentPeriods, productDetail, List.of(), null,
+                MoneyHelper.getMathContext());
+    }
+}
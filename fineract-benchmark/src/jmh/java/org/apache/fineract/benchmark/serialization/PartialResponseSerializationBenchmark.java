@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.benchmark.serialization;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.apache.fineract.infrastructure.core.api.ParameterListInclusionStrategy;
+import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Cost of serializing one partial ({@code fields=...}) response: the former path building a new {@link Gson} for every
+ * request, and the serializer cached per field set by {@link GoogleGsonSerializerHelper}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartialResponseSerializationBenchmark {
+
+    private static final Set<String> FIELDS = Set.of("id", "accountNo", "principal", "transactions", "date", "amount");
+
+    @Param({ "1", "100" })
+    private int transactionCount;
+
+    private final GoogleGsonSerializerHelper helper = new GoogleGsonSerializerHelper();
+    private Account account;
+
+    @Setup
+    public void setUp() {
+        List<Transaction> transactions = new ArrayList<>(transactionCount);
+        for (int i = 0; i < transactionCount; i++) {
+            transactions.add(new Transaction((long) i + 1, LocalDate.of(2024, 1, 1).plusDays(i), BigDecimal.valueOf(100 + i, 2),
+                    "Repayment " + i));
+        }
+        account = new Account(1L, "000000001", "Sample loan product", BigDecimal.valueOf(1_000_000, 2), transactions);
+    }
+
+    @Benchmark
+    public String newSerializerPerRequest() {
+        GsonBuilder builder = new GsonBuilder().addSerializationExclusionStrategy(new ParameterListInclusionStrategy(FIELDS));
+        GoogleGsonSerializerHelper.registerTypeAdapters(builder);
+        return builder.create().toJson(account);
+    }
+
+    @Benchmark
+    public String cachedSerializer() {
+        return helper.serializedJsonFrom(helper.createGsonBuilderForPartialResponseFiltering(FIELDS), account);
+    }
+
+    @SuppressWarnings("unused")
+    private record Account(Long id, String accountNo, String productName, BigDecimal principal, List<Transaction> transactions) {
+    }
+
+    @SuppressWarnings("unused")
+    private record Transaction(Long id, LocalDate date, BigDecimal amount, String description) {
+    }
+}
@@ -82,6 +82,7 @@ public class BatchApiResource {
      *
      * @param requestList
      * @param enclosingTransaction
+     * @param parallel
      * @param uriInfo
      * @return serialized JSON
      */
@@ -90,12 +91,15 @@ public class BatchApiResource {
     @Produces({ MediaType.APPLICATION_JSON })
     @Operation(summary = "Batch requests in a single transaction", description = "The Apache Fineract Batch API is also capable of executing all the requests in a single transaction, by setting a Query Parameter, \"enclosingTransaction=true\". So, if one or more of the requests in a batch returns an erroneous response all of the Data base transactions made by other successful requests will be rolled back.\n"
             + "\n"
-            + "If there has been a rollback in a transaction then a single response will be provided, with a '400' status code and a body consisting of the error details of the first failed request.")
+            + "If there has been a rollback in a transaction then a single response will be provided, with a '400' status code and a body consisting of the error details of the first failed request.\n"
+            + "\n"
+            + "Without an enclosing transaction, the Query Parameter \"parallel=true\" executes requests that do not reference each other concurrently, if parallel batch execution is enabled on the server. Dependent requests still run in order and the responses are returned in request order.")
     @RequestBody(required = true, content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchRequest.class, description = "request body"))))
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Success", content = @Content(array = @ArraySchema(schema = @Schema(implementation = BatchResponse.class)))) })
     public List<BatchResponse> handleBatchRequests(
             @DefaultValue("false") @QueryParam("enclosingTransaction") @Parameter(description = "enclosingTransaction", required = false) final boolean enclosingTransaction,
+            @DefaultValue("false") @QueryParam("parallel") @Parameter(hidden = true) final boolean parallel,
             @Parameter(hidden = true) List<BatchRequest> requestList, @Context UriInfo uriInfo) {
         this.context.authenticatedUser();
         // Converts request array into BatchRequest List
@@ -103,7 +107,7 @@ public class BatchApiResource {
         // If the request is to be handled as a Transaction. All requests will
         // be rolled back on error
         return enclosingTransaction ? service.handleBatchRequestsWithEnclosingTransaction(requestList, uriInfo)
-                : service.handleBatchRequestsWithoutEnclosingTransaction(requestList, uriInfo);
+                : service.handleBatchRequestsWithoutEnclosingTransaction(requestList, uriInfo, parallel);
 
     }
 
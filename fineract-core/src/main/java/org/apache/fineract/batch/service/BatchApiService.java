@@ -45,6 +45,19 @@ public interface BatchApiService {
      */
     List<BatchResponse> handleBatchRequestsWithoutEnclosingTransaction(List<BatchRequest> requestList, UriInfo uriInfo);
 
+    /**
+     * Same as {@link #handleBatchRequestsWithoutEnclosingTransaction(List, UriInfo)}, but when {@code parallel} is set
+     * and parallel execution is enabled, independent root requests (and their dependent chains) are executed
+     * concurrently. Requests of the same chain keep their order and the responses are returned in request order.
+     *
+     * @param requestList
+     * @param uriInfo
+     * @param parallel
+     * @return List&lt;BatchResponse&gt;
+     */
+    List<BatchResponse> handleBatchRequestsWithoutEnclosingTransaction(List<BatchRequest> requestList, UriInfo uriInfo,
+            boolean parallel);
+
     /**
      * returns a list of {@link org.apache.fineract.batch.domain.BatchResponse}s by getting the appropriate
      * CommandStrategy for every {@link org.apache.fineract.batch.domain.BatchRequest}. It will be used when the Query
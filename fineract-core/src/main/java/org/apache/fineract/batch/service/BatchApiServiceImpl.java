@@ -36,6 +36,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -45,12 +47,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.batch.command.CommandContext;
 import org.apache.fineract.batch.command.CommandStrategy;
 import org.apache.fineract.batch.command.CommandStrategyProvider;
+import org.apache.fineract.batch.config.BatchApiTaskExecutorConfig;
 import org.apache.fineract.batch.domain.BatchRequest;
 import org.apache.fineract.batch.domain.BatchResponse;
 import org.apache.fineract.batch.domain.Header;
 import org.apache.fineract.batch.exception.BatchReferenceInvalidException;
 import org.apache.fineract.batch.exception.ErrorInfo;
 import org.apache.fineract.batch.service.ResolutionHelper.BatchRequestNode;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
 import org.apache.fineract.infrastructure.core.exception.ErrorHandler;
 import org.apache.fineract.infrastructure.core.filters.BatchCallHandler;
@@ -58,8 +62,10 @@ import org.apache.fineract.infrastructure.core.filters.BatchFilter;
 import org.apache.fineract.infrastructure.core.filters.BatchRequestPreprocessor;
 import org.apache.fineract.infrastructure.core.persistence.ExtendedJpaTransactionManager;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionException;
@@ -93,6 +99,11 @@ public class BatchApiServiceImpl implements BatchApiService {
     @PersistenceContext
     private final EntityManager entityManager;
 
+    private final FineractProperties fineractProperties;
+
+    @Qualifier(BatchApiTaskExecutorConfig.BATCH_API_EXECUTOR_BEAN_NAME)
+    private final ThreadPoolTaskExecutor batchApiParallelExecutor;
+
     /**
      * Run each request root step in a separated transaction
      *
@@ -102,7 +113,22 @@ public class BatchApiServiceImpl implements BatchApiService {
      */
     @Override
     public List<BatchResponse> handleBatchRequestsWithoutEnclosingTransaction(final List<BatchRequest> requestList, UriInfo uriInfo) {
-        return handleBatchRequests(requestList, uriInfo, false);
+        return handleBatchRequests(requestList, uriInfo, false, false);
+    }
+
+    /**
+     * Run each request root step in a separated transaction, independent root steps concurrently if requested and
+     * enabled
+     *
+     * @param requestList
+     * @param uriInfo
+     * @param parallel
+     * @return
+     */
+    @Override
+    public List<BatchResponse> handleBatchRequestsWithoutEnclosingTransaction(final List<BatchRequest> requestList, UriInfo uriInfo,
+            boolean parallel) {
+        return handleBatchRequests(requestList, uriInfo, false, parallel);
     }
 
     /**
@@ -114,15 +140,16 @@ public class BatchApiServiceImpl implements BatchApiService {
      */
     @Override
     public List<BatchResponse> handleBatchRequestsWithEnclosingTransaction(final List<BatchRequest> requestList, final UriInfo uriInfo) {
-        return handleBatchRequests(requestList, uriInfo, true);
+        return handleBatchRequests(requestList, uriInfo, true, false);
     }
 
     private List<BatchResponse> handleBatchRequests(final List<BatchRequest> requestList, final UriInfo uriInfo,
-            boolean enclosingTransaction) {
+            boolean enclosingTransaction, boolean parallel) {
         BatchRequestContextHolder.setIsEnclosingTransaction(enclosingTransaction);
         try {
-            return enclosingTransaction ? callInTransaction(Function.identity()::apply, () -> handleRequestNodes(requestList, uriInfo))
-                    : handleRequestNodes(requestList, uriInfo);
+            return enclosingTransaction
+                    ? callInTransaction(Function.identity()::apply, () -> handleRequestNodes(requestList, uriInfo, false))
+                    : handleRequestNodes(requestList, uriInfo, parallel);
         } finally {
             BatchRequestContextHolder.resetIsEnclosingTransaction();
         }
@@ -170,9 +197,11 @@ public class BatchApiServiceImpl implements BatchApiService {
      *
      * @param requestList
      * @param uriInfo
+     * @param parallel
+     *            execute the independent root nodes concurrently
      * @return {@code List<BatchResponse>}
      */
-    private List<BatchResponse> handleRequestNodes(final List<BatchRequest> requestList, final UriInfo uriInfo) {
+    private List<BatchResponse> handleRequestNodes(final List<BatchRequest> requestList, final UriInfo uriInfo, boolean parallel) {
         final List<BatchRequestNode> rootNodes;
         try {
             rootNodes = this.resolutionHelper.buildNodesTree(requestList);
@@ -181,13 +210,57 @@ public class BatchApiServiceImpl implements BatchApiService {
         }
 
         final ArrayList<BatchResponse> responseList = new ArrayList<>(requestList.size());
-        for (BatchRequestNode rootNode : rootNodes) {
-            this.callRequestRecursive(rootNode.getRequest(), rootNode, responseList, uriInfo);
+        if (parallel && rootNodes.size() > 1 && isParallelExecutionEnabled()) {
+            responseList.addAll(callRootNodesInParallel(rootNodes, uriInfo));
+        } else {
+            for (BatchRequestNode rootNode : rootNodes) {
+                this.callRequestRecursive(rootNode.getRequest(), rootNode, responseList, uriInfo);
+            }
         }
         responseList.sort(Comparator.comparing(BatchResponse::getRequestId));
         return responseList;
     }
 
+    private boolean isParallelExecutionEnabled() {
+        boolean enabled = batchApiParallelExecutor != null && fineractProperties.getApi().getBatch().isParallelEnabled();
+        if (!enabled) {
+            log.debug("Parallel batch execution is disabled, executing the batch requests sequentially");
+        }
+        return enabled;
+    }
+
+    /**
+     * Executes every root node with its dependent chain on the batch executor. Root nodes never reference each other,
+     * so their chains are independent; the requests of one chain still run in order on the same worker. The calling
+     * thread waits for all chains to complete.
+     *
+     * @param rootNodes
+     *            the root nodes of the request tree
+     * @param uriInfo
+     * @return the collected responses of all chains
+     */
+    private List<BatchResponse> callRootNodesInParallel(final List<BatchRequestNode> rootNodes, final UriInfo uriInfo) {
+        final List<CompletableFuture<List<BatchResponse>>> futures = new ArrayList<>(rootNodes.size());
+        for (BatchRequestNode rootNode : rootNodes) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                final List<BatchResponse> nodeResponses = new ArrayList<>();
+                this.callRequestRecursive(rootNode.getRequest(), rootNode, nodeResponses, uriInfo);
+                return nodeResponses;
+            }, batchApiParallelExecutor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        final List<BatchResponse> responseList = new ArrayList<>();
+        futures.forEach(future -> responseList.addAll(future.join()));
+        return responseList;
+    }
+
     /**
      * Executes the request and call child requests recursively.
      *
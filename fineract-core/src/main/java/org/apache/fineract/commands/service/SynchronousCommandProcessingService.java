@@ -29,7 +29,9 @@ import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.batch.exception.ErrorInfo;
@@ -41,6 +43,8 @@ import org.apache.fineract.commands.handler.NewCommandSourceHandler;
 import org.apache.fineract.commands.provider.CommandHandlerProvider;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractCommandSingleTransactionProperties;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.domain.BatchRequestContextHolder;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
@@ -58,6 +62,8 @@ import org.apache.fineract.infrastructure.security.service.PlatformSecurityConte
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
@@ -76,6 +82,8 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
     private final CommandHandlerProvider commandHandlerProvider;
     private final IdempotencyKeyResolver idempotencyKeyResolver;
     private final CommandSourceService commandSourceService;
+    private final FineractProperties fineractProperties;
+    private final PlatformTransactionManager transactionManager;
 
     private final FineractRequestContextHolder fineractRequestContextHolder;
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
@@ -105,6 +113,11 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         exceptionWhenTheRequestAlreadyProcessed(wrapper, idempotencyKey, isRetry);
 
         AppUser user = context.authenticatedUser(wrapper);
+        boolean isMakerChecker = configurationDomainService.isMakerCheckerEnabledForTask(wrapper.taskPermissionName());
+        if (commandSource == null && !isEnclosingTransaction && !isApprovedByChecker && !isMakerChecker
+                && isSingleTransactionCommand(wrapper)) {
+            return executeCommandInSingleTransaction(wrapper, command, user, idempotencyKey);
+        }
         if (commandSource == null) {
             if (isEnclosingTransaction) {
                 commandSource = commandSourceService.getInitialCommandSource(wrapper, command, user, idempotencyKey);
@@ -117,7 +130,6 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
             storeCommandIdInContext(commandSource); // Store command id as a request attribute
         }
 
-        boolean isMakerChecker = configurationDomainService.isMakerCheckerEnabledForTask(wrapper.taskPermissionName());
         if (isApprovedByChecker || (isMakerChecker && user.isCheckerSuperUser())) {
             commandSource.markAsChecked(user);
         }
@@ -158,6 +170,67 @@ public class SynchronousCommandProcessingService implements CommandProcessingSer
         return result;
     }
 
+    /**
+     * Records the command source and processes the command in a single transaction. The command source is inserted (and
+     * flushed) before the command is processed: the unique idempotency key index makes concurrent duplicates wait for
+     * this transaction and fail once it commits. When processing fails, the business transaction rolls back together with
+     * the command source, which is then recorded with the error in a new transaction.
+     */
+    private CommandProcessingResult executeCommandInSingleTransaction(final CommandWrapper wrapper, final JsonCommand command,
+            final AppUser user, final String idempotencyKey) {
+        setIdempotencyKeyStoreFlag(true);
+        AtomicReference<CommandSource> processedCommandSource = new AtomicReference<>();
+        final CommandProcessingResult result;
+        try {
+            result = new TransactionTemplate(transactionManager).execute(status -> {
+                CommandSource commandSource = commandSourceService.saveInitialSameTransaction(wrapper, command, user, idempotencyKey);
+                processedCommandSource.set(commandSource);
+                CommandProcessingResult processingResult = commandSourceService.processCommand(findCommandHandler(wrapper), command,
+                        commandSource, user, false, false);
+                commandSource.setResultStatusCode(SC_OK);
+                commandSource.updateForAudit(processingResult);
+                commandSource.setResult(toApiResultJsonSerializer.serializeResult(processingResult));
+                commandSource.setStatus(PROCESSED.getValue());
+                processedCommandSource.set(commandSourceService.saveResultSameTransaction(commandSource));
+                return processingResult;
+            });
+        } catch (IdempotentCommandProcessUnderProcessingException e) {
+            throw e;
+        } catch (Throwable t) { // NOSONAR
+            RuntimeException mappable = ErrorHandler.getMappable(t);
+            ErrorInfo errorInfo = commandSourceService.generateErrorInfo(mappable);
+            CommandSource commandSource = commandSourceService.getInitialCommandSource(wrapper, command, user, idempotencyKey);
+            if (processedCommandSource.get() != null) {
+                commandSource.setStatus(processedCommandSource.get().getStatus());
+            }
+            Integer statusCode = errorInfo.getStatusCode();
+            commandSource.setResultStatusCode(statusCode);
+            commandSource.setResult(errorInfo.getMessage());
+            if (statusCode != SC_OK) {
+                commandSource.setStatus(ERROR.getValue());
+            }
+            commandSource = commandSourceService.saveResultNewTransaction(commandSource);
+            storeCommandIdInContext(commandSource);
+            publishHookErrorEvent(wrapper, command, errorInfo);
+            throw mappable;
+        }
+        storeCommandIdInContext(processedCommandSource.get());
+
+        result.setRollbackTransaction(null);
+        publishHookEvent(wrapper.entityName(), wrapper.actionName(), command, result);
+        return result;
+    }
+
+    private boolean isSingleTransactionCommand(CommandWrapper wrapper) {
+        FineractCommandSingleTransactionProperties properties = fineractProperties.getCommand() == null ? null
+                : fineractProperties.getCommand().getSingleTransaction();
+        if (properties == null || !properties.isEnabled()) {
+            return false;
+        }
+        List<String> commands = properties.getCommands();
+        return commands == null || commands.isEmpty() || commands.contains(wrapper.entityName() + ":" + wrapper.actionName());
+    }
+
     private void storeCommandIdInContext(CommandSource savedCommandSource) {
         if (savedCommandSource.getId() == null) {
             throw new IllegalStateException("Command source not saved");
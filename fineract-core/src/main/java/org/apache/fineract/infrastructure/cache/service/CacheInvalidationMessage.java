@@ -0,0 +1,37 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.io.Serializable;
+
+/**
+ * Tells the other nodes to drop an entry of their local cache. A <code>null</code> key means the whole cache has to be
+ * cleared.
+ *
+ * The <code>originId</code> identifies the publishing cache instance, so it can skip its own invalidations. It must not
+ * be derived from <code>fineract.node-id</code>, which is usually the same on all the replicas of a deployment.
+ */
+public record CacheInvalidationMessage(String originId, String cacheName, String key) implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+
+/**
+ * Near-cache of the {@link MultiNodeCacheManager}. Reads and puts stay local since the platform caches are populated
+ * from the database on a miss, evictions are applied locally and announced to the other nodes.
+ */
+@RequiredArgsConstructor
+class InvalidatingCache implements Cache {
+
+    private final Cache delegate;
+    private final MultiNodeCacheManager cacheManager;
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        cacheManager.publishEviction(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        cacheManager.publishEviction(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        cacheManager.publishClear(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = delegate.invalidate();
+        cacheManager.publishClear(getName());
+        return invalidated;
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link CacheManager} for deployments with multiple Fineract nodes. Every node keeps its own near-cache (the ehcache
+ * caches) and every eviction is propagated to the other nodes through the {@link CacheInvalidationChannel}, so the next
+ * read on those nodes is served from the database again.
+ */
+@Component(value = "multiNodeCacheManager")
+@RequiredArgsConstructor
+@Slf4j
+public class MultiNodeCacheManager implements CacheManager, InitializingBean {
+
+    @Qualifier("ehCacheManager")
+    private final CacheManager localCacheManager;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final Map<String, InvalidatingCache> caches = new ConcurrentHashMap<>();
+    // generated per instance, the configured node id is shared by the replicas of a deployment
+    private final String originId = UUID.randomUUID().toString();
+
+    @Override
+    public void afterPropertiesSet() {
+        invalidationChannel.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache localCache = localCacheManager.getCache(name);
+        if (localCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new InvalidatingCache(localCache, this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    boolean isInvalidationDistributed() {
+        return invalidationChannel.isDistributed();
+    }
+
+    void publishEviction(String cacheName, Object key) {
+        // keys of the platform caches are strings, anything else cannot be matched on the other nodes
+        String invalidatedKey = key instanceof String ? (String) key : null;
+        publishAfterCommit(new CacheInvalidationMessage(originId, cacheName, invalidatedKey));
+    }
+
+    void publishClear(String cacheName) {
+        publishAfterCommit(new CacheInvalidationMessage(originId, cacheName, null));
+    }
+
+    /**
+     * Another node reloading the entry before the modifying transaction commits would cache the old row until the next
+     * eviction, so within a transaction the invalidation is only announced once it committed.
+     */
+    private void publishAfterCommit(CacheInvalidationMessage message) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidationChannel.publish(message);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCommit() {
+                invalidationChannel.publish(message);
+            }
+        });
+    }
+
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (Objects.equals(originId, message.originId())) {
+            return;
+        }
+        Cache localCache = localCacheManager.getCache(message.cacheName());
+        if (localCache == null) {
+            return;
+        }
+        log.debug("Invalidating cache {} key {} on request of {}", message.cacheName(), message.key(), message.originId());
+        if (message.isClear()) {
+            localCache.clear();
+        } else {
+            localCache.evict(message.key());
+        }
+    }
+}
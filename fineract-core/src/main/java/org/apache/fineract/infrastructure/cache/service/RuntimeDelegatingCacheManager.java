@@ -42,7 +42,8 @@ import org.springframework.stereotype.Component;
  * At present this implementation of {@link CacheManager} just delegates to the real {@link CacheManager} to use.
  *
  * By default it is {@link NoOpCacheManager} but we can change that by checking some persisted configuration in the
- * database on startup and allow user to switch implementation through UI/API
+ * database on startup and allow user to switch implementation through UI/API. The multi node option uses the same local
+ * caches as the single node one, but propagates the evictions to the other nodes (see {@link MultiNodeCacheManager}).
  */
 @Component(value = "runtimeDelegatingCacheManager")
 @RequiredArgsConstructor
@@ -53,6 +54,7 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
     private final CacheManager ehCacheManager;
     @Qualifier("defaultCacheManager")
     private final CacheManager defaultCacheManager;
+    private final MultiNodeCacheManager multiNodeCacheManager;
     private CacheManager currentCacheManager;
 
     @Override
@@ -74,21 +76,26 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
 
         final boolean noCacheEnabled = currentCacheManager == defaultCacheManager;
         final boolean ehCacheEnabled = currentCacheManager == ehCacheManager;
+        final boolean multiNodeCacheEnabled = currentCacheManager == multiNodeCacheManager;
 
         final EnumOptionData noCacheType = CacheEnumerations.cacheType(CacheType.NO_CACHE);
         final EnumOptionData singleNodeCacheType = CacheEnumerations.cacheType(CacheType.SINGLE_NODE);
+        final EnumOptionData multiNodeCacheType = CacheEnumerations.cacheType(CacheType.MULTI_NODE);
 
         final CacheData noCache = CacheData.instance(noCacheType, noCacheEnabled);
         final CacheData singleNodeCache = CacheData.instance(singleNodeCacheType, ehCacheEnabled);
+        final CacheData multiNodeCache = CacheData.instance(multiNodeCacheType, multiNodeCacheEnabled);
 
-        return Arrays.asList(noCache, singleNodeCache);
+        return Arrays.asList(noCache, singleNodeCache, multiNodeCache);
     }
 
-    public Map<String, Object> switchToCache(final boolean ehcacheEnabled, final CacheType toCacheType) {
+    public Map<String, Object> switchToCache(final CacheType currentCacheType, final CacheType toCacheType) {
 
         final Map<String, Object> changes = new HashMap<>();
 
-        final boolean noCacheEnabled = !ehcacheEnabled;
+        final boolean ehcacheEnabled = currentCacheType.isEhcache();
+        final boolean noCacheEnabled = currentCacheType.isNoCache();
+        final boolean multiNodeCacheEnabled = currentCacheType.isDistributedCache();
 
         switch (toCacheType) {
             case INVALID -> {
@@ -111,7 +118,18 @@ public class RuntimeDelegatingCacheManager implements CacheManager, Initializing
                     log.error("No caches configured for activated CacheManager {}", currentCacheManager);
                 }
             }
-            case MULTI_NODE -> throw new UnsupportedOperationException("Multi node cache is not supported");
+            case MULTI_NODE -> {
+                if (!multiNodeCacheEnabled) {
+                    changes.put(CacheApiConstants.CACHE_TYPE_PARAMETER, toCacheType.getValue());
+                }
+                if (!multiNodeCacheManager.isInvalidationDistributed()) {
+                    log.warn("Multi node cache is used without an invalidation channel (fineract.cache.multi-node.jms.enabled is false), "
+                            + "evictions are not propagated to the other nodes");
+                }
+                // the near-caches might hold entries which were not invalidated by the other nodes
+                clearEhCache();
+                currentCacheManager = multiNodeCacheManager;
+            }
         }
 
         return changes;
@@ -41,6 +41,8 @@ public interface ConfigurationDomainService {
 
     boolean isEhcacheEnabled();
 
+    CacheType retrieveCacheType();
+
     void updateCache(CacheType cacheType);
 
     Long retrievePenaltyWaitPeriod();
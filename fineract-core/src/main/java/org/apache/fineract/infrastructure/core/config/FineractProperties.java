@@ -81,6 +81,16 @@ public class FineractProperties {
 
     private FineractSqlValidationProperties sqlValidation;
 
+    private FineractCacheProperties cache;
+
+    private FineractSearchProperties search;
+
+    private FineractBulkImportProperties bulkImport;
+
+    private FineractHookProperties hook;
+
+    private FineractCommandProperties command;
+
     @Getter
     @Setter
     public static class FineractTenantProperties {
@@ -105,6 +115,20 @@ public class FineractProperties {
         private String readOnlyName;
 
         private FineractConfigProperties config;
+        private FineractTenantPoolBudgetProperties poolBudget;
+    }
+
+    /**
+     * Global connection budget shared by the tenant connection pools
+     */
+    @Getter
+    @Setter
+    public static class FineractTenantPoolBudgetProperties {
+
+        private boolean enabled;
+        private int maxTotalConnections;
+        private int idlePeriodSeconds;
+        private int rebalancePeriodSeconds;
     }
 
     /**
@@ -274,6 +298,93 @@ public class FineractProperties {
     public static class FineractEventsProperties {
 
         private FineractExternalEventsProperties external;
+        private FineractBusinessEventsProperties business;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBusinessEventsProperties {
+
+        private boolean asyncListenersEnabled;
+        private int asyncListenerPoolSize;
+        private int asyncListenerQueueCapacity;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCacheProperties {
+
+        private FineractMultiNodeCacheProperties multiNode;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSearchProperties {
+
+        private FineractSearchIndexProperties index;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractSearchIndexProperties {
+
+        private boolean enabled;
+        private String directory;
+        private int maxHits;
+        private int rebuildPeriodSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBulkImportProperties {
+
+        private int streamingPoolSize;
+        private int streamingChunkSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHookProperties {
+
+        private FineractHookDeliveryProperties delivery;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractHookDeliveryProperties {
+
+        private int threadPoolSize;
+        private int maxConcurrentPerHook;
+        private int maxAttempts;
+        private int initialBackoffSeconds;
+        private int maxBackoffSeconds;
+        private int pollIntervalSeconds;
+        private int batchSize;
+        private int retentionDays;
+        private int connectTimeoutSeconds;
+        private int readTimeoutSeconds;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractMultiNodeCacheProperties {
+
+        private FineractMultiNodeCacheJmsProperties jms;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractMultiNodeCacheJmsProperties {
+
+        private boolean enabled;
+        private String topicName;
+        private String brokerUrl;
+        private String brokerUsername;
+        private String brokerPassword;
+
+        public boolean isBrokerPasswordProtected() {
+            return StringUtils.isNotBlank(brokerUsername) || StringUtils.isNotBlank(brokerPassword);
+        }
     }
 
     @Getter
@@ -297,6 +408,16 @@ public class FineractProperties {
         private int threadPoolCorePoolSize;
         private int threadPoolMaxPoolSize;
         private int threadPoolQueueCapacity;
+        private FineractExternalEventsRelayProperties relay;
+        private boolean compressionEnabled;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractExternalEventsRelayProperties {
+
+        private boolean enabled;
+        private int maxRunDurationInSeconds;
     }
 
     @Getter
@@ -374,6 +495,15 @@ public class FineractProperties {
     public static class FineractReportProperties {
 
         private FineractExportProperties export;
+        private FineractReportStreamingProperties streaming;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractReportStreamingProperties {
+
+        private boolean enabled;
+        private int fetchSize;
     }
 
     @Getter
@@ -397,6 +527,29 @@ public class FineractProperties {
 
         private int stuckRetryThreshold;
         private boolean loanCobEnabled;
+        private boolean loanCobPrefetchEnabled;
+        private boolean loanCobCostBasedPartitioningEnabled;
+        private int inlineLoanCobThreadPoolSize;
+        private long inlineLoanCobTimeBudgetMillis;
+        private boolean savingsInterestPostingPartitionedEnabled;
+        private boolean standingInstructionsPartitionedEnabled;
+        private boolean applyHolidaysPartitionedEnabled;
+        private int savingsChargesThreadPoolSize;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCommandProperties {
+
+        private FineractCommandSingleTransactionProperties singleTransaction;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractCommandSingleTransactionProperties {
+
+        private boolean enabled;
+        private List<String> commands;
     }
 
     @Getter
@@ -433,6 +586,16 @@ public class FineractProperties {
     public static class FineractApiProperties {
 
         private FineractBodyItemSizeLimitProperties bodyItemSizeLimit;
+        private FineractBatchApiProperties batch;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractBatchApiProperties {
+
+        private boolean parallelEnabled;
+        private int parallelPoolSize;
+        private int parallelQueueCapacity;
     }
 
     @Getter
@@ -462,6 +625,16 @@ public class FineractProperties {
 
         private FineractTransactionProcessorProperties transactionProcessor;
         private String statusChangeHistoryStatuses;
+        private FineractLoanCobFilterIndexProperties cobFilterIndex;
+    }
+
+    @Getter
+    @Setter
+    public static class FineractLoanCobFilterIndexProperties {
+
+        private boolean enabled;
+        private int lockTtlSeconds;
+        private int maxEntries;
     }
 
     @Getter
@@ -29,7 +29,10 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import org.apache.fineract.infrastructure.core.api.DateAdapter;
 import org.apache.fineract.infrastructure.core.api.ExternalIdAdapter;
 import org.apache.fineract.infrastructure.core.api.JodaDateTimeAdapter;
@@ -46,16 +49,23 @@ import org.springframework.stereotype.Service;
 
 /**
  * Helper class for serialization of Java objects into JSON using Google's GSON.
+ * <p>
+ * The serializers of partial responses ({@code fields=...}) are built once per distinct set of fields and reused, as
+ * {@link Gson} instances are thread safe. The set of fields comes from the request, so the number of cached serializers
+ * is bounded; once the limit is reached further field sets get a serializer built for the request only.
  */
 @Service
 public final class GoogleGsonSerializerHelper {
 
-    public Gson createGsonBuilderForPartialResponseFiltering(final Set<String> responseParameters) {
-        final ExclusionStrategy strategy = new ParameterListInclusionStrategy(responseParameters);
+    static final int MAX_CACHED_SERIALIZERS = 512;
+    private static final int INITIAL_JSON_CAPACITY = 1024;
 
-        final GsonBuilder builder = new GsonBuilder().addSerializationExclusionStrategy(strategy);
-        registerTypeAdapters(builder);
-        return builder.create();
+    private final Map<Set<String>, Gson> inclusionSerializers = new ConcurrentHashMap<>();
+    private final Map<Set<String>, Gson> exclusionSerializers = new ConcurrentHashMap<>();
+
+    public Gson createGsonBuilderForPartialResponseFiltering(final Set<String> responseParameters) {
+        return getOrCreate(inclusionSerializers, responseParameters,
+                parameterNamesToInclude -> createGson(new ParameterListInclusionStrategy(parameterNamesToInclude)));
     }
 
     public Gson createGsonBuilderWithParameterExclusionSerializationStrategy(final Set<String> supportedParameters,
@@ -77,19 +87,42 @@ public final class GoogleGsonSerializerHelper {
             parameterNamesToSkip.removeAll(responseParameters);
         }
 
-        final ExclusionStrategy strategy = new ParameterListExclusionStrategy(parameterNamesToSkip);
-
-        final GsonBuilder builder = new GsonBuilder().addSerializationExclusionStrategy(strategy);
-        registerTypeAdapters(builder);
-        return builder.create();
+        return getOrCreate(exclusionSerializers, parameterNamesToSkip,
+                parameterNames -> createGson(new ParameterListExclusionStrategy(parameterNames)));
     }
 
     public String serializedJsonFrom(final Gson serializer, final Object[] dataObjects) {
-        return serializer.toJson(dataObjects);
+        return toJson(serializer, dataObjects);
     }
 
     public String serializedJsonFrom(final Gson serializer, final Object singleDataObject) {
-        return serializer.toJson(singleDataObject);
+        return toJson(serializer, singleDataObject);
+    }
+
+    private static String toJson(final Gson serializer, final Object source) {
+        // an unsynchronized builder instead of the StringWriter (backed by a StringBuffer) used by Gson.toJson(Object)
+        final StringBuilder json = new StringBuilder(INITIAL_JSON_CAPACITY);
+        serializer.toJson(source, json);
+        return json.toString();
+    }
+
+    private static Gson getOrCreate(final Map<Set<String>, Gson> serializers, final Set<String> parameterNames,
+            final Function<Set<String>, Gson> factory) {
+        final Set<String> key = Set.copyOf(parameterNames);
+        final Gson serializer = serializers.get(key);
+        if (serializer != null) {
+            return serializer;
+        }
+        if (serializers.size() >= MAX_CACHED_SERIALIZERS) {
+            return factory.apply(key);
+        }
+        return serializers.computeIfAbsent(key, factory);
+    }
+
+    private static Gson createGson(final ExclusionStrategy strategy) {
+        final GsonBuilder builder = new GsonBuilder().addSerializationExclusionStrategy(strategy);
+        registerTypeAdapters(builder);
+        return builder.create();
     }
 
     public static Gson createSimpleGson() {
@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service;
+
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Carries the tenant, business date, security and logging context of the submitting thread over to the pooled thread
+ * running the task, and clears it again once the task is done so pooled threads never leak a previous caller's context.
+ * Use it on every executor that runs work on behalf of a request or job outside of the calling thread.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(@NotNull Runnable runnable) {
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        final Map<String, String> mdcContext = MDC.getCopyOfContextMap();
+        final Thread submittingThread = Thread.currentThread();
+        return () -> {
+            if (Thread.currentThread() == submittingThread) {
+                // executed by the caller (saturated pool), its context is already in place and must survive the task
+                runnable.run();
+                return;
+            }
+            try {
+                ThreadLocalContextUtil.init(context);
+                final SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+                securityContext.setAuthentication(authentication);
+                SecurityContextHolder.setContext(securityContext);
+                if (mdcContext != null) {
+                    MDC.setContextMap(mdcContext);
+                }
+                runnable.run();
+            } finally {
+                MDC.clear();
+                SecurityContextHolder.clearContext();
+                ThreadLocalContextUtil.reset();
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Splits a global connection budget across the tenant connection pools.
+ * <p>
+ * Every pool first gets what it currently uses (active plus waiting threads), bounded by its own configured maximum;
+ * idle pools are reduced to a single connection. Whatever is left of the budget is then lent to pools with waiting
+ * threads, even beyond their configured maximum, and finally handed back to the remaining active pools up to their
+ * configured maximum. If the budget does not even cover the current usage, the largest pools are trimmed first.
+ */
+final class TenantConnectionPoolBudget {
+
+    private TenantConnectionPoolBudget() {}
+
+    record PoolDemand(Long connectionId, int activeConnections, int pendingThreads, int configuredMinimumIdle,
+            int configuredMaximumPoolSize, boolean idle) {
+
+        int floor() {
+            return idle ? 1 : Math.max(1, Math.min(configuredMinimumIdle, configuredMaximumPoolSize));
+        }
+
+        int demand() {
+            return activeConnections + pendingThreads;
+        }
+    }
+
+    record PoolAllocation(int minimumIdle, int maximumPoolSize) {}
+
+    static Map<Long, PoolAllocation> allocate(List<PoolDemand> pools, int maxTotalConnections) {
+        final Map<Long, Integer> targets = new LinkedHashMap<>();
+        int remaining = maxTotalConnections;
+        for (PoolDemand pool : pools) {
+            int target = pool.idle() ? pool.floor() : Math.max(pool.floor(), Math.min(pool.demand(), pool.configuredMaximumPoolSize()));
+            targets.put(pool.connectionId(), target);
+            remaining -= target;
+        }
+
+        remaining = trimToBudget(pools, targets, remaining);
+        // lend the headroom to the saturated pools first, one connection at a time to keep it fair
+        remaining = distribute(pools.stream().filter(pool -> !pool.idle() && pool.pendingThreads() > 0).toList(), targets, remaining,
+                PoolDemand::demand);
+        // give the rest back to the active pools up to their configured maximum
+        distribute(pools.stream().filter(pool -> !pool.idle()).toList(), targets, remaining, PoolDemand::configuredMaximumPoolSize);
+
+        final Map<Long, PoolAllocation> allocations = new LinkedHashMap<>();
+        for (PoolDemand pool : pools) {
+            int maximumPoolSize = targets.get(pool.connectionId());
+            int minimumIdle = pool.idle() ? 0 : Math.min(pool.configuredMinimumIdle(), maximumPoolSize);
+            allocations.put(pool.connectionId(), new PoolAllocation(minimumIdle, maximumPoolSize));
+        }
+        return allocations;
+    }
+
+    /**
+     * The maximum size a newly created pool starts with: an even share of the budget across all pools, but never more
+     * than the pool's configured maximum nor less than one connection.
+     */
+    static int initialShare(int configuredMaximumPoolSize, int maxTotalConnections, int numberOfPools) {
+        return Math.max(1, Math.min(configuredMaximumPoolSize, maxTotalConnections / Math.max(1, numberOfPools)));
+    }
+
+    private static int trimToBudget(List<PoolDemand> pools, Map<Long, Integer> targets, int remaining) {
+        while (remaining < 0) {
+            PoolDemand largest = null;
+            int largestSurplus = 0;
+            for (PoolDemand pool : pools) {
+                int surplus = targets.get(pool.connectionId()) - pool.floor();
+                if (surplus > largestSurplus) {
+                    largest = pool;
+                    largestSurplus = surplus;
+                }
+            }
+            if (largest == null) {
+                // the budget does not even cover one connection per pool, the floors are kept regardless
+                return 0;
+            }
+            targets.merge(largest.connectionId(), -1, Integer::sum);
+            remaining++;
+        }
+        return remaining;
+    }
+
+    private static int distribute(List<PoolDemand> candidates, Map<Long, Integer> targets, int remaining,
+            ToIntFunction<PoolDemand> limit) {
+        List<PoolDemand> open = new ArrayList<>(candidates);
+        while (remaining > 0 && !open.isEmpty()) {
+            open.removeIf(pool -> targets.get(pool.connectionId()) >= limit.applyAsInt(pool));
+            for (PoolDemand pool : open) {
+                if (remaining == 0) {
+                    break;
+                }
+                targets.merge(pool.connectionId(), 1, Integer::sum);
+                remaining--;
+            }
+        }
+        return remaining;
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.database.TenantConnectionPoolBudget.PoolAllocation;
+import org.apache.fineract.infrastructure.core.service.database.TenantConnectionPoolBudget.PoolDemand;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps track of the tenant connection pools and, if the pool budget is enabled, periodically resizes them so that the
+ * sum of their maximum sizes stays within {@code fineract.tenant.pool-budget.max-total-connections}.
+ * <p>
+ * A pool is considered idle once its average usage over the last {@code idle-period-seconds} stays below
+ * {@link #IDLE_AVERAGE_USAGE} connections.
+ *
+ * @see TenantConnectionPoolBudget
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TenantConnectionPoolManager {
+
+    static final double IDLE_AVERAGE_USAGE = 0.1;
+
+    private final FineractProperties fineractProperties;
+
+    private final Map<Long, ManagedPool> pools = new ConcurrentHashMap<>();
+    private volatile int allocatedConnections;
+
+    public boolean isPoolBudgetEnabled() {
+        FineractProperties.FineractTenantPoolBudgetProperties poolBudget = fineractProperties.getTenant().getPoolBudget();
+        return poolBudget != null && poolBudget.isEnabled();
+    }
+
+    /**
+     * Starts managing a tenant pool. With the pool budget enabled, pools are created on first use while the budget is
+     * already handed out, so a new pool starts at its share of the budget instead of its configured maximum; the next
+     * rebalance adjusts it to its actual usage.
+     */
+    public synchronized void register(FineractPlatformTenant tenant, Long connectionId, DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            ManagedPool pool = new ManagedPool(tenant.getTenantIdentifier(), hikariDataSource, hikariDataSource.getMinimumIdle(),
+                    hikariDataSource.getMaximumPoolSize(), usageWindowSize());
+            if (isPoolBudgetEnabled()) {
+                int share = TenantConnectionPoolBudget.initialShare(pool.configuredMaximumPoolSize, getMaxTotalConnections(),
+                        pools.size() + 1);
+                resize(pool, Math.min(pool.configuredMinimumIdle, share), share);
+                allocatedConnections += share;
+            }
+            pools.put(connectionId, pool);
+        }
+    }
+
+    private int usageWindowSize() {
+        FineractProperties.FineractTenantPoolBudgetProperties poolBudget = fineractProperties.getTenant().getPoolBudget();
+        if (poolBudget == null) {
+            return 1;
+        }
+        return Math.max(1, poolBudget.getIdlePeriodSeconds() / Math.max(1, poolBudget.getRebalancePeriodSeconds()));
+    }
+
+    public int getMaxTotalConnections() {
+        return fineractProperties.getTenant().getPoolBudget().getMaxTotalConnections();
+    }
+
+    public int getAllocatedConnections() {
+        return allocatedConnections;
+    }
+
+    public synchronized void rebalance() {
+        final FineractProperties.FineractTenantPoolBudgetProperties poolBudget = fineractProperties.getTenant().getPoolBudget();
+        final List<PoolDemand> demands = new ArrayList<>(pools.size());
+        for (Map.Entry<Long, ManagedPool> entry : pools.entrySet()) {
+            ManagedPool pool = entry.getValue();
+            HikariPoolMXBean poolMXBean = pool.dataSource.getHikariPoolMXBean();
+            if (pool.dataSource.isClosed() || poolMXBean == null) {
+                continue;
+            }
+            int activeConnections = poolMXBean.getActiveConnections();
+            int pendingThreads = poolMXBean.getThreadsAwaitingConnection();
+            pool.usage.record(activeConnections + pendingThreads);
+            double averageUsage = pool.usage.average();
+            boolean idle = pool.usage.isWindowComplete() && averageUsage < IDLE_AVERAGE_USAGE;
+            // connections used between two samples are only visible in the average
+            int recentlyActive = Math.max(activeConnections, (int) Math.ceil(averageUsage) - pendingThreads);
+            demands.add(new PoolDemand(entry.getKey(), recentlyActive, pendingThreads, pool.configuredMinimumIdle,
+                    pool.configuredMaximumPoolSize, idle));
+        }
+
+        final Map<Long, PoolAllocation> allocations = TenantConnectionPoolBudget.allocate(demands, poolBudget.getMaxTotalConnections());
+        int allocated = 0;
+        for (PoolDemand demand : demands) {
+            PoolAllocation allocation = allocations.get(demand.connectionId());
+            apply(pools.get(demand.connectionId()), allocation, demand.idle());
+            allocated += allocation.maximumPoolSize();
+        }
+        allocatedConnections = allocated;
+    }
+
+    private void apply(ManagedPool pool, PoolAllocation allocation, boolean idle) {
+        resize(pool, allocation.minimumIdle(), allocation.maximumPoolSize());
+        if (idle && !pool.idle) {
+            log.debug("Connection pool of tenant {} became idle, releasing its idle connections", pool.tenantIdentifier);
+            pool.dataSource.getHikariPoolMXBean().softEvictConnections();
+        }
+        pool.idle = idle;
+    }
+
+    private void resize(ManagedPool pool, int minimumIdle, int maximumPoolSize) {
+        final HikariConfigMXBean config = pool.dataSource.getHikariConfigMXBean();
+        if (config.getMaximumPoolSize() != maximumPoolSize || config.getMinimumIdle() != minimumIdle) {
+            log.debug("Resizing connection pool of tenant {} to minimum idle {} and maximum {}", pool.tenantIdentifier, minimumIdle,
+                    maximumPoolSize);
+            // keep minimum idle <= maximum pool size at every step
+            if (maximumPoolSize >= config.getMaximumPoolSize()) {
+                config.setMaximumPoolSize(maximumPoolSize);
+                config.setMinimumIdle(minimumIdle);
+            } else {
+                config.setMinimumIdle(minimumIdle);
+                config.setMaximumPoolSize(maximumPoolSize);
+            }
+        }
+    }
+
+    private static final class ManagedPool {
+
+        private final String tenantIdentifier;
+        private final HikariDataSource dataSource;
+        private final int configuredMinimumIdle;
+        private final int configuredMaximumPoolSize;
+        private final TenantConnectionPoolUsage usage;
+        private boolean idle;
+
+        private ManagedPool(String tenantIdentifier, HikariDataSource dataSource, int configuredMinimumIdle, int configuredMaximumPoolSize,
+                int usageWindowSize) {
+            this.tenantIdentifier = tenantIdentifier;
+            this.dataSource = dataSource;
+            this.configuredMinimumIdle = configuredMinimumIdle;
+            this.configuredMaximumPoolSize = configuredMaximumPoolSize;
+            this.usage = new TenantConnectionPoolUsage(usageWindowSize);
+        }
+    }
+}
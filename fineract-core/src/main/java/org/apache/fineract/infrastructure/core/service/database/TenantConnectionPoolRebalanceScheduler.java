@@ -0,0 +1,78 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.database.metrics.TenantConnectionPoolMetricsTracker;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Conditional(TenantConnectionPoolBudgetEnabledCondition.class)
+public class TenantConnectionPoolRebalanceScheduler implements InitializingBean {
+
+    private static final String METRIC_PREFIX = "fineract.tenants" + TenantConnectionPoolMetricsTracker.HIKARI_METRIC_NAME_PREFIX;
+
+    private final TenantConnectionPoolManager poolManager;
+    private final TaskScheduler taskScheduler;
+    private final FineractProperties fineractProperties;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    @SuppressWarnings({ "FutureReturnValueIgnored" })
+    @Override
+    public void afterPropertiesSet() {
+        long rebalancePeriodInSec = fineractProperties.getTenant().getPoolBudget().getRebalancePeriodSeconds();
+        if (rebalancePeriodInSec < 1) {
+            log.warn("Rebalance period of the tenant connection pools cannot be smaller than 1 second, setting back the minimum 1");
+            rebalancePeriodInSec = 1;
+        }
+        Duration rebalancePeriod = Duration.ofSeconds(rebalancePeriodInSec);
+        PeriodicTrigger trigger = new PeriodicTrigger(rebalancePeriod);
+        trigger.setInitialDelay(rebalancePeriod);
+        taskScheduler.schedule(this::rebalance, trigger);
+
+        meterRegistry.ifPresent(registry -> {
+            Gauge.builder(METRIC_PREFIX + ".budget.max", poolManager, TenantConnectionPoolManager::getMaxTotalConnections)
+                    .description("Connection budget shared by the tenant pools") //
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + ".budget.allocated", poolManager, TenantConnectionPoolManager::getAllocatedConnections)
+                    .description("Connections currently allocated to the tenant pools") //
+                    .register(registry);
+        });
+    }
+
+    private void rebalance() {
+        try {
+            poolManager.rebalance();
+        } catch (RuntimeException e) {
+            log.error("Error while rebalancing the tenant connection pools", e);
+        }
+    }
+}
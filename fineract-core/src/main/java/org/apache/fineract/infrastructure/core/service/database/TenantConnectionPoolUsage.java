@@ -0,0 +1,55 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+/**
+ * The connection usage (active connections plus waiting threads) of one tenant pool, sampled on every rebalance and
+ * kept for a fixed number of samples. A single sample only tells whether the pool happened to be busy at that instant;
+ * the average over the window also reflects the requests served between two rebalances.
+ */
+final class TenantConnectionPoolUsage {
+
+    private final int[] samples;
+    private int count;
+    private int next;
+    private long sum;
+
+    TenantConnectionPoolUsage(int windowSize) {
+        this.samples = new int[Math.max(1, windowSize)];
+    }
+
+    void record(int usage) {
+        if (count == samples.length) {
+            sum -= samples[next];
+        } else {
+            count++;
+        }
+        samples[next] = usage;
+        sum += usage;
+        next = (next + 1) % samples.length;
+    }
+
+    boolean isWindowComplete() {
+        return count == samples.length;
+    }
+
+    double average() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+}
@@ -52,6 +52,7 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
     private final TenantDetailsService tenantDetailsService;
 
     private final DataSourcePerTenantServiceFactory dataSourcePerTenantServiceFactory;
+    private final TenantConnectionPoolManager tenantConnectionPoolManager;
 
     @Override
     public DataSource retrieveDataSource() {
@@ -65,7 +66,7 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
             // if tenantConnection information available switch to the
             // appropriate datasource for that tenant.
             actualDataSource = TENANT_TO_DATA_SOURCE_MAP.computeIfAbsent(tenantConnectionKey,
-                    (key) -> dataSourcePerTenantServiceFactory.createNewDataSourceFor(tenant, tenantConnection));
+                    (key) -> createDataSource(tenant, tenantConnection));
 
         }
 
@@ -74,6 +75,11 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
 
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
+        if (tenantConnectionPoolManager.isPoolBudgetEnabled()) {
+            // with a shared connection budget the tenant pools are created on first use
+            log.debug("Tenant connection pool budget is enabled, tenant datasources are initialized lazily");
+            return;
+        }
         final List<FineractPlatformTenant> allTenants = tenantDetailsService.findAllTenants();
         for (final FineractPlatformTenant tenant : allTenants) {
             initializeDataSourceConnection(tenant);
@@ -85,7 +91,7 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
         final FineractPlatformTenantConnection tenantConnection = tenant.getConnection();
         Long tenantConnectionKey = tenantConnection.getConnectionId();
         TENANT_TO_DATA_SOURCE_MAP.computeIfAbsent(tenantConnectionKey, (key) -> {
-            DataSource tenantSpecificDataSource = dataSourcePerTenantServiceFactory.createNewDataSourceFor(tenant, tenantConnection);
+            DataSource tenantSpecificDataSource = createDataSource(tenant, tenantConnection);
             try (Connection connection = tenantSpecificDataSource.getConnection()) {
                 String url = connection.getMetaData().getURL();
                 log.debug("Established database connection with URL {}", url);
@@ -97,4 +103,10 @@ public class TomcatJdbcDataSourcePerTenantService implements RoutingDataSourceSe
         log.debug("Database connection for {} initialized", tenant.getName());
 
     }
+
+    private DataSource createDataSource(FineractPlatformTenant tenant, FineractPlatformTenantConnection tenantConnection) {
+        DataSource dataSource = dataSourcePerTenantServiceFactory.createNewDataSourceFor(tenant, tenantConnection);
+        tenantConnectionPoolManager.register(tenant, tenantConnection.getConnectionId(), dataSource);
+        return dataSource;
+    }
 }
@@ -43,6 +43,7 @@ public class TenantConnectionPoolMetricsTracker implements IMetricsTracker {
     private static final String METRIC_NAME_PENDING_CONNECTIONS = HIKARI_METRIC_NAME_PREFIX + ".connections.pending";
     private static final String METRIC_NAME_MAX_CONNECTIONS = HIKARI_METRIC_NAME_PREFIX + ".connections.max";
     private static final String METRIC_NAME_MIN_CONNECTIONS = HIKARI_METRIC_NAME_PREFIX + ".connections.min";
+    private static final String METRIC_NAME_SATURATION = HIKARI_METRIC_NAME_PREFIX + ".connections.saturation";
 
     private final Timer connectionObtainTimer;
     private final Counter connectionTimeoutCounter;
@@ -54,6 +55,7 @@ public class TenantConnectionPoolMetricsTracker implements IMetricsTracker {
     private final Gauge pendingConnectionGauge;
     private final Gauge maxConnectionGauge;
     private final Gauge minConnectionGauge;
+    private final Gauge saturationGauge;
     private final MeterRegistry meterRegistry;
     private final PoolStats poolStats;
 
@@ -113,6 +115,19 @@ public class TenantConnectionPoolMetricsTracker implements IMetricsTracker {
                 .tags(METRIC_CATEGORY, poolName) //
                 .register(meterRegistry);
 
+        this.saturationGauge = Gauge
+                .builder(metricPrefix + METRIC_NAME_SATURATION, poolStats, TenantConnectionPoolMetricsTracker::saturation)
+                .description("Active connections and pending threads relative to the max connections") //
+                .tags(METRIC_CATEGORY, poolName) //
+                .register(meterRegistry);
+    }
+
+    static double saturation(PoolStats poolStats) {
+        int maxConnections = poolStats.getMaxConnections();
+        if (maxConnections <= 0) {
+            return 0;
+        }
+        return (double) (poolStats.getActiveConnections() + poolStats.getPendingThreads()) / maxConnections;
     }
 
     @Override
@@ -147,5 +162,6 @@ public class TenantConnectionPoolMetricsTracker implements IMetricsTracker {
         meterRegistry.remove(pendingConnectionGauge);
         meterRegistry.remove(maxConnectionGauge);
         meterRegistry.remove(minConnectionGauge);
+        meterRegistry.remove(saturationGauge);
     }
 }
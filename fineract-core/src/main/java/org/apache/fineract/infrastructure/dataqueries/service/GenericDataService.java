@@ -27,12 +27,20 @@ public interface GenericDataService {
 
     GenericResultsetData fillGenericResultSet(String sql);
 
+    /**
+     * Runs the given sql over a forward-only, read-only cursor and passes each row to the handler as soon as it is read.
+     * Only {@code fetchSize} rows are buffered by the driver at any time.
+     */
+    void streamGenericResultSet(String sql, int fetchSize, GenericResultsetStreamHandler handler);
+
     List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(String tableName);
 
     List<ResultsetRowData> fillResultsetRowData(String sql, List<ResultsetColumnHeaderData> columnHeaders);
 
     String generateJsonFromGenericResultsetData(GenericResultsetData grs);
 
+    String generateJsonFromGenericResultsetRow(List<ResultsetColumnHeaderData> columnHeaders, List<Object> row);
+
     String replace(String str, String pattern, String replace);
 
     String wrapSQL(String sql);
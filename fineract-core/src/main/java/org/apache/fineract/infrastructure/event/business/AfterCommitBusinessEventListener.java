@@ -0,0 +1,47 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.business;
+
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+
+/**
+ * Listener of business events which runs once the transaction raising the event committed, possibly on another thread
+ * and after the persistence context of the transaction was closed.
+ * <p>
+ * The entity carried by the event must therefore not be used after the commit: {@link #capture(BusinessEvent)} reads
+ * everything the listener needs while the transaction is still open and only its result reaches
+ * {@link #afterCommit(Object)}.
+ *
+ * @param <S>
+ *            detached data handed over from the transaction, ids and values but never entities
+ */
+public interface AfterCommitBusinessEventListener<T extends BusinessEvent<?>, S> {
+
+    /**
+     * Called inside the transaction raising the event.
+     *
+     * @return the data for {@link #afterCommit(Object)}, or null when the event does not concern the listener
+     */
+    S capture(T event);
+
+    /**
+     * Called once the transaction committed, with the data captured inside it.
+     */
+    void afterCommit(S captured);
+}
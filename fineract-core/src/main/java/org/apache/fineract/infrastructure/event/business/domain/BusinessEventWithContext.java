@@ -0,0 +1,40 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.business.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+
+/**
+ * A business event captured together with the {@link FineractContext} it was raised in, so it can be turned into an
+ * external event later in the transaction.
+ */
+@Getter
+@Setter
+public final class BusinessEventWithContext {
+
+    private BusinessEvent<?> event;
+    private FineractContext fineractContext;
+
+    public BusinessEventWithContext(BusinessEvent<?> event, FineractContext fineractContext) {
+        this.event = event;
+        this.fineractContext = fineractContext;
+    }
+}
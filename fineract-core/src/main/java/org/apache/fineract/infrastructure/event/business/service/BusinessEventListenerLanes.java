@@ -0,0 +1,92 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.business.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ContextPropagatingTaskDecorator;
+import org.apache.fineract.infrastructure.event.business.AfterCommitBusinessEventListener;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs after-commit business event listeners, each on its own bounded executor so that a slow listener can only
+ * delay its own events.
+ * <p>
+ * When a lane's queue is full the committing thread runs the listener itself, which throttles the producers instead of
+ * dropping events. With async listeners disabled every listener runs on the committing thread right after the commit.
+ * Listener failures are logged and never reach the caller, as the business transaction is already committed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BusinessEventListenerLanes implements DisposableBean {
+
+    private final FineractProperties fineractProperties;
+    private final Map<AfterCommitBusinessEventListener<?, ?>, ThreadPoolTaskExecutor> lanes = new ConcurrentHashMap<>();
+
+    public void dispatch(AfterCommitBusinessEventListener<?, ?> listener, Runnable invocation) {
+        Runnable task = () -> {
+            try {
+                invocation.run();
+            } catch (RuntimeException e) {
+                log.error("After-commit business event listener {} failed", listener.getClass().getName(), e);
+            }
+        };
+        if (isEnabled()) {
+            lanes.computeIfAbsent(listener, this::createLane).execute(task);
+        } else {
+            task.run();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        lanes.values().forEach(ThreadPoolTaskExecutor::shutdown);
+        lanes.clear();
+    }
+
+    private boolean isEnabled() {
+        return getProperties().isAsyncListenersEnabled();
+    }
+
+    private ThreadPoolTaskExecutor createLane(AfterCommitBusinessEventListener<?, ?> listener) {
+        FineractProperties.FineractBusinessEventsProperties properties = getProperties();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getAsyncListenerPoolSize());
+        executor.setMaxPoolSize(properties.getAsyncListenerPoolSize());
+        executor.setQueueCapacity(properties.getAsyncListenerQueueCapacity());
+        // idle lanes of rarely raised events should not keep their threads around
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setThreadNamePrefix("event-listener-" + listener.getClass().getSimpleName() + "-");
+        executor.initialize();
+        return executor;
+    }
+
+    private FineractProperties.FineractBusinessEventsProperties getProperties() {
+        return fineractProperties.getEvents().getBusiness();
+    }
+}
@@ -18,6 +18,7 @@
  */
 package org.apache.fineract.infrastructure.event.business.service;
 
+import org.apache.fineract.infrastructure.event.business.AfterCommitBusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
 
@@ -47,6 +48,15 @@ public interface BusinessEventNotifierService {
      */
     <T extends BusinessEvent<?>> void addPostBusinessEventListener(Class<T> eventType, BusinessEventListener<T> listener);
 
+    /**
+     * Method is to register a class as listener for post-processing side effects that must not be part of the business
+     * transaction. The listener captures its data when the event is raised and is invoked with it only once the
+     * transaction raising the event has committed, on a bounded executor of its own. Its failures are logged instead of
+     * being propagated.
+     */
+    <T extends BusinessEvent<?>> void addAfterCommitBusinessEventListener(Class<T> eventType,
+            AfterCommitBusinessEventListener<T, ?> listener);
+
     void startExternalEventRecording();
 
     void stopExternalEventRecording();
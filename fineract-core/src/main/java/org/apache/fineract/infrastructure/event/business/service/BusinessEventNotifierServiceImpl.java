@@ -23,16 +23,17 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Stack;
-import lombok.Getter;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
-import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.AfterCommitBusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.business.domain.NoExternalEvent;
 import org.apache.fineract.infrastructure.event.external.service.ExternalEventService;
 import org.springframework.beans.factory.InitializingBean;
@@ -48,8 +49,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierService, InitializingBean, TransactionExecutionListener {
 
-    private final Map<Class, List<BusinessEventListener>> preListeners = new HashMap<>();
-    private final Map<Class, List<BusinessEventListener>> postListeners = new HashMap<>();
+    private final ListenerRegistry<BusinessEventListener> preListeners = new ListenerRegistry<>();
+    private final ListenerRegistry<BusinessEventListener> postListeners = new ListenerRegistry<>();
+    private final ListenerRegistry<AfterCommitBusinessEventListener> afterCommitListeners = new ListenerRegistry<>();
 
     private final ThreadLocal<Boolean> eventRecordingEnabled = ThreadLocal.withInitial(() -> false);
     private final ThreadLocal<List<BusinessEvent<?>>> recordedEvents = ThreadLocal.withInitial(ArrayList::new);
@@ -57,8 +59,10 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     private final ExternalEventService externalEventService;
     private final FineractProperties fineractProperties;
     private final ThreadLocal<Stack<List<BusinessEventWithContext>>> transactionBusinessEvents = ThreadLocal.withInitial(Stack::new);
+    private final ThreadLocal<Stack<List<Runnable>>> transactionAfterCommitDispatches = ThreadLocal.withInitial(Stack::new);
     private final TransactionHelper transactionHelper;
     private final ExternalBusinessEventConfigurationService externalBusinessEventConfigurationService;
+    private final BusinessEventListenerLanes businessEventListenerLanes;
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -72,7 +76,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     @Override
     public void notifyPreBusinessEvent(BusinessEvent<?> businessEvent) {
         throwExceptionIfBulkEvent(businessEvent);
-        List<BusinessEventListener> businessEventListeners = findSuitableListeners(preListeners, businessEvent.getClass());
+        List<BusinessEventListener> businessEventListeners = preListeners.find(businessEvent.getClass());
         for (BusinessEventListener eventListener : businessEventListeners) {
             eventListener.onBusinessEvent(businessEvent);
         }
@@ -80,12 +84,7 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
 
     @Override
     public <T extends BusinessEvent<?>> void addPreBusinessEventListener(Class<T> eventType, BusinessEventListener<T> listener) {
-        List<BusinessEventListener> businessEventListeners = preListeners.get(eventType);
-        if (businessEventListeners == null) {
-            businessEventListeners = new ArrayList<>();
-            preListeners.put(eventType, businessEventListeners);
-        }
-        businessEventListeners.add(listener);
+        preListeners.register(eventType, listener);
     }
 
     @Override
@@ -93,10 +92,11 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
     public void notifyPostBusinessEvent(BusinessEvent<?> businessEvent) {
         throwExceptionIfBulkEvent(businessEvent);
         boolean isExternalEvent = !(businessEvent instanceof NoExternalEvent);
-        List<BusinessEventListener> businessEventListeners = findSuitableListeners(postListeners, businessEvent.getClass());
+        List<BusinessEventListener> businessEventListeners = postListeners.find(businessEvent.getClass());
         for (BusinessEventListener eventListener : businessEventListeners) {
             eventListener.onBusinessEvent(businessEvent);
         }
+        dispatchAfterCommit(businessEvent);
         if (isExternalEvent && isExternalEventPostingEnabled()) {
             // we only want to create external events for operations that were successful, hence the post listener
             if (externalBusinessEventConfigurationService.isExternalEventConfiguredForPosting(businessEvent)) {
@@ -113,25 +113,42 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         }
     }
 
-    private List<BusinessEventListener> findSuitableListeners(Map<Class, List<BusinessEventListener>> listeners, Class<?> eventClazz) {
-        List<BusinessEventListener> result = new ArrayList<>();
-        for (Map.Entry<Class, List<BusinessEventListener>> entry : listeners.entrySet()) {
-            Class<?> registeredClazz = entry.getKey();
-            if (registeredClazz.isAssignableFrom(eventClazz)) {
-                result.addAll(entry.getValue());
+    private void dispatchAfterCommit(BusinessEvent<?> businessEvent) {
+        List<AfterCommitBusinessEventListener> businessEventListeners = afterCommitListeners.find(businessEvent.getClass());
+        if (businessEventListeners.isEmpty()) {
+            return;
+        }
+        boolean inTransaction = transactionHelper.hasTransaction();
+        for (AfterCommitBusinessEventListener eventListener : businessEventListeners) {
+            // the event's entities are read here, while the persistence context is still open
+            Object captured;
+            try {
+                captured = eventListener.capture(businessEvent);
+            } catch (RuntimeException e) {
+                log.error("After-commit business event listener {} failed", eventListener.getClass().getName(), e);
+                continue;
+            }
+            if (captured == null) {
+                continue;
+            }
+            Runnable dispatch = () -> businessEventListenerLanes.dispatch(eventListener, () -> eventListener.afterCommit(captured));
+            if (inTransaction) {
+                transactionAfterCommitDispatches.get().peek().add(dispatch);
+            } else {
+                dispatch.run();
             }
         }
-        return result;
     }
 
     @Override
     public <T extends BusinessEvent<?>> void addPostBusinessEventListener(Class<T> eventType, BusinessEventListener<T> listener) {
-        List<BusinessEventListener> businessEventListeners = postListeners.get(eventType);
-        if (businessEventListeners == null) {
-            businessEventListeners = new ArrayList<>();
-            postListeners.put(eventType, businessEventListeners);
-        }
-        businessEventListeners.add(listener);
+        postListeners.register(eventType, listener);
+    }
+
+    @Override
+    public <T extends BusinessEvent<?>> void addAfterCommitBusinessEventListener(Class<T> eventType,
+            AfterCommitBusinessEventListener<T, ?> listener) {
+        afterCommitListeners.register(eventType, listener);
     }
 
     private boolean isExternalEventRecordingEnabled() {
@@ -188,34 +205,31 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         businessEvents.add(new BusinessEventWithContext(businessEvent, fineractContext));
     }
 
-    private void cleanup() {
+    private List<Runnable> cleanup() {
         transactionBusinessEvents.get().pop();
+        return transactionAfterCommitDispatches.get().pop();
     }
 
     @Override
     public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
         transactionBusinessEvents.get().push(new ArrayList<>());
+        transactionAfterCommitDispatches.get().push(new ArrayList<>());
     }
 
     @Override
     public void beforeCommit(TransactionExecution transaction) {
         List<BusinessEventWithContext> businessEventWithContexts = transactionBusinessEvents.get().peek();
         if (!businessEventWithContexts.isEmpty()) {
-            FineractContext originalContext = ThreadLocalContextUtil.getContext();
-            try {
-                for (BusinessEventWithContext businessEventWithContext : businessEventWithContexts) {
-                    ThreadLocalContextUtil.init(businessEventWithContext.getFineractContext());
-                    externalEventService.postEvent(businessEventWithContext.getEvent());
-                }
-            } finally {
-                ThreadLocalContextUtil.init(originalContext);
-            }
+            externalEventService.postEvents(businessEventWithContexts);
         }
     }
 
     @Override
     public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
-        cleanup();
+        List<Runnable> afterCommitDispatches = cleanup();
+        if (commitFailure == null) {
+            afterCommitDispatches.forEach(Runnable::run);
+        }
     }
 
     @Override
@@ -223,16 +237,34 @@ public class BusinessEventNotifierServiceImpl implements BusinessEventNotifierSe
         cleanup();
     }
 
-    @Getter
-    @Setter
-    private static final class BusinessEventWithContext {
+    /**
+     * Listeners registered per event type, together with the listeners resolved for every concrete event class raised so
+     * far. Registration clears the resolved table, so lookups never walk the registrations more than once per event class
+     * between two registrations.
+     */
+    private static final class ListenerRegistry<L> {
+
+        private final Map<Class, List<L>> listeners = new HashMap<>();
+        private volatile Map<Class, List<L>> dispatchTable = new ConcurrentHashMap<>();
 
-        private BusinessEvent<?> event;
-        private FineractContext fineractContext;
+        synchronized void register(Class<?> eventType, L listener) {
+            listeners.computeIfAbsent(eventType, key -> new ArrayList<>()).add(listener);
+            dispatchTable = new ConcurrentHashMap<>();
+        }
+
+        List<L> find(Class<?> eventClazz) {
+            return dispatchTable.computeIfAbsent(eventClazz, this::resolve);
+        }
 
-        BusinessEventWithContext(BusinessEvent<?> event, FineractContext fineractContext) {
-            this.event = event;
-            this.fineractContext = fineractContext;
+        private synchronized List<L> resolve(Class<?> eventClazz) {
+            List<L> result = new ArrayList<>();
+            for (Map.Entry<Class, List<L>> entry : listeners.entrySet()) {
+                Class<?> registeredClazz = entry.getKey();
+                if (registeredClazz.isAssignableFrom(eventClazz)) {
+                    result.addAll(entry.getValue());
+                }
+            }
+            return List.copyOf(result);
         }
     }
 }
@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.jobs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micrometer metrics of the external event sending, tagged by tenant. The sent events counter gives the events/second
+ * rate, the backlog and lag gauges are refreshed on every run of the sending job.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalEventSendingMetrics {
+
+    private static final String METRIC_NAME_PREFIX = "fineract.events.external";
+    private static final String METRIC_NAME_SENT = METRIC_NAME_PREFIX + ".sent";
+    private static final String METRIC_NAME_SEND = METRIC_NAME_PREFIX + ".send";
+    private static final String METRIC_NAME_BACKLOG = METRIC_NAME_PREFIX + ".backlog";
+    private static final String METRIC_NAME_LAG = METRIC_NAME_PREFIX + ".lag.days";
+    private static final String TAG_TENANT = "tenant";
+
+    private final Optional<MeterRegistry> meterRegistry;
+
+    // gauges only keep weak references to their value holders
+    private final Map<String, AtomicLong> backlogs = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> lags = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return meterRegistry.isPresent();
+    }
+
+    public void recordSent(int eventCount, Duration timeTaken) {
+        meterRegistry.ifPresent(registry -> {
+            Tags tags = tenantTags();
+            registry.counter(METRIC_NAME_SENT, tags).increment(eventCount);
+            registry.timer(METRIC_NAME_SEND, tags).record(timeTaken);
+        });
+    }
+
+    public void recordBacklog(long backlog, LocalDate oldestBusinessDate) {
+        meterRegistry.ifPresent(registry -> {
+            String tenantIdentifier = tenantIdentifier();
+            Tags tags = tenantTags();
+            backlogs.computeIfAbsent(tenantIdentifier, key -> registry.gauge(METRIC_NAME_BACKLOG, tags, new AtomicLong())).set(backlog);
+            long lag = oldestBusinessDate == null ? 0L : ChronoUnit.DAYS.between(oldestBusinessDate, DateUtils.getBusinessLocalDate());
+            lags.computeIfAbsent(tenantIdentifier, key -> registry.gauge(METRIC_NAME_LAG, tags, new AtomicLong())).set(lag);
+        });
+    }
+
+    private Tags tenantTags() {
+        return Tags.of(TAG_TENANT, tenantIdentifier());
+    }
+
+    private String tenantIdentifier() {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+    }
+}
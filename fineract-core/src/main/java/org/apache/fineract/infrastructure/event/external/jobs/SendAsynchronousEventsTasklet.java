@@ -25,6 +25,7 @@ import static org.apache.fineract.infrastructure.core.diagnostics.performance.Me
 import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -71,6 +72,7 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     private final TransactionTemplate transactionTemplate;
     @Qualifier(TaskExecutorConstant.EVENT_MARKS_AS_SENT_EXECUTOR_BEAN_NAME)
     private final ThreadPoolTaskExecutor threadPoolTaskExecutor;
+    private final ExternalEventSendingMetrics sendingMetrics;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
@@ -78,7 +80,11 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
             if (isDownstreamChannelEnabled()) {
                 List<ExternalEventView> events = getQueuedEventsBatch();
                 log.debug("Queued events size: {}", events.size());
-                sendEvents(events);
+                if (isRelayEnabled()) {
+                    relayEvents(events);
+                } else {
+                    sendEvents(events);
+                }
             }
         } catch (Exception e) {
             log.error("Error occurred while processing events: ", e);
@@ -86,6 +92,11 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         return RepeatStatus.FINISHED;
     }
 
+    private boolean isRelayEnabled() {
+        FineractProperties.FineractExternalEventsRelayProperties relayProperties = fineractProperties.getEvents().getExternal().getRelay();
+        return relayProperties != null && relayProperties.isEnabled();
+    }
+
     private boolean isDownstreamChannelEnabled() {
         return fineractProperties.getEvents().getExternal().getProducer().getJms().isEnabled()
                 || fineractProperties.getEvents().getExternal().getProducer().getKafka().isEnabled();
@@ -101,15 +112,76 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
     private void sendEvents(List<ExternalEventView> queuedEvents) {
         Map<Long, List<byte[]>> partitions = generatePartitions(queuedEvents);
         List<Long> eventIds = queuedEvents.stream().map(ExternalEventView::getId).toList();
-        sendEventsToProducer(partitions);
-        markEventsAsSent(eventIds);
+        sendEventsToProducer(partitions, eventIds.size());
+        awaitMarking(markEventsAsSent(eventIds));
+    }
+
+    /**
+     * Keeps sending batches until the backlog is drained or the configured run duration is over. The next batch is read
+     * with keyset paging (business date, id) and serialized on the event executor while the current one is being sent,
+     * so the not yet committed SENT marks of previous batches do not influence the reads. Events are only marked as
+     * SENT after the producer acknowledged them; events committed behind the keyset position are picked up by the next
+     * run.
+     */
+    private void relayEvents(List<ExternalEventView> firstBatch) throws InterruptedException, ExecutionException {
+        final int batchSize = getBatchSize();
+        final long deadline = System.nanoTime()
+                + Duration.ofSeconds(fineractProperties.getEvents().getExternal().getRelay().getMaxRunDurationInSeconds()).toNanos();
+        recordBacklog(firstBatch);
+        final FineractContext context = ThreadLocalContextUtil.getContext();
+        List<Future<?>> markingTasks = new ArrayList<>();
+        try {
+            EventBatch batch = new EventBatch(firstBatch, generatePartitions(firstBatch));
+            while (!batch.events().isEmpty()) {
+                Future<EventBatch> nextBatch = null;
+                if (batch.events().size() == batchSize && System.nanoTime() < deadline) {
+                    ExternalEventView last = batch.events().get(batch.events().size() - 1);
+                    nextBatch = threadPoolTaskExecutor.submit(() -> {
+                        ThreadLocalContextUtil.init(context);
+                        List<ExternalEventView> events = getQueuedEventsBatchAfter(last, batchSize);
+                        return new EventBatch(events, generatePartitions(events));
+                    });
+                }
+                List<Long> eventIds = batch.events().stream().map(ExternalEventView::getId).toList();
+                try {
+                    sendEventsToProducer(batch.partitions(), eventIds.size());
+                } catch (RuntimeException e) {
+                    if (nextBatch != null) {
+                        nextBatch.cancel(true);
+                    }
+                    throw e;
+                }
+                markingTasks.addAll(markEventsAsSent(eventIds));
+                batch = nextBatch == null ? new EventBatch(List.of(), Map.of()) : nextBatch.get();
+            }
+        } finally {
+            awaitMarking(markingTasks);
+        }
     }
 
-    private void sendEventsToProducer(Map<Long, List<byte[]>> partitions) {
-        eventProducer.sendEvents(partitions);
+    private List<ExternalEventView> getQueuedEventsBatchAfter(ExternalEventView last, int batchSize) {
+        return measure(
+                () -> repository.findByStatusAfterBusinessDateAndId(ExternalEventStatus.TO_BE_SENT, last.getBusinessDate(), last.getId(),
+                        PageRequest.ofSize(batchSize)),
+                (events, timeTaken) -> log.debug("Loaded {} events in {}ms", events.size(), timeTaken.toMillis()));
     }
 
-    private void markEventsAsSent(List<Long> eventIds) {
+    private void recordBacklog(List<ExternalEventView> firstBatch) {
+        if (sendingMetrics.isEnabled()) {
+            long backlog = firstBatch.isEmpty() ? 0L : repository.countByStatus(ExternalEventStatus.TO_BE_SENT);
+            sendingMetrics.recordBacklog(backlog, firstBatch.isEmpty() ? null : firstBatch.get(0).getBusinessDate());
+        }
+    }
+
+    private void sendEventsToProducer(Map<Long, List<byte[]>> partitions, int eventCount) {
+        measure(() -> {
+            eventProducer.sendEvents(partitions);
+        }, timeTaken -> {
+            sendingMetrics.recordSent(eventCount, timeTaken);
+        });
+    }
+
+    private List<Future<?>> markEventsAsSent(List<Long> eventIds) {
         OffsetDateTime sentAt = DateUtils.getAuditOffsetDateTime();
 
         // Partitioning dataset to avoid exception: PreparedStatement can have at most 65,535 parameters
@@ -131,6 +203,10 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
                         });
                     }));
                 });
+        return tasks;
+    }
+
+    private void awaitMarking(List<Future<?>> tasks) {
         for (Future<?> task : tasks) {
             try {
                 task.get();
@@ -180,4 +256,7 @@ public class SendAsynchronousEventsTasklet implements Tasklet {
         return externalEventBatchSize.intValue();
     }
 
+    private record EventBatch(List<ExternalEventView> events, Map<Long, List<byte[]>> partitions) {
+    }
+
 }
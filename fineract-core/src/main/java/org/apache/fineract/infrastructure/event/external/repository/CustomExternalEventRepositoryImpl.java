@@ -0,0 +1,57 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CustomExternalEventRepositoryImpl implements CustomExternalEventRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    @Override
+    public void insertAll(List<ExternalEvent> externalEvents) {
+        if (externalEvents.isEmpty()) {
+            return;
+        }
+        String sql = "INSERT INTO m_external_event (type, category, " + sqlGenerator.escape("schema")
+                + ", data, data_compressed, created_at, status, idempotency_key, business_date, aggregate_root_id)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, externalEvents, externalEvents.size(), (PreparedStatement ps, ExternalEvent event) -> {
+            ps.setString(1, event.getType());
+            ps.setString(2, event.getCategory());
+            ps.setString(3, event.getSchema());
+            ps.setBytes(4, event.getData());
+            ps.setBoolean(5, event.isDataCompressed());
+            ps.setObject(6, event.getCreatedAt());
+            ps.setString(7, event.getStatus().name());
+            ps.setString(8, event.getIdempotencyKey());
+            ps.setObject(9, event.getBusinessDate());
+            ps.setObject(10, event.getAggregateRootId());
+        });
+    }
+}
@@ -31,10 +31,17 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ExternalEventRepository extends JpaRepository<ExternalEvent, Long>, JpaSpecificationExecutor<ExternalEvent> {
+public interface ExternalEventRepository
+        extends JpaRepository<ExternalEvent, Long>, JpaSpecificationExecutor<ExternalEvent>, CustomExternalEventRepository {
 
     List<ExternalEventView> findByStatusOrderByBusinessDateAscIdAsc(ExternalEventStatus status, Pageable batchSize);
 
+    @Query("select e from ExternalEvent e where e.status = :status and (e.businessDate > :businessDate or (e.businessDate = :businessDate and e.id > :id)) order by e.businessDate asc, e.id asc")
+    List<ExternalEventView> findByStatusAfterBusinessDateAndId(@Param("status") ExternalEventStatus status,
+            @Param("businessDate") LocalDate businessDate, @Param("id") Long id, Pageable batchSize);
+
+    long countByStatus(ExternalEventStatus status);
+
     @Modifying(flushAutomatically = true)
     @Query("delete from ExternalEvent e where e.status = :status and e.businessDate <= :dateForPurgeCriteria")
     void deleteOlderEventsWithSentStatus(@Param("status") ExternalEventStatus status,
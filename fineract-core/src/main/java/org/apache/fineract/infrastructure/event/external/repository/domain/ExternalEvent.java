@@ -52,6 +52,9 @@ public class ExternalEvent extends AbstractPersistableCustom<Long> {
     @Column(name = "data", nullable = false)
     private byte[] data;
 
+    @Column(name = "data_compressed", nullable = false)
+    private boolean dataCompressed;
+
     @Column(name = "created_at", nullable = false)
     private OffsetDateTime createdAt;
 
@@ -74,10 +77,16 @@ public class ExternalEvent extends AbstractPersistableCustom<Long> {
     private Long aggregateRootId;
 
     public ExternalEvent(String type, String category, String schema, byte[] data, String idempotencyKey, Long aggregateRootId) {
+        this(type, category, schema, data, false, idempotencyKey, aggregateRootId);
+    }
+
+    public ExternalEvent(String type, String category, String schema, byte[] data, boolean dataCompressed, String idempotencyKey,
+            Long aggregateRootId) {
         this.type = type;
         this.category = category;
         this.schema = schema;
         this.data = data;
+        this.dataCompressed = dataCompressed;
         this.idempotencyKey = idempotencyKey;
         this.aggregateRootId = aggregateRootId;
         this.createdAt = DateUtils.getAuditOffsetDateTime();
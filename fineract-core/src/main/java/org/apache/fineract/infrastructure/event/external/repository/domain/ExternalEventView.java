@@ -33,6 +33,8 @@ public interface ExternalEventView {
 
     byte[] getData();
 
+    boolean isDataCompressed();
+
     OffsetDateTime getCreatedAt();
 
     ExternalEventStatus getStatus();
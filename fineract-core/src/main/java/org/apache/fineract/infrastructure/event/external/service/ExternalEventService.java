@@ -21,7 +21,6 @@ package org.apache.fineract.infrastructure.event.external.service;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import java.io.IOException;
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -29,16 +28,19 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.avro.BulkMessageItemV1;
 import org.apache.fineract.avro.BulkMessagePayloadV1;
 import org.apache.fineract.avro.generator.ByteBufferSerializable;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.service.DataEnricherProcessor;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
 import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
 import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
-import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.apache.fineract.infrastructure.event.external.service.support.ExternalEventPayloadSerializer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -51,7 +53,7 @@ public class ExternalEventService {
     private final ExternalEventRepository repository;
     private final ExternalEventIdempotencyKeyGenerator idempotencyKeyGenerator;
     private final BusinessEventSerializerFactory serializerFactory;
-    private final ByteBufferConverter byteBufferConverter;
+    private final ExternalEventPayloadSerializer payloadSerializer;
     private final BulkMessageItemFactory bulkMessageItemFactory;
     private final DataEnricherProcessor dataEnricherProcessor;
 
@@ -62,24 +64,54 @@ public class ExternalEventService {
             throw new IllegalArgumentException("event cannot be null");
         }
 
+        flushChangesBeforeSerialization();
+        ExternalEvent externalEvent = createExternalEvent(event, payloadSerializer.isCompressionEnabled());
+        repository.save(externalEvent);
+        log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
+                externalEvent.getType(), externalEvent.getCategory());
+    }
+
+    /**
+     * Serializes all events raised within a transaction and stores them with a single batch insert. Every event is
+     * serialized within the {@link FineractContext} it was raised in; the caller's context is restored afterwards.
+     */
+    public void postEvents(List<BusinessEventWithContext> events) {
+        if (events == null) {
+            throw new IllegalArgumentException("events cannot be null");
+        }
+        if (events.isEmpty()) {
+            return;
+        }
+
+        flushChangesBeforeSerialization();
+        boolean compress = payloadSerializer.isCompressionEnabled();
+        List<ExternalEvent> externalEvents = new ArrayList<>(events.size());
+        FineractContext originalContext = ThreadLocalContextUtil.getContext();
+        try {
+            for (BusinessEventWithContext eventWithContext : events) {
+                ThreadLocalContextUtil.init(eventWithContext.getFineractContext());
+                externalEvents.add(createExternalEvent(eventWithContext.getEvent(), compress));
+            }
+        } finally {
+            ThreadLocalContextUtil.init(originalContext);
+        }
+        repository.insertAll(externalEvents);
+        log.debug("Saved {} messages in a single batch", externalEvents.size());
+    }
+
+    private <T> ExternalEvent createExternalEvent(BusinessEvent<T> event, boolean compress) {
         try {
-            flushChangesBeforeSerialization();
-            ExternalEvent externalEvent;
             if (event instanceof BulkBusinessEvent) {
-                externalEvent = handleBulkBusinessEvent((BulkBusinessEvent) event);
+                return handleBulkBusinessEvent((BulkBusinessEvent) event, compress);
             } else {
-                externalEvent = handleRegularBusinessEvent(event);
+                return handleRegularBusinessEvent(event, compress);
             }
-            repository.save(externalEvent);
-            log.debug("Saved message with idempotency key: [{}] of type [{}] and category [{}]", externalEvent.getIdempotencyKey(),
-                    externalEvent.getType(), externalEvent.getCategory());
         } catch (IOException e) {
             throw new RuntimeException("Error while serializing event " + event.getClass().getSimpleName(), e);
         }
-
     }
 
-    private ExternalEvent handleBulkBusinessEvent(BulkBusinessEvent bulkBusinessEvent) throws IOException {
+    private ExternalEvent handleBulkBusinessEvent(BulkBusinessEvent bulkBusinessEvent, boolean compress) throws IOException {
         List<BulkMessageItemV1> messages = new ArrayList<>();
         List<BusinessEvent<?>> events = bulkBusinessEvent.get();
         for (int i = 0; i < events.size(); i++) {
@@ -90,24 +122,23 @@ public class ExternalEventService {
         }
         String idempotencyKey = idempotencyKeyGenerator.generate(bulkBusinessEvent);
         BulkMessagePayloadV1 avroDto = new BulkMessagePayloadV1(messages);
-        byte[] data = byteBufferConverter.convert(avroDto.toByteBuffer());
+        byte[] data = payloadSerializer.serialize(avroDto, compress);
 
         return new ExternalEvent(bulkBusinessEvent.getType(), bulkBusinessEvent.getCategory(), BulkMessagePayloadV1.class.getName(), data,
-                idempotencyKey, bulkBusinessEvent.getAggregateRootId());
+                compress, idempotencyKey, bulkBusinessEvent.getAggregateRootId());
     }
 
-    private <T> ExternalEvent handleRegularBusinessEvent(BusinessEvent<T> event) throws IOException {
+    private <T> ExternalEvent handleRegularBusinessEvent(BusinessEvent<T> event, boolean compress) throws IOException {
         String eventType = event.getType();
         String eventCategory = event.getCategory();
         String idempotencyKey = idempotencyKeyGenerator.generate(event);
         BusinessEventSerializer serializer = serializerFactory.create(event);
         String schema = serializer.getSupportedSchema().getName();
         ByteBufferSerializable avroDto = dataEnricherProcessor.enrich(serializer.toAvroDTO(event));
-        ByteBuffer buffer = avroDto.toByteBuffer();
-        byte[] data = byteBufferConverter.convert(buffer);
+        byte[] data = payloadSerializer.serialize(avroDto, compress);
         Long aggregateRootId = event.getAggregateRootId();
 
-        return new ExternalEvent(eventType, eventCategory, schema, data, idempotencyKey, aggregateRootId);
+        return new ExternalEvent(eventType, eventCategory, schema, data, compress, idempotencyKey, aggregateRootId);
     }
 
     private void flushChangesBeforeSerialization() {
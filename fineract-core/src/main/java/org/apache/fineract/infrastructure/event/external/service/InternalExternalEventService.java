@@ -34,6 +34,7 @@ import org.apache.fineract.avro.BulkMessageItemV1;
 import org.apache.fineract.infrastructure.core.boot.FineractProfiles;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
+import org.apache.fineract.infrastructure.event.external.service.support.ExternalEventPayloadSerializer;
 import org.apache.fineract.infrastructure.event.external.service.validation.ExternalEventDTO;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.jpa.domain.Specification;
@@ -46,6 +47,7 @@ import org.springframework.stereotype.Service;
 public class InternalExternalEventService {
 
     private final ExternalEventRepository externalEventRepository;
+    private final ExternalEventPayloadSerializer payloadSerializer;
 
     public void deleteAllExternalEvents() {
         externalEventRepository.deleteAll();
@@ -103,7 +105,9 @@ public class InternalExternalEventService {
         List<ExternalEventDTO> eventMessages = new ArrayList<>();
         for (ExternalEvent externalEvent : externalEvents) {
             Class<?> payLoadClass = Class.forName(externalEvent.getSchema());
-            ByteBuffer byteBuffer = ByteBuffer.wrap(externalEvent.getData());
+            byte[] data = externalEvent.isDataCompressed() ? payloadSerializer.decompress(externalEvent.getData())
+                    : externalEvent.getData();
+            ByteBuffer byteBuffer = ByteBuffer.wrap(data);
             Method method = payLoadClass.getMethod("fromByteBuffer", ByteBuffer.class);
             Object payLoad = method.invoke(null, byteBuffer);
             if (externalEvent.getType().equalsIgnoreCase("BulkBusinessEvent")) {
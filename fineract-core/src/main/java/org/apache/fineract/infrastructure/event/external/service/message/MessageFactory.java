@@ -42,6 +42,7 @@ import org.apache.fineract.infrastructure.event.external.service.message.domain.
 import org.apache.fineract.infrastructure.event.external.service.message.domain.MessageSource;
 import org.apache.fineract.infrastructure.event.external.service.message.domain.MessageType;
 import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.apache.fineract.infrastructure.event.external.service.support.ExternalEventPayloadSerializer;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.stereotype.Component;
 
@@ -64,6 +65,7 @@ public class MessageFactory implements InitializingBean {
     }
 
     private final ByteBufferConverter byteBufferConverter;
+    private final ExternalEventPayloadSerializer payloadSerializer;
 
     public MessageV1 createMessage(MessageId id, MessageSource source, MessageType type, MessageCategory category,
             MessageCreatedAt createdAt, MessageBusinessDate businessDate, MessageIdempotencyKey idempotencyKey,
@@ -91,7 +93,8 @@ public class MessageFactory implements InitializingBean {
         MessageBusinessDate businessDate = new MessageBusinessDate(event.getBusinessDate());
         MessageIdempotencyKey idempotencyKey = new MessageIdempotencyKey(event.getIdempotencyKey());
         MessageDataSchema dataSchema = new MessageDataSchema(event.getSchema());
-        MessageData data = new MessageData(byteBufferConverter.convert(event.getData()));
+        byte[] payload = event.isDataCompressed() ? payloadSerializer.decompress(event.getData()) : event.getData();
+        MessageData data = new MessageData(byteBufferConverter.convert(payload));
         return createMessage(id, source, type, category, createdAt, businessDate, idempotencyKey, dataSchema, data);
     }
 
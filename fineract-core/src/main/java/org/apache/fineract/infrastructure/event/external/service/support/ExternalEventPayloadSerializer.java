@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.avro.generator.ByteBufferSerializable;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns Avro DTOs into the byte payload stored in {@code m_external_event}.
+ * <p>
+ * Serialization goes through the generated classes' shared encoders into a per-thread buffer, so a transaction that
+ * raises many events only allocates the final payload arrays. When compression is enabled the payload is deflated
+ * before it is stored and has to be passed through {@link #decompress(byte[])} before it is sent.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExternalEventPayloadSerializer {
+
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<ReusableBuffer> SERIALIZATION_BUFFER = ThreadLocal
+            .withInitial(() -> new ReusableBuffer(INITIAL_BUFFER_SIZE));
+    private static final ThreadLocal<ReusableBuffer> COMPRESSION_BUFFER = ThreadLocal
+            .withInitial(() -> new ReusableBuffer(INITIAL_BUFFER_SIZE));
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private final FineractProperties fineractProperties;
+
+    public boolean isCompressionEnabled() {
+        return fineractProperties.getEvents().getExternal().isCompressionEnabled();
+    }
+
+    public byte[] serialize(ByteBufferSerializable avroDto) throws IOException {
+        return serialize(avroDto, isCompressionEnabled());
+    }
+
+    public byte[] serialize(ByteBufferSerializable avroDto, boolean compress) throws IOException {
+        ReusableBuffer buffer = acquire(SERIALIZATION_BUFFER);
+        avroDto.writeTo(buffer);
+        return compress ? compress(buffer) : buffer.toByteArray();
+    }
+
+    public byte[] decompress(byte[] data) {
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(data);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length * 3);
+        byte[] chunk = new byte[INITIAL_BUFFER_SIZE];
+        try {
+            while (!inflater.finished()) {
+                int length = inflater.inflate(chunk);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Compressed external event payload is truncated");
+                }
+                out.write(chunk, 0, length);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Compressed external event payload is corrupt", e);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] compress(ReusableBuffer raw) {
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setInput(raw.array(), 0, raw.size());
+        deflater.finish();
+        ReusableBuffer out = acquire(COMPRESSION_BUFFER);
+        byte[] target = out.array();
+        while (!deflater.finished()) {
+            if (out.size() == target.length) {
+                out.grow();
+                target = out.array();
+            }
+            out.advance(deflater.deflate(target, out.size(), target.length - out.size()));
+        }
+        return out.toByteArray();
+    }
+
+    private static ReusableBuffer acquire(ThreadLocal<ReusableBuffer> holder) {
+        ReusableBuffer buffer = holder.get();
+        if (buffer.array().length > MAX_RETAINED_BUFFER_SIZE) {
+            // do not pin an oversized buffer to the thread after a single huge payload
+            buffer = new ReusableBuffer(INITIAL_BUFFER_SIZE);
+            holder.set(buffer);
+        }
+        buffer.reset();
+        return buffer;
+    }
+
+    private static final class ReusableBuffer extends ByteArrayOutputStream {
+
+        ReusableBuffer(int size) {
+            super(size);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+
+        void grow() {
+            byte[] larger = new byte[buf.length * 2];
+            System.arraycopy(buf, 0, larger, 0, count);
+            buf = larger;
+        }
+
+        void advance(int length) {
+            count += length;
+        }
+    }
+}
@@ -40,16 +40,28 @@ public class Money implements Comparable<Money> {
         this.currency = currency;
         this.mc = mc;
 
-        final BigDecimal amountZeroed = defaultToZeroIfNull(amount);
-        BigDecimal amountScaled = amountZeroed.stripTrailingZeros();
+        this.amount = scale(currency, defaultToZeroIfNull(amount), getMc());
+    }
+
+    /**
+     * Applies the currency scale (and multiples-of rounding where configured) to an amount. Shared with
+     * {@link MoneyAccumulator} so that accumulated totals round exactly like chained {@link Money} operations.
+     */
+    static BigDecimal scale(final CurrencyData currency, final BigDecimal amount, final MathContext mc) {
+        final int decimalPlaces = currency.getDecimalPlaces();
+        final Integer inMultiplesOf = currency.getInMultiplesOf();
+        if (inMultiplesOf == null || decimalPlaces != 0 || inMultiplesOf <= 0) {
+            // stripping trailing zeros does not change the value, so setScale alone yields the same result
+            return amount.scale() == decimalPlaces ? amount : amount.setScale(decimalPlaces, mc.getRoundingMode());
+        }
+        BigDecimal amountScaled = amount.stripTrailingZeros();
 
         // round monetary amounts into multiples of say 20/50.
-        if (currency.getInMultiplesOf() != null && currency.getDecimalPlaces() == 0 && currency.getInMultiplesOf() > 0
-                && amountScaled.doubleValue() > 0) {
+        if (amountScaled.doubleValue() > 0) {
             final double existingVal = amountScaled.doubleValue();
-            amountScaled = BigDecimal.valueOf(roundToMultiplesOf(existingVal, currency.getInMultiplesOf()));
+            amountScaled = BigDecimal.valueOf(roundToMultiplesOf(existingVal, inMultiplesOf));
         }
-        this.amount = amountScaled.setScale(currency.getDecimalPlaces(), getMc().getRoundingMode());
+        return amountScaled.setScale(decimalPlaces, mc.getRoundingMode());
     }
 
     public MonetaryCurrency getCurrency() {
@@ -80,11 +92,11 @@ public class Money implements Comparable<Money> {
         if (monies.length == 0) {
             throw new IllegalArgumentException("Money array must not be empty");
         }
-        Money total = monies[0];
+        final MoneyAccumulator total = MoneyAccumulator.of(monies[0]);
         for (int i = 1; i < monies.length; i++) {
-            total = total.plus(monies[i]);
+            total.plus(monies[i]);
         }
-        return total;
+        return total.toMoney();
     }
 
     public static Money total(final Iterable<? extends Money> monies) {
@@ -92,11 +104,11 @@ public class Money implements Comparable<Money> {
         if (!it.hasNext()) {
             throw new IllegalArgumentException("Money iterator must not be empty");
         }
-        Money total = it.next();
+        final MoneyAccumulator total = MoneyAccumulator.of(it.next());
         while (it.hasNext()) {
-            total = total.plus(it.next());
+            total.plus(it.next());
         }
-        return total;
+        return total.toMoney();
     }
 
     public static Money of(final CurrencyData currency, final BigDecimal newAmount) {
@@ -407,7 +419,7 @@ public class Money implements Comparable<Money> {
     }
 
     public boolean isZero(final MathContext mc) {
-        return isEqualTo(Money.zero(getCurrencyData(), mc));
+        return this.amount.signum() == 0;
     }
 
     public boolean isEqualTo(final Money other) {
@@ -431,7 +443,7 @@ public class Money implements Comparable<Money> {
     }
 
     public boolean isGreaterThanZero(MathContext mc) {
-        return isGreaterThan(Money.zero(getCurrencyData(), mc));
+        return this.amount.signum() > 0;
     }
 
     public boolean isLessThan(final Money other) {
@@ -443,7 +455,7 @@ public class Money implements Comparable<Money> {
     }
 
     public boolean isLessThanZero(final MathContext mc) {
-        return isLessThan(Money.zero(getCurrencyData(), mc));
+        return this.amount.signum() < 0;
     }
 
     @Override
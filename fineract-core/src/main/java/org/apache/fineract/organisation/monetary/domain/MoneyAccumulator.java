@@ -0,0 +1,110 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+
+/**
+ * Mutable running total of {@link Money} values in a single currency.
+ * <p>
+ * Intended for loops that would otherwise chain {@code total = total.plus(...)} and allocate a new {@link Money} on every
+ * iteration. Every step applies the same scaling and multiples-of rounding as {@link Money}, so {@link #toMoney()}
+ * returns exactly what the equivalent {@link Money} chain would have produced.
+ * <p>
+ * Instances are not thread-safe and should not escape the method that created them.
+ */
+public final class MoneyAccumulator {
+
+    private final CurrencyData currency;
+    private final MathContext mc;
+    private BigDecimal total;
+
+    private MoneyAccumulator(final CurrencyData currency, final BigDecimal initial, final MathContext mc) {
+        this.currency = currency;
+        this.mc = mc;
+        this.total = initial;
+    }
+
+    public static MoneyAccumulator zero(final MonetaryCurrency currency) {
+        return zero(currency.toData(), MoneyHelper.getMathContext());
+    }
+
+    public static MoneyAccumulator zero(final MonetaryCurrency currency, final MathContext mc) {
+        return zero(currency.toData(), mc);
+    }
+
+    public static MoneyAccumulator zero(final CurrencyData currency) {
+        return zero(currency, MoneyHelper.getMathContext());
+    }
+
+    public static MoneyAccumulator zero(final CurrencyData currency, final MathContext mc) {
+        return new MoneyAccumulator(currency, Money.scale(currency, BigDecimal.ZERO, mc), mc);
+    }
+
+    public static MoneyAccumulator of(final Money initial) {
+        return new MoneyAccumulator(initial.getCurrencyData(), initial.getAmount(), initial.getMc());
+    }
+
+    public MoneyAccumulator plus(final Money moneyToAdd) {
+        return plus(checkCurrencyEqual(moneyToAdd).getAmount());
+    }
+
+    public MoneyAccumulator plus(final BigDecimal amountToAdd) {
+        if (amountToAdd != null && amountToAdd.signum() != 0) {
+            this.total = Money.scale(this.currency, this.total.add(amountToAdd), this.mc);
+        }
+        return this;
+    }
+
+    public MoneyAccumulator minus(final Money moneyToSubtract) {
+        return minus(checkCurrencyEqual(moneyToSubtract).getAmount());
+    }
+
+    public MoneyAccumulator minus(final BigDecimal amountToSubtract) {
+        if (amountToSubtract != null && amountToSubtract.signum() != 0) {
+            this.total = Money.scale(this.currency, this.total.subtract(amountToSubtract), this.mc);
+        }
+        return this;
+    }
+
+    public BigDecimal getAmount() {
+        return this.total;
+    }
+
+    public boolean isZero() {
+        return this.total.signum() == 0;
+    }
+
+    public boolean isGreaterThanZero() {
+        return this.total.signum() > 0;
+    }
+
+    public Money toMoney() {
+        return Money.of(this.currency, this.total, this.mc);
+    }
+
+    private Money checkCurrencyEqual(final Money money) {
+        if (!this.currency.getCode().equals(money.getCurrencyCode())) {
+            throw new UnsupportedOperationException("currencies are different.");
+        }
+        return money;
+    }
+}
@@ -27,10 +27,13 @@ import static org.mockito.Mockito.when;
 import jakarta.persistence.EntityManager;
 import jakarta.ws.rs.core.UriInfo;
 import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
 import org.apache.fineract.batch.command.CommandStrategy;
 import org.apache.fineract.batch.command.CommandStrategyProvider;
 import org.apache.fineract.batch.domain.BatchRequest;
 import org.apache.fineract.batch.domain.BatchResponse;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.filters.BatchRequestPreprocessor;
 import org.apache.fineract.infrastructure.core.persistence.ExtendedJpaTransactionManager;
 import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
@@ -42,6 +45,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.support.DefaultTransactionStatus;
 
 @ExtendWith(MockitoExtension.class)
@@ -115,4 +119,52 @@ class BatchApiServiceImplTest {
         assertTrue(result.get(0).getBody().contains("Success"));
         Mockito.verifyNoInteractions(entityManager);
     }
+
+    @Test
+    void testHandleBatchRequestsInParallelKeepsChainOrderAndRequestOrder() {
+        FineractProperties fineractProperties = new FineractProperties();
+        FineractProperties.FineractApiProperties apiProperties = new FineractProperties.FineractApiProperties();
+        FineractProperties.FineractBatchApiProperties batchProperties = new FineractProperties.FineractBatchApiProperties();
+        batchProperties.setParallelEnabled(true);
+        apiProperties.setBatch(batchProperties);
+        fineractProperties.setApi(apiProperties);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(3);
+        executor.setMaxPoolSize(3);
+        executor.initialize();
+        BatchApiServiceImpl parallelService = new BatchApiServiceImpl(strategyProvider, resolutionHelper, transactionManager, null,
+                List.of(), List.of(), entityManager, fineractProperties, executor);
+
+        // the root requests only pass the barrier if they are executed concurrently
+        CyclicBarrier rootBarrier = new CyclicBarrier(3);
+        when(strategyProvider.getCommandStrategy(any())).thenReturn(commandStrategy);
+        when(commandStrategy.execute(any(), any())).thenAnswer(invocation -> {
+            BatchRequest batchRequest = invocation.getArgument(0);
+            if (batchRequest.getReference() == null) {
+                rootBarrier.await(5, TimeUnit.SECONDS);
+            }
+            return new BatchResponse().setRequestId(batchRequest.getRequestId()).setStatusCode(200)
+                    .setBody("{\"resourceId\": " + batchRequest.getRequestId() + "}");
+        });
+
+        List<BatchRequest> requestList = List.of(batchRequest(3L, null), batchRequest(1L, null), batchRequest(4L, 1L),
+                batchRequest(2L, null));
+        try {
+            List<BatchResponse> result = parallelService.handleBatchRequestsWithoutEnclosingTransaction(requestList, uriInfo, true);
+
+            assertEquals(List.of(1L, 2L, 3L, 4L), result.stream().map(BatchResponse::getRequestId).toList());
+            assertTrue(result.stream().allMatch(batchResponse -> batchResponse.getStatusCode() == 200));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private BatchRequest batchRequest(Long requestId, Long reference) {
+        BatchRequest batchRequest = new BatchRequest();
+        batchRequest.setRequestId(requestId);
+        batchRequest.setReference(reference);
+        batchRequest.setMethod("POST");
+        batchRequest.setRelativeUrl("/random_api");
+        return batchRequest;
+    }
 }
@@ -0,0 +1,140 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.cache.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class MultiNodeCacheManagerTest {
+
+    private final InMemoryInvalidationChannel channel = new InMemoryInvalidationChannel();
+    private MultiNodeCacheManager firstNode;
+    private MultiNodeCacheManager secondNode;
+
+    @BeforeEach
+    void setUp() {
+        firstNode = createNode();
+        secondNode = createNode();
+    }
+
+    @Test
+    void testEvictionIsPropagatedToOtherNodes() {
+        firstNode.getCache("configByName").put("defaultkey", "first");
+        secondNode.getCache("configByName").put("defaultkey", "second");
+
+        firstNode.getCache("configByName").evict("defaultkey");
+
+        assertNull(firstNode.getCache("configByName").get("defaultkey"));
+        assertNull(secondNode.getCache("configByName").get("defaultkey"));
+    }
+
+    @Test
+    void testPutIsNotPropagatedToOtherNodes() {
+        secondNode.getCache("configByName").put("defaultkey", "second");
+
+        firstNode.getCache("configByName").put("defaultkey", "first");
+
+        assertEquals("second", secondNode.getCache("configByName").get("defaultkey").get());
+        assertEquals(0, channel.published.size());
+    }
+
+    @Test
+    void testClearIsPropagatedToOtherNodes() {
+        secondNode.getCache("code_values").put("defaultkey", "second");
+
+        firstNode.getCache("code_values").clear();
+
+        assertNull(secondNode.getCache("code_values").get("defaultkey"));
+    }
+
+    @Test
+    void testNonStringKeyEvictionClearsCacheOnOtherNodes() {
+        secondNode.getCache("code_values").put(1L, "first");
+        secondNode.getCache("code_values").put(2L, "second");
+
+        firstNode.getCache("code_values").evict(1L);
+
+        Cache cache = secondNode.getCache("code_values");
+        assertNull(cache.get(1L));
+        assertNull(cache.get(2L));
+    }
+
+    @Test
+    void testOwnEvictionIsNotReplayedLocally() {
+        firstNode.getCache("configByName").evict("defaultkey");
+        firstNode.getCache("configByName").put("defaultkey", "first");
+
+        firstNode.onInvalidation(channel.published.get(0));
+
+        assertEquals("first", firstNode.getCache("configByName").get("defaultkey").get());
+    }
+
+    @Test
+    void testEvictionIsPropagatedOnlyAfterCommit() {
+        secondNode.getCache("configByName").put("defaultkey", "second");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            firstNode.getCache("configByName").evict("defaultkey");
+
+            assertEquals(0, channel.published.size());
+            assertEquals("second", secondNode.getCache("configByName").get("defaultkey").get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1, channel.published.size());
+        assertNull(secondNode.getCache("configByName").get("defaultkey"));
+    }
+
+    private MultiNodeCacheManager createNode() {
+        ConcurrentMapCacheManager localCacheManager = new ConcurrentMapCacheManager("configByName", "code_values");
+        MultiNodeCacheManager cacheManager = new MultiNodeCacheManager(localCacheManager, channel);
+        cacheManager.afterPropertiesSet();
+        return cacheManager;
+    }
+
+    private static final class InMemoryInvalidationChannel implements CacheInvalidationChannel {
+
+        private final List<Consumer<CacheInvalidationMessage>> listeners = new ArrayList<>();
+        private final List<CacheInvalidationMessage> published = new ArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidationMessage message) {
+            published.add(message);
+            listeners.forEach(listener -> listener.accept(message));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+            listeners.add(listener);
+        }
+    }
+}
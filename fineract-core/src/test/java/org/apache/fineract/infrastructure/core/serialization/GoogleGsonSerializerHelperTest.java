@@ -0,0 +1,90 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.serialization;
+
+import com.google.gson.Gson;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.exception.UnsupportedParameterException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class GoogleGsonSerializerHelperTest {
+
+    private final GoogleGsonSerializerHelper onTestUnit = new GoogleGsonSerializerHelper();
+
+    @Test
+    void partialResponseSerializerIsReusedForTheSameFields() {
+        Gson first = onTestUnit.createGsonBuilderForPartialResponseFiltering(Set.of("id", "name"));
+        Gson second = onTestUnit.createGsonBuilderForPartialResponseFiltering(new LinkedHashSet<>(List.of("name", "id")));
+        Gson other = onTestUnit.createGsonBuilderForPartialResponseFiltering(Set.of("id"));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(first, other);
+        Assertions.assertEquals("{\"id\":1,\"name\":\"test\"}", onTestUnit.serializedJsonFrom(first, new Sample(1L, "test", "x")));
+        Assertions.assertEquals("{\"id\":1}", onTestUnit.serializedJsonFrom(other, new Sample(1L, "test", "x")));
+    }
+
+    @Test
+    void exclusionSerializerIsReusedForTheSameFields() {
+        Set<String> supported = Set.of("id", "name", "description");
+        Gson first = onTestUnit.createGsonBuilderWithParameterExclusionSerializationStrategy(supported, Set.of("name"));
+        Gson second = onTestUnit.createGsonBuilderWithParameterExclusionSerializationStrategy(supported, Set.of("name"));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals("[{\"name\":\"test\"}]",
+                onTestUnit.serializedJsonFrom(first, new Object[] { new Sample(1L, "test", "x") }));
+    }
+
+    @Test
+    void unsupportedParameterIsStillRejected() {
+        Set<String> supported = Set.of("id", "name");
+
+        Assertions.assertThrows(UnsupportedParameterException.class,
+                () -> onTestUnit.createGsonBuilderWithParameterExclusionSerializationStrategy(supported, Set.of("unknown")));
+    }
+
+    @Test
+    void serializersAreBuiltPerRequestOnceTheCacheIsFull() {
+        for (int i = 0; i < GoogleGsonSerializerHelper.MAX_CACHED_SERIALIZERS; i++) {
+            onTestUnit.createGsonBuilderForPartialResponseFiltering(Set.of("field" + i));
+        }
+
+        Gson first = onTestUnit.createGsonBuilderForPartialResponseFiltering(Set.of("id"));
+        Gson second = onTestUnit.createGsonBuilderForPartialResponseFiltering(Set.of("id"));
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals("{\"id\":1}", onTestUnit.serializedJsonFrom(second, new Sample(1L, "test", "x")));
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Sample {
+
+        private final Long id;
+        private final String name;
+        private final String description;
+
+        private Sample(Long id, String name, String description) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+        }
+    }
+}
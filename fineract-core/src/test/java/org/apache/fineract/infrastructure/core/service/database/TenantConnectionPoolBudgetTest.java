@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.core.service.database.TenantConnectionPoolBudget.PoolAllocation;
+import org.apache.fineract.infrastructure.core.service.database.TenantConnectionPoolBudget.PoolDemand;
+import org.junit.jupiter.api.Test;
+
+class TenantConnectionPoolBudgetTest {
+
+    @Test
+    void keepsConfiguredSizesWhenBudgetIsLargeEnough() {
+        Map<Long, PoolAllocation> allocations = TenantConnectionPoolBudget.allocate(
+                List.of(new PoolDemand(1L, 2, 0, 2, 10, false), new PoolDemand(2L, 0, 0, 1, 10, false)), 100);
+
+        assertEquals(new PoolAllocation(2, 10), allocations.get(1L));
+        assertEquals(new PoolAllocation(1, 10), allocations.get(2L));
+    }
+
+    @Test
+    void shrinksIdlePoolsAndLendsHeadroomToSaturatedPools() {
+        Map<Long, PoolAllocation> allocations = TenantConnectionPoolBudget.allocate(List.of(new PoolDemand(1L, 10, 5, 2, 10, false),
+                new PoolDemand(2L, 0, 0, 2, 10, true), new PoolDemand(3L, 1, 0, 1, 10, false)), 20);
+
+        assertEquals(new PoolAllocation(0, 1), allocations.get(2L));
+        // the saturated pool borrows beyond its configured maximum to serve its waiting threads
+        assertEquals(15, allocations.get(1L).maximumPoolSize());
+        assertEquals(4, allocations.get(3L).maximumPoolSize());
+        assertEquals(20, allocations.values().stream().mapToInt(PoolAllocation::maximumPoolSize).sum());
+    }
+
+    @Test
+    void trimsLargestPoolsWhenBudgetIsExceeded() {
+        Map<Long, PoolAllocation> allocations = TenantConnectionPoolBudget
+                .allocate(List.of(new PoolDemand(1L, 8, 0, 1, 10, false), new PoolDemand(2L, 4, 0, 1, 10, false)), 8);
+
+        assertEquals(4, allocations.get(1L).maximumPoolSize());
+        assertEquals(4, allocations.get(2L).maximumPoolSize());
+    }
+
+    @Test
+    void neverAllocatesLessThanOneConnectionPerPool() {
+        Map<Long, PoolAllocation> allocations = TenantConnectionPoolBudget
+                .allocate(List.of(new PoolDemand(1L, 3, 0, 1, 10, false), new PoolDemand(2L, 3, 0, 1, 10, false)), 1);
+
+        assertTrue(allocations.values().stream().allMatch(allocation -> allocation.maximumPoolSize() == 1));
+        assertTrue(allocations.values().stream().allMatch(allocation -> allocation.minimumIdle() <= allocation.maximumPoolSize()));
+    }
+
+    @Test
+    void newPoolsStartAtTheirShareOfTheBudget() {
+        assertEquals(25, TenantConnectionPoolBudget.initialShare(50, 100, 4));
+        assertEquals(10, TenantConnectionPoolBudget.initialShare(10, 100, 4));
+        assertEquals(1, TenantConnectionPoolBudget.initialShare(10, 100, 200));
+    }
+}
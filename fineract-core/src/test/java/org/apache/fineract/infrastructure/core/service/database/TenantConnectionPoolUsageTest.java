@@ -0,0 +1,65 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.service.database;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class TenantConnectionPoolUsageTest {
+
+    @Test
+    void averagesOverTheSamplesRecordedSoFar() {
+        TenantConnectionPoolUsage usage = new TenantConnectionPoolUsage(4);
+        usage.record(2);
+        usage.record(0);
+
+        assertFalse(usage.isWindowComplete());
+        assertEquals(1.0, usage.average());
+    }
+
+    @Test
+    void dropsTheOldestSampleOnceTheWindowIsComplete() {
+        TenantConnectionPoolUsage usage = new TenantConnectionPoolUsage(3);
+        usage.record(3);
+        usage.record(0);
+        usage.record(0);
+        assertTrue(usage.isWindowComplete());
+        assertEquals(1.0, usage.average());
+
+        usage.record(0);
+
+        assertEquals(0.0, usage.average());
+    }
+
+    @Test
+    void aSingleBusySampleKeepsTheAverageAboveZeroForTheWholeWindow() {
+        TenantConnectionPoolUsage usage = new TenantConnectionPoolUsage(5);
+        usage.record(1);
+        for (int i = 0; i < 4; i++) {
+            usage.record(0);
+        }
+
+        assertEquals(0.2, usage.average(), 1e-9);
+        usage.record(0);
+        assertEquals(0.0, usage.average());
+    }
+}
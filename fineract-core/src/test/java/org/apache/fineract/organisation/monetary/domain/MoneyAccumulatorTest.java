@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.organisation.monetary.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import org.apache.fineract.organisation.monetary.data.CurrencyData;
+import org.junit.jupiter.api.Test;
+
+class MoneyAccumulatorTest {
+
+    private static final MathContext MC = new MathContext(12, RoundingMode.HALF_EVEN);
+    private static final CurrencyData USD = new CurrencyData("USD", 2, null);
+    private static final CurrencyData MULTIPLES = new CurrencyData("XOF", 0, 50);
+
+    @Test
+    void accumulatedTotalMatchesMoneyChain() {
+        List<String> amounts = List.of("10.005", "0.333", "-4.1", "1000000.499", "0", "-0.001", "7");
+
+        Money chained = Money.zero(USD, MC);
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(USD, MC);
+        for (String amount : amounts) {
+            Money money = Money.of(USD, new BigDecimal(amount), MC);
+            chained = chained.plus(money);
+            accumulator.plus(money);
+        }
+
+        assertEquals(chained.getAmount(), accumulator.getAmount());
+        assertEquals(chained.getAmount(), accumulator.toMoney().getAmount());
+    }
+
+    @Test
+    void rawAmountsAreRoundedPerStepLikeMoney() {
+        List<String> amounts = List.of("0.005", "0.005", "0.015", "-0.025", "3.14159");
+
+        Money chained = Money.zero(USD, MC);
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(USD, MC);
+        for (String amount : amounts) {
+            chained = chained.plus(new BigDecimal(amount), MC);
+            accumulator.plus(new BigDecimal(amount));
+        }
+
+        assertEquals(chained.getAmount(), accumulator.getAmount());
+    }
+
+    @Test
+    void multiplesOfRoundingMatchesMoneyChain() {
+        List<String> amounts = List.of("120", "30", "-260", "70", "490");
+
+        Money chained = Money.zero(MULTIPLES, MC);
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(MULTIPLES, MC);
+        for (String amount : amounts) {
+            chained = chained.plus(new BigDecimal(amount), MC);
+            accumulator.plus(new BigDecimal(amount));
+        }
+
+        assertEquals(chained.getAmount(), accumulator.getAmount());
+    }
+
+    @Test
+    void minusMatchesMoneyChain() {
+        Money start = Money.of(USD, new BigDecimal("100.00"), MC);
+        Money chained = start.minus(Money.of(USD, new BigDecimal("33.333"), MC)).minus(new BigDecimal("0.005"), MC);
+        MoneyAccumulator accumulator = MoneyAccumulator.of(start).minus(Money.of(USD, new BigDecimal("33.333"), MC))
+                .minus(new BigDecimal("0.005"));
+
+        assertEquals(chained.getAmount(), accumulator.getAmount());
+        assertTrue(accumulator.isGreaterThanZero());
+        assertFalse(accumulator.isZero());
+    }
+
+    @Test
+    void totalOfMoniesIsUnchanged() {
+        Money first = Money.of(USD, new BigDecimal("1.10"), MC);
+        Money second = Money.of(USD, new BigDecimal("2.205"), MC);
+
+        assertEquals(first.plus(second).getAmount(), Money.total(first, second).getAmount());
+        assertEquals(first.plus(second).getAmount(), Money.total(List.of(first, second)).getAmount());
+    }
+
+    @Test
+    void zeroChecksDoNotDependOnScale() {
+        assertTrue(Money.zero(USD, MC).isZero());
+        assertTrue(Money.of(USD, new BigDecimal("0.004"), MC).isZero());
+        assertTrue(Money.of(USD, new BigDecimal("-0.01"), MC).isLessThanZero());
+        assertTrue(Money.of(USD, new BigDecimal("0.01"), MC).isGreaterThanZero());
+        assertEquals(2, Money.of(USD, new BigDecimal("5"), MC).getAmount().scale());
+    }
+
+    @Test
+    void differentCurrencyIsRejected() {
+        MoneyAccumulator accumulator = MoneyAccumulator.zero(USD, MC);
+        Money other = Money.of(new CurrencyData("EUR", 2, null), BigDecimal.ONE, MC);
+
+        assertThrows(UnsupportedOperationException.class, () -> accumulator.plus(other));
+    }
+}
@@ -163,11 +163,11 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom<Long> {
     @Version
     int version;
 
-    @Setter()
+    @Setter
     @Column(name = "account_no", length = 20, unique = true, nullable = false)
     private String accountNumber;
 
-    @Setter()
+    @Setter
     @Column(name = "external_id")
     private ExternalId externalId;
 
@@ -179,7 +179,7 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom<Long> {
     @JoinColumn(name = "group_id")
     private Group group;
 
-    @Setter()
+    @Setter
     @ManyToOne
     @JoinColumn(name = "glim_id")
     private GroupLoanIndividualMonitoringAccount glim;
@@ -461,6 +461,13 @@ public class Loan extends AbstractAuditableWithUTCDateTimeCustom<Long> {
     @Column(name = "last_closed_business_date")
     private LocalDate lastClosedBusinessDate;
 
+    /**
+     * Smoothed processing time of the COB business steps for this loan in microseconds, used to balance COB partitions.
+     */
+    @Setter
+    @Column(name = "cob_processing_cost")
+    private Long cobProcessingCost;
+
     @Column(name = "is_charged_off", nullable = false)
     private boolean chargedOff;
 
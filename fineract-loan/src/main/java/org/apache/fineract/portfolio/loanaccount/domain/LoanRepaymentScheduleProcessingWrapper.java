@@ -28,6 +28,7 @@ import java.util.function.Predicate;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
 import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyAccumulator;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -38,12 +39,14 @@ public class LoanRepaymentScheduleProcessingWrapper {
     public void reprocess(final MonetaryCurrency currency, final LocalDate disbursementDate,
             final List<LoanRepaymentScheduleInstallment> repaymentPeriods, final Set<LoanCharge> loanCharges) {
 
-        Money totalInterest = Money.zero(currency);
-        Money totalPrincipal = Money.zero(currency);
+        final MoneyAccumulator interestAccumulator = MoneyAccumulator.zero(currency);
+        final MoneyAccumulator principalAccumulator = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentPeriods) {
-            totalInterest = totalInterest.plus(installment.getInterestCharged(currency));
-            totalPrincipal = totalPrincipal.plus(installment.getPrincipal(currency));
+            interestAccumulator.plus(installment.getInterestCharged(currency));
+            principalAccumulator.plus(installment.getPrincipal(currency));
         }
+        final Money totalInterest = interestAccumulator.toMoney();
+        final Money totalPrincipal = principalAccumulator.toMoney();
         LocalDate startDate = disbursementDate;
         LoanRepaymentScheduleInstallment firstNormalPeriod = repaymentPeriods.stream()
                 .sorted(Comparator.comparing(LoanRepaymentScheduleInstallment::getInstallmentNumber))
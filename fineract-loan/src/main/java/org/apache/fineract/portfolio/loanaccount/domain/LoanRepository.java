@@ -101,6 +101,8 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
     String FIND_ALL_LOANS_BY_LAST_CLOSED_BUSINESS_DATE_NOT_NULL_AND_MIN_AND_MAX_LOAN_ID_AND_STATUSES = "select loan.id from Loan loan where loan.id BETWEEN :minLoanId and :maxLoanId and loan.loanStatus in :loanStatuses and :cobBusinessDate = loan.lastClosedBusinessDate";
     String FIND_ALL_LOANS_BEHIND_BY_LOAN_IDS_AND_STATUSES = "select loan.id, loan.lastClosedBusinessDate from Loan loan where loan.id IN :loanIds and loan.loanStatus in :loanStatuses and loan.lastClosedBusinessDate < :cobBusinessDate";
 
+    String FIND_ALL_LOANS_BY_LOAN_IDS_AND_STATUSES = "select loan.id, loan.lastClosedBusinessDate from Loan loan where loan.id IN :loanIds and loan.loanStatus in :loanStatuses";
+
     String FIND_ALL_STAYED_LOCKED_BY_COB_BUSINESS_DATE = "select loan.id, loan.externalId, loan.accountNumber from LoanAccountLock lock left join Loan loan on lock.loanId = loan.id where lock.lockPlacedOnCobBusinessDate = :cobBusinessDate";
 
     String FIND_ALL_LOAN_IDS_BY_STATUS = "SELECT loan.id FROM Loan loan WHERE loan.loanStatus = :loanStatus";
@@ -119,6 +121,16 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     String FIND_LOAN_BY_EXTERNAL_ID = "SELECT loan FROM Loan loan WHERE loan.externalId = :externalId";
 
+    // the following queries are meant to be executed in the same persistence context one after the other: every query
+    // initializes a single collection of the already managed loans, so there is no cartesian product between the bags
+    String FIND_ALL_BY_IDS_FETCH_REPAYMENT_SCHEDULE = "select distinct loan from Loan loan left join fetch loan.repaymentScheduleInstallments where loan.id IN :loanIds";
+
+    String FIND_ALL_BY_IDS_FETCH_TRANSACTIONS = "select distinct loan from Loan loan left join fetch loan.loanTransactions where loan.id IN :loanIds";
+
+    String FIND_ALL_BY_IDS_FETCH_CHARGES = "select distinct loan from Loan loan left join fetch loan.charges where loan.id IN :loanIds";
+
+    String FIND_ALL_BY_IDS_FETCH_DISBURSEMENT_DETAILS = "select distinct loan from Loan loan left join fetch loan.disbursementDetails where loan.id IN :loanIds";
+
     @Query(FIND_GROUP_LOANS_DISBURSED_AFTER)
     List<Loan> getGroupLoansDisbursedAfter(@Param("disbursementDate") LocalDate disbursementDate, @Param("groupId") Long groupId,
             @Param("loanType") AccountType loanType);
@@ -233,6 +245,10 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
     List<LoanIdAndLastClosedBusinessDate> findAllLoansBehindByLoanIdsAndStatuses(@Param("cobBusinessDate") LocalDate cobBusinessDate,
             @Param("loanIds") List<Long> loanIds, @Param("loanStatuses") Collection<LoanStatus> loanStatuses);
 
+    @Query(FIND_ALL_LOANS_BY_LOAN_IDS_AND_STATUSES)
+    List<LoanIdAndLastClosedBusinessDate> findAllLoansByLoanIdsAndStatuses(@Param("loanIds") List<Long> loanIds,
+            @Param("loanStatuses") Collection<LoanStatus> loanStatuses);
+
     @Query(FIND_ALL_LOANS_BEHIND_OR_NULL_BY_LOAN_IDS_AND_STATUSES)
     List<LoanIdAndLastClosedBusinessDate> findAllLoansBehindOrNullByLoanIdsAndStatuses(@Param("cobBusinessDate") LocalDate cobBusinessDate,
             @Param("loanIds") List<Long> loanIds, @Param("loanStatuses") Collection<LoanStatus> loanStatuses);
@@ -268,4 +284,16 @@ public interface LoanRepository extends JpaRepository<Loan, Long>, JpaSpecificat
 
     @Query(FIND_LOAN_BY_EXTERNAL_ID)
     Optional<Loan> findByExternalId(@Param("externalId") ExternalId externalId);
+
+    @Query(FIND_ALL_BY_IDS_FETCH_REPAYMENT_SCHEDULE)
+    List<Loan> findAllByIdsFetchRepaymentSchedule(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_ALL_BY_IDS_FETCH_TRANSACTIONS)
+    List<Loan> findAllByIdsFetchTransactions(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_ALL_BY_IDS_FETCH_CHARGES)
+    List<Loan> findAllByIdsFetchCharges(@Param("loanIds") Collection<Long> loanIds);
+
+    @Query(FIND_ALL_BY_IDS_FETCH_DISBURSEMENT_DETAILS)
+    List<Loan> findAllByIdsFetchDisbursementDetails(@Param("loanIds") Collection<Long> loanIds);
 }
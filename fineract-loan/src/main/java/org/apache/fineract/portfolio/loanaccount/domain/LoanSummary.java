@@ -26,6 +26,7 @@ import java.util.Set;
 import lombok.Getter;
 import org.apache.fineract.organisation.monetary.domain.MonetaryCurrency;
 import org.apache.fineract.organisation.monetary.domain.Money;
+import org.apache.fineract.organisation.monetary.domain.MoneyAccumulator;
 
 /**
  * Encapsulates all the summary details of a {@link Loan}.
@@ -296,170 +297,170 @@ public class LoanSummary {
 
     protected Money calculateTotalPrincipalRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPrincipalCompleted(currency));
+            total.plus(installment.getPrincipalCompleted(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPrincipalAdjusted(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getCreditedPrincipal(currency));
+            total.plus(installment.getCreditedPrincipal(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalFeeAdjusted(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getCreditedFee(currency));
+            total.plus(installment.getCreditedFee(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPenaltyAdjusted(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getCreditedPenalty(currency));
+            total.plus(installment.getCreditedPenalty(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPrincipalWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPrincipalWrittenOff(currency));
+            total.plus(installment.getPrincipalWrittenOff(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalInterestCharged(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestCharged(currency));
+            total.plus(installment.getInterestCharged(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalInterestRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestPaid(currency));
+            total.plus(installment.getInterestPaid(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalInterestWaived(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestWaived(currency));
+            total.plus(installment.getInterestWaived(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalInterestWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getInterestWrittenOff(currency));
+            total.plus(installment.getInterestWrittenOff(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalFeeChargesCharged(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getFeeChargesCharged(currency));
+            total.plus(installment.getFeeChargesCharged(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalFeeChargesRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getFeeChargesPaid(currency));
+            total.plus(installment.getFeeChargesPaid(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalFeeChargesWaived(Set<LoanCharge> charges, final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanCharge charge : charges) {
             if (charge.isActive() && !charge.isPenaltyCharge()) {
-                total = total.plus(charge.getAmountWaived(currency));
+                total.plus(charge.getAmountWaived(currency));
             }
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalFeeChargesWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getFeeChargesWrittenOff(currency));
+            total.plus(installment.getFeeChargesWrittenOff(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPenaltyChargesCharged(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesCharged(currency));
+            total.plus(installment.getPenaltyChargesCharged(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPenaltyChargesRepaid(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesPaid(currency));
+            total.plus(installment.getPenaltyChargesPaid(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPenaltyChargesWaived(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesWaived(currency));
+            total.plus(installment.getPenaltyChargesWaived(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalPenaltyChargesWrittenOff(final List<LoanRepaymentScheduleInstallment> repaymentScheduleInstallments,
             final MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         for (final LoanRepaymentScheduleInstallment installment : repaymentScheduleInstallments) {
-            total = total.plus(installment.getPenaltyChargesWrittenOff(currency));
+            total.plus(installment.getPenaltyChargesWrittenOff(currency));
         }
-        return total;
+        return total.toMoney();
     }
 
     protected Money calculateTotalChargesRepaidAtDisbursement(Set<LoanCharge> charges, MonetaryCurrency currency) {
-        Money total = Money.zero(currency);
+        final MoneyAccumulator total = MoneyAccumulator.zero(currency);
         if (charges == null) {
-            return total;
+            return total.toMoney();
         }
         for (final LoanCharge loanCharge : charges) {
             if (!loanCharge.isPenaltyCharge() && loanCharge.getAmountPaid(currency).isGreaterThanZero()
                     && loanCharge.isDisbursementCharge()) {
-                total = total.plus(loanCharge.getAmountPaid(currency));
+                total.plus(loanCharge.getAmountPaid(currency));
             }
         }
-        return total;
+        return total.toMoney();
 
     }
 }
@@ -24,8 +24,10 @@ import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.accounting.common.AccountingEnumerations;
@@ -63,20 +65,32 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
     private final FromJsonHelper fromApiJsonHelper;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
 
+    private static final String INSERT_DAILY_BALANCE = "insert into acc_gl_daily_balance "
+            + "(account_id, office_id, balance_date, closing_balance) values (?, ?, ?, ?)";
+
     private final GLJournalEntryMapper entryMapper = new GLJournalEntryMapper();
 
     private final PlatformSecurityContext platformSecurityContext;
 
+    /**
+     * Recomputes the running balances of every GL account that has unreconciled entries, starting from that account's own
+     * earliest unreconciled date. Opening balances come from the per office, per day snapshots in
+     * {@code acc_gl_daily_balance}, so the cost is proportional to the entries posted on or after the backdated date
+     * instead of to the size of the journal.
+     */
     @Override
     public void updateRunningBalance() {
-        String dateFinder = "select MIN(je.entry_date) as entityDate from acc_gl_journal_entry  je "
-                + "where je.is_running_balance_calculated=false ";
-        try {
-            LocalDate entityDate = this.jdbcTemplate.queryForObject(dateFinder, LocalDate.class);
-            updateOrganizationRunningBalance(entityDate);
-        } catch (EmptyResultDataAccessException e) {
+        String accountFinder = "select je.account_id as accountId, MIN(je.entry_date) as entityDate from acc_gl_journal_entry je "
+                + "where je.is_running_balance_calculated=false group by je.account_id";
+        Map<Long, LocalDate> accountsToUpdate = new LinkedHashMap<>();
+        jdbcTemplate.query(accountFinder, rs -> {
+            accountsToUpdate.put(rs.getLong("accountId"), JdbcSupport.getLocalDate(rs, "entityDate"));
+        });
+        if (accountsToUpdate.isEmpty()) {
             log.debug("No results found for updation of running balance ");
+            return;
         }
+        accountsToUpdate.forEach(this::updateOrganizationRunningBalance);
     }
 
     @Override
@@ -103,89 +117,100 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
         return commandProcessingResultBuilder.build();
     }
 
-    private void updateOrganizationRunningBalance(LocalDate entityDate) {
-        Map<Long, BigDecimal> runningBalanceMap = new HashMap<>(5);
-        Map<Long, Map<Long, BigDecimal>> officesRunningBalance = new HashMap<>();
+    private void updateOrganizationRunningBalance(Long accountId, LocalDate entityDate) {
+        seedDailyBalancesBefore(accountId, entityDate);
 
-        final String organizationRunningBalanceQuery = "select je.organization_running_balance as runningBalance,je.account_id as accountId from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
+        final String openingBalanceQuery = "select b.office_id as officeId, b.closing_balance as closingBalance "
+                + "from acc_gl_daily_balance b "
+                + "inner join (select office_id, max(balance_date) as balance_date from acc_gl_daily_balance "
+                + "where account_id = ? and balance_date < ? group by office_id) l "
+                + "on l.office_id = b.office_id and l.balance_date = b.balance_date where b.account_id = ?";
+        Map<Long, BigDecimal> officesRunningBalance = new HashMap<>();
+        jdbcTemplate.query(openingBalanceQuery, rs -> {
+            officesRunningBalance.put(rs.getLong("officeId"), rs.getBigDecimal("closingBalance"));
+        }, accountId, entityDate, accountId);
+        BigDecimal runningBalance = officesRunningBalance.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        List<Map<String, Object>> list = jdbcTemplate.queryForList(organizationRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-
-        for (Map<String, Object> entries : list) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString()); // Drizzle
-                                                                                  // is
-                                                                                  // returning
-                                                                                  // Big
-                                                                                  // Integer
-                                                                                  // where
-                                                                                  // as
-                                                                                  // MySQL
-                                                                                  // returns
-                                                                                  // Long.
-            if (!runningBalanceMap.containsKey(accountId)) {
-                runningBalanceMap.put(accountId, (BigDecimal) entries.get("runningBalance"));
-            }
+        List<RunningBalanceEntry> entries = jdbcTemplate.query(RunningBalanceEntry.SCHEMA, RunningBalanceEntry::mapRow, accountId,
+                entityDate);
+        if (entries.isEmpty()) {
+            return;
         }
 
-        final String offlineRunningBalanceQuery = "select je.office_running_balance as runningBalance,je.account_id as accountId,je.office_id as officeId "
-                + "from acc_gl_journal_entry je "
-                + "inner join (select max(id) as id from acc_gl_journal_entry where entry_date < ? group by office_id,account_id,entry_date) je2 ON je2.id = je.id "
-                + "inner join (select max(entry_date) as date from acc_gl_journal_entry where entry_date < ? group by office_id,account_id) je3 ON je.entry_date = je3.date "
-                + "group by je.id order by je.entry_date DESC " + sqlGenerator.limit(10000, 0);
+        // run a batch update of 1000 SQL statements at a time
+        final int batchUpdateSize = 1000;
+        final Long userId = platformSecurityContext.authenticatedUser().getId();
+        final String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
+                + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
+        List<Object[]> params = new ArrayList<>();
+        Map<Long, Map<LocalDate, BigDecimal>> closingBalances = new HashMap<>();
+        for (RunningBalanceEntry entry : entries) {
+            BigDecimal change = balanceChange(entry.accountType(), entry.entryType(), entry.amount());
+            BigDecimal officeRunningBalance = officesRunningBalance.getOrDefault(entry.officeId(), BigDecimal.ZERO).add(change);
+            officesRunningBalance.put(entry.officeId(), officeRunningBalance);
+            runningBalance = runningBalance.add(change);
+            closingBalances.computeIfAbsent(entry.officeId(), k -> new TreeMap<>()).put(entry.entryDate(), officeRunningBalance);
 
-        List<Map<String, Object>> officesRunningBalanceList = jdbcTemplate.queryForList(offlineRunningBalanceQuery, // NOSONAR
-                entityDate, entityDate);
-        for (Map<String, Object> entries : officesRunningBalanceList) {
-            Long accountId = Long.parseLong(entries.get("accountId").toString());
-            Long officeId = Long.parseLong(entries.get("officeId").toString());
-            Map<Long, BigDecimal> runningBalance;
-            if (officesRunningBalance.containsKey(officeId)) {
-                runningBalance = officesRunningBalance.get(officeId);
-            } else {
-                runningBalance = new HashMap<>();
-                officesRunningBalance.put(officeId, runningBalance);
-            }
-            if (!runningBalance.containsKey(accountId)) {
-                runningBalance.put(accountId, (BigDecimal) entries.get("runningBalance"));
+            params.add(new Object[] { Boolean.TRUE, runningBalance, officeRunningBalance, userId, DateUtils.getAuditOffsetDateTime(),
+                    entry.id() });
+            if (params.size() == batchUpdateSize) {
+                this.jdbcTemplate.batchUpdate(sql, params);
+                params.clear();
             }
         }
+        if (!params.isEmpty()) {
+            this.jdbcTemplate.batchUpdate(sql, params);
+        }
 
-        List<JournalEntryData> entryDataList = jdbcTemplate.query(entryMapper.organizationRunningBalanceSchema(), entryMapper, entityDate);
-        if (entryDataList.size() > 0) {
-            // run a batch update of 1000 SQL statements at a time
-            final int batchUpdateSize = 1000;
-            List<Object[]> params = new ArrayList<>();
-            int batchIndex = 0;
-            String sql = "UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?, organization_running_balance=?,"
-                    + "office_running_balance=?, last_modified_by=?, last_modified_on_utc=?  WHERE  id=?";
-            for (int index = 0; index < entryDataList.size(); index++) {
-                JournalEntryData entryData = entryDataList.get(index);
-                Map<Long, BigDecimal> officeRunningBalanceMap;
-                if (officesRunningBalance.containsKey(entryData.getOfficeId())) {
-                    officeRunningBalanceMap = officesRunningBalance.get(entryData.getOfficeId());
-                } else {
-                    officeRunningBalanceMap = new HashMap<>();
-                    officesRunningBalance.put(entryData.getOfficeId(), officeRunningBalanceMap);
-                }
-                BigDecimal officeRunningBalance = calculateRunningBalance(entryData, officeRunningBalanceMap);
-                BigDecimal runningBalance = calculateRunningBalance(entryData, runningBalanceMap);
-
-                params.add(new Object[] { Boolean.TRUE, runningBalance, officeRunningBalance,
-                        platformSecurityContext.authenticatedUser().getId(), DateUtils.getAuditOffsetDateTime(), entryData.getId() });
-                batchIndex++;
-                if (batchIndex == batchUpdateSize || index == entryDataList.size() - 1) {
-                    this.jdbcTemplate.batchUpdate(sql, params);
-                    // reset counter and string array
-                    batchIndex = 0;
-                    params.clear();
-                }
-            }
+        replaceDailyBalances(accountId, entityDate, closingBalances);
+    }
+
+    /**
+     * Offices of the account without a snapshot before {@code entityDate} take their opening balance from the last already
+     * reconciled journal entry of the office before that date. This covers the first time an account is reconciled
+     * through the snapshot store as well as entries backdated before the earliest snapshot of an office.
+     */
+    private void seedDailyBalancesBefore(Long accountId, LocalDate entityDate) {
+        final String firstBalanceQuery = "select b.office_id as officeId, min(b.balance_date) as firstBalanceDate "
+                + "from acc_gl_daily_balance b where b.account_id = ? group by b.office_id";
+        Map<Long, LocalDate> firstBalanceDates = new HashMap<>();
+        jdbcTemplate.query(firstBalanceQuery, rs -> {
+            firstBalanceDates.put(rs.getLong("officeId"), JdbcSupport.getLocalDate(rs, "firstBalanceDate"));
+        }, accountId);
+        if (!firstBalanceDates.isEmpty() && firstBalanceDates.values().stream().allMatch(date -> DateUtils.isBefore(date, entityDate))) {
+            // offices of a tracked account without any snapshot have no reconciled entries yet
+            return;
         }
+        final String lastEntryQuery = "select je.office_id as officeId, je.entry_date as entryDate, "
+                + "je.office_running_balance as runningBalance from acc_gl_journal_entry je "
+                + "inner join (select j.office_id, max(j.id) as id from acc_gl_journal_entry j "
+                + "inner join (select office_id, max(entry_date) as entry_date from acc_gl_journal_entry "
+                + "where account_id = ? and entry_date < ? group by office_id) d "
+                + "on d.office_id = j.office_id and d.entry_date = j.entry_date "
+                + "where j.account_id = ? group by j.office_id) m on m.id = je.id";
+        List<Object[]> params = jdbcTemplate.query(lastEntryQuery,
+                (rs, rowNum) -> new Object[] { accountId, rs.getLong("officeId"), JdbcSupport.getLocalDate(rs, "entryDate"),
+                        JdbcSupport.getBigDecimalDefaultToZeroIfNull(rs, "runningBalance") },
+                accountId, entityDate, accountId);
+        params.removeIf(seed -> {
+            LocalDate firstBalanceDate = firstBalanceDates.get(seed[1]);
+            return firstBalanceDate != null && DateUtils.isBefore(firstBalanceDate, entityDate);
+        });
+        if (!params.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DAILY_BALANCE, params);
+        }
+    }
 
+    /**
+     * Entries are never removed from the journal, so every day recomputed for the account from {@code entityDate} on has
+     * a snapshot row; the older snapshots stay untouched.
+     */
+    private void replaceDailyBalances(Long accountId, LocalDate entityDate, Map<Long, Map<LocalDate, BigDecimal>> closingBalances) {
+        jdbcTemplate.update("delete from acc_gl_daily_balance where account_id = ? and balance_date >= ?", accountId, entityDate);
+        List<Object[]> params = new ArrayList<>();
+        closingBalances.forEach((officeId, balances) -> balances
+                .forEach((balanceDate, closingBalance) -> params.add(new Object[] { accountId, officeId, balanceDate, closingBalance })));
+        jdbcTemplate.batchUpdate(INSERT_DAILY_BALANCE, params);
     }
 
     private void updateRunningBalance(Long officeId, LocalDate entityDate) {
@@ -224,6 +249,12 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
         }
         GLAccountType accountType = GLAccountType.fromInt(entry.getGlAccountType().getId().intValue());
         JournalEntryType entryType = JournalEntryType.fromInt(entry.getEntryType().getId().intValue());
+        runningBalance = runningBalance.add(balanceChange(accountType, entryType, entry.getAmount()));
+        runningBalanceMap.put(entry.getGlAccountId(), runningBalance);
+        return runningBalance;
+    }
+
+    private static BigDecimal balanceChange(GLAccountType accountType, JournalEntryType entryType, BigDecimal amount) {
         boolean isIncrease = false;
         switch (accountType) {
             case ASSET:
@@ -240,13 +271,22 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
                 }
             break;
         }
-        if (isIncrease) {
-            runningBalance = runningBalance.add(entry.getAmount());
-        } else {
-            runningBalance = runningBalance.subtract(entry.getAmount());
+        return isIncrease ? amount : amount.negate();
+    }
+
+    private record RunningBalanceEntry(Long id, Long officeId, LocalDate entryDate, BigDecimal amount, GLAccountType accountType,
+            JournalEntryType entryType) {
+
+        private static final String SCHEMA = "select je.id as id, je.office_id as officeId, je.entry_date as entryDate, "
+                + "je.type_enum as entryType, je.amount as amount, glAccount.classification_enum as classification "
+                + "from acc_gl_journal_entry je join acc_gl_account glAccount on je.account_id = glAccount.id "
+                + "where je.account_id = ? and je.entry_date >= ? order by je.entry_date, je.id";
+
+        private static RunningBalanceEntry mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            return new RunningBalanceEntry(rs.getLong("id"), rs.getLong("officeId"), JdbcSupport.getLocalDate(rs, "entryDate"),
+                    rs.getBigDecimal("amount"), GLAccountType.fromInt(JdbcSupport.getInteger(rs, "classification")),
+                    JournalEntryType.fromInt(JdbcSupport.getInteger(rs, "entryType")));
         }
-        runningBalanceMap.put(entry.getGlAccountId(), runningBalance);
-        return runningBalance;
     }
 
     private static final class GLJournalEntryMapper implements RowMapper<JournalEntryData> {
@@ -258,13 +298,6 @@ public class JournalEntryRunningBalanceUpdateServiceImpl implements JournalEntry
                     + "and je.office_id=? and je.entry_date >= ? order by je.entry_date,je.id";
         }
 
-        public String organizationRunningBalanceSchema() {
-            return "select je.id as id,je.account_id as glAccountId," + "je.type_enum as entryType,je.amount as amount, "
-                    + "glAccount.classification_enum as classification,je.office_id as officeId  "
-                    + "from acc_gl_journal_entry je , acc_gl_account glAccount " + "where je.account_id = glAccount.id "
-                    + "and je.entry_date >= ? order by je.entry_date,je.id";
-        }
-
         @Override
         public JournalEntryData mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
 
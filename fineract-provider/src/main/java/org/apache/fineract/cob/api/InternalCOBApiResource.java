@@ -38,6 +38,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.data.LoanCOBPartition;
 import org.apache.fineract.cob.loan.LoanCOBConstant;
 import org.apache.fineract.cob.loan.RetrieveLoanIdService;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.api.ApiRequestParameterHelper;
 import org.apache.fineract.infrastructure.core.boot.FineractProfiles;
@@ -63,6 +64,7 @@ public class InternalCOBApiResource implements InitializingBean {
     private final ApiRequestParameterHelper apiRequestParameterHelper;
     private final ToApiJsonSerializer<List> toApiJsonSerializerForList;
     private final LoanRepositoryWrapper loanRepositoryWrapper;
+    private final LoanCOBStateIndex loanCOBStateIndex;
 
     protected DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(DATETIME_PATTERN);
 
@@ -101,6 +103,7 @@ public class InternalCOBApiResource implements InitializingBean {
         LocalDate localDate = LocalDate.parse(lastClosedBusinessDate, dateTimeFormatter);
         loan.setLastClosedBusinessDate(localDate);
         loanRepositoryWrapper.save(loan);
+        loanCOBStateIndex.invalidate(List.of(loanId));
     }
 
 }
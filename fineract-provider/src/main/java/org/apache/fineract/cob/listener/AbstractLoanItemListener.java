@@ -27,6 +27,7 @@ import org.apache.fineract.cob.domain.LoanAccountLock;
 import org.apache.fineract.cob.domain.LockOwner;
 import org.apache.fineract.cob.exceptions.LoanReadException;
 import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.apache.fineract.infrastructure.core.serialization.ThrowableSerialization;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -50,6 +51,8 @@ public abstract class AbstractLoanItemListener {
 
     private final TransactionTemplate transactionTemplate;
 
+    private final LoanCOBStateIndex loanCOBStateIndex;
+
     private void updateAccountLockWithError(List<Long> loanIds, String msg, Throwable e) {
         transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
         transactionTemplate.execute(new TransactionCallbackWithoutResult() {
@@ -62,6 +65,7 @@ public abstract class AbstractLoanItemListener {
                         loanAccountLock.setError(String.format(msg, loanId), ThrowableSerialization.serialize(e));
                     }
                 }
+                loanCOBStateIndex.invalidate(loanIds);
             }
         });
     }
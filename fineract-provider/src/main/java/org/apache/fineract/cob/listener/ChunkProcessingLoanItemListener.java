@@ -20,12 +20,14 @@ package org.apache.fineract.cob.listener;
 
 import org.apache.fineract.cob.domain.LockOwner;
 import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.springframework.transaction.support.TransactionTemplate;
 
 public class ChunkProcessingLoanItemListener extends AbstractLoanItemListener {
 
-    public ChunkProcessingLoanItemListener(LoanLockingService loanLockingService, TransactionTemplate transactionTemplate) {
-        super(loanLockingService, transactionTemplate);
+    public ChunkProcessingLoanItemListener(LoanLockingService loanLockingService, TransactionTemplate transactionTemplate,
+            LoanCOBStateIndex loanCOBStateIndex) {
+        super(loanLockingService, transactionTemplate, loanCOBStateIndex);
     }
 
     @Override
@@ -20,12 +20,14 @@ package org.apache.fineract.cob.listener;
 
 import org.apache.fineract.cob.domain.LockOwner;
 import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.springframework.transaction.support.TransactionTemplate;
 
 public class InlineCOBLoanItemListener extends AbstractLoanItemListener {
 
-    public InlineCOBLoanItemListener(LoanLockingService loanLockingService, TransactionTemplate transactionTemplate) {
-        super(loanLockingService, transactionTemplate);
+    public InlineCOBLoanItemListener(LoanLockingService loanLockingService, TransactionTemplate transactionTemplate,
+            LoanCOBStateIndex loanCOBStateIndex) {
+        super(loanLockingService, transactionTemplate, loanCOBStateIndex);
     }
 
     @Override
@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -58,11 +59,27 @@ public abstract class AbstractLoanItemProcessor implements ItemProcessor<Loan, L
         }
         TreeMap<Long, String> businessStepMap = getBusinessStepMap(businessSteps);
 
+        long startTime = System.nanoTime();
         Loan alreadyProcessedLoan = cobBusinessStepService.run(businessStepMap, item);
         alreadyProcessedLoan.setLastClosedBusinessDate(businessDate);
+        alreadyProcessedLoan.setCobProcessingCost(calculateProcessingCost(alreadyProcessedLoan.getCobProcessingCost(), startTime));
         return alreadyProcessedLoan;
     }
 
+    /**
+     * Averages the measured processing time with the previous cost, so a single slow run does not dominate the
+     * partitioning of the next COB.
+     * <p>
+     * Only the business steps are measured. Reading the loan happens before and writing it happens after this
+     * processor, and the cost has to be set on the loan before the writer flushes it, so the read, write and flush time
+     * cannot be part of it. Loans whose COB time is dominated by persisting many new transactions are therefore
+     * underestimated; the small work stealing partitions of the cost balanced partitioning absorb that error.
+     */
+    static long calculateProcessingCost(Long previousCost, long startTime) {
+        long measuredCost = Math.max(1L, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime));
+        return previousCost == null ? measuredCost : (previousCost + measuredCost) / 2;
+    }
+
     private TreeMap<Long, String> getBusinessStepMap(Set<BusinessStepNameAndOrder> businessSteps) {
         Map<Long, String> businessStepMap = businessSteps.stream()
                 .collect(Collectors.toMap(BusinessStepNameAndOrder::getStepOrder, BusinessStepNameAndOrder::getStepName));
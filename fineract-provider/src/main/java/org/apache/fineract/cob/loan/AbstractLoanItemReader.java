@@ -18,6 +18,12 @@
  */
 package org.apache.fineract.cob.loan;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.LinkedBlockingQueue;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +38,8 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.annotation.AfterStep;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -42,8 +50,21 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
     @Setter(AccessLevel.PROTECTED)
     private LinkedBlockingQueue<Long> remainingData;
 
+    /**
+     * Number of loan ids fetched together with their schedule, transactions, charges and disbursement details. Values
+     * lower than 2 keep the one loan per read behaviour.
+     */
+    @Setter(AccessLevel.PROTECTED)
+    private int prefetchSize;
+
+    // Loaded entities belong to the persistence context of the reading thread, hence windows are never shared
+    private final ThreadLocal<PrefetchWindow> prefetchWindow = ThreadLocal.withInitial(PrefetchWindow::new);
+
     @Override
     public Loan read() throws Exception {
+        if (prefetchSize > 1) {
+            return readPrefetched();
+        }
         final Long loanId = remainingData.poll();
         if (loanId != null) {
             try {
@@ -55,8 +76,107 @@ public abstract class AbstractLoanItemReader implements ItemReader<Loan> {
         return null;
     }
 
+    private Loan readPrefetched() throws LoanReadException {
+        PrefetchWindow window = prefetchWindow.get();
+        if (window.isEmpty()) {
+            List<Long> loanIds = new ArrayList<>(prefetchSize);
+            remainingData.drainTo(loanIds, prefetchSize);
+            if (loanIds.isEmpty()) {
+                // do not keep the (empty) window of a pooled worker thread
+                prefetchWindow.remove();
+                return null;
+            }
+            window.fill(loanIds);
+            registerWindowRelease(window);
+            try {
+                window.putLoans(fetchLoans(loanIds));
+            } catch (Exception e) {
+                // the failure marked the chunk transaction rollback-only, so the loans cannot be read one by one in
+                // this chunk: the first loan is reported, the rest is handed back right away to be read by a later chunk
+                final Long failedLoanId = window.nextLoanId();
+                remainingData.addAll(window.release());
+                prefetchWindow.remove();
+                throw new LoanReadException(failedLoanId, e);
+            }
+        }
+        final Long loanId = window.nextLoanId();
+        try {
+            Loan loan = window.getLoan(loanId);
+            if (loan != null) {
+                return loan;
+            }
+            return loanRepository.findById(loanId).orElseThrow(() -> new LoanNotFoundException(loanId));
+        } catch (Exception e) {
+            throw new LoanReadException(loanId, e);
+        }
+    }
+
+    private Map<Long, Loan> fetchLoans(List<Long> loanIds) {
+        Map<Long, Loan> loans = new HashMap<>();
+        loanRepository.findAllByIdsFetchRepaymentSchedule(loanIds).forEach(loan -> loans.put(loan.getId(), loan));
+        if (!loans.isEmpty()) {
+            loanRepository.findAllByIdsFetchTransactions(loanIds);
+            loanRepository.findAllByIdsFetchCharges(loanIds);
+            loanRepository.findAllByIdsFetchDisbursementDetails(loanIds);
+        }
+        return loans;
+    }
+
+    /**
+     * Prefetched loans are attached to the transaction of the current chunk. When the chunk ends before the window is
+     * drained (e.g. because of skipped items), the unread loan ids are handed back to be loaded again by a later chunk.
+     */
+    private void registerWindowRelease(PrefetchWindow window) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCompletion(int status) {
+                remainingData.addAll(window.release());
+                // synchronizations run on the reading thread, release its window together with the loaded loans
+                prefetchWindow.remove();
+            }
+        });
+    }
+
+    private static final class PrefetchWindow {
+
+        private final Deque<Long> loanIds = new ArrayDeque<>();
+        private final Map<Long, Loan> loans = new HashMap<>();
+
+        boolean isEmpty() {
+            return loanIds.isEmpty();
+        }
+
+        void fill(List<Long> ids) {
+            loanIds.addAll(ids);
+        }
+
+        void putLoans(Map<Long, Loan> fetchedLoans) {
+            loans.putAll(fetchedLoans);
+        }
+
+        Long nextLoanId() {
+            return loanIds.poll();
+        }
+
+        Loan getLoan(Long loanId) {
+            return loans.remove(loanId);
+        }
+
+        List<Long> release() {
+            List<Long> unread = new ArrayList<>(loanIds);
+            loanIds.clear();
+            loans.clear();
+            return unread;
+        }
+    }
+
     @AfterStep
     public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        prefetchWindow.remove();
         return ExitStatus.COMPLETED;
     }
 
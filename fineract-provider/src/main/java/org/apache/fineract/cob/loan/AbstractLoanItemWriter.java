@@ -19,9 +19,11 @@
 package org.apache.fineract.cob.loan;
 
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.jetbrains.annotations.NotNull;
@@ -33,6 +35,7 @@ import org.springframework.batch.item.data.RepositoryItemWriter;
 public abstract class AbstractLoanItemWriter extends RepositoryItemWriter<Loan> {
 
     private final LoanLockingService loanLockingService;
+    private final LoanCOBStateIndex loanCOBStateIndex;
 
     @Override
     public void write(@NotNull Chunk<? extends Loan> items) throws Exception {
@@ -40,6 +43,8 @@ public abstract class AbstractLoanItemWriter extends RepositoryItemWriter<Loan>
             super.write(items);
             List<Long> loanIds = items.getItems().stream().map(AbstractPersistableCustom::getId).toList();
             loanLockingService.deleteByLoanIdInAndLockOwner(loanIds, getLockOwner());
+            loanCOBStateIndex.recordClosed(items.getItems().stream().filter(loan -> loan.getLastClosedBusinessDate() != null)
+                    .collect(Collectors.toMap(AbstractPersistableCustom::getId, Loan::getLastClosedBusinessDate)));
         }
     }
 
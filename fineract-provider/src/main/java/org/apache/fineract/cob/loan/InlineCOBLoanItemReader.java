@@ -20,6 +20,7 @@ package org.apache.fineract.cob.loan;
 
 import java.util.List;
 import java.util.concurrent.LinkedBlockingQueue;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.batch.core.StepExecution;
@@ -28,6 +29,8 @@ import org.springframework.batch.item.ExecutionContext;
 
 public class InlineCOBLoanItemReader extends AbstractLoanItemReader {
 
+    private long deadline;
+
     public InlineCOBLoanItemReader(LoanRepository loanRepository) {
         super(loanRepository);
     }
@@ -38,5 +41,19 @@ public class InlineCOBLoanItemReader extends AbstractLoanItemReader {
         ExecutionContext executionContext = stepExecution.getJobExecution().getExecutionContext();
         List<Long> loanIds = (List<Long>) executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER);
         setRemainingData(new LinkedBlockingQueue<>(loanIds));
+        Long jobDeadline = stepExecution.getJobParameters().getLong(LoanCOBConstant.INLINE_LOAN_COB_DEADLINE_PARAMETER_NAME);
+        deadline = jobDeadline == null ? 0L : jobDeadline;
+    }
+
+    /**
+     * Once the deadline of the inline COB has passed, no further loan is read: the loans which were not picked up yet are
+     * left for a later run.
+     */
+    @Override
+    public Loan read() throws Exception {
+        if (deadline > 0 && System.currentTimeMillis() >= deadline) {
+            return null;
+        }
+        return super.read();
     }
 }
@@ -19,11 +19,12 @@
 package org.apache.fineract.cob.loan;
 
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 
 public class InlineCOBLoanItemWriter extends AbstractLoanItemWriter {
 
-    public InlineCOBLoanItemWriter(LoanLockingService loanLockingService) {
-        super(loanLockingService);
+    public InlineCOBLoanItemWriter(LoanLockingService loanLockingService, LoanCOBStateIndex loanCOBStateIndex) {
+        super(loanLockingService, loanCOBStateIndex);
     }
 
     @Override
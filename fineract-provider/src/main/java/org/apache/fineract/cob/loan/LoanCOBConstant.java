@@ -31,6 +31,7 @@ public final class LoanCOBConstant {
     public static final String BUSINESS_DATE_PARAMETER_NAME = "BusinessDate";
     public static final String IS_CATCH_UP_PARAMETER_NAME = "IS_CATCH_UP";
     public static final String LOAN_IDS_PARAMETER_NAME = "LoanIds";
+    public static final String INLINE_LOAN_COB_DEADLINE_PARAMETER_NAME = "InlineLoanCOBDeadline";
 
     public static final String LOAN_COB_PARTITIONER_STEP = "Loan COB partition - Step";
     public static final String LOAN_COB_CUSTOM_JOB_PARAMETER_KEY = "CUSTOM_JOB_PARAMETER_ID";
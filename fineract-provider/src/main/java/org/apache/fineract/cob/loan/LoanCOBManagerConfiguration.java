@@ -26,6 +26,7 @@ import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.conditions.BatchManagerCondition;
 import org.apache.fineract.cob.listener.COBExecutionListenerRunner;
 import org.apache.fineract.cob.listener.JobExecutionContextCopyListener;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
@@ -79,12 +80,16 @@ public class LoanCOBManagerConfiguration {
     private BusinessEventNotifierService businessEventNotifierService;
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     @StepScope
     public LoanCOBPartitioner partitioner() {
-        return new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator, jobExplorer,
-                LoanCOBConstant.NUMBER_OF_DAYS_BEHIND);
+        LoanCOBPartitioner partitioner = new LoanCOBPartitioner(propertyService, cobBusinessStepService, retrieveLoanIdService, jobOperator,
+                jobExplorer, LoanCOBConstant.NUMBER_OF_DAYS_BEHIND);
+        partitioner.setCostBasedPartitioning(fineractProperties.getJob().isLoanCobCostBasedPartitioningEnabled());
+        return partitioner;
     }
 
     @Bean
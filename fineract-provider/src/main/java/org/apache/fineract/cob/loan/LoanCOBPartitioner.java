@@ -64,6 +64,8 @@ public class LoanCOBPartitioner implements Partitioner {
     @Value("#{stepExecutionContext['IS_CATCH_UP']}")
     @Setter
     private Boolean isCatchUp;
+    @Setter
+    private boolean costBasedPartitioning;
 
     @NotNull
     @Override
@@ -81,8 +83,10 @@ public class LoanCOBPartitioner implements Partitioner {
         }
         StopWatch sw = new StopWatch();
         sw.start();
-        List<LoanCOBPartition> loanCOBPartitions = new ArrayList<>(
-                retrieveLoanIdService.retrieveLoanCOBPartitions(numberOfDays, businessDate, isCatchUp != null && isCatchUp, partitionSize));
+        boolean catchUp = isCatchUp != null && isCatchUp;
+        List<LoanCOBPartition> loanCOBPartitions = new ArrayList<>(costBasedPartitioning
+                ? retrieveLoanIdService.retrieveCostBalancedLoanCOBPartitions(numberOfDays, businessDate, catchUp, partitionSize)
+                : retrieveLoanIdService.retrieveLoanCOBPartitions(numberOfDays, businessDate, catchUp, partitionSize));
         sw.stop();
         // if there is no loan to be closed, we still would like to create at least one partition
 
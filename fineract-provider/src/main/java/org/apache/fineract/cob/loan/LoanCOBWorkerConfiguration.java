@@ -24,6 +24,7 @@ import org.apache.fineract.cob.common.InitialisationTasklet;
 import org.apache.fineract.cob.common.ResetContextTasklet;
 import org.apache.fineract.cob.conditions.BatchWorkerCondition;
 import org.apache.fineract.cob.listener.ChunkProcessingLoanItemListener;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
@@ -80,6 +81,8 @@ public class LoanCOBWorkerConfiguration {
     private FineractProperties fineractProperties;
     @Autowired
     private LoanLockingService loanLockingService;
+    @Autowired
+    private LoanCOBStateIndex loanCOBStateIndex;
 
     @Autowired
     private CustomJobParameterResolver customJobParameterResolver;
@@ -160,7 +163,7 @@ public class LoanCOBWorkerConfiguration {
 
     @Bean
     public ChunkProcessingLoanItemListener loanItemListener() {
-        return new ChunkProcessingLoanItemListener(loanLockingService, transactionTemplate);
+        return new ChunkProcessingLoanItemListener(loanLockingService, transactionTemplate, loanCOBStateIndex);
     }
 
     @Bean
@@ -177,7 +180,12 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemReader cobWorkerItemReader() {
-        return new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver, loanLockingService);
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        if (fineractProperties.getJob().isLoanCobPrefetchEnabled()) {
+            loanItemReader.setPrefetchSize(propertyService.getChunkSize(JobName.LOAN_COB.name()));
+        }
+        return loanItemReader;
     }
 
     @Bean
@@ -189,7 +197,7 @@ public class LoanCOBWorkerConfiguration {
     @Bean
     @StepScope
     public LoanItemWriter cobWorkerItemWriter() {
-        LoanItemWriter repositoryItemWriter = new LoanItemWriter(loanLockingService);
+        LoanItemWriter repositoryItemWriter = new LoanItemWriter(loanLockingService, loanCOBStateIndex);
         repositoryItemWriter.setRepository(loanRepository);
         return repositoryItemWriter;
     }
@@ -23,6 +23,9 @@ import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.common.ResetContextTasklet;
 import org.apache.fineract.cob.conditions.LoanCOBEnabledCondition;
 import org.apache.fineract.cob.listener.InlineCOBLoanItemListener;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ContextPropagatingTaskDecorator;
 import org.apache.fineract.infrastructure.jobs.domain.CustomJobParameterRepository;
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.infrastructure.springbatch.PropertyService;
@@ -35,12 +38,16 @@ import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.core.listener.ExecutionContextPromotionListener;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.integration.config.annotation.EnableBatchIntegration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -68,6 +75,10 @@ public class LoanInlineCOBConfig {
 
     @Autowired
     private LoanLockingService loanLockingService;
+    @Autowired
+    private LoanCOBStateIndex loanCOBStateIndex;
+    @Autowired
+    private FineractProperties fineractProperties;
 
     @Bean
     public InlineLoanCOBBuildExecutionContextTasklet inlineLoanCOBBuildExecutionContextTasklet() {
@@ -83,10 +94,33 @@ public class LoanInlineCOBConfig {
 
     @Bean
     public Step inlineLoanCOBStep() {
-        return new StepBuilder("Inline Loan COB Step", jobRepository)
-                .<Loan, Loan>chunk(propertyService.getChunkSize(JobName.LOAN_COB.name()), transactionManager)
-                .reader(inlineCobWorkerItemReader()).processor(inlineCobWorkerItemProcessor()).writer(inlineCobWorkerItemWriter())
-                .listener(inlineCobLoanItemListener()).build();
+        int threadPoolSize = fineractProperties.getJob().getInlineLoanCobThreadPoolSize();
+        // loans processed in parallel are committed one by one, a failing loan does not roll back the others
+        int chunkSize = threadPoolSize > 1 ? 1 : propertyService.getChunkSize(JobName.LOAN_COB.name());
+        SimpleStepBuilder<Loan, Loan> stepBuilder = new StepBuilder("Inline Loan COB Step", jobRepository)
+                .<Loan, Loan>chunk(chunkSize, transactionManager).reader(inlineCobWorkerItemReader())
+                .processor(inlineCobWorkerItemProcessor()).writer(inlineCobWorkerItemWriter()).listener(inlineCobLoanItemListener());
+        if (threadPoolSize > 1) {
+            stepBuilder.taskExecutor(inlineCobTaskExecutor());
+        }
+        return stepBuilder.build();
+    }
+
+    @Bean
+    public TaskExecutor inlineCobTaskExecutor() {
+        int threadPoolSize = fineractProperties.getJob().getInlineLoanCobThreadPoolSize();
+        if (threadPoolSize <= 1) {
+            return new SyncTaskExecutor();
+        }
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setThreadNamePrefix("Inline-COB-Thread-");
+        taskExecutor.setThreadGroupName("Inline-COB-Thread");
+        taskExecutor.setCorePoolSize(threadPoolSize);
+        taskExecutor.setMaxPoolSize(threadPoolSize);
+        taskExecutor.setAllowCoreThreadTimeOut(true);
+        taskExecutor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        // the step still runs at most 4 chunks at a time, the default throttle limit of Spring Batch
+        return taskExecutor;
     }
 
     @Bean(name = "loanInlineCOBJob")
@@ -116,14 +150,14 @@ public class LoanInlineCOBConfig {
 
     @Bean
     public InlineCOBLoanItemWriter inlineCobWorkerItemWriter() {
-        InlineCOBLoanItemWriter repositoryItemWriter = new InlineCOBLoanItemWriter(loanLockingService);
+        InlineCOBLoanItemWriter repositoryItemWriter = new InlineCOBLoanItemWriter(loanLockingService, loanCOBStateIndex);
         repositoryItemWriter.setRepository(loanRepository);
         return repositoryItemWriter;
     }
 
     @Bean
     public InlineCOBLoanItemListener inlineCobLoanItemListener() {
-        return new InlineCOBLoanItemListener(loanLockingService, transactionTemplate);
+        return new InlineCOBLoanItemListener(loanLockingService, transactionTemplate, loanCOBStateIndex);
     }
 
     @Bean
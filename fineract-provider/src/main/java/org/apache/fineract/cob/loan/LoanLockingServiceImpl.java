@@ -26,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.cob.domain.LoanAccountLock;
 import org.apache.fineract.cob.domain.LoanAccountLockRepository;
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -60,6 +61,7 @@ public class LoanLockingServiceImpl implements LoanLockingService {
     private final JdbcTemplate jdbcTemplate;
     private final FineractProperties fineractProperties;
     private final LoanAccountLockRepository loanAccountLockRepository;
+    private final LoanCOBStateIndex loanCOBStateIndex;
 
     @Override
     public void upgradeLock(List<Long> accountsToLock, LockOwner lockOwner) {
@@ -70,6 +72,7 @@ public class LoanLockingServiceImpl implements LoanLockingService {
             ps.setObject(2, DateUtils.getAuditOffsetDateTime());
             ps.setLong(3, id);
         });
+        loanCOBStateIndex.invalidate(accountsToLock);
     }
 
     @Override
@@ -100,11 +103,13 @@ public class LoanLockingServiceImpl implements LoanLockingService {
             ps.setObject(4, DateUtils.getAuditOffsetDateTime());
             ps.setObject(5, cobBusinessDate);
         });
+        loanCOBStateIndex.invalidate(loanIds);
     }
 
     @Override
     public void deleteByLoanIdInAndLockOwner(List<Long> loanIds, LockOwner lockOwner) {
         loanAccountLockRepository.deleteByLoanIdInAndLockOwner(loanIds, lockOwner);
+        loanCOBStateIndex.invalidate(loanIds);
     }
 
     private int getInClauseParameterSizeLimit() {
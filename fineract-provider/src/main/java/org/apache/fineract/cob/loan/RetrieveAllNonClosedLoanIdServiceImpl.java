@@ -44,6 +44,8 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
             Arrays.asList(LoanStatus.SUBMITTED_AND_PENDING_APPROVAL, LoanStatus.APPROVED, LoanStatus.ACTIVE,
                     LoanStatus.TRANSFER_IN_PROGRESS, LoanStatus.TRANSFER_ON_HOLD));
 
+    private static final int WORK_STEALING_SPLIT = 4;
+
     private final LoanRepository loanRepository;
 
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
@@ -54,21 +56,97 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
         StringBuilder sql = new StringBuilder();
         sql.append("select min(id) as min, max(id) as max, page, count(id) as count from ");
         sql.append("  (select floor(((row_number() over(order by id))-1) / :pageSize) as page, t.* from ");
-        sql.append("      (select id from m_loan where loan_status_id in (:statusIds) and ");
+        sql.append("      (select id from m_loan where ");
+        appendLoanCOBCondition(sql, isCatchUp);
+        sql.append("order by id) t) t2 ");
+        sql.append("group by page ");
+        sql.append("order by page");
+
+        MapSqlParameterSource parameters = getLoanCOBParameters(numberOfDays, businessDate);
+        parameters.addValue("pageSize", partitionSize);
+        return namedParameterJdbcTemplate.query(sql.toString(), parameters, RetrieveAllNonClosedLoanIdServiceImpl::mapRow);
+    }
+
+    /**
+     * Cuts the loans into partitions of equal measured cost instead of equal count. The cost only covers the business
+     * steps (see {@link AbstractLoanItemProcessor#calculateProcessingCost}), so the balance is an estimate: to let the
+     * workers even out the error, the last quarter of the work is cut into {@value #WORK_STEALING_SPLIT} times smaller
+     * partitions. Workers pull partitions from the shared queue, so a worker finishing its full sized partitions early
+     * steals these small ones instead of idling while a slower worker processes a large range.
+     */
+    @Override
+    public List<LoanCOBPartition> retrieveCostBalancedLoanCOBPartitions(Long numberOfDays, LocalDate businessDate, boolean isCatchUp,
+            int partitionSize) {
+        MapSqlParameterSource parameters = getLoanCOBParameters(numberOfDays, businessDate);
+        StringBuilder costSql = new StringBuilder();
+        costSql.append("select count(id) as count, count(cob_processing_cost) as measured_count, ");
+        costSql.append("coalesce(sum(cob_processing_cost), 0) as measured_cost from m_loan where ");
+        appendLoanCOBCondition(costSql, isCatchUp);
+        LoanCOBCost cost = namedParameterJdbcTemplate.queryForObject(costSql.toString(), parameters,
+                (rs, rowNum) -> new LoanCOBCost(rs.getLong("count"), rs.getLong("measured_count"), rs.getLong("measured_cost")));
+        if (cost == null || cost.count() == 0) {
+            return List.of();
+        }
+        long defaultCost = cost.measuredCount() == 0 ? 1L : Math.max(1L, cost.measuredCost() / cost.measuredCount());
+        long totalCost = cost.measuredCost() + (cost.count() - cost.measuredCount()) * defaultCost;
+        long numberOfPartitions = (cost.count() + partitionSize - 1) / partitionSize;
+        long numberOfSplitPages = numberOfPartitions * WORK_STEALING_SPLIT;
+        parameters.addValue("defaultCost", defaultCost);
+        parameters.addValue("partitionCost", Math.max(1L, (totalCost + numberOfSplitPages - 1) / numberOfSplitPages));
+
+        StringBuilder sql = new StringBuilder();
+        sql.append("select min(id) as min, max(id) as max, page, count(id) as count from ");
+        sql.append("  (select floor((sum(cost) over(order by id) - cost) / :partitionCost) as page, t.id from ");
+        sql.append("      (select id, coalesce(cob_processing_cost, :defaultCost) as cost from m_loan where ");
+        appendLoanCOBCondition(sql, isCatchUp);
+        sql.append(") t) t2 ");
+        sql.append("group by page ");
+        sql.append("order by page");
+        List<LoanCOBPartition> splitPages = namedParameterJdbcTemplate.query(sql.toString(), parameters,
+                RetrieveAllNonClosedLoanIdServiceImpl::mapRow);
+        long workStealingPartitions = Math.max(1L, numberOfPartitions / 4);
+        return mergeSplitPages(splitPages, (numberOfPartitions - workStealingPartitions) * WORK_STEALING_SPLIT);
+    }
+
+    /**
+     * Merges the split pages before {@code firstWorkStealingPage} back into full sized partitions and numbers the
+     * result consecutively. A single loan costing more than a page leaves gaps between the page numbers.
+     */
+    private static List<LoanCOBPartition> mergeSplitPages(List<LoanCOBPartition> splitPages, long firstWorkStealingPage) {
+        List<LoanCOBPartition> partitions = new ArrayList<>();
+        LoanCOBPartition current = null;
+        long currentGroup = -1;
+        for (LoanCOBPartition page : splitPages) {
+            long group = page.getPageNo() < firstWorkStealingPage ? page.getPageNo() / WORK_STEALING_SPLIT : page.getPageNo();
+            if (current != null && group == currentGroup && page.getPageNo() < firstWorkStealingPage) {
+                current.setMaxId(page.getMaxId());
+                current.setCount(current.getCount() + page.getCount());
+                continue;
+            }
+            current = new LoanCOBPartition(page.getMinId(), page.getMaxId(), (long) partitions.size(), page.getCount());
+            currentGroup = group;
+            partitions.add(current);
+        }
+        return partitions;
+    }
+
+    private static void appendLoanCOBCondition(StringBuilder sql, boolean isCatchUp) {
+        sql.append("loan_status_id in (:statusIds) and ");
         if (isCatchUp) {
             sql.append("last_closed_business_date = :businessDate ");
         } else {
             sql.append("(last_closed_business_date = :businessDate or last_closed_business_date is null) ");
         }
-        sql.append("order by id) t) t2 ");
-        sql.append("group by page ");
-        sql.append("order by page");
+    }
 
+    private static MapSqlParameterSource getLoanCOBParameters(Long numberOfDays, LocalDate businessDate) {
         MapSqlParameterSource parameters = new MapSqlParameterSource();
-        parameters.addValue("pageSize", partitionSize);
         parameters.addValue("statusIds", List.of(100, 200, 300, 303, 304));
         parameters.addValue("businessDate", businessDate.minusDays(numberOfDays));
-        return namedParameterJdbcTemplate.query(sql.toString(), parameters, RetrieveAllNonClosedLoanIdServiceImpl::mapRow);
+        return parameters;
+    }
+
+    private record LoanCOBCost(long count, long measuredCount, long measuredCost) {
     }
 
     private static LoanCOBPartition mapRow(ResultSet rs, int rowNum) throws SQLException {
@@ -85,6 +163,11 @@ public class RetrieveAllNonClosedLoanIdServiceImpl implements RetrieveLoanIdServ
         return loanRepository.findAllLoansBehindOrNullByLoanIdsAndStatuses(businessDate, loanIds, NON_CLOSED_LOAN_STATUSES);
     }
 
+    @Override
+    public List<LoanIdAndLastClosedBusinessDate> retrieveLastClosedBusinessDates(List<Long> loanIds) {
+        return loanRepository.findAllLoansByLoanIdsAndStatuses(loanIds, NON_CLOSED_LOAN_STATUSES);
+    }
+
     @Override
     public List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsOldestCobProcessed(LocalDate businessDate) {
         return loanRepository.findOldestCOBProcessedLoan(businessDate, NON_CLOSED_LOAN_STATUSES);
@@ -30,10 +30,20 @@ public interface RetrieveLoanIdService {
 
     List<LoanCOBPartition> retrieveLoanCOBPartitions(Long numberOfDays, LocalDate businessDate, boolean isCatchUp, int partitionSize);
 
+    /**
+     * Same as {@link #retrieveLoanCOBPartitions(Long, LocalDate, boolean, int)}, but the id ranges are cut by the
+     * measured COB processing cost of the loans instead of their count. The number of partitions is kept at
+     * {@code count / partitionSize}, loans without measured cost are treated as average ones.
+     */
+    List<LoanCOBPartition> retrieveCostBalancedLoanCOBPartitions(Long numberOfDays, LocalDate businessDate, boolean isCatchUp,
+            int partitionSize);
+
     List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindDate(LocalDate businessDate, List<Long> loanIds);
 
     List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsBehindDateOrNull(LocalDate businessDate, List<Long> loanIds);
 
+    List<LoanIdAndLastClosedBusinessDate> retrieveLastClosedBusinessDates(List<Long> loanIds);
+
     List<LoanIdAndLastClosedBusinessDate> retrieveLoanIdsOldestCobProcessed(LocalDate businessDate);
 
     List<Long> retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(LoanCOBParameter loanCOBParameter, boolean isCatchUp);
@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountCharge;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PayDueSavingsChargesBusinessStep implements SavingsCOBBusinessStep {
+
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Override
+    public SavingsAccount execute(SavingsAccount savingsAccount) {
+        LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        // same selection as the Pay Due Savings Charges job: active, unpaid and not waived charges already due
+        List<Long> dueChargeIds = savingsAccount.charges().stream().filter(charge -> charge.getDueDate() != null
+                && !DateUtils.isAfter(charge.getDueDate(), businessDate) && !charge.isWaived() && !charge.isPaid() && charge.isActive())
+                .map(SavingsAccountCharge::getId).toList();
+        if (!dueChargeIds.isEmpty()) {
+            savingsAccountWritePlatformService.applyChargesDue(savingsAccount.getId(), dueChargeIds);
+        }
+        return savingsAccount;
+    }
+
+    @Override
+    public String getEnumStyledName() {
+        return "PAY_DUE_SAVINGS_CHARGES";
+    }
+
+    @Override
+    public String getHumanReadableName() {
+        return "Pay due savings charges";
+    }
+}
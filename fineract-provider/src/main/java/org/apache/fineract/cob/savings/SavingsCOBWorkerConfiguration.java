@@ -0,0 +1,170 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.cob.common.InitialisationTasklet;
+import org.apache.fineract.cob.common.ResetContextTasklet;
+import org.apache.fineract.cob.conditions.BatchWorkerCondition;
+import org.apache.fineract.cob.listener.ChunkProcessingSavingsItemListener;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepository;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.partition.RemotePartitioningWorkerStepBuilderFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@Conditional(BatchWorkerCondition.class)
+public class SavingsCOBWorkerConfiguration {
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RemotePartitioningWorkerStepBuilderFactory stepBuilderFactory;
+
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private SavingsAccountRepository savingsAccountRepository;
+    @Autowired
+    private SavingsAccountAssembler savingsAccountAssembler;
+    @Autowired
+    private QueueChannel inboundRequests;
+    @Autowired
+    private COBBusinessStepService cobBusinessStepService;
+    @Autowired
+    private AppUserRepositoryWrapper userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private RetrieveSavingsIdService retrieveSavingsIdService;
+
+    @Autowired
+    private FineractProperties fineractProperties;
+    @Autowired
+    private SavingsLockingService savingsLockingService;
+
+    @Bean(name = SavingsCOBConstant.SAVINGS_COB_WORKER_STEP)
+    public Step savingsCOBWorkerStep() {
+        return stepBuilderFactory.get("Savings COB worker - Step").inputChannel(inboundRequests).flow(savingsCOBFlow()).build();
+    }
+
+    @Bean
+    public Flow savingsCOBFlow() {
+        return new FlowBuilder<Flow>("savingsCobFlow").start(savingsCOBInitialisationStep(null)).next(savingsCOBApplyLockStep(null))
+                .next(savingsBusinessStep(null)).next(savingsCOBResetContextStep(null)).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step savingsCOBInitialisationStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Savings COB initialisation - Step:" + partitionName, jobRepository)
+                .tasklet(savingsCOBInitialiseContext(), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step savingsBusinessStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Savings Business - Step:" + partitionName, jobRepository)
+                .<SavingsAccount, SavingsAccount>chunk(propertyService.getChunkSize(SavingsCOBConstant.JOB_NAME), transactionManager) //
+                .reader(savingsCOBWorkerItemReader()) //
+                .processor(savingsCOBWorkerItemProcessor()) //
+                .writer(savingsCOBWorkerItemWriter()) //
+                .faultTolerant() //
+                .retry(Exception.class) //
+                .retryLimit(propertyService.getRetryLimit(SavingsCOBConstant.JOB_NAME)) //
+                .skip(Exception.class) //
+                .skipLimit(propertyService.getChunkSize(SavingsCOBConstant.JOB_NAME) + 1) //
+                .listener(savingsItemListener()) //
+                .transactionManager(transactionManager) //
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Step savingsCOBApplyLockStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Savings COB apply lock - Step:" + partitionName, jobRepository)
+                .tasklet(savingsCOBApplyLock(), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step savingsCOBResetContextStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Savings COB reset context - Step:" + partitionName, jobRepository)
+                .tasklet(savingsCOBResetContext(), transactionManager).build();
+    }
+
+    @Bean
+    public InitialisationTasklet savingsCOBInitialiseContext() {
+        return new InitialisationTasklet(userRepository);
+    }
+
+    @Bean
+    public ChunkProcessingSavingsItemListener savingsItemListener() {
+        return new ChunkProcessingSavingsItemListener(savingsLockingService, transactionTemplate);
+    }
+
+    @Bean
+    public ApplySavingsLockTasklet savingsCOBApplyLock() {
+        return new ApplySavingsLockTasklet(fineractProperties, savingsLockingService, retrieveSavingsIdService, transactionTemplate);
+    }
+
+    @Bean
+    public ResetContextTasklet savingsCOBResetContext() {
+        return new ResetContextTasklet();
+    }
+
+    @Bean
+    @StepScope
+    public SavingsItemReader savingsCOBWorkerItemReader() {
+        return new SavingsItemReader(savingsAccountAssembler, retrieveSavingsIdService, savingsLockingService);
+    }
+
+    @Bean
+    @StepScope
+    public SavingsItemProcessor savingsCOBWorkerItemProcessor() {
+        return new SavingsItemProcessor(cobBusinessStepService);
+    }
+
+    @Bean
+    @StepScope
+    public SavingsItemWriter savingsCOBWorkerItemWriter() {
+        SavingsItemWriter repositoryItemWriter = new SavingsItemWriter(savingsLockingService);
+        repositoryItemWriter.setRepository(savingsAccountRepository);
+        return repositoryItemWriter;
+    }
+}
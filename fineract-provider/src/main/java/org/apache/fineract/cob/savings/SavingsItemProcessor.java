@@ -0,0 +1,78 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.COBBusinessStepService;
+import org.apache.fineract.cob.data.BusinessStepNameAndOrder;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemProcessor;
+
+@Slf4j
+@RequiredArgsConstructor
+public class SavingsItemProcessor implements ItemProcessor<SavingsAccount, SavingsAccount> {
+
+    private final COBBusinessStepService cobBusinessStepService;
+
+    private ExecutionContext executionContext;
+    private LocalDate businessDate;
+
+    @BeforeStep
+    public void beforeStep(@NotNull StepExecution stepExecution) {
+        this.executionContext = stepExecution.getExecutionContext();
+        String businessDateParameter = (String) stepExecution.getJobExecution().getExecutionContext()
+                .get(SavingsCOBConstant.BUSINESS_DATE_PARAMETER_NAME);
+        this.businessDate = LocalDate.parse(Objects.requireNonNull(businessDateParameter), DateTimeFormatter.ISO_DATE);
+    }
+
+    @SuppressWarnings({ "unchecked" })
+    @Override
+    public SavingsAccount process(@NotNull SavingsAccount item) throws Exception {
+        Set<BusinessStepNameAndOrder> businessSteps = (Set<BusinessStepNameAndOrder>) executionContext
+                .get(SavingsCOBConstant.BUSINESS_STEPS);
+        if (businessSteps == null) {
+            throw new IllegalStateException("No business steps found in the execution context");
+        }
+        Map<Long, String> businessStepMap = businessSteps.stream()
+                .collect(Collectors.toMap(BusinessStepNameAndOrder::getStepOrder, BusinessStepNameAndOrder::getStepName));
+
+        SavingsAccount alreadyProcessedAccount = cobBusinessStepService.run(new TreeMap<>(businessStepMap), item);
+        alreadyProcessedAccount.setLastClosedBusinessDate(businessDate);
+        return alreadyProcessedAccount;
+    }
+
+    @AfterStep
+    public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        return ExitStatus.COMPLETED;
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.domain.SavingsAccountLock;
+import org.apache.fineract.cob.domain.SavingsAccountLockRepository;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+@Slf4j
+public class SavingsLockingServiceImpl implements SavingsLockingService {
+
+    private static final String BATCH_SAVINGS_LOCK_INSERT = """
+                INSERT INTO m_savings_account_locks (savings_account_id, version, lock_owner, lock_placed_on,
+                    lock_placed_on_cob_business_date) VALUES (?,?,?,?,?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SavingsAccountLockRepository savingsAccountLockRepository;
+
+    @Override
+    public void applyLock(List<Long> savingsIds, LockOwner lockOwner) {
+        LocalDate cobBusinessDate = ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
+        jdbcTemplate.batchUpdate(BATCH_SAVINGS_LOCK_INSERT, savingsIds, savingsIds.size(), (PreparedStatement ps, Long savingsId) -> {
+            ps.setLong(1, savingsId);
+            ps.setLong(2, 1);
+            ps.setString(3, lockOwner.name());
+            ps.setObject(4, DateUtils.getAuditOffsetDateTime());
+            ps.setObject(5, cobBusinessDate);
+        });
+    }
+
+    @Override
+    public void deleteBySavingsIdInAndLockOwner(List<Long> savingsIds, LockOwner lockOwner) {
+        savingsAccountLockRepository.deleteBySavingsAccountIdInAndLockOwner(savingsIds, lockOwner);
+    }
+
+    @Override
+    public List<SavingsAccountLock> findAllBySavingsIdIn(List<Long> savingsIds) {
+        return savingsAccountLockRepository.findAllBySavingsAccountIdIn(savingsIds);
+    }
+
+    @Override
+    public List<SavingsAccountLock> findAllBySavingsIdInAndLockOwner(List<Long> savingsIds, LockOwner lockOwner) {
+        return savingsAccountLockRepository.findAllBySavingsAccountIdInAndLockOwner(savingsIds, lockOwner);
+    }
+
+    @Override
+    public SavingsAccountLock findBySavingsIdAndLockOwner(Long savingsId, LockOwner lockOwner) {
+        return savingsAccountLockRepository.findBySavingsAccountIdAndLockOwner(savingsId, lockOwner).orElseGet(() -> {
+            log.warn("There is no lock for savings account with id: {}", savingsId);
+            return null;
+        });
+    }
+}
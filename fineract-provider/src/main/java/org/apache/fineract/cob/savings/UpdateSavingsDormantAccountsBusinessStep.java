@@ -0,0 +1,84 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountSubStatusEnum;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransaction;
+import org.apache.fineract.portfolio.savings.domain.SavingsProduct;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UpdateSavingsDormantAccountsBusinessStep implements SavingsCOBBusinessStep {
+
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+
+    @Override
+    public SavingsAccount execute(SavingsAccount savingsAccount) {
+        SavingsProduct product = savingsAccount.savingsProduct();
+        if (!product.isDormancyTrackingActive()) {
+            return savingsAccount;
+        }
+        long daysSinceLastActivity = DateUtils.getDifferenceInDays(getLastActivityDate(savingsAccount), DateUtils.getBusinessLocalDate());
+        // the checks are evaluated one after the other, like the Update Savings Dormant Accounts job does
+        if (isSubStatus(savingsAccount, SavingsAccountSubStatusEnum.NONE)
+                && isReached(daysSinceLastActivity, product.getDaysToInactive())) {
+            savingsAccountWritePlatformService.setSubStatusInactive(savingsAccount.getId());
+        }
+        if (isSubStatus(savingsAccount, SavingsAccountSubStatusEnum.INACTIVE)
+                && isReached(daysSinceLastActivity, product.getDaysToDormancy())) {
+            savingsAccountWritePlatformService.setSubStatusDormant(savingsAccount.getId());
+        }
+        if (isSubStatus(savingsAccount, SavingsAccountSubStatusEnum.DORMANT)
+                && isReached(daysSinceLastActivity, product.getDaysToEscheat())) {
+            savingsAccountWritePlatformService.escheat(savingsAccount.getId());
+        }
+        return savingsAccount;
+    }
+
+    private LocalDate getLastActivityDate(SavingsAccount savingsAccount) {
+        return savingsAccount.getTransactions().stream()
+                .filter(transaction -> !transaction.isReversed() && !transaction.isReversalTransaction()
+                        && (transaction.isDeposit() || transaction.isWithdrawal()))
+                .map(SavingsAccountTransaction::getTransactionDate).max(LocalDate::compareTo).orElse(savingsAccount.getActivationDate());
+    }
+
+    private boolean isSubStatus(SavingsAccount savingsAccount, SavingsAccountSubStatusEnum subStatus) {
+        return subStatus.getValue().equals(savingsAccount.getSubStatus());
+    }
+
+    private boolean isReached(long daysSinceLastActivity, Long threshold) {
+        return threshold != null && daysSinceLastActivity >= threshold;
+    }
+
+    @Override
+    public String getEnumStyledName() {
+        return "UPDATE_SAVINGS_DORMANT_ACCOUNTS";
+    }
+
+    @Override
+    public String getHumanReadableName() {
+        return "Update savings dormant accounts";
+    }
+}
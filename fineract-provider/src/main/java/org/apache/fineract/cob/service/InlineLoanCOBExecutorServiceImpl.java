@@ -86,6 +86,8 @@ import org.springframework.transaction.support.TransactionTemplate;
 public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<Long> {
 
     private static final String JOB_EXECUTION_FAILED_MESSAGE = "Job execution failed for job with name: ";
+    private static final String PENDING_LOAN_IDS = "pendingLoanIds";
+    private static final long NO_DEADLINE = 0L;
     private final LoanAccountLockRepository loanAccountLockRepository;
     private final InlineLoanCOBExecutionDataParser dataParser;
     private final JobLauncher jobLauncher;
@@ -96,6 +98,7 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
     private final PlatformSecurityContext context;
     private final RetrieveLoanIdService retrieveLoanIdService;
     private final FineractProperties fineractProperties;
+    private final LoanCOBStateIndex loanCOBStateIndex;
 
     private final Gson gson = GoogleGsonSerializerHelper.createSimpleGson();
 
@@ -104,21 +107,55 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
     public CommandProcessingResult executeInlineJob(JsonCommand command, String jobName) throws LoanAccountLockCannotBeOverruledException {
         List<Long> loanIds = dataParser.parseExecution(command);
         validateLoanIdsListSize(loanIds);
-        execute(loanIds, jobName);
-        return new CommandProcessingResultBuilder().withCommandId(command.commandId()).build();
+        long timeBudgetMillis = fineractProperties.getJob().getInlineLoanCobTimeBudgetMillis();
+        CommandProcessingResultBuilder resultBuilder = new CommandProcessingResultBuilder().withCommandId(command.commandId());
+        if (timeBudgetMillis > 0) {
+            List<Long> pendingLoanIds = execute(loanIds, jobName, System.currentTimeMillis() + timeBudgetMillis);
+            if (!pendingLoanIds.isEmpty()) {
+                Map<String, Object> changes = new HashMap<>();
+                changes.put(PENDING_LOAN_IDS, pendingLoanIds);
+                resultBuilder.with(changes);
+            }
+        } else {
+            execute(loanIds, jobName);
+        }
+        return resultBuilder.build();
     }
 
     @Override
     public void execute(List<Long> loanIds, String jobName) {
+        execute(loanIds, jobName, NO_DEADLINE);
+    }
+
+    /**
+     * Brings the given loans up to the COB date. With a deadline (epoch millis) no further loan is picked up once it has
+     * passed: the loans which are still behind are unlocked and returned as pending, they can be caught up by a later call.
+     */
+    private List<Long> execute(List<Long> loanIds, String jobName, long deadline) {
         LocalDate cobBusinessDate = ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE);
         List<LoanIdAndLastClosedBusinessDate> loansToBeProcessed = getLoansToBeProcessed(loanIds, cobBusinessDate);
+        if (loansToBeProcessed.isEmpty()) {
+            return List.of();
+        }
         LocalDate executingBusinessDate = getOldestCOBBusinessDate(loansToBeProcessed).plusDays(1);
-        if (!loansToBeProcessed.isEmpty()) {
-            while (!DateUtils.isAfter(executingBusinessDate, cobBusinessDate)) {
-                execute(getLoanIdsToBeProcessed(loansToBeProcessed, executingBusinessDate), jobName, executingBusinessDate);
-                executingBusinessDate = executingBusinessDate.plusDays(1);
-            }
+        while (!DateUtils.isAfter(executingBusinessDate, cobBusinessDate) && !isDeadlinePassed(deadline)) {
+            execute(getLoanIdsToBeProcessed(loansToBeProcessed, executingBusinessDate), jobName, executingBusinessDate, deadline);
+            executingBusinessDate = executingBusinessDate.plusDays(1);
+        }
+        if (deadline == NO_DEADLINE) {
+            return List.of();
         }
+        List<Long> pendingLoanIds = getLoansToBeProcessed(loanIds, cobBusinessDate).stream().map(LoanIdAndLastClosedBusinessDate::getId)
+                .toList();
+        if (!pendingLoanIds.isEmpty()) {
+            log.info("Inline COB ran out of its time budget, loans still pending: {}", pendingLoanIds);
+            unlockLoanAccounts(pendingLoanIds);
+        }
+        return pendingLoanIds;
+    }
+
+    private static boolean isDeadlinePassed(long deadline) {
+        return deadline != NO_DEADLINE && System.currentTimeMillis() >= deadline;
     }
 
     private List<Long> getLoanIdsToBeProcessed(List<LoanIdAndLastClosedBusinessDate> loansToBeProcessed, LocalDate executingBusinessDate) {
@@ -136,7 +173,7 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
     }
 
     @SuppressFBWarnings("SLF4J_SIGN_ONLY_FORMAT")
-    private void execute(List<Long> loanIds, String jobName, LocalDate businessDate) {
+    private void execute(List<Long> loanIds, String jobName, LocalDate businessDate, long deadline) {
         lockLoanAccounts(loanIds, businessDate);
         Job inlineLoanCOBJob;
         try {
@@ -145,7 +182,7 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
             throw new JobNotFoundException(jobName, e);
         }
         JobParameters jobParameters = new JobParametersBuilder(jobExplorer).getNextJobParameters(inlineLoanCOBJob)
-                .addJobParameters(new JobParameters(getJobParametersMap(loanIds, businessDate))).toJobParameters();
+                .addJobParameters(new JobParameters(getJobParametersMap(loanIds, businessDate, deadline))).toJobParameters();
         JobExecution jobExecution;
         try {
             jobExecution = jobLauncher.run(inlineLoanCOBJob, jobParameters);
@@ -200,7 +237,7 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
         return loanAccountLocks;
     }
 
-    private Map<String, JobParameter<?>> getJobParametersMap(List<Long> loanIds, LocalDate businessDate) {
+    private Map<String, JobParameter<?>> getJobParametersMap(List<Long> loanIds, LocalDate businessDate, long deadline) {
         // TODO: refactor for a more generic solution
         String parameterJson = gson.toJson(loanIds);
         JobParameterDTO loanIdsParameterDTO = new JobParameterDTO(LoanCOBConstant.LOAN_IDS_PARAMETER_NAME, parameterJson);
@@ -213,6 +250,8 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
         Map<String, JobParameter<?>> jobParameterMap = new HashMap<>();
         jobParameterMap.put(SpringBatchJobConstants.CUSTOM_JOB_PARAMETER_ID_KEY, new JobParameter<>(loanIdsJobParameterId, Long.class));
         jobParameterMap.put(LoanCOBConstant.BUSINESS_DATE_PARAMETER_NAME, new JobParameter<>(businessDateJobParameterId, Long.class));
+        // always set (and not identifying), so that the deadline of a previous run is never carried over
+        jobParameterMap.put(LoanCOBConstant.INLINE_LOAN_COB_DEADLINE_PARAMETER_NAME, new JobParameter<>(deadline, Long.class, false));
         return jobParameterMap;
     }
 
@@ -233,6 +272,19 @@ public class InlineLoanCOBExecutorServiceImpl implements InlineExecutorService<L
                                 "Error updating lock on loan account. Locked loan ID: %s".formatted(loanAccountLock.getLoanId()), e);
                     }
                 });
+                loanCOBStateIndex.invalidate(loanIds);
+            }
+        });
+    }
+
+    private void unlockLoanAccounts(List<Long> loanIds) {
+        transactionTemplate.setPropagationBehavior(PROPAGATION_REQUIRES_NEW);
+        transactionTemplate.execute(new TransactionCallbackWithoutResult() {
+
+            @Override
+            protected void doInTransactionWithoutResult(@NotNull TransactionStatus status) {
+                loanAccountLockRepository.deleteByLoanIdInAndLockOwner(loanIds, LockOwner.LOAN_INLINE_COB_PROCESSING);
+                loanCOBStateIndex.invalidate(loanIds);
             }
         });
     }
@@ -35,6 +35,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class LoanAccountLockServiceImpl implements LoanAccountLockService {
 
     private final LoanAccountLockRepository loanAccountLockRepository;
+    private final LoanCOBStateIndex loanCOBStateIndex;
 
     @Override
     public List<LoanAccountLock> getLockedLoanAccountByPage(int page, int limit) {
@@ -60,6 +61,7 @@ public class LoanAccountLockServiceImpl implements LoanAccountLockService {
     public void updateCobAndRemoveLocks() {
         loanAccountLockRepository.updateLoanFromAccountLocks();
         loanAccountLockRepository.removeLockByOwner();
+        loanCOBStateIndex.invalidateAll();
     }
 
 }
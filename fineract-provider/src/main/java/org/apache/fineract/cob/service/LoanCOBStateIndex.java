@@ -0,0 +1,324 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import com.google.common.collect.Lists;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
+import org.apache.fineract.cob.domain.LoanAccountLock;
+import org.apache.fineract.cob.domain.LoanAccountLockRepository;
+import org.apache.fineract.cob.loan.RetrieveLoanIdService;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationMessage;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractLoanCobFilterIndexProperties;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Per-node index of the loan account locks and of the last closed business dates, consulted by the loan COB API filter
+ * so that the common case (the loan is neither locked nor behind) is answered without a database round trip.
+ * <p>
+ * Lock states are cached for a limited time and are invalidated whenever a lock is placed, upgraded, marked as failed or
+ * released: locally once the change is committed, on the other nodes through the {@link CacheInvalidationChannel}. The
+ * index therefore refuses to start without a distributed channel.
+ * <p>
+ * Last closed business dates only move forward, so a cached date is a lower bound: a loan whose cached date is not before
+ * the COB date is not behind, anything else is checked against the database. The fast-forward of the internal COB API
+ * is the only backward move and invalidates the loan explicitly.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanCOBStateIndex implements InitializingBean {
+
+    private static final String CACHE_NAME_PREFIX = "loanCOBState:";
+    private static final String KEY_SEPARATOR = ",";
+    private static final int MAX_KEYS_PER_MESSAGE = 500;
+
+    private final FineractProperties fineractProperties;
+    private final CacheInvalidationChannel invalidationChannel;
+    private final LoanAccountLockRepository loanAccountLockRepository;
+    private final RetrieveLoanIdService retrieveLoanIdService;
+
+    private final Map<String, TenantIndex> tenantIndexes = new ConcurrentHashMap<>();
+    // generated per instance, the configured node id is shared by the replicas of a deployment
+    private final String originId = UUID.randomUUID().toString();
+    private boolean enabled;
+    private long lockTtlNanos;
+    private int maxEntries;
+
+    @Override
+    public void afterPropertiesSet() {
+        FineractLoanCobFilterIndexProperties properties = fineractProperties.getLoan().getCobFilterIndex();
+        enabled = properties != null && properties.isEnabled();
+        if (enabled) {
+            if (!invalidationChannel.isDistributed()) {
+                // an unlocked state cached here would let API writes through while another node holds the lock
+                throw new IllegalStateException("fineract.loan.cob-filter-index.enabled requires a distributed cache invalidation "
+                        + "channel, configure one or disable the index");
+            }
+            lockTtlNanos = TimeUnit.SECONDS.toNanos(properties.getLockTtlSeconds());
+            maxEntries = properties.getMaxEntries();
+            invalidationChannel.subscribe(this::onInvalidation);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the lock state of every given loan, loading the ones which are not indexed with a single query.
+     */
+    public Map<Long, LockState> getLockStates(List<Long> loanIds) {
+        TenantIndex index = getTenantIndex();
+        long now = System.nanoTime();
+        Map<Long, LockState> states = new HashMap<>();
+        List<Long> missingLoanIds = new ArrayList<>();
+        for (Long loanId : loanIds) {
+            LockEntry entry = index.locks.get(loanId);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                states.put(loanId, entry.state());
+            } else {
+                missingLoanIds.add(loanId);
+            }
+        }
+        if (!missingLoanIds.isEmpty()) {
+            long generation = index.generation.get();
+            Map<Long, LockState> loadedStates = new HashMap<>();
+            missingLoanIds.forEach(loanId -> loadedStates.put(loanId, LockState.UNLOCKED));
+            Lists.partition(missingLoanIds, getInClauseParameterSizeLimit()).forEach(partition -> loanAccountLockRepository
+                    .findAllByLoanIdIn(partition).forEach(lock -> loadedStates.put(lock.getLoanId(), LockState.of(lock))));
+            if (enabled) {
+                index.putLocks(loadedStates, generation, now + lockTtlNanos, maxEntries);
+            }
+            states.putAll(loadedStates);
+        }
+        return states;
+    }
+
+    /**
+     * Whether any of the given loans was not closed on the COB date yet. Only the loans whose indexed last closed business
+     * date is before the COB date (or unknown) are checked against the database.
+     */
+    public boolean isAnyLoanBehind(List<Long> loanIds, LocalDate cobBusinessDate) {
+        TenantIndex index = getTenantIndex();
+        List<Long> unresolvedLoanIds = loanIds.stream().filter(loanId -> {
+            LocalDate lastClosedBusinessDate = index.lastClosedBusinessDates.get(loanId);
+            return lastClosedBusinessDate == null || DateUtils.isBefore(lastClosedBusinessDate, cobBusinessDate);
+        }).toList();
+        if (unresolvedLoanIds.isEmpty()) {
+            return false;
+        }
+        long generation = index.generation.get();
+        boolean behind = false;
+        Map<Long, LocalDate> loadedDates = new HashMap<>();
+        for (List<Long> partition : Lists.partition(unresolvedLoanIds, getInClauseParameterSizeLimit())) {
+            for (LoanIdAndLastClosedBusinessDate loan : retrieveLoanIdService.retrieveLastClosedBusinessDates(partition)) {
+                LocalDate lastClosedBusinessDate = loan.getLastClosedBusinessDate();
+                if (lastClosedBusinessDate != null) {
+                    loadedDates.put(loan.getId(), lastClosedBusinessDate);
+                    behind |= DateUtils.isBefore(lastClosedBusinessDate, cobBusinessDate);
+                }
+            }
+        }
+        if (enabled) {
+            index.putLastClosedBusinessDates(loadedDates, generation, maxEntries);
+        }
+        return behind;
+    }
+
+    /**
+     * Invalidates the given loans once the current transaction commits, on every node.
+     */
+    public void invalidate(Collection<Long> loanIds) {
+        if (!enabled || loanIds.isEmpty()) {
+            return;
+        }
+        String tenantIdentifier = getTenantIdentifier();
+        List<Long> invalidatedLoanIds = List.copyOf(loanIds);
+        afterCommit(() -> {
+            if (invalidatedLoanIds.size() > MAX_KEYS_PER_MESSAGE) {
+                getTenantIndex(tenantIdentifier).clear();
+                publish(tenantIdentifier, null);
+            } else {
+                getTenantIndex(tenantIdentifier).evict(invalidatedLoanIds);
+                publish(tenantIdentifier, invalidatedLoanIds.stream().map(String::valueOf).collect(Collectors.joining(KEY_SEPARATOR)));
+            }
+        });
+    }
+
+    /**
+     * Invalidates every loan of the current tenant once the current transaction commits, on every node.
+     */
+    public void invalidateAll() {
+        if (!enabled) {
+            return;
+        }
+        String tenantIdentifier = getTenantIdentifier();
+        afterCommit(() -> {
+            getTenantIndex(tenantIdentifier).clear();
+            publish(tenantIdentifier, null);
+        });
+    }
+
+    /**
+     * Records the last closed business date of the loans processed by COB once the current transaction commits. The other
+     * nodes keep their (older) lower bounds and catch up on their next lookup.
+     */
+    public void recordClosed(Map<Long, LocalDate> lastClosedBusinessDates) {
+        if (!enabled || lastClosedBusinessDates.isEmpty()) {
+            return;
+        }
+        String tenantIdentifier = getTenantIdentifier();
+        Map<Long, LocalDate> closedLoans = Map.copyOf(lastClosedBusinessDates);
+        afterCommit(() -> getTenantIndex(tenantIdentifier).mergeLastClosedBusinessDates(closedLoans, maxEntries));
+    }
+
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (Objects.equals(originId, message.originId()) || message.cacheName() == null
+                || !message.cacheName().startsWith(CACHE_NAME_PREFIX)) {
+            return;
+        }
+        TenantIndex index = tenantIndexes.get(message.cacheName().substring(CACHE_NAME_PREFIX.length()));
+        if (index == null) {
+            return;
+        }
+        if (message.isClear()) {
+            index.clear();
+        } else {
+            index.evict(Arrays.stream(message.key().split(KEY_SEPARATOR)).map(Long::valueOf).toList());
+        }
+    }
+
+    private void publish(String tenantIdentifier, String key) {
+        invalidationChannel.publish(new CacheInvalidationMessage(originId, CACHE_NAME_PREFIX + tenantIdentifier, key));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private TenantIndex getTenantIndex() {
+        return getTenantIndex(getTenantIdentifier());
+    }
+
+    private TenantIndex getTenantIndex(String tenantIdentifier) {
+        return tenantIndexes.computeIfAbsent(tenantIdentifier, key -> new TenantIndex());
+    }
+
+    private String getTenantIdentifier() {
+        return ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+    }
+
+    private int getInClauseParameterSizeLimit() {
+        return fineractProperties.getQuery().getInClauseParameterSizeLimit();
+    }
+
+    public enum LockState {
+
+        UNLOCKED, HARD_LOCKED, OVERRULABLE;
+
+        static LockState of(LoanAccountLock lock) {
+            return lock.getError() != null ? OVERRULABLE : HARD_LOCKED;
+        }
+
+        public boolean isHardLocked() {
+            return this != UNLOCKED;
+        }
+    }
+
+    private record LockEntry(LockState state, long expiresAt) {
+    }
+
+    private static final class TenantIndex {
+
+        private final Map<Long, LockEntry> locks = new ConcurrentHashMap<>();
+        private final Map<Long, LocalDate> lastClosedBusinessDates = new ConcurrentHashMap<>();
+        // bumped on every invalidation, a load which raced with an invalidation is not indexed
+        private final AtomicLong generation = new AtomicLong();
+
+        private void putLocks(Map<Long, LockState> states, long loadedGeneration, long expiresAt, int maxEntries) {
+            if (generation.get() != loadedGeneration) {
+                return;
+            }
+            if (locks.size() + states.size() > maxEntries) {
+                locks.clear();
+            }
+            states.forEach((loanId, state) -> locks.put(loanId, new LockEntry(state, expiresAt)));
+        }
+
+        private void putLastClosedBusinessDates(Map<Long, LocalDate> dates, long loadedGeneration, int maxEntries) {
+            if (generation.get() == loadedGeneration) {
+                mergeLastClosedBusinessDates(dates, maxEntries);
+            }
+        }
+
+        private void mergeLastClosedBusinessDates(Map<Long, LocalDate> dates, int maxEntries) {
+            if (lastClosedBusinessDates.size() + dates.size() > maxEntries) {
+                lastClosedBusinessDates.clear();
+            }
+            dates.forEach((loanId, date) -> lastClosedBusinessDates.merge(loanId, date,
+                    (current, candidate) -> DateUtils.isAfter(candidate, current) ? candidate : current));
+        }
+
+        private void evict(Collection<Long> loanIds) {
+            generation.incrementAndGet();
+            loanIds.forEach(loanId -> {
+                locks.remove(loanId);
+                lastClosedBusinessDates.remove(loanId);
+            });
+        }
+
+        private void clear() {
+            generation.incrementAndGet();
+            locks.clear();
+            lastClosedBusinessDates.clear();
+        }
+    }
+}
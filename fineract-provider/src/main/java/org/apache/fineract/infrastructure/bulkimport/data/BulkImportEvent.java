@@ -32,10 +32,16 @@ public final class BulkImportEvent extends FineractEvent {
 
     private final String dateFormat;
 
-    private BulkImportEvent(final Object source, final Workbook workbook, final Long importId, final String locale, final String dateFormat,
-            FineractContext context) {
+    private final byte[] content;
+
+    private final ImportFormatType format;
+
+    private BulkImportEvent(final Object source, final Workbook workbook, final byte[] content, final ImportFormatType format,
+            final Long importId, final String locale, final String dateFormat, FineractContext context) {
         super(source, context);
         this.workbook = workbook;
+        this.content = content;
+        this.format = format;
         this.importId = importId;
         this.locale = locale;
         this.dateFormat = dateFormat;
@@ -43,7 +49,27 @@ public final class BulkImportEvent extends FineractEvent {
 
     public static BulkImportEvent instance(final Object source, final Workbook workbook, final Long importId, final String locale,
             final String dateFormat, FineractContext context) {
-        return new BulkImportEvent(source, workbook, importId, locale, dateFormat, context);
+        return new BulkImportEvent(source, workbook, null, ImportFormatType.XLS, importId, locale, dateFormat, context);
+    }
+
+    /**
+     * Import of a CSV or XLSX file which is streamed row by row instead of being loaded as a workbook.
+     */
+    public static BulkImportEvent streamingInstance(final Object source, final byte[] content, final ImportFormatType format,
+            final Long importId, final String locale, final String dateFormat, FineractContext context) {
+        return new BulkImportEvent(source, null, content, format, importId, locale, dateFormat, context);
+    }
+
+    public boolean isStreaming() {
+        return workbook == null;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public ImportFormatType getFormat() {
+        return format;
     }
 
     public Workbook getWorkbook() {
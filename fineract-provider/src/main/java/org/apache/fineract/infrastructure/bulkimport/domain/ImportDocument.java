@@ -101,6 +101,19 @@ public class ImportDocument extends AbstractPersistableCustom<Long> {
         this.failureCount = errorCount;
     }
 
+    public void update(final LocalDateTime endTime, final Integer totalRecords, final Integer successCount, final Integer errorCount) {
+        this.totalRecords = totalRecords;
+        update(endTime, successCount, errorCount);
+    }
+
+    /**
+     * Records the rows processed so far while the import is still running.
+     */
+    public void updateProgress(final Integer successCount, final Integer errorCount) {
+        this.successCount = successCount;
+        this.failureCount = errorCount;
+    }
+
     public Document getDocument() {
         return this.document;
     }
@@ -0,0 +1,163 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.loanrepayment;
+
+import com.google.common.base.Splitter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.service.CommandWrapperBuilder;
+import org.apache.fineract.infrastructure.bulkimport.constants.LoanRepaymentConstants;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.helper.DateSerializer;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.streaming.ImportCommand;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.streaming.ImportRow;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.streaming.StreamingImportHandler;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+import org.apache.fineract.infrastructure.core.serialization.GoogleGsonSerializerHelper;
+import org.apache.fineract.infrastructure.core.serialization.JsonParserHelper;
+import org.apache.fineract.portfolio.loanaccount.data.LoanTransactionData;
+import org.apache.fineract.portfolio.loanaccount.service.LoanReadPlatformService;
+import org.apache.fineract.portfolio.paymenttype.data.PaymentTypeData;
+import org.apache.fineract.portfolio.paymenttype.service.PaymentTypeReadPlatformService;
+import org.springframework.stereotype.Service;
+
+/**
+ * Streaming counterpart of {@link LoanRepaymentImportHandler} for CSV and XLSX files with the layout of the loan
+ * repayment template sheet. Payment types are resolved by name from the database instead of the template's extras
+ * sheet, repayments of the same loan are applied in file order.
+ */
+@Service
+@RequiredArgsConstructor
+public class LoanRepaymentStreamingImportHandler implements StreamingImportHandler {
+
+    private final LoanReadPlatformService loanReadPlatformService;
+    private final PaymentTypeReadPlatformService paymentTypeReadPlatformService;
+
+    @Override
+    public GlobalEntityType getEntityType() {
+        return GlobalEntityType.LOAN_TRANSACTIONS;
+    }
+
+    @Override
+    public String getSheetName() {
+        return TemplatePopulateImportConstants.LOAN_REPAYMENT_SHEET_NAME;
+    }
+
+    @Override
+    public int getStatusColumn() {
+        return LoanRepaymentConstants.STATUS_COL;
+    }
+
+    @Override
+    public boolean isDataRow(ImportRow row) {
+        return row.rowIndex() > TemplatePopulateImportConstants.ROWHEADER_INDEX && row.get(LoanRepaymentConstants.AMOUNT_COL) != null
+                && !TemplatePopulateImportConstants.STATUS_CELL_IMPORTED.equals(row.get(LoanRepaymentConstants.STATUS_COL));
+    }
+
+    @Override
+    public Function<ImportRow, ImportCommand> createRowParser(String locale, String dateFormat) {
+        final Map<String, Long> paymentTypeIds = paymentTypeReadPlatformService.retrieveAllPaymentTypes().stream()
+                .collect(Collectors.toMap(PaymentTypeData::getName, PaymentTypeData::getId, (first, second) -> first));
+        final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(dateFormat, JsonParserHelper.localeFromString(locale));
+        final GsonBuilder gsonBuilder = GoogleGsonSerializerHelper.createGsonBuilder();
+        gsonBuilder.registerTypeAdapter(LocalDate.class, new DateSerializer(dateFormat));
+        final Gson gson = gsonBuilder.create();
+
+        return row -> {
+            final String loanAccountInfo = row.get(LoanRepaymentConstants.LOAN_ACCOUNT_NO_COL);
+            if (loanAccountInfo == null) {
+                throw new GeneralPlatformDomainRuleException("error.msg.import.loan.account.missing", "Loan account number is missing.");
+            }
+            final String loanAccountNo = Splitter.on(LoanRepaymentImportHandler.SEPARATOR).splitToList(loanAccountInfo).get(0);
+            final Long loanAccountId = loanReadPlatformService.retrieveLoanIdByAccountNumber(loanAccountNo);
+            if (loanAccountId == null) {
+                throw new GeneralPlatformDomainRuleException("error.msg.import.loan.account.not.found",
+                        "Loan account " + loanAccountNo + " not found.", loanAccountNo);
+            }
+
+            final BigDecimal repaymentAmount = readAsDecimal(row, LoanRepaymentConstants.AMOUNT_COL);
+            final LocalDate repaymentDate = readAsDate(row, LoanRepaymentConstants.REPAID_ON_DATE_COL, dateFormatter);
+            final String repaymentType = row.get(LoanRepaymentConstants.REPAYMENT_TYPE_COL);
+            final Long repaymentTypeId = repaymentType == null ? null : paymentTypeIds.get(repaymentType);
+            final String accountNumber = row.get(LoanRepaymentConstants.ACCOUNT_NO_COL);
+            final Integer checkNumber = readAsInt(row, LoanRepaymentConstants.CHECK_NO_COL);
+            final Integer routingCode = readAsInt(row, LoanRepaymentConstants.ROUTING_CODE_COL);
+            final Integer receiptNumber = readAsInt(row, LoanRepaymentConstants.RECEIPT_NO_COL);
+            final Integer bankNumber = readAsInt(row, LoanRepaymentConstants.BANK_NO_COL);
+            final LoanTransactionData loanRepayment = LoanTransactionData.importInstance(repaymentAmount, repaymentDate, repaymentTypeId,
+                    accountNumber, checkNumber, routingCode, receiptNumber, bankNumber, loanAccountId, LoanRepaymentImportHandler.EMPTY_STR,
+                    row.rowIndex(), locale, dateFormat);
+
+            final JsonObject loanRepaymentJsonob = gson.toJsonTree(loanRepayment).getAsJsonObject();
+            loanRepaymentJsonob.remove("manuallyReversed");
+            final CommandWrapper commandRequest = new CommandWrapperBuilder() //
+                    .loanRepaymentTransaction(loanAccountId) //
+                    .withJson(loanRepaymentJsonob.toString()) //
+                    .build(); //
+            return new ImportCommand(loanAccountId, commandRequest);
+        };
+    }
+
+    private static BigDecimal readAsDecimal(ImportRow row, int column) {
+        final String value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new GeneralPlatformDomainRuleException("error.msg.import.invalid.number", "Invalid number " + value + ".", value);
+        }
+    }
+
+    private static Integer readAsInt(ImportRow row, int column) {
+        final BigDecimal value = readAsDecimal(row, column);
+        return value == null ? null : value.intValue();
+    }
+
+    /**
+     * CSV cells hold the date as typed in the import date format, XLSX date cells are read as ISO dates.
+     */
+    private static LocalDate readAsDate(ImportRow row, int column, DateTimeFormatter dateFormatter) {
+        final String value = row.get(column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value, dateFormatter);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException isoException) {
+                throw new GeneralPlatformDomainRuleException("error.msg.import.invalid.date", "Invalid date " + value + ".", value);
+            }
+        }
+    }
+}
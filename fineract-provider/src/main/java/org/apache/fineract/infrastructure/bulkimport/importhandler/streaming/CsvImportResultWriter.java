@@ -0,0 +1,51 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+public class CsvImportResultWriter implements ImportResultWriter {
+
+    private final CSVPrinter printer;
+    private final int statusColumn;
+
+    public CsvImportResultWriter(OutputStream outputStream, int statusColumn) {
+        try {
+            this.printer = new CSVPrinter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), CSVFormat.DEFAULT);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.statusColumn = statusColumn;
+    }
+
+    @Override
+    public void write(ImportRow row, String status) throws IOException {
+        printer.printRecord(ImportResultWriter.withStatus(row, status, statusColumn));
+    }
+
+    @Override
+    public void close() throws IOException {
+        printer.close(true);
+    }
+}
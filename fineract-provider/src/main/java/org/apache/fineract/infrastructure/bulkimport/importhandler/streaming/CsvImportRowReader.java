@@ -0,0 +1,55 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.io.input.BOMInputStream;
+
+public class CsvImportRowReader implements ImportRowReader {
+
+    private final InputStream inputStream;
+
+    public CsvImportRowReader(InputStream inputStream) {
+        this.inputStream = inputStream;
+    }
+
+    @Override
+    public void forEachRow(Consumer<ImportRow> consumer) throws IOException {
+        // spreadsheet applications prepend a byte order mark when saving UTF-8 CSV files
+        try (Reader reader = new InputStreamReader(BOMInputStream.builder().setInputStream(inputStream).get(), StandardCharsets.UTF_8);
+                CSVParser parser = CSVFormat.DEFAULT.parse(reader)) {
+            int rowIndex = 0;
+            for (CSVRecord record : parser) {
+                List<String> values = new ArrayList<>(record.size());
+                record.forEach(values::add);
+                consumer.accept(new ImportRow(rowIndex++, values));
+            }
+        }
+    }
+}
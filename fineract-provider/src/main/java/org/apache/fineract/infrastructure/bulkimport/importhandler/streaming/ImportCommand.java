@@ -0,0 +1,31 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import org.apache.fineract.commands.domain.CommandWrapper;
+
+/**
+ * Command built from a single import row.
+ *
+ * @param orderingKey
+ *            commands with the same key (e.g. the loan id) are executed one after the other in file order, commands
+ *            with different keys may run concurrently; {@code null} when the command does not depend on any other row
+ */
+public record ImportCommand(Object orderingKey, CommandWrapper command) {
+}
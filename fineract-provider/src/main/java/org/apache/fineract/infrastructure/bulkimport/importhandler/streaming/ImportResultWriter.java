@@ -0,0 +1,60 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+
+/**
+ * Writes the imported rows together with their import status, in the format of the uploaded file. Rows are written as
+ * soon as their chunk is processed.
+ */
+public interface ImportResultWriter extends Closeable {
+
+    /**
+     * @param status
+     *            result of the row, {@code null} keeps the status the row already had
+     */
+    void write(ImportRow row, String status) throws IOException;
+
+    static ImportResultWriter of(ImportFormatType format, OutputStream outputStream, String sheetName, int statusColumn) {
+        return switch (format) {
+            case CSV -> new CsvImportResultWriter(outputStream, statusColumn);
+            case XLSX -> new XlsxImportResultWriter(outputStream, sheetName, statusColumn);
+            default -> throw new GeneralPlatformDomainRuleException("error.msg.invalid.file.extension",
+                    "Uploaded file extension is not recognized.");
+        };
+    }
+
+    static List<String> withStatus(ImportRow row, String status, int statusColumn) {
+        List<String> values = new ArrayList<>(row.values());
+        if (status != null) {
+            while (values.size() <= statusColumn) {
+                values.add(null);
+            }
+            values.set(statusColumn, status);
+        }
+        return values;
+    }
+}
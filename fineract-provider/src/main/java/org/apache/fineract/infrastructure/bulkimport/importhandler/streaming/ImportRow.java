@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import java.util.List;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * A single row of an import file.
+ *
+ * @param rowIndex
+ *            zero based index of the row in the file, the header is row 0
+ * @param values
+ *            cell values by column index, missing cells are {@code null}
+ */
+public record ImportRow(int rowIndex, List<String> values) {
+
+    /**
+     * @return the trimmed value of the column, {@code null} when the cell is missing or blank
+     */
+    public String get(int column) {
+        if (column >= values.size()) {
+            return null;
+        }
+        return StringUtils.trimToNull(values.get(column));
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+
+/**
+ * Reads an import file one row at a time, only the row being processed is kept in memory.
+ */
+public interface ImportRowReader {
+
+    /**
+     * Passes the rows to the consumer in file order. Exceptions thrown by the consumer abort the reading and are
+     * propagated.
+     */
+    void forEachRow(Consumer<ImportRow> consumer) throws IOException;
+
+    static ImportRowReader of(ImportFormatType format, InputStream inputStream, String sheetName) {
+        return switch (format) {
+            case CSV -> new CsvImportRowReader(inputStream);
+            case XLSX -> new XlsxImportRowReader(inputStream, sheetName);
+            default -> throw new GeneralPlatformDomainRuleException("error.msg.invalid.file.extension",
+                    "Uploaded file extension is not recognized.");
+        };
+    }
+}
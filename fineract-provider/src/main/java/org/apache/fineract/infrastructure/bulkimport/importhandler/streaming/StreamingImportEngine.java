@@ -0,0 +1,190 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
+import org.apache.fineract.infrastructure.bulkimport.constants.TemplatePopulateImportConstants;
+import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a {@link StreamingImportHandler} over a file in chunks of rows.
+ * <p>
+ * The rows of a chunk are parsed and validated concurrently, then their commands are executed concurrently grouped by
+ * {@link ImportCommand#orderingKey()}: the commands of one key run one after the other in file order. A chunk is
+ * finished, written to the result and reported as progress before the next one is read, so memory use is bounded by
+ * the chunk size and the ordering per key holds for the whole file.
+ */
+@Slf4j
+@Component
+public class StreamingImportEngine {
+
+    private final PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService;
+    private final ThreadPoolTaskExecutor executor;
+    private final FineractProperties fineractProperties;
+
+    public StreamingImportEngine(PortfolioCommandSourceWritePlatformService commandsSourceWritePlatformService,
+            @Qualifier(StreamingImportTaskExecutorConfig.STREAMING_IMPORT_EXECUTOR_BEAN_NAME) ThreadPoolTaskExecutor executor,
+            FineractProperties fineractProperties) {
+        this.commandsSourceWritePlatformService = commandsSourceWritePlatformService;
+        this.executor = executor;
+        this.fineractProperties = fineractProperties;
+    }
+
+    /**
+     * @param progressListener
+     *            called with the running totals after every chunk
+     * @return the number of imported and failed rows
+     */
+    public Count process(StreamingImportHandler handler, ImportRowReader reader, ImportResultWriter writer, String locale,
+            String dateFormat, Consumer<Count> progressListener) throws IOException {
+        int chunkSize = Math.max(1, fineractProperties.getBulkImport().getStreamingChunkSize());
+        ImportRun run = new ImportRun(handler, handler.createRowParser(locale, dateFormat), writer, progressListener, chunkSize);
+        try {
+            reader.forEachRow(run);
+            run.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return Count.instance(run.successCount, run.errorCount);
+    }
+
+    private String execute(ImportCommand command) {
+        try {
+            commandsSourceWritePlatformService.logCommandSource(command.command());
+            return TemplatePopulateImportConstants.STATUS_CELL_IMPORTED;
+        } catch (RuntimeException ex) {
+            log.error("Problem occurred while importing a row", ex);
+            return ImportHandlerUtils.getErrorMessage(ex);
+        }
+    }
+
+    private static void joinAll(List<CompletableFuture<Void>> futures) {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    private final class ImportRun implements Consumer<ImportRow> {
+
+        private final StreamingImportHandler handler;
+        private final Function<ImportRow, ImportCommand> rowParser;
+        private final ImportResultWriter writer;
+        private final Consumer<Count> progressListener;
+        private final int chunkSize;
+        private final List<ImportRow> chunk;
+        private int successCount;
+        private int errorCount;
+
+        private ImportRun(StreamingImportHandler handler, Function<ImportRow, ImportCommand> rowParser, ImportResultWriter writer,
+                Consumer<Count> progressListener, int chunkSize) {
+            this.handler = handler;
+            this.rowParser = rowParser;
+            this.writer = writer;
+            this.progressListener = progressListener;
+            this.chunkSize = chunkSize;
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        @Override
+        public void accept(ImportRow row) {
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            String[] statuses = processChunk();
+            try {
+                for (int position = 0; position < chunk.size(); position++) {
+                    writer.write(chunk.get(position), statuses[position]);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            chunk.clear();
+            progressListener.accept(Count.instance(successCount, errorCount));
+        }
+
+        private String[] processChunk() {
+            final int size = chunk.size();
+            final String[] statuses = new String[size];
+            final ImportCommand[] commands = new ImportCommand[size];
+
+            final List<CompletableFuture<Void>> parsing = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                final ImportRow row = chunk.get(i);
+                if (!handler.isDataRow(row)) {
+                    continue;
+                }
+                final int position = i;
+                parsing.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        commands[position] = rowParser.apply(row);
+                    } catch (RuntimeException ex) {
+                        statuses[position] = ImportHandlerUtils.getErrorMessage(ex);
+                    }
+                }, executor));
+            }
+            joinAll(parsing);
+
+            final Map<Object, List<Integer>> positionsByKey = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                if (commands[i] != null) {
+                    final Object key = commands[i].orderingKey() == null ? new Object() : commands[i].orderingKey();
+                    positionsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+                }
+            }
+            final List<CompletableFuture<Void>> execution = new ArrayList<>(positionsByKey.size());
+            for (List<Integer> positions : positionsByKey.values()) {
+                execution.add(CompletableFuture.runAsync(() -> {
+                    for (int position : positions) {
+                        statuses[position] = execute(commands[position]);
+                    }
+                }, executor));
+            }
+            joinAll(execution);
+
+            for (int i = 0; i < size; i++) {
+                if (TemplatePopulateImportConstants.STATUS_CELL_IMPORTED.equals(statuses[i]) && commands[i] != null) {
+                    successCount++;
+                } else if (statuses[i] != null) {
+                    errorCount++;
+                }
+            }
+            return statuses;
+        }
+    }
+}
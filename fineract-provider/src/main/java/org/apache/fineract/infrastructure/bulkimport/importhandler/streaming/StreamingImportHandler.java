@@ -0,0 +1,53 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import java.util.function.Function;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+
+/**
+ * Import of an entity type from a CSV or XLSX file that is read row by row instead of loading the whole workbook.
+ * <p>
+ * The layout of the file is the same as the one of the sheet of the corresponding import template.
+ */
+public interface StreamingImportHandler {
+
+    GlobalEntityType getEntityType();
+
+    /**
+     * @return name of the sheet to import from XLSX files
+     */
+    String getSheetName();
+
+    /**
+     * @return column where the import result of each row is written
+     */
+    int getStatusColumn();
+
+    /**
+     * @return {@code true} if the row holds data to import (not the header, not blank and not imported already)
+     */
+    boolean isDataRow(ImportRow row);
+
+    /**
+     * Creates the parser of a single import. The parser is called concurrently for several rows and must be thread safe,
+     * it throws a {@link RuntimeException} with a user readable message when the row is not valid.
+     */
+    Function<ImportRow, ImportCommand> createRowParser(String locale, String dateFormat);
+}
@@ -0,0 +1,67 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Writes the result sheet with the streaming workbook of POI, which keeps only a small window of rows in memory.
+ */
+public class XlsxImportResultWriter implements ImportResultWriter {
+
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    private final OutputStream outputStream;
+    private final SXSSFWorkbook workbook;
+    private final Sheet sheet;
+    private final int statusColumn;
+
+    public XlsxImportResultWriter(OutputStream outputStream, String sheetName, int statusColumn) {
+        this.outputStream = outputStream;
+        this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        this.sheet = workbook.createSheet(sheetName);
+        this.statusColumn = statusColumn;
+    }
+
+    @Override
+    public void write(ImportRow row, String status) throws IOException {
+        List<String> values = ImportResultWriter.withStatus(row, status, statusColumn);
+        Row sheetRow = sheet.createRow(row.rowIndex());
+        for (int column = 0; column < values.size(); column++) {
+            if (values.get(column) != null) {
+                sheetRow.createCell(column).setCellValue(values.get(column));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(outputStream);
+        } finally {
+            workbook.close();
+            outputStream.close();
+        }
+    }
+}
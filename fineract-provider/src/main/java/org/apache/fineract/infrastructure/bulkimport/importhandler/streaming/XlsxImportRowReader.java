@@ -0,0 +1,126 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * Reads one sheet of an XLSX file with the SAX based event API of POI, the workbook is never loaded as a whole.
+ * <p>
+ * Numbers are returned in plain notation and dates as ISO dates (yyyy-MM-dd) regardless of the cell format.
+ */
+public class XlsxImportRowReader implements ImportRowReader {
+
+    private final InputStream inputStream;
+    private final String sheetName;
+
+    public XlsxImportRowReader(InputStream inputStream, String sheetName) {
+        this.inputStream = inputStream;
+        this.sheetName = sheetName;
+    }
+
+    @Override
+    public void forEachRow(Consumer<ImportRow> consumer) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(inputStream)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = xssfReader.getStylesTable();
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    if (sheetName.equals(((XSSFReader.SheetIterator) sheets).getSheetName())) {
+                        XMLReader parser = XMLHelper.newXMLReader();
+                        parser.setContentHandler(new XSSFSheetXMLHandler(styles, strings, new RowCollector(consumer),
+                                new NormalizingDataFormatter(), false));
+                        parser.parse(new InputSource(sheet));
+                        return;
+                    }
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new GeneralPlatformDomainRuleException("error.msg.import.file.invalid", "The uploaded file is not a valid XLSX file.", e);
+        }
+        throw new GeneralPlatformDomainRuleException("error.msg.import.sheet.not.found", "Sheet " + sheetName + " not found.", sheetName);
+    }
+
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Consumer<ImportRow> consumer;
+        private List<String> values;
+        private int column;
+
+        private RowCollector(Consumer<ImportRow> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            values = new ArrayList<>();
+            column = -1;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            consumer.accept(new ImportRow(rowNum, values));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // empty cells are not part of the sheet XML, the reference tells where the cell is
+            column = cellReference == null ? column + 1 : new CellReference(cellReference).getCol();
+            while (values.size() < column) {
+                values.add(null);
+            }
+            values.add(formattedValue);
+        }
+    }
+
+    private static final class NormalizingDataFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URLConnection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.apache.fineract.infrastructure.bulkimport.data.BulkImportEvent;
 import org.apache.fineract.infrastructure.bulkimport.data.Count;
@@ -30,6 +31,10 @@ import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandler;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.streaming.ImportResultWriter;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.streaming.ImportRowReader;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.streaming.StreamingImportEngine;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.streaming.StreamingImportHandler;
 import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
@@ -53,14 +58,19 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
     private final ApplicationContext applicationContext;
     private final ImportDocumentRepository importRepository;
     private final DocumentWritePlatformService documentService;
+    private final StreamingImportEngine streamingImportEngine;
+    private final List<StreamingImportHandler> streamingImportHandlers;
 
     @Autowired
     public BulkImportEventListener(final TenantDetailsService tenantDetailsService, final ApplicationContext context,
-            final ImportDocumentRepository importRepository, final DocumentWritePlatformService documentService) {
+            final ImportDocumentRepository importRepository, final DocumentWritePlatformService documentService,
+            final StreamingImportEngine streamingImportEngine, final List<StreamingImportHandler> streamingImportHandlers) {
         this.tenantDetailsService = tenantDetailsService;
         this.applicationContext = context;
         this.importRepository = importRepository;
         this.documentService = documentService;
+        this.streamingImportEngine = streamingImportEngine;
+        this.streamingImportHandlers = streamingImportHandlers;
     }
 
     @Override
@@ -70,6 +80,11 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
         final ImportDocument importDocument = this.importRepository.findById(event.getImportId()).orElse(null);
         final GlobalEntityType entityType = GlobalEntityType.fromInt(importDocument.getEntityType());
 
+        if (event.isStreaming()) {
+            processStreaming(event, importDocument, entityType);
+            return;
+        }
+
         switch (entityType) {
             case OFFICES:
                 importHandler = this.applicationContext.getBean("officeImportHandler", ImportHandler.class);
@@ -163,4 +178,40 @@ public class BulkImportEventListener implements ApplicationListener<BulkImportEv
         this.documentService.updateDocument(documentCommand, bis);
     }
 
+    private void processStreaming(final BulkImportEvent event, final ImportDocument importDocument, final GlobalEntityType entityType) {
+        final StreamingImportHandler handler = this.streamingImportHandlers.stream()
+                .filter(candidate -> candidate.getEntityType() == entityType).findFirst()
+                .orElseThrow(() -> new GeneralPlatformDomainRuleException("error.msg.unable.to.find.resource",
+                        "Unable to find requested resource"));
+
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Count count = Count.instance(0, 0);
+        try (ImportResultWriter writer = ImportResultWriter.of(event.getFormat(), bos, handler.getSheetName(),
+                handler.getStatusColumn())) {
+            final ImportRowReader reader = ImportRowReader.of(event.getFormat(), new ByteArrayInputStream(event.getContent()),
+                    handler.getSheetName());
+            count = this.streamingImportEngine.process(handler, reader, writer, event.getLocale(), event.getDateFormat(), progress -> {
+                importDocument.updateProgress(progress.getSuccessCount(), progress.getErrorCount());
+                this.importRepository.saveAndFlush(importDocument);
+            });
+        } catch (IOException io) {
+            LOG.error("Problem occurred in processStreaming function", io);
+        }
+        importDocument.update(DateUtils.getLocalDateTimeOfTenant(), count.getSuccessCount() + count.getErrorCount(),
+                count.getSuccessCount(), count.getErrorCount());
+        this.importRepository.saveAndFlush(importDocument);
+
+        final Set<String> modifiedParams = new HashSet<>();
+        modifiedParams.add("fileName");
+        modifiedParams.add("size");
+        modifiedParams.add("type");
+        modifiedParams.add("location");
+        Document document = importDocument.getDocument();
+
+        final byte[] bytes = bos.toByteArray();
+        DocumentCommand documentCommand = new DocumentCommand(modifiedParams, document.getId(), entityType.name(), null, document.getName(),
+                document.getFileName(), (long) bytes.length, URLConnection.guessContentTypeFromName(document.getFileName()), null, null);
+        this.documentService.updateDocument(documentCommand, new ByteArrayInputStream(bytes));
+    }
+
 }
@@ -30,13 +30,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import org.apache.commons.io.IOUtils;
 import org.apache.fineract.infrastructure.bulkimport.data.BulkImportEvent;
 import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
 import org.apache.fineract.infrastructure.bulkimport.data.ImportData;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocument;
 import org.apache.fineract.infrastructure.bulkimport.domain.ImportDocumentRepository;
 import org.apache.fineract.infrastructure.bulkimport.importhandler.ImportHandlerUtils;
+import org.apache.fineract.infrastructure.bulkimport.importhandler.streaming.StreamingImportHandler;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.exception.GeneralPlatformDomainRuleException;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -70,17 +74,20 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
     private final DocumentRepository documentRepository;
     private final ImportDocumentRepository importDocumentRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final List<StreamingImportHandler> streamingImportHandlers;
 
     @Autowired
     public BulkImportWorkbookServiceImpl(final ApplicationContext applicationContext, final PlatformSecurityContext securityContext,
             final DocumentWritePlatformService documentWritePlatformService, final DocumentRepository documentRepository,
-            final ImportDocumentRepository importDocumentRepository, final JdbcTemplate jdbcTemplate) {
+            final ImportDocumentRepository importDocumentRepository, final JdbcTemplate jdbcTemplate,
+            final List<StreamingImportHandler> streamingImportHandlers) {
         this.applicationContext = applicationContext;
         this.securityContext = securityContext;
         this.documentWritePlatformService = documentWritePlatformService;
         this.documentRepository = documentRepository;
         this.importDocumentRepository = importDocumentRepository;
         this.jdbcTemplate = jdbcTemplate;
+        this.streamingImportHandlers = streamingImportHandlers;
     }
 
     @Override
@@ -96,6 +103,10 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
                 final Tika tika = new Tika();
                 final TikaInputStream tikaInputStream = TikaInputStream.get(bis);
                 final String fileType = tika.detect(tikaInputStream);
+                final ImportFormatType streamingFormat = streamingFormat(fileType, fileDetail.getFileName());
+                if (streamingFormat != null) {
+                    return publishStreamingEvent(entity, streamingFormat, bytes, fileDetail, locale, dateFormat);
+                }
                 if (!fileType.contains("msoffice") && !fileType.contains("application/vnd.ms-excel")) {
                     // We had a problem where we tried to upload the downloaded
                     // file from the import options, it was somehow changed the
@@ -184,21 +195,58 @@ public class BulkImportWorkbookServiceImpl implements BulkImportWorkbookService
             final InputStream clonedInputStreamWorkbook, final GlobalEntityType entityType, final Workbook workbook, final String locale,
             final String dateFormat) {
 
+        final ImportDocument importDocument = createImportDocument(fileDetail, clonedInputStreamWorkbook, entityType,
+                ImportHandlerUtils.getNumberOfRows(workbook.getSheetAt(0), primaryColumn));
+        BulkImportEvent event = BulkImportEvent.instance(this, workbook, importDocument.getId(), locale, dateFormat,
+                ThreadLocalContextUtil.getContext());
+        applicationContext.publishEvent(event);
+        return importDocument.getId();
+    }
+
+    /**
+     * CSV and XLSX files are imported with the streaming import, for the entity types that support it.
+     */
+    private static ImportFormatType streamingFormat(final String fileType, final String fileName) {
+        final String name = fileName == null ? "" : fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".xlsx")
+                && (fileType.contains("ooxml") || fileType.contains("spreadsheetml") || fileType.equals("application/zip"))) {
+            return ImportFormatType.XLSX;
+        }
+        if (name.endsWith(".csv") && fileType.startsWith("text/")) {
+            return ImportFormatType.CSV;
+        }
+        return null;
+    }
+
+    private Long publishStreamingEvent(final String entity, final ImportFormatType format, final byte[] bytes,
+            final FormDataContentDisposition fileDetail, final String locale, final String dateFormat) {
+        final GlobalEntityType entityType = this.streamingImportHandlers.stream().map(StreamingImportHandler::getEntityType)
+                .filter(type -> type.toString().equalsIgnoreCase(entity.trim())).findFirst()
+                .orElseThrow(() -> new GeneralPlatformDomainRuleException("error.msg.import.format.not.supported",
+                        format.name() + " files are not supported for the import of " + entity, format.name(), entity));
+
+        // the number of rows is only known once the file has been read
+        final ImportDocument importDocument = createImportDocument(fileDetail, new ByteArrayInputStream(bytes), entityType, null);
+        BulkImportEvent event = BulkImportEvent.streamingInstance(this, bytes, format, importDocument.getId(), locale, dateFormat,
+                ThreadLocalContextUtil.getContext());
+        applicationContext.publishEvent(event);
+        return importDocument.getId();
+    }
+
+    private ImportDocument createImportDocument(final FormDataContentDisposition fileDetail, final InputStream inputStream,
+            final GlobalEntityType entityType, final Integer totalRecords) {
         final String fileName = fileDetail.getFileName();
 
         final Long documentId = this.documentWritePlatformService.createInternalDocument(
                 DocumentWritePlatformServiceJpaRepositoryImpl.DocumentManagementEntity.IMPORT.name(),
-                this.securityContext.authenticatedUser().getId(), null, clonedInputStreamWorkbook,
-                URLConnection.guessContentTypeFromName(fileName), fileName, null, fileName);
+                this.securityContext.authenticatedUser().getId(), null, inputStream, URLConnection.guessContentTypeFromName(fileName),
+                fileName, null, fileName);
         final Document document = this.documentRepository.findById(documentId).orElse(null);
 
         final ImportDocument importDocument = ImportDocument.instance(document, DateUtils.getLocalDateTimeOfTenant(), entityType.getValue(),
-                this.securityContext.authenticatedUser(), ImportHandlerUtils.getNumberOfRows(workbook.getSheetAt(0), primaryColumn));
+                this.securityContext.authenticatedUser(), totalRecords);
         this.importDocumentRepository.saveAndFlush(importDocument);
-        BulkImportEvent event = BulkImportEvent.instance(this, workbook, importDocument.getId(), locale, dateFormat,
-                ThreadLocalContextUtil.getContext());
-        applicationContext.publishEvent(event);
-        return importDocument.getId();
+        return importDocument;
     }
 
     @Override
@@ -41,6 +41,8 @@ import org.apache.fineract.infrastructure.core.service.MDCWrapper;
 import org.apache.fineract.infrastructure.instancemode.filter.FineractInstanceModeApiFilter;
 import org.apache.fineract.infrastructure.jobs.filter.LoanCOBApiFilter;
 import org.apache.fineract.infrastructure.jobs.filter.LoanCOBFilterHelper;
+import org.apache.fineract.infrastructure.jobs.filter.SavingsCOBApiFilter;
+import org.apache.fineract.infrastructure.jobs.filter.SavingsCOBFilterHelper;
 import org.apache.fineract.infrastructure.security.data.PlatformRequestLog;
 import org.apache.fineract.infrastructure.security.filter.InsecureTwoFactorAuthenticationFilter;
 import org.apache.fineract.infrastructure.security.filter.TenantAwareBasicAuthenticationFilter;
@@ -115,6 +117,8 @@ public class SecurityConfig {
     @Autowired(required = false)
     private LoanCOBFilterHelper loanCOBFilterHelper;
     @Autowired
+    private SavingsCOBFilterHelper savingsCOBFilterHelper;
+    @Autowired
     private PlatformSecurityContext context;
     @Autowired
     private IdempotencyStoreHelper idempotencyStoreHelper;
@@ -144,10 +148,11 @@ public class SecurityConfig {
                 .addFilterAfter(fineractInstanceModeApiFilter(), CorrelationHeaderFilter.class); //
         if (!Objects.isNull(loanCOBFilterHelper)) {
             http.addFilterAfter(loanCOBApiFilter(), FineractInstanceModeApiFilter.class) //
-                    .addFilterAfter(idempotencyStoreFilter(), LoanCOBApiFilter.class); //
+                    .addFilterAfter(savingsCOBApiFilter(), LoanCOBApiFilter.class); //
         } else {
-            http.addFilterAfter(idempotencyStoreFilter(), FineractInstanceModeApiFilter.class); //
+            http.addFilterAfter(savingsCOBApiFilter(), FineractInstanceModeApiFilter.class); //
         }
+        http.addFilterAfter(idempotencyStoreFilter(), SavingsCOBApiFilter.class); //
 
         if (fineractProperties.getSecurity().getTwoFactor().isEnabled()) {
             http.addFilterAfter(twoFactorAuthenticationFilter(), CorrelationHeaderFilter.class);
@@ -169,6 +174,10 @@ public class SecurityConfig {
         return new LoanCOBApiFilter(loanCOBFilterHelper);
     }
 
+    public SavingsCOBApiFilter savingsCOBApiFilter() {
+        return new SavingsCOBApiFilter(savingsCOBFilterHelper);
+    }
+
     public TwoFactorAuthenticationFilter twoFactorAuthenticationFilter() {
         TwoFactorService twoFactorService = applicationContext.getBean(TwoFactorService.class);
         return new TwoFactorAuthenticationFilter(twoFactorService);
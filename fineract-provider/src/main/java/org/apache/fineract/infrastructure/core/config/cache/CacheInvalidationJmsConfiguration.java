@@ -0,0 +1,92 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.command.ActiveMQTopic;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractMultiNodeCacheJmsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractRemoteJobMessageHandlerJmsProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jms.connection.CachingConnectionFactory;
+import org.springframework.jms.core.JmsTemplate;
+import org.springframework.jms.listener.DefaultMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(value = "fineract.cache.multi-node.jms.enabled", havingValue = "true")
+public class CacheInvalidationJmsConfiguration {
+
+    @Autowired
+    private FineractProperties fineractProperties;
+
+    // not an autowire candidate to keep the ConnectionFactory injection of the other JMS integrations unambiguous
+    @Bean(name = "cacheInvalidationConnectionFactory", autowireCandidate = false)
+    public CachingConnectionFactory cacheInvalidationConnectionFactory() {
+        FineractMultiNodeCacheJmsProperties jmsProps = fineractProperties.getCache().getMultiNode().getJms();
+        ActiveMQConnectionFactory connectionFactory = new ActiveMQConnectionFactory();
+        if (StringUtils.isNotBlank(jmsProps.getBrokerUrl())) {
+            connectionFactory.setBrokerURL(jmsProps.getBrokerUrl());
+            if (jmsProps.isBrokerPasswordProtected()) {
+                connectionFactory.setUserName(jmsProps.getBrokerUsername());
+                connectionFactory.setPassword(jmsProps.getBrokerPassword());
+            }
+        } else {
+            // by default the broker of the remote job message handler is shared
+            FineractRemoteJobMessageHandlerJmsProperties remoteJobJmsProps = fineractProperties.getRemoteJobMessageHandler().getJms();
+            connectionFactory.setBrokerURL(remoteJobJmsProps.getBrokerUrl());
+            if (remoteJobJmsProps.isBrokerPasswordProtected()) {
+                connectionFactory.setUserName(remoteJobJmsProps.getBrokerUsername());
+                connectionFactory.setPassword(remoteJobJmsProps.getBrokerPassword());
+            }
+        }
+        CachingConnectionFactory cachingConnectionFactory = new CachingConnectionFactory();
+        cachingConnectionFactory.setReconnectOnException(true);
+        cachingConnectionFactory.setCacheConsumers(false);
+        cachingConnectionFactory.setTargetConnectionFactory(connectionFactory);
+        return cachingConnectionFactory;
+    }
+
+    @Bean(name = "cacheInvalidationTopic", autowireCandidate = false)
+    public ActiveMQTopic cacheInvalidationTopic() {
+        return new ActiveMQTopic(fineractProperties.getCache().getMultiNode().getJms().getTopicName());
+    }
+
+    @Bean
+    public JmsCacheInvalidationChannel jmsCacheInvalidationChannel() {
+        JmsTemplate jmsTemplate = new JmsTemplate(cacheInvalidationConnectionFactory());
+        jmsTemplate.setPubSubDomain(true);
+        jmsTemplate.setDefaultDestination(cacheInvalidationTopic());
+        return new JmsCacheInvalidationChannel(jmsTemplate);
+    }
+
+    @Bean
+    public DefaultMessageListenerContainer cacheInvalidationListenerContainer(JmsCacheInvalidationChannel jmsCacheInvalidationChannel) {
+        DefaultMessageListenerContainer container = new DefaultMessageListenerContainer();
+        container.setConnectionFactory(cacheInvalidationConnectionFactory());
+        container.setDestination(cacheInvalidationTopic());
+        container.setPubSubDomain(true);
+        container.setConcurrentConsumers(1);
+        container.setMessageListener(jmsCacheInvalidationChannel);
+        return container;
+    }
+}
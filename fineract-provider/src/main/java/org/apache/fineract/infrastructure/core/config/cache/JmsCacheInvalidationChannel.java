@@ -0,0 +1,84 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.core.config.cache;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.MapMessage;
+import jakarta.jms.Message;
+import jakarta.jms.MessageListener;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationMessage;
+import org.springframework.jms.core.JmsTemplate;
+
+/**
+ * Propagates the cache invalidations through a JMS topic, every node subscribes to the topic and receives the
+ * invalidations of all the other nodes.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JmsCacheInvalidationChannel implements CacheInvalidationChannel, MessageListener {
+
+    private static final String ORIGIN_ID = "originId";
+    private static final String CACHE_NAME = "cacheName";
+    private static final String KEY = "key";
+
+    private final JmsTemplate jmsTemplate;
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        try {
+            jmsTemplate.send(session -> {
+                MapMessage mapMessage = session.createMapMessage();
+                mapMessage.setString(ORIGIN_ID, message.originId());
+                mapMessage.setString(CACHE_NAME, message.cacheName());
+                mapMessage.setString(KEY, message.key());
+                return mapMessage;
+            });
+        } catch (Exception e) {
+            // the local cache is already invalidated, the other nodes converge on their next eviction or restart
+            log.error("Could not publish invalidation of cache {}", message.cacheName(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        if (!(message instanceof MapMessage mapMessage)) {
+            log.warn("Unexpected cache invalidation message type: {}", message.getClass().getName());
+            return;
+        }
+        try {
+            CacheInvalidationMessage invalidation = new CacheInvalidationMessage(mapMessage.getString(ORIGIN_ID),
+                    mapMessage.getString(CACHE_NAME), mapMessage.getString(KEY));
+            listeners.forEach(listener -> listener.accept(invalidation));
+        } catch (JMSException e) {
+            log.error("Could not read cache invalidation message", e);
+        }
+    }
+}
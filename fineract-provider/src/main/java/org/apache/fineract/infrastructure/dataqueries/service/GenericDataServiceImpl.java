@@ -27,7 +27,13 @@ import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColum
 import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.INTEGER;
 import static org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData.DisplayType.TIME;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -51,9 +57,11 @@ import org.apache.fineract.infrastructure.dataqueries.exception.DatatableNotFoun
 import org.jetbrains.annotations.NotNull;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.jdbc.support.rowset.SqlRowSetMetaData;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Slf4j
@@ -92,6 +100,25 @@ public class GenericDataServiceImpl implements GenericDataService {
         }
     }
 
+    /**
+     * Runs inside a read-only transaction because PostgreSQL only honours the fetch size (and opens a server side cursor)
+     * when auto-commit is off.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamGenericResultSet(final String sql, final int fetchSize, final GenericResultsetStreamHandler handler) {
+        try {
+            this.jdbcTemplate.query(con -> { // NOSONAR
+                final PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                return ps;
+            }, new StreamingResultSetExtractor(handler));
+        } catch (DataAccessException e) {
+            log.error("Reporting error: {}", e.getMessage());
+            throw ErrorHandler.getMappable(e, "error.msg.report.unknown.data.integrity.issue", e.getClass().getName(), null, e);
+        }
+    }
+
     @Override
     public List<ResultsetColumnHeaderData> fillResultsetColumnHeaders(final String tableName) {
         final SqlRowSet columnDefinitions = getTableMetaData(tableName);
@@ -204,61 +231,64 @@ public class GenericDataServiceImpl implements GenericDataService {
         final List<ResultsetColumnHeaderData> columnHeaders = grs.getColumnHeaders();
 
         final List<ResultsetRowData> data = grs.getData();
-        List<Object> row;
-        Integer rSize;
+        for (int i = 0; i < data.size(); i++) {
+            writer.append(generateJsonFromGenericResultsetRow(columnHeaders, data.get(i).getRow()));
+            if (i < (data.size() - 1)) {
+                writer.append(",");
+            }
+        }
+
+        writer.append("\n]");
+        return writer.toString();
+    }
+
+    @Override
+    public String generateJsonFromGenericResultsetRow(final List<ResultsetColumnHeaderData> columnHeaders, final List<Object> row) {
+        final StringBuilder writer = new StringBuilder();
         final String doubleQuote = "\"";
         final String slashDoubleQuote = "\\\"";
         ResultsetColumnHeaderData.DisplayType colDisplayType;
         Object currVal;
 
-        for (int i = 0; i < data.size(); i++) {
-            writer.append("\n{");
-
-            row = data.get(i).getRow();
-            rSize = row.size();
-            for (int j = 0; j < rSize; j++) {
-                ResultsetColumnHeaderData columnHeader = columnHeaders.get(j);
-                writer.append(doubleQuote + columnHeader.getColumnName() + doubleQuote + ": ");
-                colDisplayType = columnHeader.getColumnDisplayType();
-                final JdbcJavaType colType = columnHeader.getColumnType();
-                if (colDisplayType == null) {
-                    colDisplayType = ResultsetColumnHeaderData.calcColumnDisplayType(colType);
-                }
-                currVal = row.get(j);
-                if (currVal != null && colDisplayType != null) {
-                    if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATE) {
-                        final LocalDate localDate = (LocalDate) currVal;
-                        writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
-                    } else if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATETIME) {
-                        final LocalDateTime localDateTime = (LocalDateTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
-                                localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(),
-                                localDateTime.getSecond(), localDateTime.getNano()));
-                    } else if (colDisplayType == TIME) {
-                        final LocalTime localTime = (LocalTime) currVal;
-                        writer.append(format("[%d,%d,%d,%d]", localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
-                                localTime.getNano()));
-                    } else if (colDisplayType == DECIMAL || colDisplayType == INTEGER || colDisplayType == CODELOOKUP) {
-                        writer.append(currVal);
-                    } else {
-                        writer.append(doubleQuote + replace(String.valueOf(currVal), doubleQuote, slashDoubleQuote) + doubleQuote);
-                    }
+        writer.append("\n{");
+
+        final int rSize = row.size();
+        for (int j = 0; j < rSize; j++) {
+            ResultsetColumnHeaderData columnHeader = columnHeaders.get(j);
+            writer.append(doubleQuote + columnHeader.getColumnName() + doubleQuote + ": ");
+            colDisplayType = columnHeader.getColumnDisplayType();
+            final JdbcJavaType colType = columnHeader.getColumnType();
+            if (colDisplayType == null) {
+                colDisplayType = ResultsetColumnHeaderData.calcColumnDisplayType(colType);
+            }
+            currVal = row.get(j);
+            if (currVal != null && colDisplayType != null) {
+                if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATE) {
+                    final LocalDate localDate = (LocalDate) currVal;
+                    writer.append(format("[%d,%d,%d]", localDate.getYear(), localDate.getMonthValue(), localDate.getDayOfMonth()));
+                } else if (colDisplayType == ResultsetColumnHeaderData.DisplayType.DATETIME) {
+                    final LocalDateTime localDateTime = (LocalDateTime) currVal;
+                    writer.append(format("[%d,%d,%d,%d,%d,%d,%d]", localDateTime.getYear(), localDateTime.getMonthValue(),
+                            localDateTime.getDayOfMonth(), localDateTime.getHour(), localDateTime.getMinute(), localDateTime.getSecond(),
+                            localDateTime.getNano()));
+                } else if (colDisplayType == TIME) {
+                    final LocalTime localTime = (LocalTime) currVal;
+                    writer.append(format("[%d,%d,%d,%d]", localTime.getHour(), localTime.getMinute(), localTime.getSecond(),
+                            localTime.getNano()));
+                } else if (colDisplayType == DECIMAL || colDisplayType == INTEGER || colDisplayType == CODELOOKUP) {
+                    writer.append(currVal);
                 } else {
-                    writer.append("null");
+                    writer.append(doubleQuote + replace(String.valueOf(currVal), doubleQuote, slashDoubleQuote) + doubleQuote);
                 }
-                if (j < (rSize - 1)) {
-                    writer.append(",\n");
-                }
-            }
-
-            if (i < (data.size() - 1)) {
-                writer.append("},");
             } else {
-                writer.append("}");
+                writer.append("null");
+            }
+            if (j < (rSize - 1)) {
+                writer.append(",\n");
             }
         }
 
-        writer.append("\n]");
+        writer.append("}");
         return writer.toString();
     }
 
@@ -329,4 +359,48 @@ public class GenericDataServiceImpl implements GenericDataService {
             throw new DatatableNotFoundException(tableName);
         }
     }
+
+    private final class StreamingResultSetExtractor implements ResultSetExtractor<Void> {
+
+        private final GenericResultsetStreamHandler handler;
+
+        private StreamingResultSetExtractor(final GenericResultsetStreamHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public Void extractData(final ResultSet rs) throws SQLException {
+            try {
+                final ResultSetMetaData rsmd = rs.getMetaData();
+                final int columnCount = rsmd.getColumnCount();
+                final List<ResultsetColumnHeaderData> columnHeaders = new ArrayList<>(columnCount);
+                for (int i = 1; i <= columnCount; i++) {
+                    columnHeaders.add(ResultsetColumnHeaderData.basic(rsmd.getColumnLabel(i), rsmd.getColumnTypeName(i),
+                            databaseTypeResolver.databaseType()));
+                }
+                handler.start(columnHeaders);
+
+                while (rs.next()) {
+                    final List<Object> columnValues = new ArrayList<>(columnCount);
+                    for (int i = 1; i <= columnCount; i++) {
+                        final JdbcJavaType colType = columnHeaders.get(i - 1).getColumnType();
+                        final Object value = rs.getObject(i);
+                        if (colType == DATE) {
+                            columnValues.add(value instanceof Date date ? date.toLocalDate() : value);
+                        } else if (colType == DATETIME || colType == TIMESTAMP) {
+                            columnValues.add(value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value);
+                        } else {
+                            columnValues.add(value);
+                        }
+                    }
+                    handler.row(columnValues);
+                }
+
+                handler.end();
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
@@ -82,14 +82,45 @@ public class ReadReportingServiceImpl implements ReadReportingService {
             final boolean isSelfServiceUserReport) {
         return out -> {
             try {
-                final GenericResultsetData result = retrieveGenericResultset(name, type, queryParams, isSelfServiceUserReport);
-                generateCsvFileBuffer(result, out);
+                if (isStreamingEnabled()) {
+                    streamCsv(name, type, queryParams, isSelfServiceUserReport, out);
+                } else {
+                    final GenericResultsetData result = retrieveGenericResultset(name, type, queryParams, isSelfServiceUserReport);
+                    generateCsvFileBuffer(result, out);
+                }
             } catch (final Exception e) {
                 throw ErrorHandler.getMappable(e);
             }
         };
     }
 
+    private void streamCsv(final String name, final String type, final Map<String, String> queryParams,
+            final boolean isSelfServiceUserReport, final OutputStream out) throws IOException {
+        try (CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSVFormat.EXCEL)) {
+            streamGenericResultset(name, type, queryParams, isSelfServiceUserReport, new GenericResultsetStreamHandler() {
+
+                @Override
+                public void start(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+                    final List<String> header = new ArrayList<>();
+                    for (final ResultsetColumnHeaderData columnHeader : columnHeaders) {
+                        header.add(columnHeader.getColumnName());
+                    }
+                    printer.printRecord(header);
+                }
+
+                @Override
+                public void row(final List<Object> row) throws IOException {
+                    printer.printRecord(row);
+                }
+
+                @Override
+                public void end() throws IOException {
+                    printer.flush();
+                }
+            });
+        }
+    }
+
     private void generateCsvFileBuffer(final GenericResultsetData result, OutputStream out) throws IOException {
         try (CSVPrinter printer = new CSVPrinter(new OutputStreamWriter(out, StandardCharsets.UTF_8), CSVFormat.EXCEL)) {
             final List<ResultsetColumnHeaderData> columnHeaders = result.getColumnHeaders();
@@ -127,6 +158,33 @@ public class ReadReportingServiceImpl implements ReadReportingService {
         return result;
     }
 
+    @Override
+    public void streamGenericResultset(final String name, final String type, final Map<String, String> queryParams,
+            final boolean isSelfServiceUserReport, final GenericResultsetStreamHandler handler) {
+
+        final long startTime = System.currentTimeMillis();
+        if (log.isDebugEnabled()) {
+            log.debug("STARTING STREAMED REPORT: {}   Type: {}", LogParameterEscapeUtil.escapeLogParameter(name),
+                    LogParameterEscapeUtil.escapeLogParameter(type));
+        }
+
+        final String sql = getSQLtoRun(name, type, queryParams, isSelfServiceUserReport);
+
+        this.genericDataService.streamGenericResultSet(sql, fineractProperties.getReport().getStreaming().getFetchSize(), handler);
+
+        final long elapsed = System.currentTimeMillis() - startTime;
+        if (log.isDebugEnabled()) {
+            log.debug("FINISHING Streamed Report/Request Name: {} - {}     Elapsed Time: {}",
+                    LogParameterEscapeUtil.escapeLogParameter(name), type.replaceAll("[\n\r\t]", "_"), elapsed);
+        }
+    }
+
+    @Override
+    public boolean isStreamingEnabled() {
+        final FineractProperties.FineractReportProperties report = fineractProperties.getReport();
+        return report != null && report.getStreaming() != null && report.getStreaming().isEnabled();
+    }
+
     private String getSQLtoRun(final String name, final String type, final Map<String, String> queryParams,
             final boolean isSelfServiceUserReport) {
 
@@ -21,14 +21,25 @@ package org.apache.fineract.infrastructure.dataqueries.service.export;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.core.api.ApiParameterHelper;
 import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
 import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
 import org.apache.fineract.infrastructure.dataqueries.data.ReportData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
 import org.apache.fineract.infrastructure.dataqueries.service.DatatableExportTargetParameter;
 import org.apache.fineract.infrastructure.dataqueries.service.GenericDataService;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericResultsetStreamHandler;
 import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
 import org.springframework.stereotype.Service;
 
@@ -44,11 +55,24 @@ public class JsonDatatableReportExportService implements DatatableReportExportSe
     public ResponseHolder export(String reportName, MultivaluedMap<String, String> queryParams, Map<String, String> reportParams,
             boolean isSelfServiceUserReport, String parameterTypeValue) {
 
+        final boolean genericResultSetIsPassed = ApiParameterHelper.genericResultSetPassed(queryParams);
+        final boolean genericResultSet = ApiParameterHelper.genericResultSet(queryParams);
+        if (this.readExtraDataAndReportingService.isStreamingEnabled()) {
+            final boolean flat = genericResultSetIsPassed && !genericResultSet;
+            final StreamingOutput output = out -> {
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                    this.readExtraDataAndReportingService.streamGenericResultset(reportName, parameterTypeValue, reportParams,
+                            isSelfServiceUserReport, flat ? new FlatJsonStreamHandler(writer) : new GenericJsonStreamHandler(writer));
+                } catch (final UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            };
+            return new ResponseHolder(Response.Status.OK).entity(output).contentType(MediaType.APPLICATION_JSON);
+        }
+
         final GenericResultsetData result = this.readExtraDataAndReportingService.retrieveGenericResultset(reportName, parameterTypeValue,
                 reportParams, isSelfServiceUserReport);
         String json;
-        final boolean genericResultSetIsPassed = ApiParameterHelper.genericResultSetPassed(queryParams);
-        final boolean genericResultSet = ApiParameterHelper.genericResultSet(queryParams);
         if (genericResultSetIsPassed) {
             if (genericResultSet) {
                 json = this.toApiJsonSerializer.serialize(result);
@@ -62,6 +86,74 @@ public class JsonDatatableReportExportService implements DatatableReportExportSe
 
     }
 
+    /**
+     * Writes the same array-of-objects format as {@link GenericDataService#generateJsonFromGenericResultsetData}.
+     */
+    private final class FlatJsonStreamHandler implements GenericResultsetStreamHandler {
+
+        private final Writer writer;
+        private List<ResultsetColumnHeaderData> columnHeaders;
+        private boolean first = true;
+
+        private FlatJsonStreamHandler(final Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            this.columnHeaders = columnHeaders;
+            writer.write("[");
+        }
+
+        @Override
+        public void row(final List<Object> row) throws IOException {
+            if (!first) {
+                writer.write(",");
+            }
+            first = false;
+            writer.write(genericDataService.generateJsonFromGenericResultsetRow(columnHeaders, row));
+        }
+
+        @Override
+        public void end() throws IOException {
+            writer.write("\n]");
+        }
+    }
+
+    /**
+     * Writes the same structure as serializing a {@link GenericResultsetData}, one row at a time.
+     */
+    private final class GenericJsonStreamHandler implements GenericResultsetStreamHandler {
+
+        private final Writer writer;
+        private boolean first = true;
+
+        private GenericJsonStreamHandler(final Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start(final List<ResultsetColumnHeaderData> columnHeaders) throws IOException {
+            writer.write("{\"columnHeaders\":");
+            writer.write(toApiJsonSerializer.serialize(columnHeaders));
+            writer.write(",\"data\":[");
+        }
+
+        @Override
+        public void row(final List<Object> row) throws IOException {
+            if (!first) {
+                writer.write(",");
+            }
+            first = false;
+            writer.write(toApiJsonSerializer.serialize(ResultsetRowData.create(row)));
+        }
+
+        @Override
+        public void end() throws IOException {
+            writer.write("]}");
+        }
+    }
+
     @Override
     public boolean supports(DatatableExportTargetParameter exportType) {
         return exportType == DatatableExportTargetParameter.JSON || exportType == DatatableExportTargetParameter.PRETTY_JSON;
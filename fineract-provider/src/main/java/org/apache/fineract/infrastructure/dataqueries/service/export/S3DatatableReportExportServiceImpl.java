@@ -23,6 +23,9 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
@@ -49,21 +52,37 @@ public class S3DatatableReportExportServiceImpl implements DatatableReportExport
         try {
             StreamingOutput output = this.readExtraDataAndReportingService.retrieveReportCSV(reportName, parameterTypeValue, reportParams,
                     isSelfServiceUserReport);
-            try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
-                output.write(byteArrayOutputStream);
-                String folder = configurationDomainService.retrieveReportExportS3FolderName();
-                String filePath = DatatableExportUtil.generateS3DatatableExportFileName(AWS_S3_MAXIMUM_KEY_LENGTH, folder, "csv",
-                        reportName, reportParams);
-                s3Client.putObject(
-                        builder -> builder.bucket(properties.getReport().getExport().getS3().getBucketName()).key(filePath).build(),
-                        RequestBody.fromBytes(byteArrayOutputStream.toByteArray()));
-                return new ResponseHolder(Response.Status.NO_CONTENT);
+            String folder = configurationDomainService.retrieveReportExportS3FolderName();
+            String filePath = DatatableExportUtil.generateS3DatatableExportFileName(AWS_S3_MAXIMUM_KEY_LENGTH, folder, "csv", reportName,
+                    reportParams);
+            if (this.readExtraDataAndReportingService.isStreamingEnabled()) {
+                // spool to disk so the upload does not need the whole report on heap
+                Path tempFile = Files.createTempFile("report-export-", ".csv");
+                try {
+                    try (OutputStream out = Files.newOutputStream(tempFile)) {
+                        output.write(out);
+                    }
+                    upload(filePath, RequestBody.fromFile(tempFile));
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+            } else {
+                try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
+                    output.write(byteArrayOutputStream);
+                    upload(filePath, RequestBody.fromBytes(byteArrayOutputStream.toByteArray()));
+                }
             }
+            return new ResponseHolder(Response.Status.NO_CONTENT);
         } catch (IOException e) {
             throw new IllegalStateException("Error while exporting to S3", e);
         }
     }
 
+    private void upload(String filePath, RequestBody requestBody) {
+        s3Client.putObject(builder -> builder.bucket(properties.getReport().getExport().getS3().getBucketName()).key(filePath).build(),
+                requestBody);
+    }
+
     @Override
     public boolean supports(DatatableExportTargetParameter exportType) {
         return DatatableExportTargetParameter.S3 == exportType;
@@ -0,0 +1,107 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.infrastructure.core.domain.AbstractPersistableCustom;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+
+/**
+ * A hook event waiting to be delivered to (or already delivered to) one hook.
+ */
+@Entity
+@Table(name = "m_hook_delivery")
+@Getter
+@NoArgsConstructor
+public class HookDelivery extends AbstractPersistableCustom<Long> {
+
+    private static final int LAST_ERROR_MAX_LENGTH = 1000;
+
+    @Column(name = "hook_id", nullable = false)
+    private Long hookId;
+
+    @Column(name = "entity_name", nullable = false, length = 100)
+    private String entityName;
+
+    @Column(name = "action_name", nullable = false, length = 100)
+    private String actionName;
+
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private HookDeliveryStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private OffsetDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = LAST_ERROR_MAX_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private OffsetDateTime deliveredAt;
+
+    public static HookDelivery pending(final Long hookId, final String entityName, final String actionName, final String payload) {
+        final HookDelivery delivery = new HookDelivery();
+        delivery.hookId = hookId;
+        delivery.entityName = entityName;
+        delivery.actionName = actionName;
+        delivery.payload = payload;
+        delivery.status = HookDeliveryStatus.PENDING;
+        delivery.createdAt = DateUtils.getAuditOffsetDateTime();
+        delivery.nextAttemptAt = delivery.createdAt;
+        return delivery;
+    }
+
+    public void delivered() {
+        this.attempts++;
+        this.status = HookDeliveryStatus.DELIVERED;
+        this.deliveredAt = DateUtils.getAuditOffsetDateTime();
+        this.lastError = null;
+    }
+
+    /**
+     * Records a failed attempt, the delivery is retried at {@code nextAttemptAt} or dead-lettered when it is
+     * {@code null}.
+     */
+    public void failed(final String error, final OffsetDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = StringUtils.abbreviate(error, LAST_ERROR_MAX_LENGTH);
+        if (nextAttemptAt == null) {
+            this.status = HookDeliveryStatus.DEAD;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
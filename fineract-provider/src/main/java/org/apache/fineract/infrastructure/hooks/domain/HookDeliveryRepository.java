@@ -0,0 +1,50 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.domain;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface HookDeliveryRepository extends JpaRepository<HookDelivery, Long> {
+
+    @Query("select d.id from HookDelivery d where d.status = :status and d.nextAttemptAt <= :now order by d.nextAttemptAt asc, d.id asc")
+    List<Long> findDueIds(@Param("status") HookDeliveryStatus status, @Param("now") OffsetDateTime now, Pageable batchSize);
+
+    /**
+     * Leases a due delivery until {@code leaseUntil}, so that no other node attempts it meanwhile.
+     *
+     * @return {@code 1} when the lease was acquired
+     */
+    @Transactional
+    @Modifying
+    @Query("update HookDelivery d set d.nextAttemptAt = :leaseUntil where d.id = :id and d.status = :status and d.nextAttemptAt <= :now")
+    int lease(@Param("id") Long id, @Param("status") HookDeliveryStatus status, @Param("now") OffsetDateTime now,
+            @Param("leaseUntil") OffsetDateTime leaseUntil);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("delete from HookDelivery d where d.status = :status and d.deliveredAt <= :deliveredBefore")
+    int deleteDelivered(@Param("status") HookDeliveryStatus status, @Param("deliveredBefore") OffsetDateTime deliveredBefore);
+}
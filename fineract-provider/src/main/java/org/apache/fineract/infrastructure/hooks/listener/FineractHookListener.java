@@ -26,8 +26,8 @@ import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.hooks.domain.Hook;
 import org.apache.fineract.infrastructure.hooks.event.HookEvent;
 import org.apache.fineract.infrastructure.hooks.event.HookEventSource;
-import org.apache.fineract.infrastructure.hooks.processor.HookProcessor;
 import org.apache.fineract.infrastructure.hooks.processor.HookProcessorProvider;
+import org.apache.fineract.infrastructure.hooks.service.HookDeliveryService;
 import org.apache.fineract.infrastructure.hooks.service.HookReadPlatformService;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.stereotype.Service;
@@ -39,6 +39,7 @@ public class FineractHookListener implements HookListener {
 
     private final HookProcessorProvider hookProcessorProvider;
     private final HookReadPlatformService hookReadPlatformService;
+    private final HookDeliveryService hookDeliveryService;
 
     @Override
     public void onApplicationEvent(final HookEvent event) {
@@ -53,17 +54,18 @@ public class FineractHookListener implements HookListener {
         final String payload = event.getPayload();
 
         final List<Hook> hooks = hookReadPlatformService.retrieveHooksByEvent(hookEventSource.getEntityName(),
-                hookEventSource.getActionName());
+                hookEventSource.getActionName()).stream().filter(hook -> hookProcessorProvider.getProcessor(hook) != null).toList();
+        if (hooks.isEmpty()) {
+            return;
+        }
 
-        for (final Hook hook : hooks) {
-            final HookProcessor processor = hookProcessorProvider.getProcessor(hook);
-            try {
-                processor.process(hook, payload, entityName, actionName, fineractContext);
-            } catch (Throwable e) {
-                log.error("Hook {} failed in HookProcessor {} for tenantIdentifier/user {}/{}, entityName: {}, actionName: {}, payload {} ",
-                        hook.getId(), processor.getClass().getSimpleName(), fineractContext.getTenantContext().getTenantIdentifier(),
-                        appUser.getDisplayName(), entityName, actionName, payload, e);
-            }
+        try {
+            // delivered on the hook delivery pool, with retries, so that slow receivers do not hold this thread
+            hookDeliveryService.enqueue(hooks, entityName, actionName, payload);
+        } catch (RuntimeException e) {
+            log.error("Hooks {} could not be queued for tenantIdentifier/user {}/{}, entityName: {}, actionName: {}, payload {} ",
+                    hooks.stream().map(Hook::getId).toList(), fineractContext.getTenantContext().getTenantIdentifier(),
+                    appUser.getDisplayName(), entityName, actionName, payload, e);
         }
     }
 }
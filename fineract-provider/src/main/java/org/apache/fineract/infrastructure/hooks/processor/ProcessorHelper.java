@@ -18,21 +18,24 @@
  */
 package org.apache.fineract.infrastructure.hooks.processor;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
+import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import okhttp3.OkHttpClient;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.springframework.stereotype.Service;
 import retrofit2.Call;
-import retrofit2.Callback;
+import retrofit2.Response;
 import retrofit2.Retrofit;
 import retrofit2.converter.gson.GsonConverterFactory;
 
@@ -42,7 +45,7 @@ public final class ProcessorHelper {
     // Nota bene: Similar code to insecure HTTPS is also in Fineract Client's
     // org.apache.fineract.client.util.FineractClient.Builder.insecure()
 
-    private static final Logger LOG = LoggerFactory.getLogger(ProcessorHelper.class);
+    private static final int MAX_CACHED_SERVICES = 256;
 
     @SuppressWarnings("unused")
     private static final X509TrustManager insecureX509TrustManager = new X509TrustManager() {
@@ -67,16 +70,28 @@ public final class ProcessorHelper {
     private final boolean insecureHttpClient = Boolean.getBoolean("fineract.insecureHttpClient");
     private final SSLContext insecureSSLContext;
 
-    public ProcessorHelper() throws KeyManagementException, NoSuchAlgorithmException {
+    /**
+     * Single client for all the hooks, so that connections and threads are pooled across deliveries.
+     */
+    private final OkHttpClient client;
+    /**
+     * Retrofit services by target URL, the least recently used ones are evicted beyond {@link #MAX_CACHED_SERVICES}.
+     */
+    private final Cache<String, WebHookService> webHookServices = Caffeine.newBuilder().maximumSize(MAX_CACHED_SERVICES).build();
+
+    public ProcessorHelper(final FineractProperties fineractProperties) throws KeyManagementException, NoSuchAlgorithmException {
         if (insecureHttpClient) {
             insecureSSLContext = createInsecureSSLContext();
         } else {
             insecureSSLContext = null;
         }
+        client = createClient(fineractProperties.getHook().getDelivery());
     }
 
-    private OkHttpClient createClient() {
+    private OkHttpClient createClient(final FineractProperties.FineractHookDeliveryProperties properties) {
         var okBuilder = new OkHttpClient.Builder();
+        okBuilder.connectTimeout(properties.getConnectTimeoutSeconds(), TimeUnit.SECONDS);
+        okBuilder.readTimeout(properties.getReadTimeoutSeconds(), TimeUnit.SECONDS);
         if (insecureHttpClient) {
             configureInsecureClient(okBuilder);
         }
@@ -96,24 +111,11 @@ public final class ProcessorHelper {
         return insecureSSLContext;
     }
 
-    @SuppressWarnings("rawtypes")
-    public Callback createCallback(final String url) {
-        return new Callback() {
-
-            @Override
-            public void onResponse(@SuppressWarnings("unused") Call call, retrofit2.Response response) {
-                LOG.debug("URL: {} - Status: {}", url, response.code());
-            }
-
-            @Override
-            public void onFailure(@SuppressWarnings("unused") Call call, Throwable t) {
-                LOG.error("URL: {} - Retrofit failure occurred", url, t);
-            }
-        };
+    public WebHookService createWebHookService(final String url) {
+        return webHookServices.get(url, this::buildWebHookService);
     }
 
-    public WebHookService createWebHookService(final String url) {
-        final OkHttpClient client = createClient();
+    private WebHookService buildWebHookService(final String url) {
         final Retrofit.Builder retrofitBuilder = new Retrofit.Builder();
         retrofitBuilder.baseUrl(url);
         retrofitBuilder.client(client);
@@ -122,20 +124,18 @@ public final class ProcessorHelper {
         return retrofit.create(WebHookService.class);
     }
 
-    @SuppressWarnings("rawtypes")
-    public Callback createCallback(final String url, String payload) {
-
-        return new Callback() {
-
-            @Override
-            public void onResponse(@SuppressWarnings("unused") Call call, retrofit2.Response response) {
-                LOG.debug("URL: {} - Status: {}", url, response.code());
-            }
-
-            @Override
-            public void onFailure(@SuppressWarnings("unused") Call call, Throwable t) {
-                LOG.error("URL: {} - Retrofit failure occured", url, t);
-            }
-        };
+    /**
+     * Sends the request on the calling thread.
+     *
+     * @throws IOException
+     *             when the request fails or the target does not answer with a successful status, so that the delivery
+     *             is retried
+     */
+    public <T> T execute(final Call<T> call, final String url) throws IOException {
+        final Response<T> response = call.execute();
+        if (!response.isSuccessful()) {
+            throw new IOException("URL: " + url + " - Status: " + response.code());
+        }
+        return response.body();
     }
 }
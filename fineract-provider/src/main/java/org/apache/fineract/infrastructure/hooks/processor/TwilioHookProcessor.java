@@ -37,7 +37,6 @@ import org.apache.fineract.portfolio.client.domain.Client;
 import org.apache.fineract.portfolio.client.domain.ClientRepositoryWrapper;
 import org.apache.fineract.template.service.TemplateMergeService;
 import org.springframework.stereotype.Service;
-import retrofit2.Callback;
 
 @Service
 @RequiredArgsConstructor
@@ -63,8 +62,7 @@ public class TwilioHookProcessor implements HookProcessor {
 
         final WebHookService service = processorHelper.createWebHookService(smsProviderData.getUrl());
 
-        @SuppressWarnings("rawtypes")
-        final Callback callback = processorHelper.createCallback(smsProviderData.getUrl());
+        final String url = smsProviderData.getUrl();
 
         String apiKey = this.hookConfigurationRepository.findOneByHookIdAndFieldName(hook.getId(), apiKeyName);
         if (apiKey == null) {
@@ -89,8 +87,8 @@ public class TwilioHookProcessor implements HookProcessor {
             } else {
                 json = JsonParser.parseString(payload).getAsJsonObject();
             }
-            service.sendSmsBridgeRequest(entityName, actionName, context.getTenantContext().getTenantIdentifier(), apiKey, json)
-                    .enqueue(callback);
+            final String tenantIdentifier = context.getTenantContext().getTenantIdentifier();
+            processorHelper.execute(service.sendSmsBridgeRequest(entityName, actionName, tenantIdentifier, apiKey, json), url);
         }
     }
 
@@ -0,0 +1,204 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.businessdate.service.BusinessDateReadPlatformService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.apache.fineract.infrastructure.hooks.domain.Hook;
+import org.apache.fineract.infrastructure.hooks.domain.HookDelivery;
+import org.apache.fineract.infrastructure.hooks.domain.HookDeliveryRepository;
+import org.apache.fineract.infrastructure.hooks.domain.HookDeliveryStatus;
+import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.apache.fineract.infrastructure.hooks.processor.HookProcessor;
+import org.apache.fineract.infrastructure.hooks.processor.HookProcessorProvider;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.stereotype.Service;
+
+/**
+ * Delivers hook events from the persistent {@code m_hook_delivery} queue.
+ * <p>
+ * New deliveries are attempted right away on a bounded pool, failed ones are retried with an exponential backoff by a
+ * periodic poll and dead-lettered after the configured number of attempts. A delivery is leased before it is attempted,
+ * so it is attempted by a single node at a time, and each hook has a limited number of deliveries in flight so that a
+ * slow receiver cannot take the whole pool.
+ */
+@Slf4j
+@Service
+public class HookDeliveryService implements InitializingBean {
+
+    private final HookDeliveryRepository deliveryRepository;
+    private final HookRepository hookRepository;
+    private final HookProcessorProvider hookProcessorProvider;
+    private final TenantDetailsService tenantDetailsService;
+    private final BusinessDateReadPlatformService businessDateReadPlatformService;
+    private final TaskScheduler taskScheduler;
+    private final ThreadPoolTaskExecutor executor;
+    private final FineractProperties.FineractHookDeliveryProperties properties;
+
+    private final Map<String, Semaphore> permitsByHook = new ConcurrentHashMap<>();
+
+    public HookDeliveryService(HookDeliveryRepository deliveryRepository, HookRepository hookRepository,
+            HookProcessorProvider hookProcessorProvider, TenantDetailsService tenantDetailsService,
+            BusinessDateReadPlatformService businessDateReadPlatformService, TaskScheduler taskScheduler,
+            @Qualifier(HookDeliveryTaskExecutorConfig.HOOK_DELIVERY_EXECUTOR_BEAN_NAME) ThreadPoolTaskExecutor executor,
+            FineractProperties fineractProperties) {
+        this.deliveryRepository = deliveryRepository;
+        this.hookRepository = hookRepository;
+        this.hookProcessorProvider = hookProcessorProvider;
+        this.tenantDetailsService = tenantDetailsService;
+        this.businessDateReadPlatformService = businessDateReadPlatformService;
+        this.taskScheduler = taskScheduler;
+        this.executor = executor;
+        this.properties = fineractProperties.getHook().getDelivery();
+    }
+
+    @SuppressWarnings({ "FutureReturnValueIgnored" })
+    @Override
+    public void afterPropertiesSet() {
+        long pollIntervalInSec = properties.getPollIntervalSeconds();
+        if (pollIntervalInSec < 1) {
+            log.warn("Poll interval of the hook deliveries cannot be smaller than 1 second, setting back the minimum 1");
+            pollIntervalInSec = 1;
+        }
+        Duration pollInterval = Duration.ofSeconds(pollIntervalInSec);
+        PeriodicTrigger trigger = new PeriodicTrigger(pollInterval);
+        trigger.setInitialDelay(pollInterval);
+        taskScheduler.schedule(this::poll, trigger);
+    }
+
+    /**
+     * Queues the event for each hook and attempts the deliveries right away, without waiting for the receivers.
+     */
+    public void enqueue(List<Hook> hooks, String entityName, String actionName, String payload) {
+        final List<HookDelivery> deliveries = deliveryRepository
+                .saveAll(hooks.stream().map(hook -> HookDelivery.pending(hook.getId(), entityName, actionName, payload)).toList());
+        deliveries.forEach(delivery -> submit(delivery.getId()));
+    }
+
+    private void poll() {
+        for (FineractPlatformTenant tenant : tenantDetailsService.findAllTenants()) {
+            ThreadLocalContextUtil.setTenant(tenant);
+            try {
+                HashMap<BusinessDateType, LocalDate> businessDates = businessDateReadPlatformService.getBusinessDates();
+                ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+                ThreadLocalContextUtil.setBusinessDates(businessDates);
+
+                final OffsetDateTime now = DateUtils.getAuditOffsetDateTime();
+                deliveryRepository.deleteDelivered(HookDeliveryStatus.DELIVERED, now.minusDays(properties.getRetentionDays()));
+                deliveryRepository.findDueIds(HookDeliveryStatus.PENDING, now, PageRequest.of(0, properties.getBatchSize()))
+                        .forEach(this::submit);
+            } catch (RuntimeException e) {
+                log.error("Error while polling the hook deliveries of tenant {}", tenant.getTenantIdentifier(), e);
+            } finally {
+                ThreadLocalContextUtil.reset();
+            }
+        }
+    }
+
+    private void submit(Long deliveryId) {
+        executor.execute(() -> attempt(deliveryId));
+    }
+
+    private void attempt(Long deliveryId) {
+        final HookDelivery delivery = deliveryRepository.findById(deliveryId).orElse(null);
+        if (delivery == null || delivery.getStatus() != HookDeliveryStatus.PENDING) {
+            return;
+        }
+        final Semaphore permits = permitsByHook.computeIfAbsent(
+                ThreadLocalContextUtil.getTenant().getTenantIdentifier() + ":" + delivery.getHookId(),
+                key -> new Semaphore(Math.max(1, properties.getMaxConcurrentPerHook())));
+        if (!permits.tryAcquire()) {
+            // the hook is busy, the delivery stays due and is picked up by the next poll
+            return;
+        }
+        try {
+            final OffsetDateTime now = DateUtils.getAuditOffsetDateTime();
+            final Duration lease = Duration.ofSeconds(2L * (properties.getConnectTimeoutSeconds() + properties.getReadTimeoutSeconds()));
+            if (deliveryRepository.lease(deliveryId, HookDeliveryStatus.PENDING, now, now.plus(lease)) == 0) {
+                return;
+            }
+            deliver(delivery);
+            deliveryRepository.save(delivery);
+        } catch (RuntimeException e) {
+            log.error("Error while delivering hook delivery {}", deliveryId, e);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void deliver(HookDelivery delivery) {
+        final Hook hook = hookRepository.findById(delivery.getHookId()).orElse(null);
+        final HookProcessor processor = hook == null || !Boolean.TRUE.equals(hook.getIsActive()) ? null
+                : hookProcessorProvider.getProcessor(hook);
+        if (processor == null) {
+            delivery.failed("Hook " + delivery.getHookId() + " is not active anymore", null);
+            return;
+        }
+        try {
+            processor.process(hook, delivery.getPayload(), delivery.getEntityName(), delivery.getActionName(),
+                    ThreadLocalContextUtil.getContext());
+            delivery.delivered();
+        } catch (Exception e) {
+            final int failedAttempts = delivery.getAttempts() + 1;
+            if (failedAttempts >= properties.getMaxAttempts()) {
+                log.error("Hook {} failed {} times in HookProcessor {}, entityName: {}, actionName: {}, giving up", hook.getId(),
+                        failedAttempts, processor.getClass().getSimpleName(), delivery.getEntityName(), delivery.getActionName(), e);
+                delivery.failed(e.toString(), null);
+            } else {
+                log.warn("Hook {} failed in HookProcessor {}, entityName: {}, actionName: {}, attempt {} of {}: {}", hook.getId(),
+                        processor.getClass().getSimpleName(), delivery.getEntityName(), delivery.getActionName(), failedAttempts,
+                        properties.getMaxAttempts(), e.toString());
+                delivery.failed(e.toString(), DateUtils.getAuditOffsetDateTime()
+                        .plus(backoff(failedAttempts, properties.getInitialBackoffSeconds(), properties.getMaxBackoffSeconds())));
+            }
+        }
+    }
+
+    /**
+     * @return the delay before the next attempt, doubled for each failed attempt and capped at {@code maxSeconds}
+     */
+    static Duration backoff(int failedAttempts, int initialSeconds, int maxSeconds) {
+        final int doublings = Math.max(0, failedAttempts - 1);
+        if (doublings >= Integer.SIZE) {
+            // a larger shift could overflow, and is far above any sensible maximum anyway
+            return Duration.ofSeconds(maxSeconds);
+        }
+        return Duration.ofSeconds(Math.min((long) maxSeconds, (long) initialSeconds << doublings));
+    }
+}
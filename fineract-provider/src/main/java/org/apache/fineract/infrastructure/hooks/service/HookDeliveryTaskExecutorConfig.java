@@ -0,0 +1,51 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.service.ContextPropagatingTaskDecorator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@RequiredArgsConstructor
+public class HookDeliveryTaskExecutorConfig {
+
+    public static final String HOOK_DELIVERY_EXECUTOR_BEAN_NAME = "hookDeliveryExecutor";
+
+    private final FineractProperties fineractProperties;
+
+    @Bean(HOOK_DELIVERY_EXECUTOR_BEAN_NAME)
+    public ThreadPoolTaskExecutor hookDeliveryExecutor() {
+        FineractProperties.FineractHookDeliveryProperties deliveryProperties = fineractProperties.getHook().getDelivery();
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(deliveryProperties.getThreadPoolSize());
+        threadPoolTaskExecutor.setMaxPoolSize(deliveryProperties.getThreadPoolSize());
+        threadPoolTaskExecutor.setQueueCapacity(deliveryProperties.getBatchSize());
+        // deliveries are persisted before they are submitted, the ones rejected here are attempted by the next poll
+        threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        threadPoolTaskExecutor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        threadPoolTaskExecutor.setThreadNamePrefix("hook-delivery-");
+        threadPoolTaskExecutor.initialize();
+        return threadPoolTaskExecutor;
+    }
+}
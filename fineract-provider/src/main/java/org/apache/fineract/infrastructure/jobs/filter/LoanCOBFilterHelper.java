@@ -43,6 +43,8 @@ import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
 import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.cob.service.InlineLoanCOBExecutorServiceImpl;
 import org.apache.fineract.cob.service.LoanAccountLockService;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
+import org.apache.fineract.cob.service.LoanCOBStateIndex.LockState;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.ExternalId;
@@ -72,6 +74,7 @@ public class LoanCOBFilterHelper implements InitializingBean {
     private final LoanRepository loanRepository;
     private final FineractProperties fineractProperties;
     private final RetrieveLoanIdService retrieveLoanIdService;
+    private final LoanCOBStateIndex loanCOBStateIndex;
 
     private final LoanRescheduleRequestRepository loanRescheduleRequestRepository;
     private final ObjectMapper objectMapper = new ObjectMapper();
@@ -183,6 +186,9 @@ public class LoanCOBFilterHelper implements InitializingBean {
     }
 
     private boolean isLoanHardLocked(List<Long> loanIds) {
+        if (loanCOBStateIndex.isEnabled()) {
+            return loanCOBStateIndex.getLockStates(loanIds).values().stream().anyMatch(LockState::isHardLocked);
+        }
         return loanIds.stream().anyMatch(loanAccountLockService::isLoanHardLocked);
     }
 
@@ -191,10 +197,16 @@ public class LoanCOBFilterHelper implements InitializingBean {
     }
 
     private boolean isLockOverrulable(List<Long> loanIds) {
+        if (loanCOBStateIndex.isEnabled()) {
+            return loanCOBStateIndex.getLockStates(loanIds).containsValue(LockState.OVERRULABLE);
+        }
         return loanIds.stream().anyMatch(loanAccountLockService::isLockOverrulable);
     }
 
     public boolean isLoanBehind(List<Long> loanIds) {
+        if (loanCOBStateIndex.isEnabled()) {
+            return loanCOBStateIndex.isAnyLoanBehind(loanIds, ThreadLocalContextUtil.getBusinessDateByType(BusinessDateType.COB_DATE));
+        }
         List<LoanIdAndLastClosedBusinessDate> loanIdAndLastClosedBusinessDates = new ArrayList<>();
         List<List<Long>> partitions = Lists.partition(loanIds, fineractProperties.getQuery().getInClauseParameterSizeLimit());
         partitions.forEach(partition -> loanIdAndLastClosedBusinessDates.addAll(retrieveLoanIdService
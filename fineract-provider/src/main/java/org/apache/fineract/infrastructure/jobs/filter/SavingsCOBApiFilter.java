@@ -0,0 +1,62 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.data.ApiGlobalErrorResponse;
+import org.apache.fineract.infrastructure.core.http.BodyCachingHttpServletRequestWrapper;
+import org.apache.fineract.useradministration.exception.UnAuthenticatedUserException;
+import org.apache.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Rejects the API writes of savings accounts which are being processed by the savings COB, the counterpart of
+ * {@link LoanCOBApiFilter}. There is no inline savings COB, so accounts which are behind are not caught up here.
+ */
+@RequiredArgsConstructor
+public class SavingsCOBApiFilter extends OncePerRequestFilter {
+
+    private final SavingsCOBFilterHelper helper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        BodyCachingHttpServletRequestWrapper cachingRequest = new BodyCachingHttpServletRequestWrapper(request);
+        try {
+            if (helper.isOnApiList(cachingRequest) && !helper.isBypassUser()) {
+                Optional<Long> lockedSavingsId = helper.findLockedSavingsId(cachingRequest);
+                if (lockedSavingsId.isPresent()) {
+                    response.setStatus(HttpStatus.SC_CONFLICT);
+                    response.getWriter().write(ApiGlobalErrorResponse.savingsAccountIsLocked(lockedSavingsId.get()).toJson());
+                    return;
+                }
+            }
+        } catch (UnAuthenticatedUserException e) {
+            throw new AuthenticationCredentialsNotFoundException("Not Authenticated", e);
+        }
+        filterChain.doFilter(cachingRequest, response);
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.filter;
+
+import static org.apache.fineract.batch.command.CommandStrategyUtils.isRelativeUrlVersioned;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.fineract.batch.domain.BatchRequest;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.domain.SavingsAccountLock;
+import org.apache.fineract.cob.savings.SavingsLockingService;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.http.BodyCachingHttpServletRequestWrapper;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepository;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+
+/**
+ * Finds the savings accounts written by an API request and tells whether the savings COB holds any of them. A lock
+ * which recorded an error is not held anymore: the account stays writable so that the failure can be fixed.
+ */
+@RequiredArgsConstructor
+@Component
+public class SavingsCOBFilterHelper implements InitializingBean {
+
+    private static final List<HttpMethod> HTTP_METHODS = List.of(HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE);
+
+    public static final Pattern SAVINGS_PATH_PATTERN = Pattern
+            .compile("/v[1-9][0-9]*/(?:savingsaccounts|fixeddepositaccounts|recurringdepositaccounts)/(external-id/)?([^/?]+).*");
+    public static final Pattern IGNORE_SAVINGS_PATH_PATTERN = Pattern
+            .compile("/v[1-9][0-9]*/savingsaccounts/[^/?]+/transactions/(?:search|query)");
+
+    private final PlatformSecurityContext context;
+    private final SavingsAccountRepository savingsAccountRepository;
+    private final SavingsLockingService savingsLockingService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public boolean isOnApiList(BodyCachingHttpServletRequestWrapper request) throws IOException {
+        String pathInfo = request.getPathInfo();
+        if (StringUtils.isBlank(pathInfo)) {
+            return false;
+        }
+        if (isBatchApi(pathInfo)) {
+            for (BatchRequest batchRequest : getBatchRequests(request)) {
+                if (isApiMatching(batchRequest.getMethod(), batchRequest.getRelativeUrl())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return isApiMatching(request.getMethod(), pathInfo);
+    }
+
+    public boolean isBypassUser() {
+        return context.authenticatedUser().isBypassUser();
+    }
+
+    /**
+     * @return the first savings account of the request which is locked by the savings COB
+     */
+    public Optional<Long> findLockedSavingsId(BodyCachingHttpServletRequestWrapper request) throws IOException {
+        List<Long> savingsIds = new ArrayList<>();
+        String pathInfo = request.getPathInfo();
+        if (isBatchApi(pathInfo)) {
+            for (BatchRequest batchRequest : getBatchRequests(request)) {
+                // a resourceId reference is only known once the previous requests are executed
+                if (!batchRequest.getRelativeUrl().contains("$.resourceId")
+                        && isApiMatching(batchRequest.getMethod(), batchRequest.getRelativeUrl())) {
+                    addSavingsId(batchRequest.getRelativeUrl(), savingsIds);
+                }
+            }
+        } else {
+            addSavingsId(pathInfo, savingsIds);
+        }
+        if (savingsIds.isEmpty()) {
+            return Optional.empty();
+        }
+        return savingsLockingService.findAllBySavingsIdInAndLockOwner(savingsIds, LockOwner.SAVINGS_COB_CHUNK_PROCESSING).stream()
+                .filter(lock -> lock.getError() == null).map(SavingsAccountLock::getSavingsAccountId).findFirst();
+    }
+
+    private void addSavingsId(String pathInfo, List<Long> savingsIds) {
+        Matcher matcher = SAVINGS_PATH_PATTERN.matcher(pathInfo);
+        if (!matcher.matches()) {
+            return;
+        }
+        String id = matcher.group(2);
+        if (matcher.group(1) != null) {
+            Long savingsId = savingsAccountRepository.findIdByExternalId(new ExternalId(id));
+            if (savingsId != null) {
+                savingsIds.add(savingsId);
+            }
+        } else if (StringUtils.isNumeric(id)) {
+            savingsIds.add(Long.valueOf(id));
+        }
+    }
+
+    private boolean isApiMatching(String method, String pathInfo) {
+        return HTTP_METHODS.contains(HttpMethod.valueOf(method)) && !IGNORE_SAVINGS_PATH_PATTERN.matcher(pathInfo).find()
+                && SAVINGS_PATH_PATTERN.matcher(pathInfo).find();
+    }
+
+    private boolean isBatchApi(String pathInfo) {
+        return pathInfo.startsWith("/v1/batches");
+    }
+
+    private List<BatchRequest> getBatchRequests(BodyCachingHttpServletRequestWrapper request) throws IOException {
+        List<BatchRequest> batchRequests = objectMapper.readValue(request.getInputStream(), new TypeReference<>() {});
+        // since we read body, we have to reset so the upcoming readings are successful
+        request.resetStream();
+        for (BatchRequest batchRequest : batchRequests) {
+            String pathInfo = "/" + batchRequest.getRelativeUrl();
+            if (!isRelativeUrlVersioned(batchRequest.getRelativeUrl())) {
+                pathInfo = "/v1/" + batchRequest.getRelativeUrl();
+            }
+            batchRequest.setRelativeUrl(pathInfo);
+        }
+        return batchRequests;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        objectMapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
+    }
+}
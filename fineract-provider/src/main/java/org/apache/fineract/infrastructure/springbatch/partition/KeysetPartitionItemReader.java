@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch.partition;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+/**
+ * Reads the items of one id range partition, one page of keys at a time, using the last completed key as the keyset.
+ * Several items may share a key; a key is completed once its last item was handed out. The last completed key is stored
+ * in the step execution context on every chunk commit, so a restarted partition continues after it instead of starting
+ * over. Keys selected for a page without any item are skipped together with the rest of that page.
+ */
+@Slf4j
+public abstract class KeysetPartitionItemReader<T> implements ItemStreamReader<T> {
+
+    private final String checkpointKey;
+    private final Long minIdExclusive;
+    private final Long maxIdInclusive;
+    private final int pageSize;
+
+    private final Deque<T> buffer = new ArrayDeque<>();
+    private Long lastCompletedId;
+    private Long pageEndId;
+    private boolean exhausted;
+
+    protected KeysetPartitionItemReader(String checkpointKey, Long minIdExclusive, Long maxIdInclusive, int pageSize) {
+        this.checkpointKey = checkpointKey;
+        this.minIdExclusive = minIdExclusive;
+        this.maxIdInclusive = maxIdInclusive;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Called once when the step opens, before the first page is read.
+     */
+    protected void init() {}
+
+    /**
+     * Returns at most {@code limit} keys of the partition in ascending order, greater than {@code afterId} and not
+     * greater than {@code maxId}.
+     */
+    protected abstract List<Long> retrieveKeys(Long afterId, Long maxId, int limit);
+
+    /**
+     * Returns the items of the keys in {@code (fromIdExclusive, toIdInclusive]} ordered by key.
+     */
+    protected abstract List<T> retrieveItems(Long fromIdExclusive, Long toIdInclusive);
+
+    protected abstract Long keyOf(T item);
+
+    @Override
+    public void open(@NotNull ExecutionContext executionContext) throws ItemStreamException {
+        init();
+        boolean restart = executionContext.containsKey(checkpointKey);
+        lastCompletedId = restart ? executionContext.getLong(checkpointKey) : minIdExclusive;
+        pageEndId = lastCompletedId;
+        exhausted = false;
+        if (restart) {
+            log.info("Restarting partition ({}, {}] of {} after {}", minIdExclusive, maxIdInclusive, getClass().getSimpleName(),
+                    lastCompletedId);
+        }
+    }
+
+    @Override
+    public T read() {
+        while (buffer.isEmpty() && !exhausted) {
+            fetchNextPage();
+        }
+        T item = buffer.poll();
+        if (item == null) {
+            return null;
+        }
+        if (buffer.isEmpty()) {
+            lastCompletedId = pageEndId;
+        } else if (!keyOf(item).equals(keyOf(buffer.peek()))) {
+            lastCompletedId = keyOf(item);
+        }
+        return item;
+    }
+
+    private void fetchNextPage() {
+        List<Long> ids = retrieveKeys(pageEndId, maxIdInclusive, pageSize);
+        if (ids.isEmpty()) {
+            exhausted = true;
+            return;
+        }
+        Long pageStartId = pageEndId;
+        pageEndId = ids.get(ids.size() - 1);
+        buffer.addAll(retrieveItems(pageStartId, pageEndId));
+        if (buffer.isEmpty()) {
+            lastCompletedId = pageEndId;
+        }
+    }
+
+    @Override
+    public void update(@NotNull ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putLong(checkpointKey, lastCompletedId);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        buffer.clear();
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch.partition;
+
+import java.util.function.Predicate;
+import org.apache.fineract.infrastructure.core.condition.PropertiesCondition;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractJobProperties;
+
+/**
+ * Conditions of a job that runs either as a single tasklet or, when its partitioned flag is enabled, as a remote
+ * partitioned job on the batch manager and worker instances.
+ */
+public final class PartitionedJobConditions {
+
+    private PartitionedJobConditions() {}
+
+    private abstract static class PartitionedFlagCondition extends PropertiesCondition {
+
+        private final Predicate<FineractJobProperties> partitionedEnabled;
+
+        PartitionedFlagCondition(Predicate<FineractJobProperties> partitionedEnabled) {
+            this.partitionedEnabled = partitionedEnabled;
+        }
+
+        protected boolean isPartitioned(FineractProperties properties) {
+            return partitionedEnabled.test(properties.getJob());
+        }
+    }
+
+    public abstract static class Manager extends PartitionedFlagCondition {
+
+        protected Manager(Predicate<FineractJobProperties> partitionedEnabled) {
+            super(partitionedEnabled);
+        }
+
+        @Override
+        protected boolean matches(FineractProperties properties) {
+            return isPartitioned(properties) && properties.getMode().isBatchManagerEnabled();
+        }
+    }
+
+    public abstract static class Worker extends PartitionedFlagCondition {
+
+        protected Worker(Predicate<FineractJobProperties> partitionedEnabled) {
+            super(partitionedEnabled);
+        }
+
+        @Override
+        protected boolean matches(FineractProperties properties) {
+            return isPartitioned(properties) && properties.getMode().isBatchWorkerEnabled();
+        }
+    }
+
+    public abstract static class Tasklet extends PartitionedFlagCondition {
+
+        protected Tasklet(Predicate<FineractJobProperties> partitionedEnabled) {
+            super(partitionedEnabled);
+        }
+
+        @Override
+        protected boolean matches(FineractProperties properties) {
+            return !isPartitioned(properties);
+        }
+    }
+}
@@ -22,7 +22,8 @@ import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
-import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
+import org.apache.fineract.infrastructure.event.business.AfterCommitBusinessEventListener;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.client.ClientCreateBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.deposit.FixedDepositAccountCreateBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.deposit.RecurringDepositAccountCreateBusinessEvent;
@@ -66,186 +67,193 @@ public class NotificationDomainServiceImpl implements NotificationDomainService
 
     @PostConstruct
     public void addListeners() {
-        businessEventNotifierService.addPostBusinessEventListener(ClientCreateBusinessEvent.class, new ClientCreatedListener());
-        businessEventNotifierService.addPostBusinessEventListener(SavingsApproveBusinessEvent.class, new SavingsAccountApprovedListener());
-        businessEventNotifierService.addPostBusinessEventListener(CentersCreateBusinessEvent.class, new CenterCreatedListener());
-        businessEventNotifierService.addPostBusinessEventListener(GroupsCreateBusinessEvent.class, new GroupCreatedListener());
-        businessEventNotifierService.addPostBusinessEventListener(SavingsDepositBusinessEvent.class, new SavingsAccountDepositListener());
-        businessEventNotifierService.addPostBusinessEventListener(ShareProductDividentsCreateBusinessEvent.class,
+        businessEventNotifierService.addAfterCommitBusinessEventListener(ClientCreateBusinessEvent.class, new ClientCreatedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(SavingsApproveBusinessEvent.class,
+                new SavingsAccountApprovedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(CentersCreateBusinessEvent.class, new CenterCreatedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(GroupsCreateBusinessEvent.class, new GroupCreatedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(SavingsDepositBusinessEvent.class,
+                new SavingsAccountDepositListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(ShareProductDividentsCreateBusinessEvent.class,
                 new ShareProductDividendCreatedListener());
-        businessEventNotifierService.addPostBusinessEventListener(FixedDepositAccountCreateBusinessEvent.class,
+        businessEventNotifierService.addAfterCommitBusinessEventListener(FixedDepositAccountCreateBusinessEvent.class,
                 new FixedDepositAccountCreatedListener());
-        businessEventNotifierService.addPostBusinessEventListener(RecurringDepositAccountCreateBusinessEvent.class,
+        businessEventNotifierService.addAfterCommitBusinessEventListener(RecurringDepositAccountCreateBusinessEvent.class,
                 new RecurringDepositAccountCreatedListener());
-        businessEventNotifierService.addPostBusinessEventListener(SavingsPostInterestBusinessEvent.class,
+        businessEventNotifierService.addAfterCommitBusinessEventListener(SavingsPostInterestBusinessEvent.class,
                 new SavingsPostInterestListener());
-        businessEventNotifierService.addPostBusinessEventListener(LoanCreatedBusinessEvent.class, new LoanCreatedListener());
-        businessEventNotifierService.addPostBusinessEventListener(LoanApprovedBusinessEvent.class, new LoanApprovedListener());
-        businessEventNotifierService.addPostBusinessEventListener(LoanCloseBusinessEvent.class, new LoanClosedListener());
-        businessEventNotifierService.addPostBusinessEventListener(LoanChargebackTransactionBusinessEvent.class,
+        businessEventNotifierService.addAfterCommitBusinessEventListener(LoanCreatedBusinessEvent.class, new LoanCreatedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(LoanApprovedBusinessEvent.class, new LoanApprovedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(LoanCloseBusinessEvent.class, new LoanClosedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(LoanChargebackTransactionBusinessEvent.class,
                 new LoanChargebackTransactionListener());
-        businessEventNotifierService.addPostBusinessEventListener(LoanCloseAsRescheduleBusinessEvent.class,
+        businessEventNotifierService.addAfterCommitBusinessEventListener(LoanCloseAsRescheduleBusinessEvent.class,
                 new LoanCloseAsRescheduledListener());
-        businessEventNotifierService.addPostBusinessEventListener(LoanTransactionMakeRepaymentPostBusinessEvent.class,
+        businessEventNotifierService.addAfterCommitBusinessEventListener(LoanTransactionMakeRepaymentPostBusinessEvent.class,
                 new LoanMakeRepaymentListener());
-        businessEventNotifierService.addPostBusinessEventListener(LoanProductCreateBusinessEvent.class, new LoanProductCreatedListener());
-        businessEventNotifierService.addPostBusinessEventListener(SavingsCreateBusinessEvent.class, new SavingsAccountCreatedListener());
-        businessEventNotifierService.addPostBusinessEventListener(SavingsCloseBusinessEvent.class, new SavingsAccountClosedListener());
-        businessEventNotifierService.addPostBusinessEventListener(ShareAccountCreateBusinessEvent.class, new ShareAccountCreatedListener());
-        businessEventNotifierService.addPostBusinessEventListener(ShareAccountApproveBusinessEvent.class,
+        businessEventNotifierService.addAfterCommitBusinessEventListener(LoanProductCreateBusinessEvent.class,
+                new LoanProductCreatedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(SavingsCreateBusinessEvent.class,
+                new SavingsAccountCreatedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(SavingsCloseBusinessEvent.class,
+                new SavingsAccountClosedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(ShareAccountCreateBusinessEvent.class,
+                new ShareAccountCreatedListener());
+        businessEventNotifierService.addAfterCommitBusinessEventListener(ShareAccountApproveBusinessEvent.class,
                 new ShareAccountApprovedListener());
     }
 
-    private final class ClientCreatedListener implements BusinessEventListener<ClientCreateBusinessEvent> {
+    private final class ClientCreatedListener extends NotificationListener<ClientCreateBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(ClientCreateBusinessEvent event) {
+        public CapturedNotification capture(ClientCreateBusinessEvent event) {
             Client client = event.get();
-            buildNotification("ACTIVATE_CLIENT", "client", client.getId(), "New client created", "created",
+            return new CapturedNotification("ACTIVATE_CLIENT", "client", client.getId(), "New client created", "created",
                     context.authenticatedUser().getId(), client.getOffice().getId());
         }
     }
 
-    private final class CenterCreatedListener implements BusinessEventListener<CentersCreateBusinessEvent> {
+    private final class CenterCreatedListener extends NotificationListener<CentersCreateBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(CentersCreateBusinessEvent event) {
+        public CapturedNotification capture(CentersCreateBusinessEvent event) {
             CommandProcessingResult commandProcessingResult = event.get();
-            buildNotification("ACTIVATE_CENTER", "center", commandProcessingResult.getGroupId(), "New center created", "created",
-                    context.authenticatedUser().getId(), commandProcessingResult.getOfficeId());
+            return new CapturedNotification("ACTIVATE_CENTER", "center", commandProcessingResult.getGroupId(), "New center created",
+                    "created", context.authenticatedUser().getId(), commandProcessingResult.getOfficeId());
         }
     }
 
-    private final class GroupCreatedListener implements BusinessEventListener<GroupsCreateBusinessEvent> {
+    private final class GroupCreatedListener extends NotificationListener<GroupsCreateBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(GroupsCreateBusinessEvent event) {
+        public CapturedNotification capture(GroupsCreateBusinessEvent event) {
             CommandProcessingResult commandProcessingResult = event.get();
-            buildNotification("ACTIVATE_GROUP", "group", commandProcessingResult.getGroupId(), "New group created", "created",
+            return new CapturedNotification("ACTIVATE_GROUP", "group", commandProcessingResult.getGroupId(), "New group created", "created",
                     context.authenticatedUser().getId(), commandProcessingResult.getOfficeId());
         }
     }
 
-    private final class SavingsAccountDepositListener implements BusinessEventListener<SavingsDepositBusinessEvent> {
+    private final class SavingsAccountDepositListener extends NotificationListener<SavingsDepositBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(SavingsDepositBusinessEvent event) {
+        public CapturedNotification capture(SavingsDepositBusinessEvent event) {
             SavingsAccountTransaction savingsAccountTransaction = event.get();
-            buildNotification("READ_SAVINGSACCOUNT", "savingsAccount", savingsAccountTransaction.getSavingsAccount().getId(),
+            return new CapturedNotification("READ_SAVINGSACCOUNT", "savingsAccount", savingsAccountTransaction.getSavingsAccount().getId(),
                     "Deposit made", "depositMade", context.authenticatedUser().getId(),
                     savingsAccountTransaction.getSavingsAccount().officeId());
         }
     }
 
-    private final class ShareProductDividendCreatedListener implements BusinessEventListener<ShareProductDividentsCreateBusinessEvent> {
+    private final class ShareProductDividendCreatedListener extends NotificationListener<ShareProductDividentsCreateBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(ShareProductDividentsCreateBusinessEvent event) {
+        public CapturedNotification capture(ShareProductDividentsCreateBusinessEvent event) {
             Long shareProductId = event.get();
-            buildNotification("READ_DIVIDEND_SHAREPRODUCT", "shareProduct", shareProductId, "Dividend posted to account", "dividendPosted",
-                    context.authenticatedUser().getId(), context.authenticatedUser().getOffice().getId());
+            return new CapturedNotification("READ_DIVIDEND_SHAREPRODUCT", "shareProduct", shareProductId, "Dividend posted to account",
+                    "dividendPosted", context.authenticatedUser().getId(), context.authenticatedUser().getOffice().getId());
         }
     }
 
-    private final class FixedDepositAccountCreatedListener implements BusinessEventListener<FixedDepositAccountCreateBusinessEvent> {
+    private final class FixedDepositAccountCreatedListener extends NotificationListener<FixedDepositAccountCreateBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(FixedDepositAccountCreateBusinessEvent event) {
+        public CapturedNotification capture(FixedDepositAccountCreateBusinessEvent event) {
             FixedDepositAccount fixedDepositAccount = event.get();
-            buildNotification("APPROVE_FIXEDDEPOSITACCOUNT", "fixedDeposit", fixedDepositAccount.getId(),
+            return new CapturedNotification("APPROVE_FIXEDDEPOSITACCOUNT", "fixedDeposit", fixedDepositAccount.getId(),
                     "New fixed deposit account created", "created", context.authenticatedUser().getId(), fixedDepositAccount.officeId());
         }
     }
 
     private final class RecurringDepositAccountCreatedListener
-            implements BusinessEventListener<RecurringDepositAccountCreateBusinessEvent> {
+            extends NotificationListener<RecurringDepositAccountCreateBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(RecurringDepositAccountCreateBusinessEvent event) {
+        public CapturedNotification capture(RecurringDepositAccountCreateBusinessEvent event) {
             RecurringDepositAccount recurringDepositAccount = event.get();
-            buildNotification("APPROVE_RECURRINGDEPOSITACCOUNT", "recurringDepositAccount", recurringDepositAccount.getId(),
+            return new CapturedNotification("APPROVE_RECURRINGDEPOSITACCOUNT", "recurringDepositAccount", recurringDepositAccount.getId(),
                     "New recurring deposit account created", "created", context.authenticatedUser().getId(),
                     recurringDepositAccount.officeId());
         }
     }
 
-    private final class SavingsAccountApprovedListener implements BusinessEventListener<SavingsApproveBusinessEvent> {
+    private final class SavingsAccountApprovedListener extends NotificationListener<SavingsApproveBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(SavingsApproveBusinessEvent event) {
+        public CapturedNotification capture(SavingsApproveBusinessEvent event) {
             SavingsAccount savingsAccount = event.get();
             if (savingsAccount.depositAccountType().equals(DepositAccountType.FIXED_DEPOSIT)) {
 
-                buildNotification("ACTIVATE_FIXEDDEPOSITACCOUNT", "fixedDeposit", savingsAccount.getId(), "Fixed deposit account approved",
-                        "approved", context.authenticatedUser().getId(), savingsAccount.officeId());
+                return new CapturedNotification("ACTIVATE_FIXEDDEPOSITACCOUNT", "fixedDeposit", savingsAccount.getId(),
+                        "Fixed deposit account approved", "approved", context.authenticatedUser().getId(), savingsAccount.officeId());
             } else if (savingsAccount.depositAccountType().equals(DepositAccountType.RECURRING_DEPOSIT)) {
 
-                buildNotification("ACTIVATE_RECURRINGDEPOSITACCOUNT", "recurringDepositAccount", savingsAccount.getId(),
+                return new CapturedNotification("ACTIVATE_RECURRINGDEPOSITACCOUNT", "recurringDepositAccount", savingsAccount.getId(),
                         "Recurring deposit account approved", "approved", context.authenticatedUser().getId(), savingsAccount.officeId());
             } else if (savingsAccount.depositAccountType().equals(DepositAccountType.SAVINGS_DEPOSIT)) {
 
-                buildNotification("ACTIVATE_SAVINGSACCOUNT", "savingsAccount", savingsAccount.getId(), "Savings account approved",
-                        "approved", context.authenticatedUser().getId(), savingsAccount.officeId());
+                return new CapturedNotification("ACTIVATE_SAVINGSACCOUNT", "savingsAccount", savingsAccount.getId(),
+                        "Savings account approved", "approved", context.authenticatedUser().getId(), savingsAccount.officeId());
             }
+            return null;
         }
     }
 
-    private final class SavingsPostInterestListener implements BusinessEventListener<SavingsPostInterestBusinessEvent> {
+    private final class SavingsPostInterestListener extends NotificationListener<SavingsPostInterestBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(SavingsPostInterestBusinessEvent event) {
+        public CapturedNotification capture(SavingsPostInterestBusinessEvent event) {
             SavingsAccount savingsAccount = event.get();
-            buildNotification("READ_SAVINGSACCOUNT", "savingsAccount", savingsAccount.getId(), "Interest posted to account",
+            return new CapturedNotification("READ_SAVINGSACCOUNT", "savingsAccount", savingsAccount.getId(), "Interest posted to account",
                     "interestPosted", context.authenticatedUser().getId(), savingsAccount.officeId());
         }
     }
 
-    private final class LoanCreatedListener implements BusinessEventListener<LoanCreatedBusinessEvent> {
+    private final class LoanCreatedListener extends NotificationListener<LoanCreatedBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(LoanCreatedBusinessEvent event) {
+        public CapturedNotification capture(LoanCreatedBusinessEvent event) {
             Loan loan = event.get();
-            buildNotification("APPROVE_LOAN", "loan", loan.getId(), "New loan created", "created", context.authenticatedUser().getId(),
-                    loan.getOfficeId());
+            return new CapturedNotification("APPROVE_LOAN", "loan", loan.getId(), "New loan created", "created",
+                    context.authenticatedUser().getId(), loan.getOfficeId());
         }
     }
 
-    private final class LoanApprovedListener implements BusinessEventListener<LoanApprovedBusinessEvent> {
+    private final class LoanApprovedListener extends NotificationListener<LoanApprovedBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(LoanApprovedBusinessEvent event) {
+        public CapturedNotification capture(LoanApprovedBusinessEvent event) {
             Loan loan = event.get();
-            buildNotification("DISBURSE_LOAN", "loan", loan.getId(), "New loan approved", "approved", context.authenticatedUser().getId(),
-                    loan.getOfficeId());
+            return new CapturedNotification("DISBURSE_LOAN", "loan", loan.getId(), "New loan approved", "approved",
+                    context.authenticatedUser().getId(), loan.getOfficeId());
         }
     }
 
-    private final class LoanClosedListener implements BusinessEventListener<LoanCloseBusinessEvent> {
+    private final class LoanClosedListener extends NotificationListener<LoanCloseBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(LoanCloseBusinessEvent event) {
+        public CapturedNotification capture(LoanCloseBusinessEvent event) {
             Loan loan = event.get();
-            buildNotification("READ_LOAN", "loan", loan.getId(), "Loan closed", "loanClosed", context.authenticatedUser().getId(),
-                    loan.getOfficeId());
+            return new CapturedNotification("READ_LOAN", "loan", loan.getId(), "Loan closed", "loanClosed",
+                    context.authenticatedUser().getId(), loan.getOfficeId());
         }
     }
 
-    private final class LoanCloseAsRescheduledListener implements BusinessEventListener<LoanCloseAsRescheduleBusinessEvent> {
+    private final class LoanCloseAsRescheduledListener extends NotificationListener<LoanCloseAsRescheduleBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(LoanCloseAsRescheduleBusinessEvent event) {
+        public CapturedNotification capture(LoanCloseAsRescheduleBusinessEvent event) {
             Loan loan = event.get();
-            buildNotification("READ_Rescheduled Loans", "loan", loan.getId(), "Loan has been rescheduled", "loanRescheduled",
+            return new CapturedNotification("READ_Rescheduled Loans", "loan", loan.getId(), "Loan has been rescheduled", "loanRescheduled",
                     context.authenticatedUser().getId(), loan.getOfficeId());
         }
     }
 
-    private final class LoanChargebackTransactionListener implements BusinessEventListener<LoanChargebackTransactionBusinessEvent> {
+    private final class LoanChargebackTransactionListener extends NotificationListener<LoanChargebackTransactionBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(LoanChargebackTransactionBusinessEvent event) {
+        public CapturedNotification capture(LoanChargebackTransactionBusinessEvent event) {
             LoanTransaction loanTransaction = event.get();
-            buildNotification(LoanChargebackTransactionBusinessEvent.LOAN_CHARGEBACK_TRANSACTION_PERMISSION,
+            return new CapturedNotification(LoanChargebackTransactionBusinessEvent.LOAN_CHARGEBACK_TRANSACTION_PERMISSION,
                     LoanChargebackTransactionBusinessEvent.LOAN_CHARGEBACK_TRANSACTION_OBJECT_TYPE, loanTransaction.getId(),
                     LoanChargebackTransactionBusinessEvent.LOAN_CHARGEBACK_TRANSACTION_NOTIFICATION,
                     LoanChargebackTransactionBusinessEvent.LOAN_CHARGEBACK_TRANSACTION_EVENT_TYPE, context.authenticatedUser().getId(),
@@ -253,70 +261,81 @@ public class NotificationDomainServiceImpl implements NotificationDomainService
         }
     }
 
-    private final class LoanMakeRepaymentListener implements BusinessEventListener<LoanTransactionMakeRepaymentPostBusinessEvent> {
+    private final class LoanMakeRepaymentListener extends NotificationListener<LoanTransactionMakeRepaymentPostBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(LoanTransactionMakeRepaymentPostBusinessEvent event) {
+        public CapturedNotification capture(LoanTransactionMakeRepaymentPostBusinessEvent event) {
             Loan loan = event.get().getLoan();
-            buildNotification("READ_LOAN", "loan", loan.getId(), "Repayment made", "repaymentMade", context.authenticatedUser().getId(),
-                    loan.getOfficeId());
+            return new CapturedNotification("READ_LOAN", "loan", loan.getId(), "Repayment made", "repaymentMade",
+                    context.authenticatedUser().getId(), loan.getOfficeId());
         }
     }
 
-    private final class LoanProductCreatedListener implements BusinessEventListener<LoanProductCreateBusinessEvent> {
+    private final class LoanProductCreatedListener extends NotificationListener<LoanProductCreateBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(LoanProductCreateBusinessEvent event) {
+        public CapturedNotification capture(LoanProductCreateBusinessEvent event) {
             LoanProduct loanProduct = event.get();
-            buildNotification("READ_LOANPRODUCT", "loanProduct", loanProduct.getId(), "New loan product created", "created",
+            return new CapturedNotification("READ_LOANPRODUCT", "loanProduct", loanProduct.getId(), "New loan product created", "created",
                     context.authenticatedUser().getId(), context.authenticatedUser().getOffice().getId());
         }
     }
 
-    private final class SavingsAccountCreatedListener implements BusinessEventListener<SavingsCreateBusinessEvent> {
+    private final class SavingsAccountCreatedListener extends NotificationListener<SavingsCreateBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(SavingsCreateBusinessEvent event) {
+        public CapturedNotification capture(SavingsCreateBusinessEvent event) {
             SavingsAccount savingsAccount = event.get();
-            buildNotification("APPROVE_SAVINGSACCOUNT", "savingsAccount", savingsAccount.getId(), "New savings account created", "created",
-                    context.authenticatedUser().getId(), savingsAccount.officeId());
+            return new CapturedNotification("APPROVE_SAVINGSACCOUNT", "savingsAccount", savingsAccount.getId(),
+                    "New savings account created", "created", context.authenticatedUser().getId(), savingsAccount.officeId());
         }
     }
 
-    private final class SavingsAccountClosedListener implements BusinessEventListener<SavingsCloseBusinessEvent> {
+    private final class SavingsAccountClosedListener extends NotificationListener<SavingsCloseBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(SavingsCloseBusinessEvent event) {
+        public CapturedNotification capture(SavingsCloseBusinessEvent event) {
             SavingsAccount savingsAccount = event.get();
-            buildNotification("READ_SAVINGSACCOUNT", "savingsAccount", savingsAccount.getId(), "Savings has gone into dormant", "closed",
-                    context.authenticatedUser().getId(), savingsAccount.officeId());
+            return new CapturedNotification("READ_SAVINGSACCOUNT", "savingsAccount", savingsAccount.getId(),
+                    "Savings has gone into dormant", "closed", context.authenticatedUser().getId(), savingsAccount.officeId());
         }
     }
 
-    private final class ShareAccountCreatedListener implements BusinessEventListener<ShareAccountCreateBusinessEvent> {
+    private final class ShareAccountCreatedListener extends NotificationListener<ShareAccountCreateBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(ShareAccountCreateBusinessEvent event) {
+        public CapturedNotification capture(ShareAccountCreateBusinessEvent event) {
             ShareAccount shareAccount = event.get();
-            buildNotification("APPROVE_SHAREACCOUNT", "shareAccount", shareAccount.getId(), "New share account created", "created",
-                    context.authenticatedUser().getId(), shareAccount.getOfficeId());
+            return new CapturedNotification("APPROVE_SHAREACCOUNT", "shareAccount", shareAccount.getId(), "New share account created",
+                    "created", context.authenticatedUser().getId(), shareAccount.getOfficeId());
         }
     }
 
-    private final class ShareAccountApprovedListener implements BusinessEventListener<ShareAccountApproveBusinessEvent> {
+    private final class ShareAccountApprovedListener extends NotificationListener<ShareAccountApproveBusinessEvent> {
 
         @Override
-        public void onBusinessEvent(ShareAccountApproveBusinessEvent event) {
+        public CapturedNotification capture(ShareAccountApproveBusinessEvent event) {
             ShareAccount shareAccount = event.get();
-            buildNotification("ACTIVATE_SHAREACCOUNT", "shareAccount", shareAccount.getId(), "Share account approved", "approved",
-                    context.authenticatedUser().getId(), shareAccount.getOfficeId());
+            return new CapturedNotification("ACTIVATE_SHAREACCOUNT", "shareAccount", shareAccount.getId(), "Share account approved",
+                    "approved", context.authenticatedUser().getId(), shareAccount.getOfficeId());
         }
     }
 
-    private void buildNotification(String permission, String objectType, Long objectIdentifier, String notificationContent,
-            String eventType, Long appUserId, Long officeId) {
+    /**
+     * Captures the notification while the transaction raising the event is open, the lazy associations of its entities
+     * cannot be loaded on the listener lane, and sends it once the transaction committed.
+     */
+    private abstract class NotificationListener<T extends BusinessEvent<?>>
+            implements AfterCommitBusinessEventListener<T, CapturedNotification> {
 
-        userNotificationService.notifyUsers(permission, objectType, objectIdentifier, notificationContent, eventType, appUserId, officeId);
+        @Override
+        public void afterCommit(CapturedNotification notification) {
+            userNotificationService.notifyUsers(notification.permission(), notification.objectType(), notification.objectIdentifier(),
+                    notification.notificationContent(), notification.eventType(), notification.appUserId(), notification.officeId());
+        }
     }
 
+    private record CapturedNotification(String permission, String objectType, Long objectIdentifier, String notificationContent,
+            String eventType, Long appUserId, Long officeId) {
+    }
 }
@@ -0,0 +1,78 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.account.data.StandingInstructionPartition;
+import org.apache.fineract.portfolio.account.domain.StandingInstructionStatus;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.StopWatch;
+
+/**
+ * Splits the source accounts of the standing instructions that may be due today into contiguous id ranges of
+ * {@code partition-size} accounts each. All instructions of a source account fall into the same range, so they are
+ * executed one after the other by a single worker while the ranges run in parallel.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ExecuteStandingInstructionsPartitioner implements Partitioner {
+
+    private final PropertyService propertyService;
+    private final StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+
+    @NotNull
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int partitionSize = propertyService.getPartitionSize(ExecuteStandingInstructionsConstant.JOB_NAME);
+        StopWatch sw = new StopWatch();
+        sw.start();
+        List<StandingInstructionPartition> partitions = new ArrayList<>(standingInstructionReadPlatformService
+                .retrieveStandingInstructionPartitions(StandingInstructionStatus.ACTIVE.getValue(), DateUtils.getBusinessLocalDate(),
+                        partitionSize));
+        sw.stop();
+        // if there is no instruction to execute, we still would like to create at least one partition
+        if (partitions.isEmpty()) {
+            partitions.add(new StandingInstructionPartition(0L, 0L, 1L, 0L));
+        }
+        log.info("Found {} standing instruction source accounts. {} partitions were created using partition size {} in {} ms.",
+                partitions.stream().map(StandingInstructionPartition::getCount).reduce(0L, Long::sum), partitions.size(), partitionSize,
+                sw.getTotalTimeMillis());
+        return partitions.stream().collect(
+                Collectors.toMap(p -> ExecuteStandingInstructionsConstant.PARTITION_PREFIX + p.getPageNo(), this::createNewPartition));
+    }
+
+    private ExecutionContext createNewPartition(StandingInstructionPartition partition) {
+        ExecutionContext executionContext = new ExecutionContext();
+        // the lower bound is exclusive in the worker's keyset queries
+        executionContext.put(ExecuteStandingInstructionsConstant.STANDING_INSTRUCTIONS_PARAMETER,
+                new StandingInstructionsParameter(partition.getMinSourceAccountId() - 1, partition.getMaxSourceAccountId()));
+        executionContext.put("partition", ExecuteStandingInstructionsConstant.PARTITION_PREFIX + partition.getPageNo());
+        return executionContext;
+    }
+}
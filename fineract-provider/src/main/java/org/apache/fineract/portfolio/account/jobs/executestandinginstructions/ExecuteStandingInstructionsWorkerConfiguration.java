@@ -0,0 +1,114 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import org.apache.fineract.cob.common.ResetContextTasklet;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.infrastructure.springbatch.partition.SystemUserInitialisationTasklet;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.partition.RemotePartitioningWorkerStepBuilderFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@Conditional(StandingInstructionsConditions.Worker.class)
+public class ExecuteStandingInstructionsWorkerConfiguration {
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RemotePartitioningWorkerStepBuilderFactory stepBuilderFactory;
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private QueueChannel inboundRequests;
+    @Autowired
+    private AppUserRepositoryWrapper userRepository;
+    @Autowired
+    private StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+    @Autowired
+    private StandingInstructionExecutor standingInstructionExecutor;
+
+    @Bean(name = ExecuteStandingInstructionsConstant.WORKER_STEP)
+    public Step executeStandingInstructionsWorkerStep() {
+        return stepBuilderFactory.get("Execute standing instructions worker - Step").inputChannel(inboundRequests)
+                .flow(executeStandingInstructionsFlow()).build();
+    }
+
+    @Bean
+    public Flow executeStandingInstructionsFlow() {
+        return new FlowBuilder<Flow>("executeStandingInstructionsFlow").start(executeStandingInstructionsInitialisationStep(null))
+                .next(executeStandingInstructionsChunkStep(null)).next(executeStandingInstructionsResetContextStep(null)).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step executeStandingInstructionsInitialisationStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Standing instructions initialisation - Step:" + partitionName, jobRepository)
+                .tasklet(new SystemUserInitialisationTasklet(userRepository), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step executeStandingInstructionsChunkStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Execute standing instructions - Step:" + partitionName, jobRepository)
+                .<StandingInstructionData, StandingInstructionData>chunk(
+                        propertyService.getChunkSize(ExecuteStandingInstructionsConstant.JOB_NAME), transactionManager) //
+                .reader(standingInstructionItemReader(null)) //
+                .writer(standingInstructionItemWriter()) //
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Step executeStandingInstructionsResetContextStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Standing instructions reset context - Step:" + partitionName, jobRepository)
+                .tasklet(new ResetContextTasklet(), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public StandingInstructionItemReader standingInstructionItemReader(
+            @Value("#{stepExecutionContext['" + ExecuteStandingInstructionsConstant.STANDING_INSTRUCTIONS_PARAMETER
+                    + "']}") StandingInstructionsParameter parameter) {
+        return new StandingInstructionItemReader(standingInstructionReadPlatformService, parameter,
+                propertyService.getChunkSize(ExecuteStandingInstructionsConstant.JOB_NAME));
+    }
+
+    @Bean
+    @StepScope
+    public StandingInstructionItemWriter standingInstructionItemWriter() {
+        return new StandingInstructionItemWriter(standingInstructionExecutor);
+    }
+}
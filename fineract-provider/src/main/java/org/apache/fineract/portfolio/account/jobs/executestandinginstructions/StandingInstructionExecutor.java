@@ -0,0 +1,211 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.exception.AbstractPlatformServiceUnavailableException;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.account.data.AccountTransferDTO;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
+import org.apache.fineract.portfolio.account.domain.AccountTransferRecurrenceType;
+import org.apache.fineract.portfolio.account.service.AccountTransfersWritePlatformService;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.ScheduledDateGenerator;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.exception.InsufficientAccountBalanceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Executes a list of standing instructions in the given order. The dues of all loans targeted by the list are loaded
+ * with one query and every successful transfer to a loan is deducted from them, so a later instruction paying the dues
+ * of the same loan only transfers what is left. Every transfer runs in its own transaction together with its
+ * {@code last_run_date} and history record, so a failed transfer neither rolls back nor blocks the others. Failures are
+ * recorded in the history as well.
+ */
+@Component
+public class StandingInstructionExecutor {
+
+    private static final StandingInstructionDuesData NO_DUES = new StandingInstructionDuesData(null, BigDecimal.ZERO);
+
+    private final StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final AccountTransfersWritePlatformService accountTransfersWritePlatformService;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledDateGenerator scheduledDateGenerator = new DefaultScheduledDateGenerator();
+
+    public StandingInstructionExecutor(final StandingInstructionReadPlatformService standingInstructionReadPlatformService,
+            final JdbcTemplate jdbcTemplate, final DatabaseSpecificSQLGenerator sqlGenerator,
+            final AccountTransfersWritePlatformService accountTransfersWritePlatformService,
+            final PlatformTransactionManager transactionManager) {
+        this.standingInstructionReadPlatformService = standingInstructionReadPlatformService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlGenerator = sqlGenerator;
+        this.accountTransfersWritePlatformService = accountTransfersWritePlatformService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return the errors of the failed transfers
+     */
+    public List<Throwable> execute(final List<StandingInstructionData> instructions) {
+        final LocalDate transactionDate = DateUtils.getBusinessLocalDate();
+        final Set<Long> loanIds = new LinkedHashSet<>();
+        for (StandingInstructionData data : instructions) {
+            if (requiresLoanDues(data, isScheduledForTransfer(data, transactionDate))) {
+                loanIds.add(data.toAccount().getId());
+            }
+        }
+        final Map<Long, StandingInstructionDuesData> loanDues = new HashMap<>(
+                standingInstructionReadPlatformService.retrieveLoanDuesData(loanIds));
+
+        final List<Throwable> errors = new ArrayList<>();
+        for (StandingInstructionData data : instructions) {
+            execute(data, transactionDate, loanDues, errors);
+        }
+        return errors;
+    }
+
+    private void execute(final StandingInstructionData data, final LocalDate transactionDate,
+            final Map<Long, StandingInstructionDuesData> loanDues, final List<Throwable> errors) {
+        boolean isDueForTransfer = isScheduledForTransfer(data, transactionDate);
+        BigDecimal transactionAmount = data.amount();
+        if (requiresLoanDues(data, isDueForTransfer)) {
+            StandingInstructionDuesData standingInstructionDuesData = loanDues.getOrDefault(data.toAccount().getId(), NO_DUES);
+            if (data.instructionType().isDuesAmoutTransfer()) {
+                transactionAmount = standingInstructionDuesData.totalDueAmount();
+            }
+            if (data.recurrenceType().isDuesRecurrence()) {
+                isDueForTransfer = isDueForTransfer(standingInstructionDuesData);
+            }
+        }
+
+        if (isDueForTransfer && transactionAmount != null && transactionAmount.compareTo(BigDecimal.ZERO) > 0) {
+            final SavingsAccount fromSavingsAccount = null;
+            final boolean isRegularTransaction = true;
+            final boolean isExceptionForBalanceCheck = false;
+            AccountTransferDTO accountTransferDTO = new AccountTransferDTO(transactionDate, transactionAmount, data.fromAccountType(),
+                    data.toAccountType(), data.fromAccount().getId(), data.toAccount().getId(),
+                    data.name() + " Standing instruction trasfer ", null, null, null, null, data.toTransferType(), null, null,
+                    data.transferType().getValue(), null, null, ExternalId.empty(), null, null, fromSavingsAccount, isRegularTransaction,
+                    isExceptionForBalanceCheck);
+            if (transferAmount(errors, accountTransferDTO, data.getId()) && data.toAccountType().isLoanAccount()) {
+                deductFromDues(loanDues, data.toAccount().getId(), transactionAmount);
+            }
+        }
+    }
+
+    private void deductFromDues(final Map<Long, StandingInstructionDuesData> loanDues, final Long loanId, final BigDecimal amount) {
+        StandingInstructionDuesData dues = loanDues.get(loanId);
+        if (dues == null) {
+            return;
+        }
+        BigDecimal remainingDueAmount = dues.totalDueAmount().subtract(amount);
+        // once every due installment is paid the loan has no dues left, as if they were loaded again
+        loanDues.put(loanId, remainingDueAmount.compareTo(BigDecimal.ZERO) > 0
+                ? new StandingInstructionDuesData(dues.dueDate(), remainingDueAmount)
+                : NO_DUES);
+    }
+
+    private boolean isScheduledForTransfer(final StandingInstructionData data, final LocalDate transactionDate) {
+        if (!data.recurrenceType().isPeriodicRecurrence()) {
+            return false;
+        }
+        PeriodFrequencyType frequencyType = data.recurrenceFrequency();
+        LocalDate startDate = data.validFrom();
+        if (frequencyType.isMonthly()) {
+            startDate = startDate.withDayOfMonth(data.recurrenceOnDay());
+            if (DateUtils.isBefore(startDate, data.validFrom())) {
+                startDate = startDate.plusMonths(1);
+            }
+        } else if (frequencyType.isYearly()) {
+            startDate = startDate.withDayOfMonth(data.recurrenceOnDay()).withMonth(data.recurrenceOnMonth());
+            if (DateUtils.isBefore(startDate, data.validFrom())) {
+                startDate = startDate.plusYears(1);
+            }
+        }
+        return scheduledDateGenerator.isDateFallsInSchedule(frequencyType, data.recurrenceInterval(), startDate, transactionDate);
+    }
+
+    private boolean requiresLoanDues(final StandingInstructionData data, final boolean isScheduledForTransfer) {
+        AccountTransferRecurrenceType recurrenceType = data.recurrenceType();
+        return data.toAccountType().isLoanAccount()
+                && (recurrenceType.isDuesRecurrence() || (isScheduledForTransfer && data.instructionType().isDuesAmoutTransfer()));
+    }
+
+    private boolean transferAmount(final List<Throwable> errors, final AccountTransferDTO accountTransferDTO, final Long instructionId) {
+        StringBuilder errorLog = new StringBuilder();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                accountTransfersWritePlatformService.transferFunds(accountTransferDTO);
+                jdbcTemplate.update("UPDATE m_account_transfer_standing_instructions SET last_run_date = ? where id = ?",
+                        accountTransferDTO.getTransactionDate(), instructionId);
+                insertHistory(instructionId, "success", accountTransferDTO.getTransactionAmount(), "");
+            });
+            return true;
+        } catch (final PlatformApiDataValidationException e) {
+            errors.add(new Exception("Validation exception while transfering funds for standing Instruction id" + instructionId + " from "
+                    + accountTransferDTO.getFromAccountId() + " to " + accountTransferDTO.getToAccountId(), e));
+            errorLog.append("Validation exception while trasfering funds ").append(e.getDefaultUserMessage());
+        } catch (final InsufficientAccountBalanceException e) {
+            errors.add(new Exception("InsufficientAccountBalance Exception while trasfering funds for standing Instruction id"
+                    + instructionId + " from " + accountTransferDTO.getFromAccountId() + " to " + accountTransferDTO.getToAccountId(), e));
+            errorLog.append("InsufficientAccountBalance Exception ");
+        } catch (final AbstractPlatformServiceUnavailableException e) {
+            errors.add(new Exception("Platform exception while trasfering funds for standing Instruction id" + instructionId + " from "
+                    + accountTransferDTO.getFromAccountId() + " to " + accountTransferDTO.getToAccountId(), e));
+            errorLog.append("Platform exception while trasfering funds ").append(e.getDefaultUserMessage());
+        } catch (Exception e) {
+            errors.add(new Exception("Unhandled System Exception while trasfering funds for standing Instruction id" + instructionId
+                    + " from " + accountTransferDTO.getFromAccountId() + " to " + accountTransferDTO.getToAccountId(), e));
+            errorLog.append("Exception while trasfering funds ").append(e.getMessage());
+        }
+        insertHistory(instructionId, "failed", accountTransferDTO.getTransactionAmount(), errorLog.toString());
+        return false;
+    }
+
+    private void insertHistory(final Long instructionId, final String status, final BigDecimal amount, final String errorLog) {
+        jdbcTemplate.update("INSERT INTO m_account_transfer_standing_instructions_history (standing_instruction_id, "
+                + sqlGenerator.escape("status") + ", amount, execution_time, error_log) VALUES (?, ?, ?, now(), ?)", instructionId, status,
+                amount, errorLog);
+    }
+
+    public boolean isDueForTransfer(StandingInstructionDuesData standingInstructionDuesData) {
+        return standingInstructionDuesData.dueDate() != null
+                && !standingInstructionDuesData.dueDate().isAfter(LocalDate.now(DateUtils.getDateTimeZoneOfTenant()));
+    }
+}
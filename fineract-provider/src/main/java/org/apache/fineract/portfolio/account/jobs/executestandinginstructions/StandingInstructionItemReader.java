@@ -0,0 +1,70 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.springbatch.partition.KeysetPartitionItemReader;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.account.domain.StandingInstructionStatus;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+
+/**
+ * Reads the due standing instructions of one partition ordered by source account and priority, one page of source
+ * accounts at a time, checkpointing the last source account whose instructions were all handed out. Instructions that
+ * were already executed today are not selected again.
+ */
+public class StandingInstructionItemReader extends KeysetPartitionItemReader<StandingInstructionData> {
+
+    static final String LAST_SOURCE_ACCOUNT_ID = "standingInstructions.lastSourceAccountId";
+
+    private static final Integer ACTIVE = StandingInstructionStatus.ACTIVE.getValue();
+
+    private final StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+    private LocalDate transactionDate;
+
+    public StandingInstructionItemReader(StandingInstructionReadPlatformService standingInstructionReadPlatformService,
+            StandingInstructionsParameter parameter, int pageSize) {
+        super(LAST_SOURCE_ACCOUNT_ID, parameter.getMinSourceAccountId(), parameter.getMaxSourceAccountId(), pageSize);
+        this.standingInstructionReadPlatformService = standingInstructionReadPlatformService;
+    }
+
+    @Override
+    protected void init() {
+        transactionDate = DateUtils.getBusinessLocalDate();
+    }
+
+    @Override
+    protected List<Long> retrieveKeys(Long afterId, Long maxId, int limit) {
+        return standingInstructionReadPlatformService.retrieveDueStandingInstructionSourceAccountIds(ACTIVE, transactionDate, limit,
+                afterId, maxId);
+    }
+
+    @Override
+    protected List<StandingInstructionData> retrieveItems(Long fromIdExclusive, Long toIdInclusive) {
+        return standingInstructionReadPlatformService.retrieveDueStandingInstructions(ACTIVE, transactionDate, fromIdExclusive,
+                toIdInclusive);
+    }
+
+    @Override
+    protected Long keyOf(StandingInstructionData item) {
+        return item.fromAccount().getId();
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.AfterStep;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * Executes a chunk of standing instructions through {@link StandingInstructionExecutor}. A failed transfer does not stop
+ * the remaining instructions: it is recorded in the standing instruction history, and the errors of the whole step are
+ * collected and fail the step once every chunk has been written, like {@link ExecuteStandingInstructionsTasklet} does.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class StandingInstructionItemWriter implements ItemWriter<StandingInstructionData> {
+
+    private final StandingInstructionExecutor standingInstructionExecutor;
+    private final List<Throwable> errors = new ArrayList<>();
+
+    @Override
+    public void write(@NotNull Chunk<? extends StandingInstructionData> chunk) throws Exception {
+        List<Throwable> chunkErrors = standingInstructionExecutor.execute(new ArrayList<>(chunk.getItems()));
+        errors.addAll(chunkErrors);
+        log.debug("Executed {} standing instructions, {} failed", chunk.size(), chunkErrors.size());
+    }
+
+    @AfterStep
+    public ExitStatus afterStep(@NotNull StepExecution stepExecution) {
+        if (errors.isEmpty()) {
+            return stepExecution.getExitStatus();
+        }
+        stepExecution.upgradeStatus(BatchStatus.FAILED);
+        stepExecution.addFailureException(new JobExecutionException(new ArrayList<>(errors)));
+        errors.clear();
+        return ExitStatus.FAILED;
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractJobProperties;
+import org.apache.fineract.infrastructure.springbatch.partition.PartitionedJobConditions;
+
+/**
+ * Selects how the standing instructions job is set up, see {@link PartitionedJobConditions}.
+ */
+public final class StandingInstructionsConditions {
+
+    private StandingInstructionsConditions() {}
+
+    public static class Manager extends PartitionedJobConditions.Manager {
+
+        public Manager() {
+            super(FineractJobProperties::isStandingInstructionsPartitionedEnabled);
+        }
+    }
+
+    public static class Worker extends PartitionedJobConditions.Worker {
+
+        public Worker() {
+            super(FineractJobProperties::isStandingInstructionsPartitionedEnabled);
+        }
+    }
+
+    public static class Tasklet extends PartitionedJobConditions.Tasklet {
+
+        public Tasklet() {
+            super(FineractJobProperties::isStandingInstructionsPartitionedEnabled);
+        }
+    }
+}
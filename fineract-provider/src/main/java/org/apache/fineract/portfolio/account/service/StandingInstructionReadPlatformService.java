@@ -18,11 +18,15 @@
  */
 package org.apache.fineract.portfolio.account.service;
 
+import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import org.apache.fineract.infrastructure.core.service.Page;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDTO;
 import org.apache.fineract.portfolio.account.data.StandingInstructionData;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionPartition;
 
 public interface StandingInstructionReadPlatformService {
 
@@ -37,4 +41,28 @@ public interface StandingInstructionReadPlatformService {
 
     StandingInstructionDuesData retriveLoanDuesData(Long loanId);
 
+    /**
+     * Loads the dues of several loans at once, keyed by loan id. Loans without any due installment are not part of the
+     * result.
+     */
+    Map<Long, StandingInstructionDuesData> retrieveLoanDuesData(Collection<Long> loanIds);
+
+    /**
+     * Splits the source accounts of the instructions that may be due on {@code transactionDate} into contiguous ranges of
+     * {@code partitionSize} accounts.
+     */
+    List<StandingInstructionPartition> retrieveStandingInstructionPartitions(Integer status, LocalDate transactionDate,
+            int partitionSize);
+
+    List<Long> retrieveDueStandingInstructionSourceAccountIds(Integer status, LocalDate transactionDate, int pageSize,
+            Long minSourceAccountIdExclusive, Long maxSourceAccountIdInclusive);
+
+    /**
+     * Returns the instructions that may be due on {@code transactionDate} of the given source account range, ordered by
+     * source account and priority. Periodic instructions are only pre-selected by their recurrence day and month, the
+     * interval still has to be checked by the caller.
+     */
+    List<StandingInstructionData> retrieveDueStandingInstructions(Integer status, LocalDate transactionDate,
+            Long minSourceAccountIdExclusive, Long maxSourceAccountIdInclusive);
+
 }
@@ -33,7 +33,10 @@ import java.time.MonthDay;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
 import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
 import org.apache.fineract.infrastructure.core.service.DateUtils;
@@ -50,6 +53,7 @@ import org.apache.fineract.portfolio.account.data.PortfolioAccountData;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDTO;
 import org.apache.fineract.portfolio.account.data.StandingInstructionData;
 import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionPartition;
 import org.apache.fineract.portfolio.account.domain.AccountTransferRecurrenceType;
 import org.apache.fineract.portfolio.account.domain.AccountTransferType;
 import org.apache.fineract.portfolio.account.domain.StandingInstructionPriority;
@@ -58,6 +62,7 @@ import org.apache.fineract.portfolio.account.domain.StandingInstructionType;
 import org.apache.fineract.portfolio.account.exception.AccountTransferNotFoundException;
 import org.apache.fineract.portfolio.client.data.ClientData;
 import org.apache.fineract.portfolio.client.service.ClientReadPlatformService;
+import org.apache.fineract.portfolio.common.domain.PeriodFrequencyType;
 import org.apache.fineract.portfolio.common.service.CommonEnumerations;
 import org.apache.fineract.portfolio.common.service.DropdownReadPlatformService;
 import org.springframework.dao.EmptyResultDataAccessException;
@@ -67,6 +72,17 @@ import org.springframework.util.CollectionUtils;
 
 public class StandingInstructionReadPlatformServiceImpl implements StandingInstructionReadPlatformService {
 
+    // instructions are partitioned and ordered by their source account, whichever kind of account it is
+    private static final String SOURCE_ACCOUNT_ID = "COALESCE(atd.from_savings_account_id, atd.from_loan_account_id)";
+
+    // dues based instructions are due when their loan is, periodic ones only on their recurrence day (and month)
+    private static final String DUE_STANDING_INSTRUCTION_CONDITION = " atsi.status = ? and atsi.valid_from <= ?"
+            + " and (atsi.valid_till IS NULL or atsi.valid_till > ?) and (atsi.last_run_date IS NULL or atsi.last_run_date <> ?)"
+            + " and ((atsi.recurrence_type = ? and atd.to_loan_account_id IS NOT NULL)"
+            + " or (atsi.recurrence_type = ? and (atsi.recurrence_frequency in (?, ?)"
+            + " or (atsi.recurrence_frequency = ? and atsi.recurrence_on_day between ? and ?)"
+            + " or (atsi.recurrence_frequency = ? and atsi.recurrence_on_month = ? and atsi.recurrence_on_day between ? and ?))))";
+
     private final JdbcTemplate jdbcTemplate;
     private final ColumnValidator columnValidator;
     private final ClientReadPlatformService clientReadPlatformService;
@@ -361,6 +377,71 @@ public class StandingInstructionReadPlatformServiceImpl implements StandingInstr
         return this.jdbcTemplate.queryForObject(sql, rm, new Object[] { loanId }); // NOSONAR
     }
 
+    @Override
+    public Map<Long, StandingInstructionDuesData> retrieveLoanDuesData(final Collection<Long> loanIds) {
+        if (loanIds.isEmpty()) {
+            return Map.of();
+        }
+        final StandingInstructionLoanDuesMapper rm = new StandingInstructionLoanDuesMapper();
+        final String sql = "select ml.id as loanId, " + rm.schema() + " where ml.id in ("
+                + String.join(",", Collections.nCopies(loanIds.size(), "?")) + ") and ls.duedate <= "
+                + sqlGenerator.currentBusinessDate() + " and ls.completed_derived <> 1 group by ml.id";
+        return this.jdbcTemplate.query(sql, (rs, rowNum) -> Map.entry(rs.getLong("loanId"), rm.mapRow(rs, rowNum)), loanIds.toArray())
+                .stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    @Override
+    public List<StandingInstructionPartition> retrieveStandingInstructionPartitions(final Integer status, final LocalDate transactionDate,
+            final int partitionSize) {
+        final String sql = "select min(source_id) as min, max(source_id) as max, page, count(source_id) as count from "
+                + "  (select floor(((row_number() over(order by source_id))-1) / ?) as page, t.* from "
+                + "      (select distinct " + SOURCE_ACCOUNT_ID + " as source_id from m_account_transfer_standing_instructions atsi "
+                + "      join m_account_transfer_details atd on atd.id = atsi.account_transfer_details_id where"
+                + DUE_STANDING_INSTRUCTION_CONDITION + ") t) t2 group by page order by page";
+        final List<Object> params = new ArrayList<>();
+        params.add(partitionSize);
+        params.addAll(dueStandingInstructionParameters(status, transactionDate));
+        return this.jdbcTemplate.query(sql, (rs, rowNum) -> new StandingInstructionPartition(rs.getLong("min"), rs.getLong("max"),
+                rs.getLong("page"), rs.getLong("count")), params.toArray());
+    }
+
+    @Override
+    public List<Long> retrieveDueStandingInstructionSourceAccountIds(final Integer status, final LocalDate transactionDate,
+            final int pageSize, final Long minSourceAccountIdExclusive, final Long maxSourceAccountIdInclusive) {
+        final String sql = "select distinct " + SOURCE_ACCOUNT_ID + " as source_id from m_account_transfer_standing_instructions atsi "
+                + "join m_account_transfer_details atd on atd.id = atsi.account_transfer_details_id where " + SOURCE_ACCOUNT_ID
+                + " > ? and " + SOURCE_ACCOUNT_ID + " <= ? and" + DUE_STANDING_INSTRUCTION_CONDITION + " order by source_id limit ?";
+        final List<Object> params = new ArrayList<>();
+        params.add(minSourceAccountIdExclusive);
+        params.add(maxSourceAccountIdInclusive);
+        params.addAll(dueStandingInstructionParameters(status, transactionDate));
+        params.add(pageSize);
+        return this.jdbcTemplate.queryForList(sql, Long.class, params.toArray());
+    }
+
+    @Override
+    public List<StandingInstructionData> retrieveDueStandingInstructions(final Integer status, final LocalDate transactionDate,
+            final Long minSourceAccountIdExclusive, final Long maxSourceAccountIdInclusive) {
+        final String sql = "select " + this.standingInstructionMapper.schema() + " where " + SOURCE_ACCOUNT_ID + " > ? and "
+                + SOURCE_ACCOUNT_ID + " <= ? and" + DUE_STANDING_INSTRUCTION_CONDITION + " order by " + SOURCE_ACCOUNT_ID
+                + ", atsi.priority DESC, atsi.id";
+        final List<Object> params = new ArrayList<>();
+        params.add(minSourceAccountIdExclusive);
+        params.add(maxSourceAccountIdInclusive);
+        params.addAll(dueStandingInstructionParameters(status, transactionDate));
+        return this.jdbcTemplate.query(sql, this.standingInstructionMapper, params.toArray());
+    }
+
+    private static List<Object> dueStandingInstructionParameters(final Integer status, final LocalDate transactionDate) {
+        final int dayOfMonth = transactionDate.getDayOfMonth();
+        // recurrence days beyond the end of the month fall on its last day
+        final int lastRecurrenceDay = dayOfMonth == transactionDate.lengthOfMonth() ? 31 : dayOfMonth;
+        return List.of(status, transactionDate, transactionDate, transactionDate, AccountTransferRecurrenceType.AS_PER_DUES.getValue(),
+                AccountTransferRecurrenceType.PERIODIC.getValue(), PeriodFrequencyType.DAYS.getValue(),
+                PeriodFrequencyType.WEEKS.getValue(), PeriodFrequencyType.MONTHS.getValue(), dayOfMonth, lastRecurrenceDay,
+                PeriodFrequencyType.YEARS.getValue(), transactionDate.getMonthValue(), dayOfMonth, lastRecurrenceDay);
+    }
+
     private static final class StandingInstructionMapper implements RowMapper<StandingInstructionData> {
 
         private final String schemaSql;
@@ -0,0 +1,70 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.springbatch.partition.KeysetPartitionItemReader;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+
+/**
+ * Reads the loans of one partition together with the holidays still to be applied to them, one page of loan ids at a
+ * time, checkpointing the last handed out loan id; loans already rescheduled for a holiday are not selected again on a
+ * restart either way.
+ */
+public class ApplyHolidaysItemReader extends KeysetPartitionItemReader<HolidayLoan> {
+
+    static final String LAST_LOAN_ID = "applyHolidays.lastLoanId";
+
+    private final RetrieveHolidayLoanIdService retrieveHolidayLoanIdService;
+    private final HolidayRepositoryWrapper holidayRepository;
+    private final ApplyHolidaysParameter parameter;
+    private List<HolidayDueDateWindow> windows;
+
+    public ApplyHolidaysItemReader(RetrieveHolidayLoanIdService retrieveHolidayLoanIdService, HolidayRepositoryWrapper holidayRepository,
+            ApplyHolidaysParameter parameter, int pageSize) {
+        super(LAST_LOAN_ID, parameter.getMinLoanId(), parameter.getMaxLoanId(), pageSize);
+        this.retrieveHolidayLoanIdService = retrieveHolidayLoanIdService;
+        this.holidayRepository = holidayRepository;
+        this.parameter = parameter;
+    }
+
+    @Override
+    protected void init() {
+        windows = parameter.getHolidayIds().stream().map(holidayRepository::findOneWithNotFoundDetection)
+                .map(LoanHolidayRescheduler::dueDateWindow).toList();
+    }
+
+    @Override
+    protected List<Long> retrieveKeys(Long afterId, Long maxId, int limit) {
+        if (windows.isEmpty()) {
+            return List.of();
+        }
+        return retrieveHolidayLoanIdService.retrieveHolidayLoanIds(windows, afterId, maxId, limit);
+    }
+
+    @Override
+    protected List<HolidayLoan> retrieveItems(Long fromIdExclusive, Long toIdInclusive) {
+        return retrieveHolidayLoanIdService.retrieveHolidayLoans(windows, fromIdExclusive, toIdInclusive);
+    }
+
+    @Override
+    protected Long keyOf(HolidayLoan item) {
+        return item.loanId();
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * Applies the pending holidays of a chunk of loans in holiday id order and records them in {@code m_holiday_loan}
+ * within the chunk transaction, so a loan is never rescheduled twice for the same holiday.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ApplyHolidaysItemWriter implements ItemWriter<HolidayLoan> {
+
+    private final LoanRepositoryWrapper loanRepositoryWrapper;
+    private final HolidayRepositoryWrapper holidayRepository;
+    private final LoanHolidayRescheduler loanHolidayRescheduler;
+    private final RetrieveHolidayLoanIdService retrieveHolidayLoanIdService;
+
+    @Override
+    public void write(@NotNull Chunk<? extends HolidayLoan> chunk) throws Exception {
+        Map<Long, Holiday> holidays = new HashMap<>();
+        List<Loan> loans = new ArrayList<>(chunk.size());
+        for (HolidayLoan holidayLoan : chunk) {
+            Loan loan = loanRepositoryWrapper.findOneWithNotFoundDetection(holidayLoan.loanId());
+            for (Long holidayId : holidayLoan.holidayIds()) {
+                loanHolidayRescheduler.applyHolidayToRepaymentScheduleDates(loan,
+                        holidays.computeIfAbsent(holidayId, holidayRepository::findOneWithNotFoundDetection));
+            }
+            loans.add(loan);
+        }
+        loanRepositoryWrapper.save(loans);
+        retrieveHolidayLoanIdService.markHolidaysApplied(new ArrayList<>(chunk.getItems()));
+        log.debug("Applied holidays to {} loans", loans.size());
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.partition.RemotePartitioningManagerStepBuilderFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@Conditional(ApplyHolidaysConditions.Manager.class)
+public class ApplyHolidaysToLoansManagerConfiguration {
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RemotePartitioningManagerStepBuilderFactory stepBuilderFactory;
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private DirectChannel outboundRequests;
+    @Autowired
+    private ConfigurationDomainService configurationDomainService;
+    @Autowired
+    private HolidayRepositoryWrapper holidayRepository;
+    @Autowired
+    private RetrieveHolidayLoanIdService retrieveHolidayLoanIdService;
+
+    @Bean
+    @StepScope
+    public ApplyHolidaysToLoansPartitioner applyHolidaysToLoansPartitioner() {
+        return new ApplyHolidaysToLoansPartitioner(propertyService, configurationDomainService, holidayRepository,
+                retrieveHolidayLoanIdService);
+    }
+
+    @Bean
+    public Step applyHolidaysToLoansPartitionStep() {
+        return stepBuilderFactory.get(ApplyHolidaysToLoansConstant.PARTITIONER_STEP)
+                .partitioner(ApplyHolidaysToLoansConstant.WORKER_STEP, applyHolidaysToLoansPartitioner())
+                .pollInterval(propertyService.getPollInterval(ApplyHolidaysToLoansConstant.JOB_NAME)).outputChannel(outboundRequests)
+                .build();
+    }
+
+    @Bean
+    public Step markHolidaysProcessedStep() {
+        return new StepBuilder("Mark holidays processed - Step", jobRepository)
+                .tasklet(new MarkHolidaysProcessedTasklet(configurationDomainService, holidayRepository, retrieveHolidayLoanIdService),
+                        transactionManager)
+                .build();
+    }
+
+    @Bean
+    public Job applyHolidaysToLoansJob() {
+        return new JobBuilder(JobName.APPLY_HOLIDAYS_TO_LOANS.name(), jobRepository) //
+                .start(applyHolidaysToLoansPartitionStep()) //
+                .next(markHolidaysProcessedStep()) //
+                .incrementer(new RunIdIncrementer()) //
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.StopWatch;
+
+/**
+ * Splits the loans affected by any unprocessed holiday into contiguous id ranges of {@code partition-size} loans each.
+ * Every pending holiday of a loan is applied by the worker owning the loan's range, so overlapping holidays never
+ * update the same loan concurrently.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ApplyHolidaysToLoansPartitioner implements Partitioner {
+
+    private final PropertyService propertyService;
+    private final ConfigurationDomainService configurationDomainService;
+    private final HolidayRepositoryWrapper holidayRepository;
+    private final RetrieveHolidayLoanIdService retrieveHolidayLoanIdService;
+
+    @NotNull
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int partitionSize = propertyService.getPartitionSize(ApplyHolidaysToLoansConstant.JOB_NAME);
+        StopWatch sw = new StopWatch();
+        sw.start();
+        List<Holiday> holidays = configurationDomainService.isRescheduleRepaymentsOnHolidaysEnabled() ? holidayRepository.findUnprocessed()
+                : List.of();
+        List<Long> holidayIds = holidays.stream().map(Holiday::getId).toList();
+        List<HolidayLoanPartition> partitions = new ArrayList<>();
+        if (!holidays.isEmpty()) {
+            partitions.addAll(retrieveHolidayLoanIdService
+                    .retrieveHolidayLoanPartitions(holidays.stream().map(LoanHolidayRescheduler::dueDateWindow).toList(), partitionSize));
+        }
+        sw.stop();
+        // if there is no loan to reschedule, we still would like to create at least one partition
+        if (partitions.isEmpty()) {
+            partitions.add(new HolidayLoanPartition(0L, 0L, 1L, 0L));
+        }
+        log.info("Found {} loans affected by {} holidays. {} partitions were created using partition size {} in {} ms.",
+                partitions.stream().map(HolidayLoanPartition::getCount).reduce(0L, Long::sum), holidays.size(), partitions.size(),
+                partitionSize, sw.getTotalTimeMillis());
+        return partitions.stream().collect(Collectors.toMap(p -> ApplyHolidaysToLoansConstant.PARTITION_PREFIX + p.getPageNo(),
+                p -> createNewPartition(p, holidayIds)));
+    }
+
+    private ExecutionContext createNewPartition(HolidayLoanPartition partition, List<Long> holidayIds) {
+        ExecutionContext executionContext = new ExecutionContext();
+        // the lower bound is exclusive in the worker's keyset queries
+        executionContext.put(ApplyHolidaysToLoansConstant.APPLY_HOLIDAYS_PARAMETER,
+                new ApplyHolidaysParameter(partition.getMinLoanId() - 1, partition.getMaxLoanId(), new ArrayList<>(holidayIds)));
+        executionContext.put("partition", ApplyHolidaysToLoansConstant.PARTITION_PREFIX + partition.getPageNo());
+        return executionContext;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import org.apache.fineract.cob.common.ResetContextTasklet;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.infrastructure.springbatch.partition.SystemUserInitialisationTasklet;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepositoryWrapper;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.partition.RemotePartitioningWorkerStepBuilderFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@Conditional(ApplyHolidaysConditions.Worker.class)
+public class ApplyHolidaysToLoansWorkerConfiguration {
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RemotePartitioningWorkerStepBuilderFactory stepBuilderFactory;
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private QueueChannel inboundRequests;
+    @Autowired
+    private AppUserRepositoryWrapper userRepository;
+    @Autowired
+    private HolidayRepositoryWrapper holidayRepository;
+    @Autowired
+    private LoanRepositoryWrapper loanRepositoryWrapper;
+    @Autowired
+    private LoanHolidayRescheduler loanHolidayRescheduler;
+    @Autowired
+    private RetrieveHolidayLoanIdService retrieveHolidayLoanIdService;
+
+    @Bean(name = ApplyHolidaysToLoansConstant.WORKER_STEP)
+    public Step applyHolidaysToLoansWorkerStep() {
+        return stepBuilderFactory.get("Apply holidays to loans worker - Step").inputChannel(inboundRequests)
+                .flow(applyHolidaysToLoansFlow()).build();
+    }
+
+    @Bean
+    public Flow applyHolidaysToLoansFlow() {
+        return new FlowBuilder<Flow>("applyHolidaysToLoansFlow").start(applyHolidaysInitialisationStep(null))
+                .next(applyHolidaysToLoansChunkStep(null)).next(applyHolidaysResetContextStep(null)).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step applyHolidaysInitialisationStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Apply holidays initialisation - Step:" + partitionName, jobRepository)
+                .tasklet(new SystemUserInitialisationTasklet(userRepository), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step applyHolidaysToLoansChunkStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Apply holidays to loans - Step:" + partitionName, jobRepository)
+                .<HolidayLoan, HolidayLoan>chunk(propertyService.getChunkSize(ApplyHolidaysToLoansConstant.JOB_NAME), transactionManager) //
+                .reader(applyHolidaysItemReader(null)) //
+                .writer(applyHolidaysItemWriter()) //
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Step applyHolidaysResetContextStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Apply holidays reset context - Step:" + partitionName, jobRepository)
+                .tasklet(new ResetContextTasklet(), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public ApplyHolidaysItemReader applyHolidaysItemReader(
+            @Value("#{stepExecutionContext['" + ApplyHolidaysToLoansConstant.APPLY_HOLIDAYS_PARAMETER
+                    + "']}") ApplyHolidaysParameter parameter) {
+        return new ApplyHolidaysItemReader(retrieveHolidayLoanIdService, holidayRepository, parameter,
+                propertyService.getChunkSize(ApplyHolidaysToLoansConstant.JOB_NAME));
+    }
+
+    @Bean
+    @StepScope
+    public ApplyHolidaysItemWriter applyHolidaysItemWriter() {
+        return new ApplyHolidaysItemWriter(loanRepositoryWrapper, holidayRepository, loanHolidayRescheduler, retrieveHolidayLoanIdService);
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import static org.apache.fineract.infrastructure.core.service.DateUtils.isDateWithinRange;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.service.DateUtils;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanRescheduledDueHolidayBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.portfolio.loanaccount.data.ScheduleGeneratorDTO;
+import org.apache.fineract.portfolio.loanaccount.domain.Loan;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanRepaymentScheduleInstallment;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.DefaultScheduledDateGenerator;
+import org.apache.fineract.portfolio.loanaccount.loanschedule.domain.LoanApplicationTerms;
+import org.apache.fineract.portfolio.loanaccount.service.LoanUtilService;
+import org.springframework.stereotype.Component;
+
+/**
+ * Moves the repayment schedule dates of a loan that fall on a holiday, used by both the tasklet and the partitioned
+ * variant of the {@code APPLY_HOLIDAYS_TO_LOANS} job.
+ */
+@RequiredArgsConstructor
+@Component
+public class LoanHolidayRescheduler {
+
+    // a holiday rescheduling to the next repayment date applies to installments due up to 30 days before its end
+    private static final int NEXT_REPAYMENT_DATE_LOOK_BEHIND_DAYS = 29;
+
+    private final LoanUtilService loanUtilService;
+    private final BusinessEventNotifierService businessEventNotifierService;
+
+    /**
+     * Loans without an installment due within the returned window are not changed by
+     * {@link #applyHolidayToRepaymentScheduleDates(Loan, Holiday)}.
+     */
+    public static HolidayDueDateWindow dueDateWindow(Holiday holiday) {
+        if (holiday.getReScheduleType().isResheduleToNextRepaymentDate()) {
+            return new HolidayDueDateWindow(holiday.getId(), holiday.getToDate().minusDays(NEXT_REPAYMENT_DATE_LOOK_BEHIND_DAYS),
+                    holiday.getToDate());
+        }
+        return new HolidayDueDateWindow(holiday.getId(), holiday.getFromDate(), holiday.getToDate());
+    }
+
+    public void applyHolidayToRepaymentScheduleDates(Loan loan, Holiday holiday) {
+        LocalDate adjustedRescheduleToDate = null;
+        boolean isResheduleToNextRepaymentDate = holiday.getReScheduleType().isResheduleToNextRepaymentDate();
+        if (holiday.getReScheduleType().isResheduleToNextRepaymentDate()) {
+            adjustedRescheduleToDate = getNextRepaymentDate(loan, holiday);
+        } else {
+            adjustedRescheduleToDate = holiday.getRepaymentsRescheduledTo();
+        }
+
+        if (isRepaymentScheduleAdjustmentNeeded(adjustedRescheduleToDate)) {
+            if (isResheduleToNextRepaymentDate) {
+                adjustAllRepaymentSchedules(loan, holiday, adjustedRescheduleToDate);
+            } else {
+                adjustRepaymentSchedules(loan, holiday, adjustedRescheduleToDate);
+            }
+            businessEventNotifierService.notifyPostBusinessEvent(new LoanRescheduledDueHolidayBusinessEvent(loan));
+        }
+    }
+
+    private boolean isRepaymentScheduleAdjustmentNeeded(LocalDate adjustedRescheduleToDate) {
+        return adjustedRescheduleToDate != null;
+    }
+
+    private void adjustRepaymentSchedules(Loan loan, Holiday holiday, LocalDate adjustedRescheduleToDate) {
+        final DefaultScheduledDateGenerator scheduledDateGenerator = new DefaultScheduledDateGenerator();
+        ScheduleGeneratorDTO scheduleGeneratorDTO = loanUtilService.buildScheduleGeneratorDTO(loan, holiday.getFromDate());
+        final LoanApplicationTerms loanApplicationTerms = loan.constructLoanApplicationTerms(scheduleGeneratorDTO);
+
+        // first repayment's from date is same as disbursement date.
+        LocalDate tmpFromDate = loan.getDisbursementDate();
+
+        // Loop through all loanRepayments
+        List<LoanRepaymentScheduleInstallment> installments = loan.getRepaymentScheduleInstallments();
+        for (final LoanRepaymentScheduleInstallment loanRepaymentScheduleInstallment : installments) {
+            final LocalDate oldDueDate = loanRepaymentScheduleInstallment.getDueDate();
+
+            // update from date if it's not same as previous installment's due
+            // date.
+            if (!DateUtils.isEqual(tmpFromDate, loanRepaymentScheduleInstallment.getFromDate())) {
+                loanRepaymentScheduleInstallment.updateFromDate(tmpFromDate);
+            }
+
+            if (isDateWithinRange(oldDueDate, holiday.getFromDate(), holiday.getToDate())) {
+                // FIXME: AA do we need to apply non-working days.
+                // Assuming holiday's repayment reschedule to date cannot be
+                // created on a non-working day.
+
+                adjustedRescheduleToDate = scheduledDateGenerator.generateNextRepaymentDateWhenHolidayApply(adjustedRescheduleToDate,
+                        loanApplicationTerms);
+                loanRepaymentScheduleInstallment.updateDueDate(adjustedRescheduleToDate);
+            }
+            tmpFromDate = loanRepaymentScheduleInstallment.getDueDate();
+        }
+    }
+
+    private void adjustAllRepaymentSchedules(Loan loan, Holiday holiday, LocalDate adjustedRescheduleToDate) {
+        final DefaultScheduledDateGenerator scheduledDateGenerator = new DefaultScheduledDateGenerator();
+        ScheduleGeneratorDTO scheduleGeneratorDTO = loanUtilService.buildScheduleGeneratorDTO(loan, holiday.getFromDate());
+        final LoanApplicationTerms loanApplicationTerms = loan.constructLoanApplicationTerms(scheduleGeneratorDTO);
+
+        // first repayment's from date is same as disbursement date.
+        LocalDate tmpFromDate = loan.getDisbursementDate();
+
+        // Loop through all loanRepayments
+        List<LoanRepaymentScheduleInstallment> installments = loan.getRepaymentScheduleInstallments();
+        for (final LoanRepaymentScheduleInstallment loanRepaymentScheduleInstallment : installments) {
+            final LocalDate oldDueDate = loanRepaymentScheduleInstallment.getDueDate();
+
+            // update from date if it's not same as previous installment's due
+            // date.
+            if (!DateUtils.isEqual(tmpFromDate, loanRepaymentScheduleInstallment.getFromDate())) {
+                loanRepaymentScheduleInstallment.updateFromDate(tmpFromDate);
+            }
+
+            if (!DateUtils.isBefore(oldDueDate, holiday.getFromDate())) {
+                // FIXME: AA do we need to apply non-working days.
+                // Assuming holiday's repayment reschedule to date cannot be
+                // created on a non-working day.
+
+                adjustedRescheduleToDate = scheduledDateGenerator.generateNextRepaymentDate(adjustedRescheduleToDate, loanApplicationTerms,
+                        false);
+                loanRepaymentScheduleInstallment.updateDueDate(adjustedRescheduleToDate);
+            }
+            tmpFromDate = loanRepaymentScheduleInstallment.getDueDate();
+        }
+    }
+
+    private LocalDate getNextRepaymentDate(Loan loan, Holiday holiday) {
+        LocalDate adjustedRescheduleToDate = null;
+        final LocalDate rescheduleToDate = holiday.getToDate();
+        for (final LoanRepaymentScheduleInstallment loanRepaymentScheduleInstallment : loan.getRepaymentScheduleInstallments()) {
+            if (DateUtils.isEqual(rescheduleToDate, loanRepaymentScheduleInstallment.getDueDate())) {
+                adjustedRescheduleToDate = rescheduleToDate;
+                break;
+            } else {
+                adjustedRescheduleToDate = doStandardMonthlyCheck(adjustedRescheduleToDate, rescheduleToDate,
+                        loanRepaymentScheduleInstallment);
+            }
+        }
+        return adjustedRescheduleToDate;
+    }
+
+    private LocalDate doStandardMonthlyCheck(LocalDate adjustedRescheduleToDate, LocalDate rescheduleToDate,
+            LoanRepaymentScheduleInstallment loanRepaymentScheduleInstallment) {
+        // Standard Monthly Loan Holiday check
+        LocalDate dueDate = loanRepaymentScheduleInstallment.getDueDate();
+        if (DateUtils.isAfter(rescheduleToDate, dueDate) && DateUtils.isBefore(rescheduleToDate, dueDate.plusDays(30))) {
+            adjustedRescheduleToDate = dueDate;
+        }
+        return adjustedRescheduleToDate;
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * Runs on the manager once every partition completed: an unprocessed holiday is marked as processed when no affected
+ * loan is left to reschedule for it, and its per loan tracking rows are dropped.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class MarkHolidaysProcessedTasklet implements Tasklet {
+
+    private final ConfigurationDomainService configurationDomainService;
+    private final HolidayRepositoryWrapper holidayRepository;
+    private final RetrieveHolidayLoanIdService retrieveHolidayLoanIdService;
+
+    @Override
+    public RepeatStatus execute(@NotNull StepContribution contribution, @NotNull ChunkContext chunkContext) throws Exception {
+        if (!configurationDomainService.isRescheduleRepaymentsOnHolidaysEnabled()) {
+            return RepeatStatus.FINISHED;
+        }
+        List<Holiday> processed = new ArrayList<>();
+        for (Holiday holiday : holidayRepository.findUnprocessed()) {
+            if (retrieveHolidayLoanIdService.hasHolidayLoans(LoanHolidayRescheduler.dueDateWindow(holiday))) {
+                log.warn("Holiday {} still has loans to reschedule, it stays unprocessed", holiday.getId());
+                continue;
+            }
+            holiday.setProcessed(true);
+            processed.add(holiday);
+            retrieveHolidayLoanIdService.clearAppliedHolidayLoans(holiday.getId());
+        }
+        holidayRepository.save(processed);
+        return RepeatStatus.FINISHED;
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import java.util.List;
+
+public interface RetrieveHolidayLoanIdService {
+
+    /**
+     * Splits the loans that still have to be rescheduled for any of the given holidays into contiguous id ranges of
+     * {@code partitionSize} loans.
+     */
+    List<HolidayLoanPartition> retrieveHolidayLoanPartitions(List<HolidayDueDateWindow> windows, int partitionSize);
+
+    List<Long> retrieveHolidayLoanIds(List<HolidayDueDateWindow> windows, Long minLoanIdExclusive, Long maxLoanIdInclusive,
+            int pageSize);
+
+    List<HolidayLoan> retrieveHolidayLoans(List<HolidayDueDateWindow> windows, Long minLoanIdExclusive, Long maxLoanIdInclusive);
+
+    boolean hasHolidayLoans(HolidayDueDateWindow window);
+
+    void markHolidaysApplied(List<HolidayLoan> holidayLoans);
+
+    void clearAppliedHolidayLoans(Long holidayId);
+}
@@ -0,0 +1,144 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.portfolio.loanaccount.domain.LoanStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Selects the loans of a holiday's offices that have an installment due within the holiday's window and were not yet
+ * rescheduled for it. Applied holidays are tracked per loan in {@code m_holiday_loan}, which keeps the selection
+ * restartable while a holiday is only partially applied.
+ */
+@RequiredArgsConstructor
+public class RetrieveHolidayLoanIdServiceImpl implements RetrieveHolidayLoanIdService {
+
+    private static final List<Integer> LOAN_STATUSES = List.of(LoanStatus.SUBMITTED_AND_PENDING_APPROVAL.getValue(),
+            LoanStatus.APPROVED.getValue(), LoanStatus.ACTIVE.getValue());
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public List<HolidayLoanPartition> retrieveHolidayLoanPartitions(List<HolidayDueDateWindow> windows, int partitionSize) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("pageSize", partitionSize);
+        String sql = """
+                select min(loan_id) as min, max(loan_id) as max, page, count(loan_id) as count from
+                    (select floor(((row_number() over(order by loan_id))-1) / :pageSize) as page, t.* from
+                        (select distinct loan_id from (%s) candidates) t) t2
+                group by page
+                order by page
+                """.formatted(candidates(windows, false, parameters));
+        return namedParameterJdbcTemplate.query(sql, parameters, RetrieveHolidayLoanIdServiceImpl::mapPartition);
+    }
+
+    @Override
+    public List<Long> retrieveHolidayLoanIds(List<HolidayDueDateWindow> windows, Long minLoanIdExclusive, Long maxLoanIdInclusive,
+            int pageSize) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("minLoanId", minLoanIdExclusive);
+        parameters.addValue("maxLoanId", maxLoanIdInclusive);
+        parameters.addValue("pageSize", pageSize);
+        String sql = "select distinct loan_id from (" + candidates(windows, true, parameters)
+                + ") candidates order by loan_id limit :pageSize";
+        return namedParameterJdbcTemplate.queryForList(sql, parameters, Long.class);
+    }
+
+    @Override
+    public List<HolidayLoan> retrieveHolidayLoans(List<HolidayDueDateWindow> windows, Long minLoanIdExclusive, Long maxLoanIdInclusive) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        parameters.addValue("minLoanId", minLoanIdExclusive);
+        parameters.addValue("maxLoanId", maxLoanIdInclusive);
+        String sql = "select loan_id, holiday_id from (" + candidates(windows, true, parameters)
+                + ") candidates order by loan_id, holiday_id";
+        List<HolidayLoan> holidayLoans = new ArrayList<>();
+        namedParameterJdbcTemplate.query(sql, parameters, rs -> {
+            Long loanId = rs.getLong("loan_id");
+            HolidayLoan last = holidayLoans.isEmpty() ? null : holidayLoans.get(holidayLoans.size() - 1);
+            if (last == null || !Objects.equals(last.loanId(), loanId)) {
+                last = new HolidayLoan(loanId, new ArrayList<>());
+                holidayLoans.add(last);
+            }
+            last.holidayIds().add(rs.getLong("holiday_id"));
+        });
+        return holidayLoans;
+    }
+
+    @Override
+    public boolean hasHolidayLoans(HolidayDueDateWindow window) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        String sql = "select loan_id from (" + candidates(List.of(window), false, parameters) + ") candidates limit 1";
+        return !namedParameterJdbcTemplate.queryForList(sql, parameters, Long.class).isEmpty();
+    }
+
+    @Override
+    public void markHolidaysApplied(List<HolidayLoan> holidayLoans) {
+        List<MapSqlParameterSource> batch = new ArrayList<>();
+        for (HolidayLoan holidayLoan : holidayLoans) {
+            for (Long holidayId : holidayLoan.holidayIds()) {
+                batch.add(new MapSqlParameterSource().addValue("holidayId", holidayId).addValue("loanId", holidayLoan.loanId()));
+            }
+        }
+        if (!batch.isEmpty()) {
+            namedParameterJdbcTemplate.batchUpdate("insert into m_holiday_loan (holiday_id, loan_id) values (:holidayId, :loanId)",
+                    batch.toArray(new MapSqlParameterSource[0]));
+        }
+    }
+
+    @Override
+    public void clearAppliedHolidayLoans(Long holidayId) {
+        namedParameterJdbcTemplate.update("delete from m_holiday_loan where holiday_id = :holidayId",
+                new MapSqlParameterSource("holidayId", holidayId));
+    }
+
+    private static String candidates(List<HolidayDueDateWindow> windows, boolean withinRange, MapSqlParameterSource parameters) {
+        parameters.addValue("loanStatuses", LOAN_STATUSES);
+        List<String> selects = new ArrayList<>(windows.size());
+        for (int i = 0; i < windows.size(); i++) {
+            HolidayDueDateWindow window = windows.get(i);
+            parameters.addValue("holidayId" + i, window.holidayId());
+            parameters.addValue("fromDueDate" + i, window.fromDueDate());
+            parameters.addValue("toDueDate" + i, window.toDueDate());
+            selects.add("""
+                    select l.id as loan_id, h.id as holiday_id from m_loan l
+                    join m_holiday h on h.id = :holidayId%1$d
+                    left join m_client c on c.id = l.client_id
+                    left join m_group g on g.id = l.group_id
+                    where l.loan_status_id in (:loanStatuses) %2$s
+                        and exists (select 1 from m_holiday_office ho where ho.holiday_id = h.id
+                            and ho.office_id in (c.office_id, g.office_id))
+                        and exists (select 1 from m_loan_repayment_schedule ls where ls.loan_id = l.id
+                            and ls.duedate between :fromDueDate%1$d and :toDueDate%1$d)
+                        and not exists (select 1 from m_holiday_loan hl where hl.holiday_id = h.id and hl.loan_id = l.id)
+                    """.formatted(i, withinRange ? "and l.id > :minLoanId and l.id <= :maxLoanId" : ""));
+        }
+        return String.join(" union all ", selects);
+    }
+
+    private static HolidayLoanPartition mapPartition(ResultSet rs, int rowNum) throws SQLException {
+        return new HolidayLoanPartition(rs.getLong("min"), rs.getLong("max"), rs.getLong("page"), rs.getLong("count"));
+    }
+}
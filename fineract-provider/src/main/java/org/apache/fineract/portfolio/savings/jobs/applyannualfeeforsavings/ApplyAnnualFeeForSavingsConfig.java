@@ -20,7 +20,7 @@ package org.apache.fineract.portfolio.savings.jobs.applyannualfeeforsavings;
 
 import org.apache.fineract.infrastructure.jobs.service.JobName;
 import org.apache.fineract.portfolio.savings.service.SavingsAccountChargeReadPlatformService;
-import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsChargeBatchExecutor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
 import org.springframework.batch.core.job.builder.JobBuilder;
@@ -42,7 +42,7 @@ public class ApplyAnnualFeeForSavingsConfig {
     @Autowired
     private SavingsAccountChargeReadPlatformService savingsAccountChargeReadPlatformService;
     @Autowired
-    private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    private SavingsChargeBatchExecutor savingsChargeBatchExecutor;
 
     @Bean
     protected Step applyAnnualFeeForSavingsStep() {
@@ -58,6 +58,6 @@ public class ApplyAnnualFeeForSavingsConfig {
 
     @Bean
     public ApplyAnnualFeeForSavingsTasklet applyAnnualFeeForSavingsTasklet() {
-        return new ApplyAnnualFeeForSavingsTasklet(savingsAccountChargeReadPlatformService, savingsAccountWritePlatformService);
+        return new ApplyAnnualFeeForSavingsTasklet(savingsAccountChargeReadPlatformService, savingsChargeBatchExecutor);
     }
 }
@@ -19,15 +19,12 @@
 package org.apache.fineract.portfolio.savings.jobs.applyannualfeeforsavings;
 
 import java.util.Collection;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.infrastructure.core.data.ApiParameterError;
-import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountAnnualFeeData;
 import org.apache.fineract.portfolio.savings.service.SavingsAccountChargeReadPlatformService;
-import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsChargeBatchExecutor;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
@@ -38,25 +35,15 @@ import org.springframework.batch.repeat.RepeatStatus;
 public class ApplyAnnualFeeForSavingsTasklet implements Tasklet {
 
     private final SavingsAccountChargeReadPlatformService savingsAccountChargeReadPlatformService;
-    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    private final SavingsChargeBatchExecutor savingsChargeBatchExecutor;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         final Collection<SavingsAccountAnnualFeeData> annualFeeData = savingsAccountChargeReadPlatformService
                 .retrieveChargesWithAnnualFeeDue();
 
-        for (final SavingsAccountAnnualFeeData savingsAccountReference : annualFeeData) {
-            try {
-                savingsAccountWritePlatformService.applyAnnualFee(savingsAccountReference.getId(), savingsAccountReference.getAccountId());
-            } catch (final PlatformApiDataValidationException e) {
-                final List<ApiParameterError> errors = e.getErrors();
-                for (final ApiParameterError error : errors) {
-                    log.error("Apply annual fee failed for account: {} with message {}", savingsAccountReference.getAccountNo(), error);
-                }
-            } catch (final Exception ex) {
-                log.error("Apply annual fee failed for account: {}", savingsAccountReference.getAccountNo(), ex);
-            }
-        }
+        // failures are logged by the executor and do not fail the job
+        savingsChargeBatchExecutor.applyAnnualFees(annualFeeData);
 
         log.debug("{}: Records affected by applyAnnualFeeForSavings: {}", ThreadLocalContextUtil.getTenant().getName(),
                 annualFeeData.size());
@@ -18,18 +18,15 @@
  */
 package org.apache.fineract.portfolio.savings.jobs.payduesavingscharges;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.fineract.infrastructure.core.data.ApiParameterError;
-import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountAnnualFeeData;
 import org.apache.fineract.portfolio.savings.service.SavingsAccountChargeReadPlatformService;
-import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsChargeBatchExecutor;
 import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
@@ -40,27 +37,12 @@ import org.springframework.batch.repeat.RepeatStatus;
 public class PayDueSavingsChargesTasklet implements Tasklet {
 
     private final SavingsAccountChargeReadPlatformService savingsAccountChargeReadPlatformService;
-    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    private final SavingsChargeBatchExecutor savingsChargeBatchExecutor;
 
     @Override
     public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
         final Collection<SavingsAccountAnnualFeeData> chargesDueData = savingsAccountChargeReadPlatformService.retrieveChargesWithDue();
-        List<Throwable> exceptions = new ArrayList<>();
-        for (final SavingsAccountAnnualFeeData savingsAccountReference : chargesDueData) {
-            try {
-                savingsAccountWritePlatformService.applyChargeDue(savingsAccountReference.getId(), savingsAccountReference.getAccountId());
-            } catch (final PlatformApiDataValidationException e) {
-                exceptions.add(e);
-                final List<ApiParameterError> errors = e.getErrors();
-                for (final ApiParameterError error : errors) {
-                    log.error("Apply Charges due for savings failed for account {} with message: {}",
-                            savingsAccountReference.getAccountNo(), error.getDeveloperMessage(), e);
-                }
-            } catch (final Exception ex) {
-                exceptions.add(ex);
-                log.error("Apply Charges due for savings failed for account: {}", savingsAccountReference.getAccountNo(), ex);
-            }
-        }
+        final List<Throwable> exceptions = savingsChargeBatchExecutor.applyChargesDue(chargesDueData);
         log.debug("{}: Records affected by applyDueChargesForSavings: {}", ThreadLocalContextUtil.getTenant().getName(),
                 chargesDueData.size());
         if (!exceptions.isEmpty()) {
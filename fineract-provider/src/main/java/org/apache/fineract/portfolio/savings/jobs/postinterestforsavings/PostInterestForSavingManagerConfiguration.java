@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.integration.partition.RemotePartitioningManagerStepBuilderFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.DirectChannel;
+
+@Configuration
+@Conditional(SavingsInterestPostingConditions.Manager.class)
+public class PostInterestForSavingManagerConfiguration {
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private RemotePartitioningManagerStepBuilderFactory stepBuilderFactory;
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private DirectChannel outboundRequests;
+    @Autowired
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+
+    @Bean
+    @StepScope
+    public PostInterestForSavingPartitioner postInterestForSavingPartitioner() {
+        return new PostInterestForSavingPartitioner(propertyService, savingsAccountReadPlatformService);
+    }
+
+    @Bean
+    public Step postInterestForSavingPartitionStep() {
+        return stepBuilderFactory.get(PostInterestForSavingConstant.PARTITIONER_STEP)
+                .partitioner(PostInterestForSavingConstant.WORKER_STEP, postInterestForSavingPartitioner())
+                .pollInterval(propertyService.getPollInterval(PostInterestForSavingConstant.JOB_NAME)).outputChannel(outboundRequests)
+                .build();
+    }
+
+    @Bean
+    public Job postInterestForSavingJob() {
+        return new JobBuilder(JobName.POST_INTEREST_FOR_SAVINGS.name(), jobRepository) //
+                .start(postInterestForSavingPartitionStep()) //
+                .incrementer(new RunIdIncrementer()) //
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType.ACTIVE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingPartition;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.util.StopWatch;
+
+/**
+ * Splits the active savings accounts into contiguous id ranges of {@code partition-size} accounts each. Every range is
+ * handed to a worker as its own step execution, so the ranges can be posted on different nodes and restarted
+ * independently.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PostInterestForSavingPartitioner implements Partitioner {
+
+    private final PropertyService propertyService;
+    private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+
+    @NotNull
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int partitionSize = propertyService.getPartitionSize(PostInterestForSavingConstant.JOB_NAME);
+        StopWatch sw = new StopWatch();
+        sw.start();
+        List<SavingsInterestPostingPartition> partitions = new ArrayList<>(
+                savingsAccountReadPlatformService.retrieveSavingsInterestPostingPartitions(ACTIVE.getValue(), partitionSize));
+        sw.stop();
+        // if there is no account to post, we still would like to create at least one partition
+        if (partitions.isEmpty()) {
+            partitions.add(new SavingsInterestPostingPartition(0L, 0L, 1L, 0L));
+        }
+        log.info("PostInterestForSavingPartitioner found {} savings accounts. {} partitions were created using partition size {} in {} ms.",
+                partitions.stream().map(SavingsInterestPostingPartition::getCount).reduce(0L, Long::sum), partitions.size(),
+                partitionSize, sw.getTotalTimeMillis());
+        return partitions.stream().collect(
+                Collectors.toMap(p -> PostInterestForSavingConstant.PARTITION_PREFIX + p.getPageNo(), this::createNewPartition));
+    }
+
+    private ExecutionContext createNewPartition(SavingsInterestPostingPartition partition) {
+        ExecutionContext executionContext = new ExecutionContext();
+        // the lower bound is exclusive in the worker's keyset queries
+        executionContext.put(PostInterestForSavingConstant.SAVINGS_INTEREST_POSTING_PARAMETER,
+                new SavingsInterestPostingParameter(partition.getMinId() - 1, partition.getMaxId()));
+        executionContext.put("partition", PostInterestForSavingConstant.PARTITION_PREFIX + partition.getPageNo());
+        return executionContext;
+    }
+}
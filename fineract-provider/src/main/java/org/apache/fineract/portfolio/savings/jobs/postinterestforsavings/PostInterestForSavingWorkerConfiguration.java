@@ -0,0 +1,128 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import org.apache.fineract.cob.common.ResetContextTasklet;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.infrastructure.springbatch.partition.SystemUserInitialisationTasklet;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPoster;
+import org.apache.fineract.useradministration.domain.AppUserRepositoryWrapper;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.partition.RemotePartitioningWorkerStepBuilderFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@Conditional(SavingsInterestPostingConditions.Worker.class)
+public class PostInterestForSavingWorkerConfiguration {
+
+    @Autowired
+    private JobRepository jobRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private RemotePartitioningWorkerStepBuilderFactory stepBuilderFactory;
+    @Autowired
+    private PropertyService propertyService;
+    @Autowired
+    private QueueChannel inboundRequests;
+    @Autowired
+    private AppUserRepositoryWrapper userRepository;
+    @Autowired
+    private ConfigurationDomainService configurationDomainService;
+    @Autowired
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    @Autowired
+    private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    @Autowired
+    private SavingsSchedularInterestPoster savingsSchedularInterestPoster;
+
+    @Bean(name = PostInterestForSavingConstant.WORKER_STEP)
+    public Step postInterestForSavingWorkerStep() {
+        return stepBuilderFactory.get("Post interest for savings worker - Step").inputChannel(inboundRequests)
+                .flow(postInterestForSavingFlow()).build();
+    }
+
+    @Bean
+    public Flow postInterestForSavingFlow() {
+        return new FlowBuilder<Flow>("postInterestForSavingFlow").start(postInterestForSavingInitialisationStep(null))
+                .next(postInterestForSavingChunkStep(null)).next(postInterestForSavingResetContextStep(null)).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step postInterestForSavingInitialisationStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Savings interest posting initialisation - Step:" + partitionName, jobRepository)
+                .tasklet(new SystemUserInitialisationTasklet(userRepository), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public Step postInterestForSavingChunkStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Savings interest posting - Step:" + partitionName, jobRepository)
+                .<SavingsAccountData, SavingsAccountData>chunk(propertyService.getChunkSize(PostInterestForSavingConstant.JOB_NAME),
+                        transactionManager) //
+                .reader(savingsInterestPostingItemReader(null)) //
+                .processor(savingsInterestPostingItemProcessor()) //
+                .writer(savingsInterestPostingItemWriter()) //
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Step postInterestForSavingResetContextStep(@Value("#{stepExecutionContext['partition']}") String partitionName) {
+        return new StepBuilder("Savings interest posting reset context - Step:" + partitionName, jobRepository)
+                .tasklet(new ResetContextTasklet(), transactionManager).build();
+    }
+
+    @Bean
+    @StepScope
+    public SavingsInterestPostingItemReader savingsInterestPostingItemReader(
+            @Value("#{stepExecutionContext['" + PostInterestForSavingConstant.SAVINGS_INTEREST_POSTING_PARAMETER
+                    + "']}") SavingsInterestPostingParameter parameter) {
+        return new SavingsInterestPostingItemReader(savingsAccountReadPlatformService, configurationDomainService, parameter,
+                propertyService.getChunkSize(PostInterestForSavingConstant.JOB_NAME));
+    }
+
+    @Bean
+    @StepScope
+    public SavingsInterestPostingItemProcessor savingsInterestPostingItemProcessor() {
+        return new SavingsInterestPostingItemProcessor(savingsAccountWritePlatformService, configurationDomainService);
+    }
+
+    @Bean
+    @StepScope
+    public SavingsInterestPostingItemWriter savingsInterestPostingItemWriter() {
+        return new SavingsInterestPostingItemWriter(savingsSchedularInterestPoster);
+    }
+}
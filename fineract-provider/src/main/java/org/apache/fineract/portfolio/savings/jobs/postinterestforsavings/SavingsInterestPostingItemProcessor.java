@@ -0,0 +1,46 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.annotation.BeforeStep;
+import org.springframework.batch.item.ItemProcessor;
+
+@RequiredArgsConstructor
+public class SavingsInterestPostingItemProcessor implements ItemProcessor<SavingsAccountData, SavingsAccountData> {
+
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    private final ConfigurationDomainService configurationDomainService;
+    private boolean backdatedTxnsAllowedTill;
+
+    @BeforeStep
+    public void beforeStep(@NotNull StepExecution stepExecution) {
+        backdatedTxnsAllowedTill = configurationDomainService.retrievePivotDateConfig();
+    }
+
+    @Override
+    public SavingsAccountData process(@NotNull SavingsAccountData savingsAccountData) {
+        return savingsAccountWritePlatformService.postInterest(savingsAccountData, false, null, backdatedTxnsAllowedTill);
+    }
+}
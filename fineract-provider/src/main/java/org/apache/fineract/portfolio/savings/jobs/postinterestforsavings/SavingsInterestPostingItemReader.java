@@ -0,0 +1,68 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType.ACTIVE;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.infrastructure.springbatch.partition.KeysetPartitionItemReader;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+
+/**
+ * Reads the active savings accounts of one partition in id order, one page at a time, checkpointing the last handed out
+ * account; accounts filtered out by the posting query are skipped together with the rest of their page.
+ */
+public class SavingsInterestPostingItemReader extends KeysetPartitionItemReader<SavingsAccountData> {
+
+    static final String LAST_SAVINGS_ID = "savingsInterestPosting.lastSavingsId";
+
+    private final SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    private final ConfigurationDomainService configurationDomainService;
+    private boolean backdatedTxnsAllowedTill;
+
+    public SavingsInterestPostingItemReader(SavingsAccountReadPlatformService savingsAccountReadPlatformService,
+            ConfigurationDomainService configurationDomainService, SavingsInterestPostingParameter parameter, int pageSize) {
+        super(LAST_SAVINGS_ID, parameter.getMinSavingsId(), parameter.getMaxSavingsId(), pageSize);
+        this.savingsAccountReadPlatformService = savingsAccountReadPlatformService;
+        this.configurationDomainService = configurationDomainService;
+    }
+
+    @Override
+    protected void init() {
+        backdatedTxnsAllowedTill = configurationDomainService.retrievePivotDateConfig();
+    }
+
+    @Override
+    protected List<Long> retrieveKeys(Long afterId, Long maxId, int limit) {
+        return savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE.getValue(), limit, afterId, maxId);
+    }
+
+    @Override
+    protected List<SavingsAccountData> retrieveItems(Long fromIdExclusive, Long toIdInclusive) {
+        return savingsAccountReadPlatformService.retrieveAllSavingsDataForInterestPosting(backdatedTxnsAllowedTill, ACTIVE.getValue(),
+                fromIdExclusive, toIdInclusive);
+    }
+
+    @Override
+    protected Long keyOf(SavingsAccountData item) {
+        return item.getId();
+    }
+}
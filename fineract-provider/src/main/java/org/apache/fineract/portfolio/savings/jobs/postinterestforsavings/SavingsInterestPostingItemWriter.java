@@ -0,0 +1,45 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import java.util.ArrayList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.service.SavingsSchedularInterestPoster;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * Writes a whole chunk of posted accounts with the JDBC batch statements of {@link SavingsSchedularInterestPoster}, in
+ * the chunk transaction.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SavingsInterestPostingItemWriter implements ItemWriter<SavingsAccountData> {
+
+    private final SavingsSchedularInterestPoster interestPoster;
+
+    @Override
+    public void write(@NotNull Chunk<? extends SavingsAccountData> chunk) throws Exception {
+        interestPoster.writePostedInterest(new ArrayList<>(chunk.getItems()));
+        log.debug("Posted interest for {} savings accounts", chunk.size());
+    }
+}
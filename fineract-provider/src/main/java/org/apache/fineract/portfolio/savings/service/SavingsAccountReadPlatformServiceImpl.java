@@ -64,6 +64,7 @@ import org.apache.fineract.portfolio.savings.data.SavingsAccountSubStatusEnumDat
 import org.apache.fineract.portfolio.savings.data.SavingsAccountSummaryData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionEnumData;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingPartition;
 import org.apache.fineract.portfolio.savings.data.SavingsProductData;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountAssembler;
 import org.apache.fineract.portfolio.savings.domain.SavingsAccountChargesPaidByData;
@@ -236,9 +237,26 @@ public class SavingsAccountReadPlatformServiceImpl implements SavingsAccountRead
     @Override
     public List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(final boolean backdatedTxnsAllowedTill, final int pageSize,
             final Integer status, final Long maxSavingsId) {
+        return retrieveSavingsDataForInterestPosting(backdatedTxnsAllowedTill,
+                "select a.id from m_savings_account a where a.id > ? and a.status_enum = ? limit ?", maxSavingsId, status, pageSize);
+    }
+
+    @Override
+    public List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(final boolean backdatedTxnsAllowedTill, final Integer status,
+            final Long minSavingsIdExclusive, final Long maxSavingsIdInclusive) {
+        return retrieveSavingsDataForInterestPosting(backdatedTxnsAllowedTill,
+                "select a.id from m_savings_account a where a.id > ? and a.id <= ? and a.status_enum = ?", minSavingsIdExclusive,
+                maxSavingsIdInclusive, status);
+    }
+
+    /**
+     * Retrieves the savings accounts selected by {@code accountIdSql}, together with the transactions interest is to be
+     * posted for.
+     */
+    private List<SavingsAccountData> retrieveSavingsDataForInterestPosting(final boolean backdatedTxnsAllowedTill,
+            final String accountIdSql, final Object... accountIdParams) {
         LocalDate yesterday = DateUtils.getBusinessLocalDate().minusDays(1);
-        String sql = "select " + this.savingAccountMapperForInterestPosting.schema()
-                + "join (select a.id from m_savings_account a where a.id > ? and a.status_enum = ? limit ?) b on b.id = sa.id ";
+        String sql = "select " + this.savingAccountMapperForInterestPosting.schema() + "join (" + accountIdSql + ") b on b.id = sa.id ";
         if (backdatedTxnsAllowedTill) {
             sql = sql
                     + "where (CASE WHEN sa.interest_posted_till_date is not null THEN tr.transaction_date >= sa.interest_posted_till_date ELSE tr.transaction_date >= sa.activatedon_date END) ";
@@ -248,14 +266,25 @@ public class SavingsAccountReadPlatformServiceImpl implements SavingsAccountRead
         // #audit backward compatibility
         sql = sql + " order by sa.id, tr.transaction_date, tr." + CREATED_DATE_DB_FIELD + ", tr.created_date, tr.id";
 
+        Object[] params = Arrays.copyOf(accountIdParams, accountIdParams.length + 1);
+        params[accountIdParams.length] = yesterday;
         List<SavingsAccountData> savingsAccountDataList = this.jdbcTemplate.query(sql, this.savingAccountMapperForInterestPosting, // NOSONAR
-                new Object[] { maxSavingsId, status, pageSize, yesterday });
+                params);
         for (SavingsAccountData savingsAccountData : savingsAccountDataList) {
             this.savingAccountAssembler.assembleSavings(savingsAccountData);
         }
         return savingsAccountDataList;
     }
 
+    @Override
+    public List<SavingsInterestPostingPartition> retrieveSavingsInterestPostingPartitions(final Integer status, final int partitionSize) {
+        final String sql = "select min(id) as min, max(id) as max, page, count(id) as count from "
+                + "  (select floor(((row_number() over(order by id))-1) / ?) as page, t.* from "
+                + "      (select id from m_savings_account where status_enum = ? order by id) t) t2 " + "group by page order by page";
+        return this.jdbcTemplate.query(sql, (rs, rowNum) -> new SavingsInterestPostingPartition(rs.getLong("min"), rs.getLong("max"),
+                rs.getLong("page"), rs.getLong("count")), partitionSize, status);
+    }
+
     private static final class SavingAccountMapperForInterestPosting implements ResultSetExtractor<List<SavingsAccountData>> {
 
         private final String schemaSql;
@@ -1383,6 +1412,19 @@ public class SavingsAccountReadPlatformServiceImpl implements SavingsAccountRead
         }
     }
 
+    @Override
+    public List<Long> getAccountsIdsByStatusPaged(Integer status, int pageSize, Long minSavingsIdExclusive, Long maxSavingsIdInclusive) {
+        String sql = new StringBuilder().append(" SELECT sa.id FROM m_savings_account sa ")
+                .append(" where sa.id > ? and sa.id <= ? and sa.status_enum  = ? ").append(" order by sa.id limit ?").toString();
+
+        try {
+            return this.jdbcTemplate.queryForList(sql, Long.class,
+                    new Object[] { minSavingsIdExclusive, maxSavingsIdInclusive, status, pageSize });
+        } catch (EmptyResultDataAccessException e) {
+            return new ArrayList<>();
+        }
+    }
+
     @Override
     public Long retrieveAccountIdByExternalId(final ExternalId externalId) {
         return savingsAccountRepositoryWrapper.findIdByExternalId(externalId);
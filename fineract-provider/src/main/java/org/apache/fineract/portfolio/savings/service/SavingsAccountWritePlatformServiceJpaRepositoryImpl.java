@@ -1369,6 +1369,75 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
         }
     }
 
+    @Transactional
+    @Override
+    public void applyChargesDue(final Long accountId, final List<Long> savingsAccountChargeIds) {
+        payChargesDue(accountId, savingsAccountChargeIds, false);
+    }
+
+    @Transactional
+    @Override
+    public void applyAnnualFees(final Long accountId, final List<Long> savingsAccountChargeIds) {
+        getAppUserIfPresent();
+        payChargesDue(accountId, savingsAccountChargeIds, true);
+    }
+
+    /**
+     * Same as paying the charges one by one, but the account is loaded, recalculated, saved and posted to the journal only
+     * once. Overdraft is checked against the total paid as of the earliest charge transaction.
+     */
+    private void payChargesDue(final Long accountId, final List<Long> savingsAccountChargeIds, final boolean annualFee) {
+        final LocalDate businessDate = DateUtils.getBusinessLocalDate();
+        final DateTimeFormatter fmt = DateTimeFormatter.ofPattern("dd MM yyyy").withZone(DateUtils.getDateTimeZoneOfTenant());
+        final boolean backdatedTxnsAllowedTill = false;
+        if (savingsAccountChargeIds.isEmpty()) {
+            return;
+        }
+        final List<SavingsAccountCharge> savingsAccountCharges = new ArrayList<>(savingsAccountChargeIds.size());
+        for (final Long savingsAccountChargeId : savingsAccountChargeIds) {
+            savingsAccountCharges.add(this.savingsAccountChargeRepository.findOneWithNotFoundDetection(savingsAccountChargeId, accountId));
+        }
+        final SavingsAccount account = savingsAccountCharges.get(0).savingsAccount();
+        this.savingAccountAssembler.assignSavingAccountHelpers(account);
+        final Set<Long> existingTransactionIds = new HashSet<>();
+        final Set<Long> existingReversedTransactionIds = new HashSet<>();
+        updateExistingTransactionsDetails(account, existingTransactionIds, existingReversedTransactionIds);
+
+        final List<SavingsAccountTransaction> chargeTransactions = new ArrayList<>();
+        LocalDate earliestTransactionDate = null;
+        BigDecimal totalPaid = BigDecimal.ZERO;
+        for (final SavingsAccountCharge savingsAccountCharge : savingsAccountCharges) {
+            // an annual fee is paid for every elapsed due date, any other charge in full as of the business date
+            while ((annualFee || savingsAccountCharge.isNotFullyPaid())
+                    && DateUtils.isBefore(savingsAccountCharge.getDueDate(), businessDate)) {
+                final LocalDate transactionDate = annualFee ? savingsAccountCharge.getDueDate() : businessDate;
+                final BigDecimal amountPaid = annualFee ? savingsAccountCharge.amount() : savingsAccountCharge.amoutOutstanding();
+                chargeTransactions.add(
+                        account.payCharge(savingsAccountCharge, amountPaid, transactionDate, fmt, backdatedTxnsAllowedTill, null));
+                totalPaid = totalPaid.add(amountPaid);
+                if (earliestTransactionDate == null || DateUtils.isBefore(transactionDate, earliestTransactionDate)) {
+                    earliestTransactionDate = transactionDate;
+                }
+            }
+        }
+        if (chargeTransactions.isEmpty()) {
+            return;
+        }
+
+        Pageable sortedByDateAndIdDesc = PageRequest.of(0, 1, Sort.by("dateOf", "id").descending());
+        List<SavingsAccountTransaction> savingsAccountTransaction = this.savingsAccountTransactionRepository
+                .findBySavingsAccountIdAndLessThanDateOfAndReversedIsFalse(account.getId(), earliestTransactionDate, sortedByDateAndIdDesc);
+        account.validateAccountBalanceDoesNotViolateOverdraft(savingsAccountTransaction, totalPaid);
+
+        recalculateInterestAndValidateChargeBalance(account, earliestTransactionDate, backdatedTxnsAllowedTill);
+
+        this.savingsAccountTransactionRepository.saveAllAndFlush(chargeTransactions);
+
+        this.savingAccountRepositoryWrapper.saveAndFlush(account);
+
+        postJournalEntries(account, existingTransactionIds, existingReversedTransactionIds, backdatedTxnsAllowedTill);
+    }
+
     @SuppressWarnings("unused")
     public SavingsAccountData fallbackPostInterest(SavingsAccountData savingsAccountData, boolean postInterestAs, LocalDate transactionDate,
             boolean backdatedTxnsAllowedTill, Throwable t) {
@@ -1380,10 +1449,6 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
     @Transactional
     private SavingsAccountTransaction payCharge(final SavingsAccountCharge savingsAccountCharge, final LocalDate transactionDate,
             final BigDecimal amountPaid, final DateTimeFormatter formatter, final boolean backdatedTxnsAllowedTill) {
-        final boolean isSavingsInterestPostingAtCurrentPeriodEnd = this.configurationDomainService
-                .isSavingsInterestPostingAtCurrentPeriodEnd();
-        final Integer financialYearBeginningMonth = this.configurationDomainService.retrieveFinancialYearBeginningMonth();
-
         // Get Savings account from savings charge
         final SavingsAccount account = savingsAccountCharge.savingsAccount();
         this.savingAccountAssembler.assignSavingAccountHelpers(account);
@@ -1399,6 +1464,22 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
         updateExistingTransactionsDetails(account, existingTransactionIds, existingReversedTransactionIds);
         SavingsAccountTransaction chargeTransaction = account.payCharge(savingsAccountCharge, amountPaid, transactionDate, formatter,
                 backdatedTxnsAllowedTill, null);
+        recalculateInterestAndValidateChargeBalance(account, transactionDate, backdatedTxnsAllowedTill);
+
+        saveTransactionToGenerateTransactionId(chargeTransaction);
+
+        this.savingAccountRepositoryWrapper.saveAndFlush(account);
+
+        postJournalEntries(account, existingTransactionIds, existingReversedTransactionIds, backdatedTxnsAllowedTill);
+
+        return chargeTransaction;
+    }
+
+    private void recalculateInterestAndValidateChargeBalance(final SavingsAccount account, final LocalDate transactionDate,
+            final boolean backdatedTxnsAllowedTill) {
+        final boolean isSavingsInterestPostingAtCurrentPeriodEnd = this.configurationDomainService
+                .isSavingsInterestPostingAtCurrentPeriodEnd();
+        final Integer financialYearBeginningMonth = this.configurationDomainService.retrieveFinancialYearBeginningMonth();
         boolean isInterestTransfer = false;
         LocalDate postInterestOnDate = null;
         final MathContext mc = MathContext.DECIMAL64;
@@ -1421,14 +1502,6 @@ public class SavingsAccountWritePlatformServiceJpaRepositoryImpl implements Savi
 
         account.validateAccountBalanceDoesNotBecomeNegative("." + SavingsAccountTransactionType.PAY_CHARGE.getCode(),
                 depositAccountOnHoldTransactions, backdatedTxnsAllowedTill);
-
-        saveTransactionToGenerateTransactionId(chargeTransaction);
-
-        this.savingAccountRepositoryWrapper.saveAndFlush(account);
-
-        postJournalEntries(account, existingTransactionIds, existingReversedTransactionIds, backdatedTxnsAllowedTill);
-
-        return chargeTransaction;
     }
 
     private void updateExistingTransactionsDetails(SavingsAccount account, Set<Long> existingTransactionIds,
@@ -0,0 +1,164 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.data.ApiParameterError;
+import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountAnnualFeeData;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Applies due savings charges grouped by account: all due charges of an account are paid in one load, recalculation and
+ * save of the account, in a transaction of its own. When that fails, the charges of the account are retried one by one
+ * so a single failing charge does not hold back the others. The accounts are cut into partitions of the
+ * {@code partition-size} configured for the job in {@code fineract.partitioned-job}; with
+ * {@code fineract.job.savings-charges-thread-pool-size} above 1 the partitions are processed in parallel on the
+ * {@link SavingsChargeTaskExecutorConfig#SAVINGS_CHARGE_EXECUTOR_BEAN_NAME} executor.
+ */
+@Slf4j
+@Component
+public class SavingsChargeBatchExecutor {
+
+    private final SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    private final FineractProperties fineractProperties;
+    private final PropertyService propertyService;
+    private final ThreadPoolTaskExecutor taskExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public SavingsChargeBatchExecutor(final SavingsAccountWritePlatformService savingsAccountWritePlatformService,
+            final FineractProperties fineractProperties, final PropertyService propertyService,
+            @Qualifier(SavingsChargeTaskExecutorConfig.SAVINGS_CHARGE_EXECUTOR_BEAN_NAME) final ThreadPoolTaskExecutor taskExecutor,
+            final PlatformTransactionManager transactionManager) {
+        this.savingsAccountWritePlatformService = savingsAccountWritePlatformService;
+        this.fineractProperties = fineractProperties;
+        this.propertyService = propertyService;
+        this.taskExecutor = taskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * @return the errors of the charges that could not be paid
+     */
+    public List<Throwable> applyChargesDue(final Collection<SavingsAccountAnnualFeeData> dueCharges) {
+        return execute(JobName.PAY_DUE_SAVINGS_CHARGES, dueCharges, savingsAccountWritePlatformService::applyChargesDue,
+                savingsAccountWritePlatformService::applyChargeDue);
+    }
+
+    /**
+     * @return the errors of the annual fees that could not be applied
+     */
+    public List<Throwable> applyAnnualFees(final Collection<SavingsAccountAnnualFeeData> dueAnnualFees) {
+        return execute(JobName.APPLY_ANNUAL_FEE_FOR_SAVINGS, dueAnnualFees, savingsAccountWritePlatformService::applyAnnualFees,
+                savingsAccountWritePlatformService::applyAnnualFee);
+    }
+
+    private List<Throwable> execute(final JobName jobName, final Collection<SavingsAccountAnnualFeeData> dueCharges,
+            final BiConsumer<Long, List<Long>> accountOperation, final BiConsumer<Long, Long> chargeOperation) {
+        final Map<Long, List<SavingsAccountAnnualFeeData>> chargesByAccount = dueCharges.stream()
+                .collect(Collectors.groupingBy(SavingsAccountAnnualFeeData::getAccountId, LinkedHashMap::new, Collectors.toList()));
+        final int partitionSize = Math.max(1, propertyService.getPartitionSize(jobName.name()));
+        final List<List<Long>> partitions = Lists.partition(new ArrayList<>(chargesByAccount.keySet()), partitionSize);
+        final List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        final int threadPoolSize = fineractProperties.getJob().getSavingsChargesThreadPoolSize();
+        if (threadPoolSize <= 1 || partitions.size() <= 1) {
+            for (List<Long> accountIds : partitions) {
+                executePartition(accountIds, chargesByAccount, accountOperation, chargeOperation, errors);
+            }
+            return errors;
+        }
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>(partitions.size());
+            for (List<Long> accountIds : partitions) {
+                futures.add(taskExecutor
+                        .submit(() -> executePartition(accountIds, chargesByAccount, accountOperation, chargeOperation, errors)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    errors.add(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            errors.add(e);
+        }
+        return errors;
+    }
+
+    private void executePartition(final List<Long> accountIds, final Map<Long, List<SavingsAccountAnnualFeeData>> chargesByAccount,
+            final BiConsumer<Long, List<Long>> accountOperation, final BiConsumer<Long, Long> chargeOperation,
+            final List<Throwable> errors) {
+        for (Long accountId : accountIds) {
+            final List<SavingsAccountAnnualFeeData> charges = chargesByAccount.get(accountId);
+            final List<Long> chargeIds = charges.stream().map(SavingsAccountAnnualFeeData::getId).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> accountOperation.accept(accountId, chargeIds));
+            } catch (RuntimeException e) {
+                if (charges.size() == 1) {
+                    handleError(charges.get(0), e, errors);
+                    continue;
+                }
+                log.debug("Applying {} charges of savings account {} at once failed, applying them one by one", charges.size(),
+                        charges.get(0).getAccountNo(), e);
+                for (SavingsAccountAnnualFeeData charge : charges) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> chargeOperation.accept(charge.getId(), accountId));
+                    } catch (RuntimeException ex) {
+                        handleError(charge, ex, errors);
+                    }
+                }
+            }
+        }
+    }
+
+    private void handleError(final SavingsAccountAnnualFeeData charge, final RuntimeException e, final List<Throwable> errors) {
+        errors.add(e);
+        if (e instanceof PlatformApiDataValidationException validationException) {
+            for (ApiParameterError error : validationException.getErrors()) {
+                log.error("Applying savings charge {} failed for account {} with message: {}", charge.getId(), charge.getAccountNo(),
+                        error.getDeveloperMessage(), e);
+            }
+        } else {
+            log.error("Applying savings charge {} failed for account {}", charge.getId(), charge.getAccountNo(), e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.index;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientActivateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.client.ClientRejectBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.CentersCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.group.GroupsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanAcceptTransferBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.loan.LoanCreatedBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.savings.SavingsCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.share.ShareAccountCreateBusinessEvent;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
+
+/**
+ * Re-indexes the entities created or activated by business events, including the ones created outside of the command
+ * pipeline. Updates of existing entities are picked up by {@link SearchIndexCommandListener}.
+ */
+@RequiredArgsConstructor
+public class SearchIndexBusinessEventListener {
+
+    private final BusinessEventNotifierService businessEventNotifierService;
+    private final SearchIndexService searchIndexService;
+
+    @PostConstruct
+    public void addListeners() {
+        addListener(ClientCreateBusinessEvent.class, SearchIndexEntityType.CLIENT);
+        addListener(ClientActivateBusinessEvent.class, SearchIndexEntityType.CLIENT);
+        addListener(ClientRejectBusinessEvent.class, SearchIndexEntityType.CLIENT);
+        addListener(LoanCreatedBusinessEvent.class, SearchIndexEntityType.LOAN);
+        addListener(LoanAcceptTransferBusinessEvent.class, SearchIndexEntityType.LOAN);
+        addListener(SavingsCreateBusinessEvent.class, SearchIndexEntityType.SAVING);
+        addListener(ShareAccountCreateBusinessEvent.class, SearchIndexEntityType.SHARE);
+        addListener(GroupsCreateBusinessEvent.class, SearchIndexEntityType.GROUP);
+        addListener(CentersCreateBusinessEvent.class, SearchIndexEntityType.GROUP);
+    }
+
+    private <T extends BusinessEvent<?>> void addListener(Class<T> eventType, SearchIndexEntityType entityType) {
+        businessEventNotifierService.addPostBusinessEventListener(eventType, new ReindexListener<>(entityType));
+    }
+
+    private final class ReindexListener<T extends BusinessEvent<?>> implements BusinessEventListener<T> {
+
+        private final SearchIndexEntityType entityType;
+
+        private ReindexListener(SearchIndexEntityType entityType) {
+            this.entityType = entityType;
+        }
+
+        @Override
+        public void onBusinessEvent(T event) {
+            searchIndexService.refreshAfterCommit(entityType, event.getAggregateRootId());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.index;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.event.HookEvent;
+import org.apache.fineract.infrastructure.hooks.event.HookEventSource;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Re-indexes the entity of every successfully processed command, which covers the updates no business event is raised
+ * for, like editing the name or mobile number of a client, the external id of an account or the identifiers of a client.
+ * The command result is read from the payload of the {@link HookEvent} published by the command pipeline.
+ * <p>
+ * Hook events are multicast asynchronously, so the entity is re-read under the tenant context carried by the event.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SearchIndexCommandListener implements ApplicationListener<HookEvent> {
+
+    private final SearchIndexService searchIndexService;
+
+    @Override
+    public void onApplicationEvent(HookEvent event) {
+        ThreadLocalContextUtil.init(event.getContext());
+        try {
+            refresh(event);
+        } finally {
+            ThreadLocalContextUtil.reset();
+        }
+    }
+
+    private void refresh(HookEvent event) {
+        final String entityName = ((HookEventSource) event.getSource()).getEntityName();
+        final SearchIndexEntityType entityType = entityType(entityName);
+        if (entityType == null) {
+            return;
+        }
+        final JsonObject payload;
+        try {
+            payload = JsonParser.parseString(event.getPayload()).getAsJsonObject();
+        } catch (RuntimeException e) {
+            log.warn("Could not read the result of command {} for the search index", entityName, e);
+            return;
+        }
+        if (payload.has("status") || !payload.has("response") || !payload.get("response").isJsonObject()) {
+            return; // failed command
+        }
+        final JsonObject response = payload.getAsJsonObject("response");
+        final Long entityId = switch (entityType) {
+            case CLIENT -> id(response, "clientId");
+            case LOAN -> id(response, "loanId");
+            case SAVING -> id(response, "savingsId");
+            case GROUP -> id(response, "groupId");
+            case SHARE, CLIENTIDENTIFIER -> id(response, "resourceId");
+        };
+        searchIndexService.refreshAfterCommit(entityType, entityId);
+    }
+
+    private static SearchIndexEntityType entityType(String entityName) {
+        if (entityName == null) {
+            return null;
+        }
+        return switch (entityName) {
+            case "CLIENT" -> SearchIndexEntityType.CLIENT;
+            case "CLIENTIDENTIFIER" -> SearchIndexEntityType.CLIENTIDENTIFIER;
+            case "LOAN" -> SearchIndexEntityType.LOAN;
+            case "SAVINGSACCOUNT" -> SearchIndexEntityType.SAVING;
+            case "SHAREACCOUNT" -> SearchIndexEntityType.SHARE;
+            case "GROUP", "CENTER" -> SearchIndexEntityType.GROUP;
+            default -> null;
+        };
+    }
+
+    private static Long id(JsonObject response, String name) {
+        JsonElement id = response.get(name);
+        if (id == null || id.isJsonNull()) {
+            id = response.get("resourceId");
+        }
+        return id == null || id.isJsonNull() ? null : id.getAsLong();
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.index;
+
+import java.util.List;
+
+/**
+ * Searchable projection of a single entity.
+ *
+ * @param hierarchy
+ *            office hierarchy of the owning office, {@code null} when the entity has no office (e.g. group accounts)
+ * @param name
+ *            free text matched by prefix and fuzzy queries, {@code null} when the entity is not searchable by name
+ * @param keys
+ *            identifiers matched exactly or by prefix (account number, external id, mobile number, document key)
+ */
+public record SearchIndexDocument(SearchIndexEntityType entityType, Long entityId, String hierarchy, String name, List<String> keys) {
+}
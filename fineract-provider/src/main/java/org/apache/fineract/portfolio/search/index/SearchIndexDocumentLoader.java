@@ -0,0 +1,124 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.index;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.apache.fineract.infrastructure.core.domain.JdbcSupport;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * Reads the searchable columns of the current tenant. Full loads are paged by id so that arbitrarily large tables can be
+ * indexed with bounded memory.
+ */
+@RequiredArgsConstructor
+public class SearchIndexDocumentLoader {
+
+    private static final int PAGE_SIZE = 10_000;
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final DatabaseSpecificSQLGenerator sqlGenerator;
+
+    public void loadAll(SearchIndexEntityType entityType, Consumer<SearchIndexDocument> consumer) {
+        final SearchIndexDocumentMapper rm = new SearchIndexDocumentMapper(entityType);
+        final String sql = rm.schema() + " where " + rm.idColumn() + " > :lastId order by " + rm.idColumn() + " "
+                + sqlGenerator.limit(PAGE_SIZE);
+        long lastId = 0L;
+        List<SearchIndexDocument> page;
+        do {
+            page = namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("lastId", lastId), rm);
+            page.forEach(consumer);
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).entityId();
+            }
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    public List<SearchIndexDocument> load(SearchIndexEntityType entityType, Collection<Long> ids) {
+        final SearchIndexDocumentMapper rm = new SearchIndexDocumentMapper(entityType);
+        final String sql = rm.schema() + " where " + rm.idColumn() + " in (:ids)";
+        return namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("ids", ids), rm);
+    }
+
+    public List<SearchIndexDocument> loadClientIdentifiers(Long clientId) {
+        final SearchIndexDocumentMapper rm = new SearchIndexDocumentMapper(SearchIndexEntityType.CLIENTIDENTIFIER);
+        final String sql = rm.schema() + " where ci.client_id = :clientId";
+        return namedParameterJdbcTemplate.query(sql, new MapSqlParameterSource("clientId", clientId), rm);
+    }
+
+    private static final class SearchIndexDocumentMapper implements RowMapper<SearchIndexDocument> {
+
+        private final SearchIndexEntityType entityType;
+
+        private SearchIndexDocumentMapper(SearchIndexEntityType entityType) {
+            this.entityType = entityType;
+        }
+
+        private String idColumn() {
+            return switch (entityType) {
+                case CLIENT -> "c.id";
+                case LOAN -> "l.id";
+                case SAVING, SHARE -> "s.id";
+                case CLIENTIDENTIFIER -> "ci.id";
+                case GROUP -> "g.id";
+            };
+        }
+
+        private String schema() {
+            return switch (entityType) {
+                case CLIENT -> "select c.id as entityId, o.hierarchy as hierarchy, c.display_name as entityName, c.account_no as key1, "
+                        + "c.external_id as key2, c.mobile_no as key3 from m_client c join m_office o on o.id = c.office_id";
+                case LOAN -> "select l.id as entityId, o.hierarchy as hierarchy, null as entityName, l.account_no as key1, "
+                        + "l.external_id as key2, null as key3 from m_loan l left join m_client c on l.client_id = c.id "
+                        + "left join m_office o on o.id = c.office_id";
+                case SAVING -> "select s.id as entityId, o.hierarchy as hierarchy, null as entityName, s.account_no as key1, "
+                        + "s.external_id as key2, null as key3 from m_savings_account s left join m_client c on s.client_id = c.id "
+                        + "left join m_office o on o.id = c.office_id";
+                case SHARE -> "select s.id as entityId, o.hierarchy as hierarchy, null as entityName, s.account_no as key1, "
+                        + "s.external_id as key2, null as key3 from m_share_account s left join m_client c on s.client_id = c.id "
+                        + "left join m_office o on o.id = c.office_id";
+                case CLIENTIDENTIFIER -> "select ci.id as entityId, o.hierarchy as hierarchy, null as entityName, ci.document_key as key1, "
+                        + "null as key2, null as key3 from m_client_identifier ci join m_client c on ci.client_id = c.id "
+                        + "join m_office o on o.id = c.office_id";
+                case GROUP -> "select g.id as entityId, o.hierarchy as hierarchy, g.display_name as entityName, g.account_no as key1, "
+                        + "g.external_id as key2, null as key3 from m_group g join m_office o on o.id = g.office_id";
+            };
+        }
+
+        @Override
+        public SearchIndexDocument mapRow(final ResultSet rs, @SuppressWarnings("unused") final int rowNum) throws SQLException {
+            final Long entityId = JdbcSupport.getLong(rs, "entityId");
+            final String hierarchy = rs.getString("hierarchy");
+            final String entityName = rs.getString("entityName");
+            final List<String> keys = new ArrayList<>(3);
+            keys.add(rs.getString("key1"));
+            keys.add(rs.getString("key2"));
+            keys.add(rs.getString("key3"));
+            return new SearchIndexDocument(entityType, entityId, hierarchy, entityName, keys);
+        }
+    }
+}
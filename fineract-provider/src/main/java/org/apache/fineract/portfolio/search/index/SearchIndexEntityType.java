@@ -0,0 +1,56 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.index;
+
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+
+/**
+ * Entity types served by the global search. Centers and groups share {@link #GROUP} as both are stored in
+ * {@code m_group}.
+ */
+public enum SearchIndexEntityType {
+
+    CLIENT("clientIds"), //
+    LOAN("loanIds"), //
+    SAVING("savingIds"), //
+    SHARE("shareIds"), //
+    CLIENTIDENTIFIER("clientIdentifierIds"), //
+    GROUP("groupIds");
+
+    private final String idsParameterName;
+
+    SearchIndexEntityType(String idsParameterName) {
+        this.idsParameterName = idsParameterName;
+    }
+
+    public String getIdsParameterName() {
+        return idsParameterName;
+    }
+
+    public boolean isRequested(SearchConditions searchConditions) {
+        return Boolean.TRUE.equals(switch (this) {
+            case CLIENT -> searchConditions.isClientSearch();
+            case LOAN -> searchConditions.isLoanSeach();
+            case SAVING -> searchConditions.isSavingSeach();
+            case SHARE -> searchConditions.isShareSeach();
+            case CLIENTIDENTIFIER -> searchConditions.isClientIdentifierSearch();
+            case GROUP -> searchConditions.isGroupSearch();
+        });
+    }
+}
@@ -0,0 +1,278 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.index;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps one {@link TenantSearchIndex} per tenant and answers global searches from it.
+ * <p>
+ * The index of a tenant is built in the background on its first search and rebuilt periodically afterwards, each build
+ * goes to a new directory which replaces the live one when it is complete. Until the first build finishes
+ * {@link #search(SearchConditions, String)} returns an empty optional and the caller is expected to fall back to the
+ * database. Single entities are re-indexed by {@link #refreshAfterCommit(SearchIndexEntityType, Long)} when a business
+ * event or a successfully processed command touches them.
+ * <p>
+ * Changes that bypass both, like direct database updates, jobs writing without business events or changes of the office
+ * hierarchy, and every change made on another node, as the index is local to the node, only become visible with the next
+ * rebuild.
+ */
+@Slf4j
+public class SearchIndexService implements InitializingBean, DisposableBean {
+
+    private final SearchIndexDocumentLoader documentLoader;
+    private final TaskExecutor taskExecutor;
+    private final TaskScheduler taskScheduler;
+    private final FineractProperties.FineractSearchIndexProperties properties;
+
+    private final Map<String, FineractPlatformTenant> tenants = new ConcurrentHashMap<>();
+    private final Map<String, Generation> liveGenerations = new ConcurrentHashMap<>();
+    private final Map<String, Generation> buildingGenerations = new ConcurrentHashMap<>();
+
+    public SearchIndexService(SearchIndexDocumentLoader documentLoader, TaskExecutor taskExecutor, TaskScheduler taskScheduler,
+            FineractProperties fineractProperties) {
+        this.documentLoader = documentLoader;
+        this.taskExecutor = taskExecutor;
+        this.taskScheduler = taskScheduler;
+        this.properties = fineractProperties.getSearch().getIndex();
+    }
+
+    @SuppressWarnings({ "FutureReturnValueIgnored" })
+    @Override
+    public void afterPropertiesSet() {
+        long rebuildPeriodInSec = properties.getRebuildPeriodSeconds();
+        if (rebuildPeriodInSec < 60) {
+            log.warn("Rebuild period of the search index cannot be smaller than 60 seconds, setting back the minimum 60");
+            rebuildPeriodInSec = 60;
+        }
+        Duration rebuildPeriod = Duration.ofSeconds(rebuildPeriodInSec);
+        PeriodicTrigger trigger = new PeriodicTrigger(rebuildPeriod);
+        trigger.setInitialDelay(rebuildPeriod);
+        taskScheduler.schedule(() -> tenants.values().forEach(this::scheduleRebuild), trigger);
+    }
+
+    /**
+     * Searches the index of the current tenant.
+     *
+     * @return the best matching entities ordered by relevance, or an empty optional when the index of the tenant is not
+     *         built yet
+     */
+    public Optional<List<SearchIndexHit>> search(SearchConditions searchConditions, String hierarchy) {
+        final FineractPlatformTenant tenant = ThreadLocalContextUtil.getTenant();
+        final Generation generation = liveGenerations.get(tenant.getTenantIdentifier());
+        if (generation == null) {
+            if (tenants.putIfAbsent(tenant.getTenantIdentifier(), tenant) == null) {
+                scheduleRebuild(tenant);
+            }
+            return Optional.empty();
+        }
+
+        final Set<SearchIndexEntityType> entityTypes = EnumSet.noneOf(SearchIndexEntityType.class);
+        for (SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+            if (entityType.isRequested(searchConditions)) {
+                entityTypes.add(entityType);
+            }
+        }
+        try {
+            final boolean exactMatch = Boolean.TRUE.equals(searchConditions.getExactMatch());
+            return Optional.of(generation.index().search(searchConditions.getSearchQuery(), exactMatch, entityTypes, hierarchy,
+                    properties.getMaxHits()));
+        } catch (IOException | RuntimeException e) {
+            log.error("Search index of tenant {} failed, falling back to the database", tenant.getTenantIdentifier(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Re-reads a single entity of the current tenant and updates it in the live index and in the one being built.
+     */
+    public void refresh(SearchIndexEntityType entityType, Long entityId) {
+        final String tenantIdentifier = ThreadLocalContextUtil.getTenant().getTenantIdentifier();
+        final Generation live = liveGenerations.get(tenantIdentifier);
+        final Generation building = buildingGenerations.get(tenantIdentifier);
+        if (entityId == null || (live == null && building == null)) {
+            return;
+        }
+
+        final List<SearchIndexDocument> documents = documentLoader.load(entityType, List.of(entityId));
+        final List<SearchIndexDocument> identifiers = entityType == SearchIndexEntityType.CLIENT
+                ? documentLoader.loadClientIdentifiers(entityId)
+                : List.of();
+        for (Generation generation : new Generation[] { live, building }) {
+            if (generation == null) {
+                continue;
+            }
+            try {
+                if (documents.isEmpty()) {
+                    generation.index().delete(entityType, entityId);
+                }
+                for (SearchIndexDocument document : documents) {
+                    generation.index().index(document);
+                }
+                for (SearchIndexDocument identifier : identifiers) {
+                    generation.index().index(identifier);
+                }
+                generation.index().refresh();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Calls {@link #refresh(SearchIndexEntityType, Long)} once the current transaction commits, so that rolled back changes
+     * never become searchable, or right away when there is no transaction. Failures are logged, the entity is then fixed
+     * by the next rebuild.
+     */
+    public void refreshAfterCommit(SearchIndexEntityType entityType, Long entityId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    refreshQuietly(entityType, entityId);
+                }
+            });
+        } else {
+            refreshQuietly(entityType, entityId);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        liveGenerations.values().forEach(this::close);
+        buildingGenerations.values().forEach(this::close);
+    }
+
+    private void refreshQuietly(SearchIndexEntityType entityType, Long entityId) {
+        try {
+            refresh(entityType, entityId);
+        } catch (RuntimeException e) {
+            log.warn("Could not update the search index for {} {}", entityType, entityId, e);
+        }
+    }
+
+    private void scheduleRebuild(FineractPlatformTenant tenant) {
+        taskExecutor.execute(() -> {
+            ThreadLocalContextUtil.setTenant(tenant);
+            try {
+                rebuild(tenant.getTenantIdentifier());
+            } catch (RuntimeException e) {
+                log.error("Error while building the search index of tenant {}", tenant.getTenantIdentifier(), e);
+            } finally {
+                ThreadLocalContextUtil.reset();
+            }
+        });
+    }
+
+    private void rebuild(String tenantIdentifier) {
+        if (buildingGenerations.containsKey(tenantIdentifier)) {
+            return;
+        }
+        final Path tenantDirectory = Path.of(properties.getDirectory(), tenantIdentifier);
+        deleteStaleGenerations(tenantDirectory, liveGenerations.get(tenantIdentifier));
+
+        final Path path = tenantDirectory.resolve(String.valueOf(System.currentTimeMillis()));
+        final Generation generation;
+        try {
+            generation = new Generation(path, new TenantSearchIndex(FSDirectory.open(path)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buildingGenerations.put(tenantIdentifier, generation);
+
+        final long start = System.currentTimeMillis();
+        boolean built = false;
+        try {
+            for (SearchIndexEntityType entityType : SearchIndexEntityType.values()) {
+                documentLoader.loadAll(entityType, document -> {
+                    try {
+                        generation.index().index(document);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            generation.index().refresh();
+            built = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (!built) {
+                buildingGenerations.remove(tenantIdentifier);
+                close(generation);
+            }
+        }
+
+        final Generation previous = liveGenerations.put(tenantIdentifier, generation);
+        buildingGenerations.remove(tenantIdentifier);
+        if (previous != null) {
+            close(previous);
+        }
+        log.info("Search index of tenant {} built in {} ms", tenantIdentifier, System.currentTimeMillis() - start);
+    }
+
+    private void deleteStaleGenerations(Path tenantDirectory, Generation live) {
+        final File[] generations = tenantDirectory.toFile().listFiles(File::isDirectory);
+        if (generations == null) {
+            return;
+        }
+        for (File generation : generations) {
+            if (live == null || !generation.toPath().equals(live.path())) {
+                FileUtils.deleteQuietly(generation);
+            }
+        }
+    }
+
+    private void close(Generation generation) {
+        try {
+            generation.index().close();
+        } catch (IOException e) {
+            log.warn("Error while closing the search index at {}", generation.path(), e);
+        }
+        FileUtils.deleteQuietly(generation.path().toFile());
+    }
+
+    private record Generation(Path path, TenantSearchIndex index) {
+    }
+}
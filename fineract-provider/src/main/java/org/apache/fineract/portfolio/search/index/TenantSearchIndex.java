@@ -0,0 +1,266 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.index;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * Inverted index of the searchable entities of a single tenant.
+ * <p>
+ * Identifiers (account number, external id, mobile number, document key) are indexed as lower-cased keywords and are
+ * matched exactly or by prefix. Names are additionally tokenized so that every word can be matched by prefix or with a
+ * small edit distance. Only the entity type and id are stored; the caller hydrates the hits from the database.
+ * <p>
+ * Changes become visible to searches after {@link #refresh()}. Nothing is committed, the index is rebuilt from the
+ * database whenever it is opened.
+ */
+public class TenantSearchIndex implements Closeable {
+
+    private static final String UID = "uid";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+    private static final String HIERARCHY = "hierarchy";
+    private static final String UNSCOPED = "unscoped";
+    private static final String KEY = "key";
+    private static final String KEY_NUMBER = "keyNumber";
+    private static final String NAME = "name";
+    private static final String NAME_KEY = "nameKey";
+    private static final String TRUE = "true";
+
+    private static final float KEY_BOOST = 4.0f;
+    private static final float NAME_KEY_BOOST = 2.0f;
+    private static final int FUZZY_PREFIX_LENGTH = 1;
+    private static final double RAM_BUFFER_SIZE_MB = 64.0;
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public TenantSearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        this.analyzer = new StandardAnalyzer();
+        IndexWriterConfig config = new IndexWriterConfig(analyzer) //
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE) //
+                .setRAMBufferSizeMB(RAM_BUFFER_SIZE_MB);
+        this.writer = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public void index(SearchIndexDocument document) throws IOException {
+        writer.updateDocument(new Term(UID, uid(document.entityType(), document.entityId())), toLuceneDocument(document));
+    }
+
+    public void delete(SearchIndexEntityType entityType, Long entityId) throws IOException {
+        writer.deleteDocuments(new Term(UID, uid(entityType, entityId)));
+    }
+
+    public void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * Returns the best matching entities ordered by relevance.
+     *
+     * @param exactMatch
+     *            when {@code true} only entities with an identifier or name equal to the text (ignoring case) match,
+     *            otherwise identifiers and names are matched by prefix and name words also with a small edit distance
+     * @param hierarchy
+     *            office hierarchy of the user, entities of other offices are filtered out
+     */
+    public List<SearchIndexHit> search(String text, boolean exactMatch, Collection<SearchIndexEntityType> entityTypes, String hierarchy,
+            int maxHits) throws IOException {
+        String normalized = normalize(text);
+        if (normalized.isEmpty() || entityTypes.isEmpty()) {
+            return List.of();
+        }
+        Query query = new BooleanQuery.Builder() //
+                .add(exactMatch ? exactQuery(normalized) : matchQuery(text, normalized), Occur.MUST) //
+                .add(typeFilter(entityTypes), Occur.FILTER) //
+                .add(hierarchyFilter(hierarchy), Occur.FILTER) //
+                .build();
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, maxHits);
+            StoredFields storedFields = searcher.storedFields();
+            List<SearchIndexHit> hits = new ArrayList<>(topDocs.scoreDocs.length);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                Document document = storedFields.document(scoreDoc.doc);
+                hits.add(new SearchIndexHit(SearchIndexEntityType.valueOf(document.get(TYPE)), Long.valueOf(document.get(ID))));
+            }
+            return hits;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOUtils.close(searcherManager, writer, analyzer, directory);
+    }
+
+    private Query exactQuery(String normalized) {
+        return new BooleanQuery.Builder() //
+                .add(new TermQuery(new Term(KEY, normalized)), Occur.SHOULD) //
+                .add(new TermQuery(new Term(NAME_KEY, normalized)), Occur.SHOULD) //
+                .build();
+    }
+
+    private Query matchQuery(String text, String normalized) throws IOException {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder() //
+                .add(new BoostQuery(new PrefixQuery(new Term(KEY, normalized)), KEY_BOOST), Occur.SHOULD) //
+                .add(new BoostQuery(new PrefixQuery(new Term(NAME_KEY, normalized)), NAME_KEY_BOOST), Occur.SHOULD);
+        String number = stripLeadingZeros(normalized);
+        if (number != null) {
+            builder.add(new PrefixQuery(new Term(KEY_NUMBER, number)), Occur.SHOULD);
+        }
+        List<String> tokens = analyze(text);
+        if (!tokens.isEmpty()) {
+            BooleanQuery.Builder allTokens = new BooleanQuery.Builder();
+            for (String token : tokens) {
+                allTokens.add(tokenQuery(token), Occur.MUST);
+            }
+            builder.add(allTokens.build(), Occur.SHOULD);
+        }
+        return builder.build();
+    }
+
+    private Query tokenQuery(String token) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(new PrefixQuery(new Term(NAME, token)), Occur.SHOULD);
+        int maxEdits = maxEdits(token);
+        if (maxEdits > 0) {
+            builder.add(new FuzzyQuery(new Term(NAME, token), maxEdits, FUZZY_PREFIX_LENGTH), Occur.SHOULD);
+        }
+        return builder.build();
+    }
+
+    private static Query typeFilter(Collection<SearchIndexEntityType> entityTypes) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (SearchIndexEntityType entityType : entityTypes) {
+            builder.add(new TermQuery(new Term(TYPE, entityType.name())), Occur.SHOULD);
+        }
+        return builder.build();
+    }
+
+    private static Query hierarchyFilter(String hierarchy) {
+        return new BooleanQuery.Builder() //
+                .add(new PrefixQuery(new Term(HIERARCHY, hierarchy)), Occur.SHOULD) //
+                .add(new TermQuery(new Term(UNSCOPED, TRUE)), Occur.SHOULD) //
+                .build();
+    }
+
+    private static Document toLuceneDocument(SearchIndexDocument source) {
+        Document document = new Document();
+        document.add(new StringField(UID, uid(source.entityType(), source.entityId()), Field.Store.NO));
+        document.add(new StringField(TYPE, source.entityType().name(), Field.Store.YES));
+        document.add(new StringField(ID, String.valueOf(source.entityId()), Field.Store.YES));
+        if (source.hierarchy() == null) {
+            document.add(new StringField(UNSCOPED, TRUE, Field.Store.NO));
+        } else {
+            document.add(new StringField(HIERARCHY, source.hierarchy(), Field.Store.NO));
+        }
+        if (StringUtils.isNotBlank(source.name())) {
+            document.add(new TextField(NAME, source.name(), Field.Store.NO));
+            document.add(new StringField(NAME_KEY, normalize(source.name()), Field.Store.NO));
+        }
+        for (String key : source.keys()) {
+            if (StringUtils.isBlank(key)) {
+                continue;
+            }
+            String normalized = normalize(key);
+            document.add(new StringField(KEY, normalized, Field.Store.NO));
+            String number = stripLeadingZeros(normalized);
+            if (number != null) {
+                document.add(new StringField(KEY_NUMBER, number, Field.Store.NO));
+            }
+        }
+        return document;
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+
+    private static String uid(SearchIndexEntityType entityType, Long entityId) {
+        return entityType.name() + ":" + entityId;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Account numbers are zero padded, the un-padded form is indexed as well so that "123" finds "000000123".
+     */
+    static String stripLeadingZeros(String key) {
+        if (key.isEmpty() || !StringUtils.isNumeric(key)) {
+            return null;
+        }
+        String number = StringUtils.stripStart(key, "0");
+        return number.isEmpty() ? null : number;
+    }
+
+    static int maxEdits(String token) {
+        if (token.length() < 4) {
+            return 0;
+        }
+        return token.length() < 8 ? 1 : 2;
+    }
+}
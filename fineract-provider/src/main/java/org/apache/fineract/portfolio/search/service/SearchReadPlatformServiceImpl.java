@@ -21,7 +21,15 @@ package org.apache.fineract.portfolio.search.service;
 import java.math.BigDecimal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.fineract.infrastructure.core.data.EnumOptionData;
@@ -43,6 +51,9 @@ import org.apache.fineract.portfolio.search.data.AdHocQuerySearchConditions;
 import org.apache.fineract.portfolio.search.data.AdHocSearchQueryData;
 import org.apache.fineract.portfolio.search.data.SearchConditions;
 import org.apache.fineract.portfolio.search.data.SearchData;
+import org.apache.fineract.portfolio.search.index.SearchIndexEntityType;
+import org.apache.fineract.portfolio.search.index.SearchIndexHit;
+import org.apache.fineract.portfolio.search.index.SearchIndexService;
 import org.apache.fineract.useradministration.domain.AppUser;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -56,12 +67,18 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
     private final LoanProductReadPlatformService loanProductReadPlatformService;
     private final OfficeReadPlatformService officeReadPlatformService;
     private final DatabaseSpecificSQLGenerator sqlGenerator;
+    private final Optional<SearchIndexService> searchIndexService;
 
     @Override
     public Collection<SearchData> retriveMatchingData(final SearchConditions searchConditions) {
         final AppUser currentUser = context.authenticatedUser();
         final String hierarchy = currentUser.getOffice().getHierarchy();
 
+        final Optional<List<SearchIndexHit>> indexHits = searchIndexService.flatMap(service -> service.search(searchConditions, hierarchy));
+        if (indexHits.isPresent()) {
+            return retrieveIndexedData(searchConditions, hierarchy, indexHits.get());
+        }
+
         final SearchMapper rm = new SearchMapper();
 
         final MapSqlParameterSource params = new MapSqlParameterSource();
@@ -74,64 +91,116 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
         return namedParameterJdbcTemplate.query(searchSchema(searchConditions), params, rm);
     }
 
+    /**
+     * Loads the entities found by the search index by primary key, keeping the order of the index. The office hierarchy
+     * is checked again, the index may lag behind office transfers.
+     */
+    private Collection<SearchData> retrieveIndexedData(final SearchConditions searchConditions, final String hierarchy,
+            final List<SearchIndexHit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        final MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("hierarchy", hierarchy + "%");
+        final Map<SearchIndexEntityType, List<Long>> idsByType = new EnumMap<>(SearchIndexEntityType.class);
+        final Map<String, Integer> rankByEntity = new HashMap<>();
+        for (SearchIndexHit hit : hits) {
+            idsByType.computeIfAbsent(hit.entityType(), entityType -> new ArrayList<>()).add(hit.entityId());
+            rankByEntity.putIfAbsent(hit.entityType() + ":" + hit.entityId(), rankByEntity.size());
+        }
+        idsByType.forEach((entityType, ids) -> params.addValue(entityType.getIdsParameterName(), ids));
+
+        final List<SearchData> result = new ArrayList<>(
+                namedParameterJdbcTemplate.query(searchSchema(searchConditions, idsByType.keySet()), params, new SearchMapper()));
+        result.sort(Comparator.comparing(data -> rankByEntity.getOrDefault(indexedEntityType(data) + ":" + data.getEntityId(),
+                Integer.MAX_VALUE)));
+        return result;
+    }
+
+    private static SearchIndexEntityType indexedEntityType(final SearchData data) {
+        return "CENTER".equals(data.getEntityType()) ? SearchIndexEntityType.GROUP : SearchIndexEntityType.valueOf(data.getEntityType());
+    }
+
     public String searchSchema(final SearchConditions searchConditions) {
+        return searchSchema(searchConditions, null);
+    }
+
+    /**
+     * @param indexedTypes
+     *            when not {@code null} the entities are selected by the ids passed as the
+     *            {@link SearchIndexEntityType#getIdsParameterName()} parameters instead of by the {@code search} pattern
+     */
+    private String searchSchema(final SearchConditions searchConditions, final Set<SearchIndexEntityType> indexedTypes) {
 
         final String union = " union ";
         final String clientMatchSql = "( (select 'CLIENT' as entityType, c.id as entityId, c.display_name as entityName, c.external_id as entityExternalId, c.account_no as entityAccountNo "
                 + " , c.office_id as parentId, o.name as parentName, c.mobile_no as entityMobileNo,c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy and (c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)) "
-                + " order by c.id desc)";
+                + " from m_client c join m_office o on o.id = c.office_id where o.hierarchy like :hierarchy and "
+                + matchPredicate(indexedTypes, SearchIndexEntityType.CLIENT, "c.id",
+                        "(c.account_no like :search or c.display_name like :search or c.external_id like :search or c.mobile_no like :search)")
+                + ") order by c.id desc)";
 
         final String loanMatchSql = "( (select 'LOAN' as entityType, l.id as entityId, pl.name as entityName, l.external_id as entityExternalId, l.account_no as entityAccountNo "
                 + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name,g.display_name) as parentName, null as entityMobileNo, l.loan_status_id as entityStatusEnum, null as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
-                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (l.account_no like :search or l.external_id like :search)) "
-                + " order by l.id desc)";
+                + " from m_loan l left join m_client c on l.client_id = c.id left join m_group g ON l.group_id = g.id left join m_office o on o.id = c.office_id left join m_product_loan pl on pl.id=l.product_id where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and "
+                + matchPredicate(indexedTypes, SearchIndexEntityType.LOAN, "l.id",
+                        "(l.account_no like :search or l.external_id like :search)")
+                + ") order by l.id desc)";
 
         final String savingMatchSql = "( (select 'SAVING' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
                 + " , coalesce(c.id,g.id) as parentId, coalesce(c.display_name, g.display_name) as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, concat(s.deposit_type_enum, '') as subEntityType, CASE WHEN g.id is null THEN 'client' ELSE 'group' END as parentType "
                 + " from m_savings_account s left join m_client c on s.client_id = c.id left join m_group g ON s.group_id = g.id left join m_office o on o.id = c.office_id left join m_savings_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
-                + " order by s.id desc)";
+                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and "
+                + matchPredicate(indexedTypes, SearchIndexEntityType.SAVING, "s.id",
+                        "(s.account_no like :search or s.external_id like :search)")
+                + ") order by s.id desc)";
 
         final String shareMatchSql = "( (select 'SHARE' as entityType, s.id as entityId, sp.name as entityName, s.external_id as entityExternalId, s.account_no as entityAccountNo "
                 + " , c.id as parentId, c.display_name as parentName, null as entityMobileNo, s.status_enum as entityStatusEnum, null as subEntityType, 'client' as parentType "
                 + " from m_share_account s left join m_client c on s.client_id = c.id left join m_office o on o.id = c.office_id left join m_share_product sp on sp.id=s.product_id "
-                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and (s.account_no like :search or s.external_id like :search)) "
-                + " order by s.id desc)";
+                + " where (o.hierarchy IS NULL OR o.hierarchy like :hierarchy) and "
+                + matchPredicate(indexedTypes, SearchIndexEntityType.SHARE, "s.id",
+                        "(s.account_no like :search or s.external_id like :search)")
+                + ") order by s.id desc)";
 
         final String clientIdentifierMatchSql = "( (select 'CLIENTIDENTIFIER' as entityType, ci.id as entityId, ci.document_key as entityName, "
                 + " null as entityExternalId, null as entityAccountNo, c.id as parentId, c.display_name as parentName,null as entityMobileNo, c.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
                 + " from m_client_identifier ci join m_client c on ci.client_id=c.id join m_office o on o.id = c.office_id "
-                + " where o.hierarchy like :hierarchy and ci.document_key like :search ) " + " order by ci.id desc)";
+                + " where o.hierarchy like :hierarchy and "
+                + matchPredicate(indexedTypes, SearchIndexEntityType.CLIENTIDENTIFIER, "ci.id", "ci.document_key like :search") + " ) "
+                + " order by ci.id desc)";
 
         final String groupMatchSql = "( (select CASE WHEN g.level_id=1 THEN 'CENTER' ELSE 'GROUP' END as entityType, g.id as entityId, g.display_name as entityName, g.external_id as entityExternalId, g.account_no as entityAccountNo, "
                 + " g.office_id as parentId, o.name as parentName, null as entityMobileNo, g.status_enum as entityStatusEnum, null as subEntityType, null as parentType "
-                + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy and (g.account_no like :search or g.display_name like :search or g.external_id like :search )) "
-                + " order by g.id desc)";
+                + " from m_group g join m_office o on o.id = g.office_id where o.hierarchy like :hierarchy and "
+                + matchPredicate(indexedTypes, SearchIndexEntityType.GROUP, "g.id",
+                        "(g.account_no like :search or g.display_name like :search or g.external_id like :search )")
+                + ") order by g.id desc)";
 
         final StringBuilder sql = new StringBuilder();
 
-        if (searchConditions.isClientSearch()) {
+        if (searchConditions.isClientSearch() && isSelected(indexedTypes, SearchIndexEntityType.CLIENT)) {
             sql.append(clientMatchSql).append(union);
         }
 
-        if (searchConditions.isLoanSeach()) {
+        if (searchConditions.isLoanSeach() && isSelected(indexedTypes, SearchIndexEntityType.LOAN)) {
             sql.append(loanMatchSql).append(union);
         }
 
-        if (searchConditions.isSavingSeach()) {
+        if (searchConditions.isSavingSeach() && isSelected(indexedTypes, SearchIndexEntityType.SAVING)) {
             sql.append(savingMatchSql).append(union);
         }
 
-        if (searchConditions.isShareSeach()) {
+        if (searchConditions.isShareSeach() && isSelected(indexedTypes, SearchIndexEntityType.SHARE)) {
             sql.append(shareMatchSql).append(union);
         }
 
-        if (searchConditions.isClientIdentifierSearch()) {
+        if (searchConditions.isClientIdentifierSearch() && isSelected(indexedTypes, SearchIndexEntityType.CLIENTIDENTIFIER)) {
             sql.append(clientIdentifierMatchSql).append(union);
         }
 
-        if (searchConditions.isGroupSearch()) {
+        if (searchConditions.isGroupSearch() && isSelected(indexedTypes, SearchIndexEntityType.GROUP)) {
             sql.append(groupMatchSql).append(union);
         }
 
@@ -143,6 +212,15 @@ public class SearchReadPlatformServiceImpl implements SearchReadPlatformService
         return sql.toString();
     }
 
+    private static boolean isSelected(final Set<SearchIndexEntityType> indexedTypes, final SearchIndexEntityType entityType) {
+        return indexedTypes == null || indexedTypes.contains(entityType);
+    }
+
+    private static String matchPredicate(final Set<SearchIndexEntityType> indexedTypes, final SearchIndexEntityType entityType,
+            final String idColumn, final String searchPredicate) {
+        return indexedTypes == null ? searchPredicate : idColumn + " in (:" + entityType.getIdsParameterName() + ")";
+    }
+
     private static final class SearchMapper implements RowMapper<SearchData> {
 
         @Override
@@ -18,26 +18,74 @@
  */
 package org.apache.fineract.portfolio.search.starter;
 
+import java.util.Optional;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.event.business.service.BusinessEventNotifierService;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
 import org.apache.fineract.organisation.office.service.OfficeReadPlatformService;
 import org.apache.fineract.portfolio.loanproduct.service.LoanProductReadPlatformService;
+import org.apache.fineract.portfolio.search.index.SearchIndexBusinessEventListener;
+import org.apache.fineract.portfolio.search.index.SearchIndexCommandListener;
+import org.apache.fineract.portfolio.search.index.SearchIndexDocumentLoader;
+import org.apache.fineract.portfolio.search.index.SearchIndexEnabledCondition;
+import org.apache.fineract.portfolio.search.index.SearchIndexService;
 import org.apache.fineract.portfolio.search.service.SearchReadPlatformService;
 import org.apache.fineract.portfolio.search.service.SearchReadPlatformServiceImpl;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class SearchConfiguration {
 
+    public static final String SEARCH_INDEX_TASK_EXECUTOR_BEAN_NAME = "searchIndexTaskExecutor";
+
     @Bean
     @ConditionalOnMissingBean(SearchReadPlatformService.class)
     public SearchReadPlatformService searchReadPlatformService(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
             PlatformSecurityContext context, LoanProductReadPlatformService loanProductReadPlatformService,
-            OfficeReadPlatformService officeReadPlatformService, DatabaseSpecificSQLGenerator sqlGenerator) {
+            OfficeReadPlatformService officeReadPlatformService, DatabaseSpecificSQLGenerator sqlGenerator,
+            Optional<SearchIndexService> searchIndexService) {
         return new SearchReadPlatformServiceImpl(namedParameterJdbcTemplate, context, loanProductReadPlatformService,
-                officeReadPlatformService, sqlGenerator);
+                officeReadPlatformService, sqlGenerator, searchIndexService);
+    }
+
+    @Bean(name = SEARCH_INDEX_TASK_EXECUTOR_BEAN_NAME)
+    @Conditional(SearchIndexEnabledCondition.class)
+    public ThreadPoolTaskExecutor searchIndexTaskExecutor() {
+        ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        // builds are serialized, SearchIndexService relies on it
+        threadPoolTaskExecutor.setCorePoolSize(1);
+        threadPoolTaskExecutor.setMaxPoolSize(1);
+        threadPoolTaskExecutor.setThreadNamePrefix("search-index-");
+        return threadPoolTaskExecutor;
+    }
+
+    @Bean
+    @Conditional(SearchIndexEnabledCondition.class)
+    public SearchIndexService searchIndexService(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            DatabaseSpecificSQLGenerator sqlGenerator, @Qualifier(SEARCH_INDEX_TASK_EXECUTOR_BEAN_NAME) ThreadPoolTaskExecutor taskExecutor,
+            TaskScheduler taskScheduler, FineractProperties fineractProperties) {
+        return new SearchIndexService(new SearchIndexDocumentLoader(namedParameterJdbcTemplate, sqlGenerator), taskExecutor,
+                taskScheduler, fineractProperties);
+    }
+
+    @Bean
+    @Conditional(SearchIndexEnabledCondition.class)
+    public SearchIndexBusinessEventListener searchIndexBusinessEventListener(BusinessEventNotifierService businessEventNotifierService,
+            SearchIndexService searchIndexService) {
+        return new SearchIndexBusinessEventListener(businessEventNotifierService, searchIndexService);
+    }
+
+    @Bean
+    @Conditional(SearchIndexEnabledCondition.class)
+    public SearchIndexCommandListener searchIndexCommandListener(SearchIndexService searchIndexService) {
+        return new SearchIndexCommandListener(searchIndexService);
     }
 }
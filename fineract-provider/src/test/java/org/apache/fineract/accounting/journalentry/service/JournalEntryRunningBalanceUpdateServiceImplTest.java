@@ -0,0 +1,419 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.accounting.journalentry.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.apache.fineract.accounting.glaccount.domain.GLAccountType;
+import org.apache.fineract.accounting.journalentry.data.JournalEntryDataValidator;
+import org.apache.fineract.accounting.journalentry.domain.JournalEntryType;
+import org.apache.fineract.infrastructure.core.serialization.FromJsonHelper;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.organisation.office.domain.OfficeRepositoryWrapper;
+import org.apache.fineract.useradministration.domain.AppUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Runs the running balance update against an in memory journal and compares the result with the previous
+ * implementation's computation, which walked every journal entry in entry date and id order.
+ */
+@ExtendWith(MockitoExtension.class)
+class JournalEntryRunningBalanceUpdateServiceImplTest {
+
+    private static final long CASH = 1L;
+    private static final long SAVINGS_CONTROL = 2L;
+    private static final long HEAD_OFFICE = 1L;
+    private static final long BRANCH = 2L;
+    private static final LocalDate DAY_1 = LocalDate.of(2024, 1, 1);
+    private static final LocalDate DAY_2 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate DAY_3 = LocalDate.of(2024, 1, 3);
+    private static final LocalDate DAY_4 = LocalDate.of(2024, 1, 4);
+
+    @Mock
+    private OfficeRepositoryWrapper officeRepositoryWrapper;
+    @Mock
+    private JournalEntryDataValidator dataValidator;
+    @Mock
+    private FromJsonHelper fromApiJsonHelper;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private PlatformSecurityContext platformSecurityContext;
+    @Mock
+    private AppUser user;
+
+    private InMemoryJournal journal;
+    private JournalEntryRunningBalanceUpdateServiceImpl underTest;
+
+    @BeforeEach
+    void setUp() {
+        when(platformSecurityContext.authenticatedUser()).thenReturn(user);
+        when(user.getId()).thenReturn(1L);
+        journal = new InMemoryJournal();
+        underTest = new JournalEntryRunningBalanceUpdateServiceImpl(journal, officeRepositoryWrapper, dataValidator, fromApiJsonHelper,
+                sqlGenerator, platformSecurityContext);
+    }
+
+    @Test
+    void testBalancesAcrossOfficesAndCurrenciesMatchFullRecomputation() {
+        journal.add(CASH, HEAD_OFFICE, DAY_1, GLAccountType.ASSET, JournalEntryType.DEBIT, "100.00", "USD");
+        journal.add(SAVINGS_CONTROL, HEAD_OFFICE, DAY_1, GLAccountType.LIABILITY, JournalEntryType.CREDIT, "100.00", "USD");
+        journal.add(CASH, BRANCH, DAY_1, GLAccountType.ASSET, JournalEntryType.DEBIT, "40.00", "EUR");
+        journal.add(SAVINGS_CONTROL, BRANCH, DAY_1, GLAccountType.LIABILITY, JournalEntryType.CREDIT, "40.00", "EUR");
+        journal.add(CASH, HEAD_OFFICE, DAY_2, GLAccountType.ASSET, JournalEntryType.CREDIT, "30.00", "USD");
+        journal.add(SAVINGS_CONTROL, HEAD_OFFICE, DAY_2, GLAccountType.LIABILITY, JournalEntryType.DEBIT, "30.00", "USD");
+        journal.add(CASH, BRANCH, DAY_3, GLAccountType.ASSET, JournalEntryType.DEBIT, "15.50", "EUR");
+        journal.add(CASH, HEAD_OFFICE, DAY_3, GLAccountType.ASSET, JournalEntryType.DEBIT, "5.25", "USD");
+
+        underTest.updateRunningBalance();
+
+        assertBalancesMatchFullRecomputation();
+        assertDailyBalancesMatchFullRecomputation();
+        assertTrue(journal.entries.stream().allMatch(entry -> entry.reconciled));
+    }
+
+    @Test
+    void testBackdatedEntryRecomputesOnlyItsAccountFromItsDate() {
+        journal.add(CASH, HEAD_OFFICE, DAY_1, GLAccountType.ASSET, JournalEntryType.DEBIT, "100.00", "USD");
+        journal.add(CASH, BRANCH, DAY_2, GLAccountType.ASSET, JournalEntryType.DEBIT, "20.00", "USD");
+        journal.add(CASH, HEAD_OFFICE, DAY_3, GLAccountType.ASSET, JournalEntryType.CREDIT, "10.00", "USD");
+        journal.add(CASH, BRANCH, DAY_4, GLAccountType.ASSET, JournalEntryType.DEBIT, "7.00", "USD");
+        journal.add(SAVINGS_CONTROL, HEAD_OFFICE, DAY_1, GLAccountType.LIABILITY, JournalEntryType.CREDIT, "100.00", "USD");
+        journal.add(SAVINGS_CONTROL, HEAD_OFFICE, DAY_4, GLAccountType.LIABILITY, JournalEntryType.CREDIT, "9.00", "USD");
+        underTest.updateRunningBalance();
+        journal.updatedEntryIds.clear();
+
+        long backdated = journal.add(CASH, HEAD_OFFICE, DAY_2, GLAccountType.ASSET, JournalEntryType.DEBIT, "3.00", "USD");
+        underTest.updateRunningBalance();
+
+        assertBalancesMatchFullRecomputation();
+        assertDailyBalancesMatchFullRecomputation();
+        Set<Long> expectedUpdates = journal.entries.stream()
+                .filter(entry -> entry.accountId == CASH && !entry.entryDate.isBefore(DAY_2)).map(entry -> entry.id)
+                .collect(Collectors.toSet());
+        assertTrue(expectedUpdates.contains(backdated));
+        assertEquals(expectedUpdates, journal.updatedEntryIds);
+    }
+
+    @Test
+    void testUntrackedAccountIsSeededFromItsLastReconciledEntryPerOffice() {
+        journal.add(CASH, HEAD_OFFICE, DAY_1, GLAccountType.ASSET, JournalEntryType.DEBIT, "100.00", "USD");
+        journal.add(CASH, HEAD_OFFICE, DAY_1, GLAccountType.ASSET, JournalEntryType.CREDIT, "25.00", "USD");
+        journal.add(CASH, BRANCH, DAY_2, GLAccountType.ASSET, JournalEntryType.DEBIT, "60.00", "USD");
+        // balances written by the previous implementation, before acc_gl_daily_balance existed
+        Map<Long, BigDecimal[]> legacyBalances = recomputeFromScratch(journal.entries);
+        for (JournalRow entry : journal.entries) {
+            entry.reconciled = true;
+            entry.organizationRunningBalance = legacyBalances.get(entry.id)[0];
+            entry.officeRunningBalance = legacyBalances.get(entry.id)[1];
+        }
+        journal.add(CASH, HEAD_OFFICE, DAY_3, GLAccountType.ASSET, JournalEntryType.DEBIT, "12.00", "USD");
+        journal.add(CASH, BRANCH, DAY_3, GLAccountType.ASSET, JournalEntryType.CREDIT, "8.00", "USD");
+
+        underTest.updateRunningBalance();
+
+        assertBalancesMatchFullRecomputation();
+        assertDailyBalanceEquals(CASH, HEAD_OFFICE, DAY_1, "75.00");
+        assertDailyBalanceEquals(CASH, BRANCH, DAY_2, "60.00");
+        assertDailyBalanceEquals(CASH, HEAD_OFFICE, DAY_3, "87.00");
+        assertDailyBalanceEquals(CASH, BRANCH, DAY_3, "52.00");
+    }
+
+    @Test
+    void testEntryBackdatedBeforeTheEarliestSnapshotIsSeededFromTheLastReconciledEntry() {
+        journal.add(CASH, HEAD_OFFICE, DAY_1, GLAccountType.ASSET, JournalEntryType.DEBIT, "100.00", "USD");
+        journal.add(CASH, BRANCH, DAY_2, GLAccountType.ASSET, JournalEntryType.DEBIT, "60.00", "USD");
+        journal.add(CASH, HEAD_OFFICE, DAY_3, GLAccountType.ASSET, JournalEntryType.CREDIT, "30.00", "USD");
+        Map<Long, BigDecimal[]> legacyBalances = recomputeFromScratch(journal.entries);
+        for (JournalRow entry : journal.entries) {
+            entry.reconciled = true;
+            entry.organizationRunningBalance = legacyBalances.get(entry.id)[0];
+            entry.officeRunningBalance = legacyBalances.get(entry.id)[1];
+        }
+        // seeds the head office on day 3 and the branch on day 2
+        journal.add(CASH, HEAD_OFFICE, DAY_4, GLAccountType.ASSET, JournalEntryType.DEBIT, "5.00", "USD");
+        underTest.updateRunningBalance();
+
+        journal.add(CASH, HEAD_OFFICE, DAY_2, GLAccountType.ASSET, JournalEntryType.DEBIT, "3.00", "USD");
+        underTest.updateRunningBalance();
+
+        assertBalancesMatchFullRecomputation();
+        assertDailyBalancesMatchFullRecomputation();
+        assertDailyBalanceEquals(CASH, HEAD_OFFICE, DAY_1, "100.00");
+        assertDailyBalanceEquals(CASH, HEAD_OFFICE, DAY_2, "103.00");
+    }
+
+    private void assertBalancesMatchFullRecomputation() {
+        Map<Long, BigDecimal[]> expected = recomputeFromScratch(journal.entries);
+        for (JournalRow entry : journal.entries) {
+            assertAmountEquals(expected.get(entry.id)[0], entry.organizationRunningBalance, "organization running balance of " + entry.id);
+            assertAmountEquals(expected.get(entry.id)[1], entry.officeRunningBalance, "office running balance of " + entry.id);
+        }
+    }
+
+    private void assertDailyBalancesMatchFullRecomputation() {
+        Map<Long, BigDecimal[]> expected = recomputeFromScratch(journal.entries);
+        Map<List<Object>, BigDecimal> expectedClosingBalances = new HashMap<>();
+        sorted(journal.entries).forEach(entry -> expectedClosingBalances.put(List.of(entry.accountId, entry.officeId, entry.entryDate),
+                expected.get(entry.id)[1]));
+        assertEquals(expectedClosingBalances.size(), journal.dailyBalances.size());
+        expectedClosingBalances.forEach((key, balance) -> assertDailyBalanceEquals((Long) key.get(0), (Long) key.get(1),
+                (LocalDate) key.get(2), balance.toPlainString()));
+    }
+
+    private void assertDailyBalanceEquals(long accountId, long officeId, LocalDate date, String expected) {
+        Optional<DailyBalance> dailyBalance = journal.dailyBalances.stream()
+                .filter(balance -> balance.accountId == accountId && balance.officeId == officeId && balance.balanceDate.equals(date))
+                .findFirst();
+        assertTrue(dailyBalance.isPresent(), "no daily balance of account " + accountId + " in office " + officeId + " on " + date);
+        assertAmountEquals(new BigDecimal(expected), dailyBalance.get().closingBalance, "daily balance on " + date);
+    }
+
+    private static void assertAmountEquals(BigDecimal expected, BigDecimal actual, String message) {
+        assertEquals(0, expected.compareTo(actual), message + ": expected " + expected + " but was " + actual);
+    }
+
+    /**
+     * The previous implementation: one organization running balance per account and one office running balance per
+     * account and office, accumulated over every journal entry in entry date and id order. The entry currency is not
+     * taken into account.
+     */
+    private static Map<Long, BigDecimal[]> recomputeFromScratch(List<JournalRow> entries) {
+        Map<Long, BigDecimal> organizationBalances = new HashMap<>();
+        Map<List<Long>, BigDecimal> officeBalances = new HashMap<>();
+        Map<Long, BigDecimal[]> balances = new HashMap<>();
+        for (JournalRow entry : sorted(entries)) {
+            boolean increase = switch (entry.accountType) {
+                case ASSET, EXPENSE -> entry.entryType.isDebitType();
+                case EQUITY, INCOME, LIABILITY -> entry.entryType.isCreditType();
+            };
+            BigDecimal change = increase ? entry.amount : entry.amount.negate();
+            BigDecimal organizationBalance = organizationBalances.merge(entry.accountId, change, BigDecimal::add);
+            BigDecimal officeBalance = officeBalances.merge(List.of(entry.accountId, entry.officeId), change, BigDecimal::add);
+            balances.put(entry.id, new BigDecimal[] { organizationBalance, officeBalance });
+        }
+        return balances;
+    }
+
+    private static List<JournalRow> sorted(List<JournalRow> entries) {
+        return entries.stream().sorted(Comparator.comparing((JournalRow entry) -> entry.entryDate).thenComparing(entry -> entry.id))
+                .toList();
+    }
+
+    private static final class JournalRow {
+
+        private final long id;
+        private final long accountId;
+        private final long officeId;
+        private final LocalDate entryDate;
+        private final GLAccountType accountType;
+        private final JournalEntryType entryType;
+        private final BigDecimal amount;
+        private final String currencyCode;
+        private boolean reconciled;
+        private BigDecimal organizationRunningBalance;
+        private BigDecimal officeRunningBalance;
+
+        private JournalRow(long id, long accountId, long officeId, LocalDate entryDate, GLAccountType accountType,
+                JournalEntryType entryType, BigDecimal amount, String currencyCode) {
+            this.id = id;
+            this.accountId = accountId;
+            this.officeId = officeId;
+            this.entryDate = entryDate;
+            this.accountType = accountType;
+            this.entryType = entryType;
+            this.amount = amount;
+            this.currencyCode = currencyCode;
+        }
+
+        @Override
+        public String toString() {
+            return id + ": " + entryType + " " + amount + " " + currencyCode + " on " + entryDate;
+        }
+    }
+
+    private record DailyBalance(long id, long accountId, long officeId, LocalDate balanceDate, BigDecimal closingBalance) {}
+
+    /**
+     * Answers the statements of the running balance update from in memory {@code acc_gl_journal_entry} and
+     * {@code acc_gl_daily_balance} tables. Any other statement fails the test.
+     */
+    private static final class InMemoryJournal extends JdbcTemplate {
+
+        private final List<JournalRow> entries = new ArrayList<>();
+        private final List<DailyBalance> dailyBalances = new ArrayList<>();
+        private final Set<Long> updatedEntryIds = new HashSet<>();
+        private long nextDailyBalanceId = 1;
+
+        private long add(long accountId, long officeId, LocalDate entryDate, GLAccountType accountType, JournalEntryType entryType,
+                String amount, String currencyCode) {
+            long id = entries.size() + 1L;
+            entries.add(new JournalRow(id, accountId, officeId, entryDate, accountType, entryType, new BigDecimal(amount), currencyCode));
+            return id;
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch) {
+            if (!sql.startsWith("select je.account_id as accountId, MIN(je.entry_date)")) {
+                throw new UnsupportedOperationException(sql);
+            }
+            Map<Long, LocalDate> accounts = new TreeMap<>();
+            entries.stream().filter(entry -> !entry.reconciled)
+                    .forEach(entry -> accounts.merge(entry.accountId, entry.entryDate, (a, b) -> a.isBefore(b) ? a : b));
+            accounts.forEach((accountId, date) -> processRow(rch, row(Map.of("accountId", accountId, "entityDate", date))));
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            if (sql.startsWith("select b.office_id as officeId, min(b.balance_date) as firstBalanceDate")) {
+                long accountId = (Long) args[0];
+                Map<Long, LocalDate> first = new TreeMap<>();
+                dailyBalances.stream().filter(balance -> balance.accountId == accountId).forEach(
+                        balance -> first.merge(balance.officeId, balance.balanceDate, (a, b) -> a.isBefore(b) ? a : b));
+                first.forEach((officeId, date) -> processRow(rch, row(Map.of("officeId", officeId, "firstBalanceDate", date))));
+                return;
+            }
+            if (!sql.startsWith("select b.office_id as officeId, b.closing_balance as closingBalance")) {
+                throw new UnsupportedOperationException(sql);
+            }
+            long accountId = (Long) args[0];
+            LocalDate before = (LocalDate) args[1];
+            Map<Long, DailyBalance> latest = new HashMap<>();
+            dailyBalances.stream().filter(balance -> balance.accountId == accountId && balance.balanceDate.isBefore(before))
+                    .forEach(balance -> latest.merge(balance.officeId, balance,
+                            (a, b) -> a.balanceDate.isAfter(b.balanceDate) ? a : b));
+            latest.values().forEach(
+                    balance -> processRow(rch, row(Map.of("officeId", balance.officeId, "closingBalance", balance.closingBalance))));
+        }
+
+        @Override
+        public <T> List<T> query(String sql, RowMapper<T> rowMapper, Object... args) {
+            long accountId = (Long) args[0];
+            LocalDate date = (LocalDate) args[1];
+            List<ResultSet> rows = new ArrayList<>();
+            if (sql.startsWith("select je.id as id, je.office_id as officeId")) {
+                sorted(entries).stream().filter(entry -> entry.accountId == accountId && !entry.entryDate.isBefore(date))
+                        .forEach(entry -> rows.add(row(Map.of("id", entry.id, "officeId", entry.officeId, "entryDate", entry.entryDate,
+                                "entryType", entry.entryType.getValue(), "amount", entry.amount, "classification",
+                                entry.accountType.getValue()))));
+            } else if (sql.startsWith("select je.office_id as officeId, je.entry_date as entryDate")) {
+                Map<Long, JournalRow> lastPerOffice = new HashMap<>();
+                sorted(entries).stream().filter(entry -> entry.accountId == accountId && entry.entryDate.isBefore(date))
+                        .forEach(entry -> lastPerOffice.put(entry.officeId, entry));
+                lastPerOffice.values().forEach(entry -> rows.add(row(Map.of("officeId", entry.officeId, "entryDate", entry.entryDate,
+                        "runningBalance", entry.officeRunningBalance))));
+            } else {
+                throw new UnsupportedOperationException(sql);
+            }
+            List<T> result = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    result.add(rowMapper.mapRow(rows.get(i), i));
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            if (sql.startsWith("UPDATE acc_gl_journal_entry SET is_running_balance_calculated=?")) {
+                for (Object[] args : batchArgs) {
+                    JournalRow entry = entries.get(((Long) args[5]).intValue() - 1);
+                    entry.reconciled = (Boolean) args[0];
+                    entry.organizationRunningBalance = (BigDecimal) args[1];
+                    entry.officeRunningBalance = (BigDecimal) args[2];
+                    updatedEntryIds.add(entry.id);
+                }
+            } else if (sql.startsWith("insert into acc_gl_daily_balance")) {
+                for (Object[] args : batchArgs) {
+                    dailyBalances.add(new DailyBalance(nextDailyBalanceId++, (Long) args[0], (Long) args[1], (LocalDate) args[2],
+                            (BigDecimal) args[3]));
+                }
+            } else {
+                throw new UnsupportedOperationException(sql);
+            }
+            return new int[batchArgs.size()];
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            if (!sql.startsWith("delete from acc_gl_daily_balance where account_id = ? and balance_date >= ?")) {
+                throw new UnsupportedOperationException(sql);
+            }
+            long accountId = (Long) args[0];
+            LocalDate from = (LocalDate) args[1];
+            int size = dailyBalances.size();
+            dailyBalances.removeIf(balance -> balance.accountId == accountId && !balance.balanceDate.isBefore(from));
+            return size - dailyBalances.size();
+        }
+
+        private static void processRow(RowCallbackHandler rch, ResultSet rs) {
+            try {
+                rch.processRow(rs);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static ResultSet row(Map<String, Object> values) {
+            List<String> columns = new ArrayList<>(values.keySet());
+            return mock(ResultSet.class, invocation -> {
+                Object argument = invocation.getArguments().length > 0 ? invocation.getArgument(0) : null;
+                Object value = argument instanceof Integer index ? values.get(columns.get(index - 1)) : values.get(argument);
+                return switch (invocation.getMethod().getName()) {
+                    case "findColumn" -> columns.indexOf(argument) + 1;
+                    case "getLong" -> ((Number) value).longValue();
+                    case "getInt" -> ((Number) value).intValue();
+                    case "getBigDecimal" -> value;
+                    case "getDate" -> Date.valueOf((LocalDate) value);
+                    case "wasNull" -> false;
+                    default -> null;
+                };
+            });
+        }
+    }
+}
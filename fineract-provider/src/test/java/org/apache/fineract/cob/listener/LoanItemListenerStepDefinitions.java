@@ -34,6 +34,7 @@ import org.apache.fineract.cob.domain.LoanAccountLock;
 import org.apache.fineract.cob.domain.LockOwner;
 import org.apache.fineract.cob.exceptions.LoanReadException;
 import org.apache.fineract.cob.loan.LoanLockingService;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -47,8 +48,10 @@ public class LoanItemListenerStepDefinitions implements En {
 
     private LoanLockingService loanLockingService = mock(LoanLockingService.class);
     private TransactionTemplate transactionTemplate = spy(TransactionTemplate.class);
+    private LoanCOBStateIndex loanCOBStateIndex = mock(LoanCOBStateIndex.class);
 
-    private ChunkProcessingLoanItemListener loanItemListener = new ChunkProcessingLoanItemListener(loanLockingService, transactionTemplate);
+    private ChunkProcessingLoanItemListener loanItemListener = new ChunkProcessingLoanItemListener(loanLockingService, transactionTemplate,
+            loanCOBStateIndex);
 
     private Exception exception;
 
@@ -36,6 +36,7 @@ import org.apache.fineract.cob.common.CustomJobParameterResolver;
 import org.apache.fineract.cob.data.LoanCOBParameter;
 import org.apache.fineract.cob.domain.LoanAccountLock;
 import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.exceptions.LoanReadException;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
@@ -169,4 +170,86 @@ class LoanItemReaderTest {
 
         Mockito.verifyNoMoreInteractions(loanRepository);
     }
+
+    @Test
+    public void testLoanItemReaderPrefetch() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        loanItemReader.setPrefetchSize(3);
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 5L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L, 3L, 4L, 5L)));
+        List<LoanAccountLock> accountLocks = List.of(1L, 2L, 3L, 4L, 5L).stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L, 3L, 4L, 5L), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        List<Loan> loans = new ArrayList<>();
+        for (long i = 1; i <= 5; i++) {
+            Loan prefetchedLoan = Mockito.mock(Loan.class);
+            when(prefetchedLoan.getId()).thenReturn(i);
+            loans.add(prefetchedLoan);
+        }
+        when(loanRepository.findAllByIdsFetchRepaymentSchedule(List.of(1L, 2L, 3L))).thenReturn(loans.subList(0, 3));
+        when(loanRepository.findAllByIdsFetchRepaymentSchedule(List.of(4L, 5L))).thenReturn(loans.subList(3, 5));
+
+        // when + then
+        loanItemReader.beforeStep(stepExecution);
+        for (int i = 0; i < 5; i++) {
+            Assertions.assertEquals(loans.get(i), loanItemReader.read());
+        }
+        Assertions.assertNull(loanItemReader.read());
+
+        verify(loanRepository, times(1)).findAllByIdsFetchTransactions(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsFetchCharges(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsFetchDisbursementDetails(List.of(1L, 2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsFetchTransactions(List.of(4L, 5L));
+        verify(loanRepository, times(1)).findAllByIdsFetchCharges(List.of(4L, 5L));
+        verify(loanRepository, times(1)).findAllByIdsFetchDisbursementDetails(List.of(4L, 5L));
+        verify(loanRepository, Mockito.never()).findById(anyLong());
+    }
+
+    @Test
+    public void testLoanItemReaderPrefetchFailureIsReportedForTheFirstLoan() throws Exception {
+        // given
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "test", "test", "UTC", null));
+        LoanItemReader loanItemReader = new LoanItemReader(loanRepository, retrieveLoanIdService, customJobParameterResolver,
+                loanLockingService);
+        loanItemReader.setPrefetchSize(3);
+        when(stepExecution.getExecutionContext()).thenReturn(executionContext);
+        LoanCOBParameter loanCOBParameter = new LoanCOBParameter(1L, 3L);
+        when(executionContext.get(LoanCOBConstant.LOAN_COB_PARAMETER)).thenReturn(loanCOBParameter);
+        when(retrieveLoanIdService.retrieveAllNonClosedLoansByLastClosedBusinessDateAndMinAndMaxLoanId(loanCOBParameter, false))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L, 3L)));
+        List<LoanAccountLock> accountLocks = List.of(1L, 2L, 3L).stream()
+                .map(l -> new LoanAccountLock(l, LockOwner.LOAN_COB_CHUNK_PROCESSING, LocalDate.of(2023, 7, 25))).toList();
+        when(loanLockingService.findAllByLoanIdInAndLockOwner(List.of(1L, 2L, 3L), LockOwner.LOAN_COB_CHUNK_PROCESSING))
+                .thenReturn(accountLocks);
+        when(loanRepository.findAllByIdsFetchRepaymentSchedule(List.of(1L, 2L, 3L))).thenThrow(new IllegalStateException("failed"));
+        List<Loan> loans = new ArrayList<>();
+        for (long i = 2; i <= 3; i++) {
+            Loan prefetchedLoan = Mockito.mock(Loan.class);
+            when(prefetchedLoan.getId()).thenReturn(i);
+            loans.add(prefetchedLoan);
+        }
+        when(loanRepository.findAllByIdsFetchRepaymentSchedule(List.of(2L, 3L))).thenReturn(loans);
+
+        // when + then
+        loanItemReader.beforeStep(stepExecution);
+        LoanReadException exception = Assertions.assertThrows(LoanReadException.class, loanItemReader::read);
+        Assertions.assertEquals(1L, exception.getId());
+        // the unread loans of the failed window are handed back and read by the next chunk, the failed one is not
+        Assertions.assertEquals(loans.get(0), loanItemReader.read());
+        Assertions.assertEquals(loans.get(1), loanItemReader.read());
+        Assertions.assertNull(loanItemReader.read());
+
+        verify(loanRepository, times(1)).findAllByIdsFetchTransactions(List.of(2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsFetchCharges(List.of(2L, 3L));
+        verify(loanRepository, times(1)).findAllByIdsFetchDisbursementDetails(List.of(2L, 3L));
+        // the failed window is not read one by one within the same, rollback-only chunk transaction
+        verify(loanRepository, Mockito.never()).findById(anyLong());
+    }
 }
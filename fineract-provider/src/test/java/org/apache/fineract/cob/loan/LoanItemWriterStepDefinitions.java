@@ -23,6 +23,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
 import io.cucumber.java8.En;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.apache.fineract.portfolio.loanaccount.domain.Loan;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
 import org.mockito.Mockito;
@@ -32,8 +33,9 @@ public class LoanItemWriterStepDefinitions implements En {
 
     private final LoanLockingService loanLockingService = mock(LoanLockingService.class);
     private final LoanRepository loanRepository = mock(LoanRepository.class);
+    private final LoanCOBStateIndex loanCOBStateIndex = mock(LoanCOBStateIndex.class);
 
-    private final LoanItemWriter loanItemWriter = new LoanItemWriter(loanLockingService);
+    private final LoanItemWriter loanItemWriter = new LoanItemWriter(loanLockingService, loanCOBStateIndex);
 
     private Chunk<Loan> items;
 
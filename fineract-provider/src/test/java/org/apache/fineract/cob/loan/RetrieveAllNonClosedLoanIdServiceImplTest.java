@@ -18,9 +18,15 @@
  */
 package org.apache.fineract.cob.loan;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import org.apache.fineract.cob.data.LoanCOBPartition;
 import org.apache.fineract.portfolio.loanaccount.domain.LoanRepository;
@@ -87,6 +93,60 @@ public class RetrieveAllNonClosedLoanIdServiceImplTest {
 
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRetrieveCostBalancedLoanCOBPartitions() throws SQLException {
+        String expectedSQL = """
+                select min(id) as min, max(id) as max, page, count(id) as count from
+                  (select floor((sum(cost) over(order by id) - cost) / :partitionCost) as page, t.id from
+                      (select id, coalesce(cob_processing_cost, :defaultCost) as cost from m_loan where loan_status_id in (:statusIds) and (last_closed_business_date = :businessDate or last_closed_business_date is null) ) t) t2
+                 group by page
+                 order by page
+                """;
+        RetrieveAllNonClosedLoanIdServiceImpl service = new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository,
+                namedParameterJdbcTemplate);
+        // 10 loans, 4 of them measured with 400 in total: the 6 unmeasured ones count as average (100)
+        ResultSet costResultSet = Mockito.mock(ResultSet.class);
+        when(costResultSet.getLong("count")).thenReturn(10L);
+        when(costResultSet.getLong("measured_count")).thenReturn(4L);
+        when(costResultSet.getLong("measured_cost")).thenReturn(400L);
+        when(namedParameterJdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> invocation.<RowMapper<?>>getArgument(2).mapRow(costResultSet, 0));
+        when(namedParameterJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(new ArrayList<>(List.of(new LoanCOBPartition(1L, 2L, 0L, 2L), new LoanCOBPartition(3L, 4L, 2L, 2L),
+                        new LoanCOBPartition(5L, 5L, 3L, 1L), new LoanCOBPartition(6L, 8L, 4L, 3L), new LoanCOBPartition(9L, 9L, 6L, 1L),
+                        new LoanCOBPartition(10L, 10L, 7L, 1L))));
+
+        List<LoanCOBPartition> partitions = service.retrieveCostBalancedLoanCOBPartitions(1L, LocalDate.parse("2023-06-28"), false, 5);
+
+        Mockito.verify(namedParameterJdbcTemplate, times(1)).query(sqlCaptor.capture(), paramsCaptor.capture(), rowMapper.capture());
+        Assertions.assertEquals(normalize(expectedSQL), normalize(sqlCaptor.getValue()));
+        Assertions.assertEquals(100L, paramsCaptor.getValue().getValue("defaultCost"));
+        // 2 partitions of 500 are split into pages of 125: the first partition is merged back, the last one is kept split
+        Assertions.assertEquals(125L, paramsCaptor.getValue().getValue("partitionCost"));
+        Assertions.assertEquals(LocalDate.parse("2023-06-27"), paramsCaptor.getValue().getValue("businessDate"));
+        Assertions.assertEquals(List.of(0L, 1L, 2L, 3L), partitions.stream().map(LoanCOBPartition::getPageNo).toList());
+        Assertions.assertEquals(List.of(1L, 6L, 9L, 10L), partitions.stream().map(LoanCOBPartition::getMinId).toList());
+        Assertions.assertEquals(List.of(5L, 8L, 9L, 10L), partitions.stream().map(LoanCOBPartition::getMaxId).toList());
+        Assertions.assertEquals(List.of(5L, 3L, 1L, 1L), partitions.stream().map(LoanCOBPartition::getCount).toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testRetrieveCostBalancedLoanCOBPartitionsNoLoans() throws SQLException {
+        RetrieveAllNonClosedLoanIdServiceImpl service = new RetrieveAllNonClosedLoanIdServiceImpl(loanRepository,
+                namedParameterJdbcTemplate);
+        ResultSet costResultSet = Mockito.mock(ResultSet.class);
+        when(costResultSet.getLong(anyString())).thenReturn(0L);
+        when(namedParameterJdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(invocation -> invocation.<RowMapper<?>>getArgument(2).mapRow(costResultSet, 0));
+
+        List<LoanCOBPartition> partitions = service.retrieveCostBalancedLoanCOBPartitions(1L, LocalDate.parse("2023-06-28"), true, 5);
+
+        Assertions.assertTrue(partitions.isEmpty());
+        Mockito.verify(namedParameterJdbcTemplate, Mockito.never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
     private String normalize(String str) {
         return str.replaceAll(" +", " ").replaceAll("\r?\n", "");
     }
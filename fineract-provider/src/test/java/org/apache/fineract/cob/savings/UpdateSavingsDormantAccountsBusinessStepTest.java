@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.savings;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccount;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountTransaction;
+import org.apache.fineract.portfolio.savings.domain.SavingsProduct;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountWritePlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class UpdateSavingsDormantAccountsBusinessStepTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.parse("2023-06-28");
+    private static final Long SAVINGS_ID = 1L;
+
+    @Mock
+    private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    @Mock
+    private SavingsAccount savingsAccount;
+    @Mock
+    private SavingsProduct savingsProduct;
+    private UpdateSavingsDormantAccountsBusinessStep underTest;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        underTest = new UpdateSavingsDormantAccountsBusinessStep(savingsAccountWritePlatformService);
+        when(savingsAccount.savingsProduct()).thenReturn(savingsProduct);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    public void givenDormancyTrackingIsNotActiveWhenStepExecutionThenSubStatusIsNotChanged() {
+        // given
+        when(savingsProduct.isDormancyTrackingActive()).thenReturn(false);
+        // when
+        underTest.execute(savingsAccount);
+        // then
+        verifyNoInteractions(savingsAccountWritePlatformService);
+    }
+
+    @Test
+    public void givenNoActivityForDaysToInactiveWhenStepExecutionThenAccountBecomesInactive() {
+        // given
+        givenDormancyThresholds(30L, 60L, 90L);
+        when(savingsAccount.getId()).thenReturn(SAVINGS_ID);
+        when(savingsAccount.getTransactions()).thenReturn(List.of());
+        when(savingsAccount.getActivationDate()).thenReturn(BUSINESS_DATE.minusDays(40));
+        when(savingsAccount.getSubStatus()).thenReturn(0, 100, 100);
+        // when
+        underTest.execute(savingsAccount);
+        // then
+        verify(savingsAccountWritePlatformService).setSubStatusInactive(SAVINGS_ID);
+        verify(savingsAccountWritePlatformService, never()).setSubStatusDormant(anyLong());
+        verify(savingsAccountWritePlatformService, never()).escheat(anyLong());
+    }
+
+    @Test
+    public void givenNoActivityForDaysToEscheatWhenStepExecutionThenSubStatusesCascade() {
+        // given
+        givenDormancyThresholds(30L, 60L, 90L);
+        when(savingsAccount.getId()).thenReturn(SAVINGS_ID);
+        SavingsAccountTransaction deposit = givenTransaction(false, BUSINESS_DATE.minusDays(100));
+        when(savingsAccount.getTransactions()).thenReturn(List.of(deposit));
+        when(savingsAccount.getSubStatus()).thenReturn(0, 100, 200);
+        // when
+        underTest.execute(savingsAccount);
+        // then
+        verify(savingsAccountWritePlatformService).setSubStatusInactive(SAVINGS_ID);
+        verify(savingsAccountWritePlatformService).setSubStatusDormant(SAVINGS_ID);
+        verify(savingsAccountWritePlatformService).escheat(SAVINGS_ID);
+    }
+
+    @Test
+    public void givenRecentDepositWhenStepExecutionThenSubStatusIsNotChanged() {
+        // given
+        givenDormancyThresholds(30L, 60L, 90L);
+        SavingsAccountTransaction reversedDeposit = Mockito.mock(SavingsAccountTransaction.class);
+        when(reversedDeposit.isReversed()).thenReturn(true);
+        SavingsAccountTransaction deposit = givenTransaction(false, BUSINESS_DATE.minusDays(5));
+        when(savingsAccount.getTransactions()).thenReturn(List.of(reversedDeposit, deposit));
+        when(savingsAccount.getSubStatus()).thenReturn(0);
+        // when
+        underTest.execute(savingsAccount);
+        // then
+        verifyNoInteractions(savingsAccountWritePlatformService);
+    }
+
+    private void givenDormancyThresholds(Long daysToInactive, Long daysToDormancy, Long daysToEscheat) {
+        when(savingsProduct.isDormancyTrackingActive()).thenReturn(true);
+        Mockito.lenient().when(savingsProduct.getDaysToInactive()).thenReturn(daysToInactive);
+        Mockito.lenient().when(savingsProduct.getDaysToDormancy()).thenReturn(daysToDormancy);
+        Mockito.lenient().when(savingsProduct.getDaysToEscheat()).thenReturn(daysToEscheat);
+    }
+
+    private SavingsAccountTransaction givenTransaction(boolean reversed, LocalDate transactionDate) {
+        SavingsAccountTransaction transaction = Mockito.mock(SavingsAccountTransaction.class);
+        when(transaction.isReversed()).thenReturn(reversed);
+        when(transaction.isReversalTransaction()).thenReturn(false);
+        when(transaction.isDeposit()).thenReturn(true);
+        when(transaction.getTransactionDate()).thenReturn(transactionDate);
+        return transaction;
+    }
+}
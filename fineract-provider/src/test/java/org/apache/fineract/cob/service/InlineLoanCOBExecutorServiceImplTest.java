@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,6 +41,7 @@ import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.junit.jupiter.api.AfterEach;
@@ -50,6 +52,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @ExtendWith(MockitoExtension.class)
@@ -73,6 +76,10 @@ class InlineLoanCOBExecutorServiceImplTest {
     private FineractProperties.FineractApiProperties fineractApiProperties;
     @Mock
     private FineractProperties.FineractBodyItemSizeLimitProperties fineractBodyItemSizeLimitProperties;
+    @Mock
+    private FineractProperties.FineractJobProperties fineractJobProperties;
+    @Mock
+    private JobLauncher jobLauncher;
 
     @AfterEach
     public void tearDown() {
@@ -93,6 +100,7 @@ class InlineLoanCOBExecutorServiceImplTest {
         when(transactionTemplate.execute(any())).thenThrow(new LoanAccountLockCannotBeOverruledException(""));
         when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
         when(fineractProperties.getApi()).thenReturn(fineractApiProperties);
+        when(fineractProperties.getJob()).thenReturn(fineractJobProperties);
         when(dataParser.parseExecution(any())).thenReturn(List.of(1L));
         when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(65000);
         when(fineractApiProperties.getBodyItemSizeLimit()).thenReturn(fineractBodyItemSizeLimitProperties);
@@ -117,6 +125,7 @@ class InlineLoanCOBExecutorServiceImplTest {
         when(transactionTemplate.execute(any())).thenThrow(new LoanAccountLockCannotBeOverruledException(""));
         when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
         when(fineractProperties.getApi()).thenReturn(fineractApiProperties);
+        when(fineractProperties.getJob()).thenReturn(fineractJobProperties);
         when(dataParser.parseExecution(any())).thenReturn(List.of(1L, 2L, 3L));
         when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(2);
         when(fineractApiProperties.getBodyItemSizeLimit()).thenReturn(fineractBodyItemSizeLimitProperties);
@@ -126,6 +135,39 @@ class InlineLoanCOBExecutorServiceImplTest {
         verify(retrieveLoanIdService, times(2)).retrieveLoanIdsBehindDateOrNull(any(), anyList());
     }
 
+    @Test
+    void shouldReportLoansStillBehindAsPendingWhenTimeBudgetIsExhausted() throws Exception {
+        JsonCommand command = mock(JsonCommand.class);
+        LoanIdAndLastClosedBusinessDate loan = mock(LoanIdAndLastClosedBusinessDate.class);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>();
+        LocalDate businessDate = LocalDate.now(ZoneId.systemDefault());
+        businessDates.put(BusinessDateType.BUSINESS_DATE, businessDate);
+        businessDates.put(BusinessDateType.COB_DATE, businessDate.minusDays(1));
+        ThreadLocalContextUtil.setBusinessDates(businessDates);
+
+        when(loan.getId()).thenReturn(1L);
+        when(fineractProperties.getQuery()).thenReturn(fineractQueryProperties);
+        when(fineractProperties.getApi()).thenReturn(fineractApiProperties);
+        when(fineractProperties.getJob()).thenReturn(fineractJobProperties);
+        when(fineractJobProperties.getInlineLoanCobTimeBudgetMillis()).thenReturn(1L);
+        when(dataParser.parseExecution(any())).thenReturn(List.of(1L));
+        when(fineractQueryProperties.getInClauseParameterSizeLimit()).thenReturn(65000);
+        when(fineractApiProperties.getBodyItemSizeLimit()).thenReturn(fineractBodyItemSizeLimitProperties);
+        when(fineractBodyItemSizeLimitProperties.getInlineLoanCob()).thenReturn(1000);
+        // the lookup of the loans behind uses up the whole time budget
+        when(retrieveLoanIdService.retrieveLoanIdsBehindDateOrNull(any(), anyList())).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return List.of(loan);
+        });
+
+        CommandProcessingResult result = testObj.executeInlineJob(command, "INLINE_LOAN_COB");
+
+        assertEquals(List.of(1L), result.getChanges().get("pendingLoanIds"));
+        verify(jobLauncher, never()).run(any(), any());
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
     @Test
     void shouldOldestCloseBusinessDateReturnWithCorrectDate()
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
@@ -0,0 +1,222 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.cob.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
+import org.apache.fineract.cob.domain.LoanAccountLock;
+import org.apache.fineract.cob.domain.LoanAccountLockRepository;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.loan.RetrieveLoanIdService;
+import org.apache.fineract.cob.service.LoanCOBStateIndex.LockState;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationChannel;
+import org.apache.fineract.infrastructure.cache.service.CacheInvalidationMessage;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractLoanCobFilterIndexProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractLoanProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractQueryProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class LoanCOBStateIndexTest {
+
+    private static final LocalDate COB_DATE = LocalDate.of(2024, 3, 14);
+
+    @Mock
+    private CacheInvalidationChannel invalidationChannel;
+    @Mock
+    private LoanAccountLockRepository loanAccountLockRepository;
+    @Mock
+    private RetrieveLoanIdService retrieveLoanIdService;
+
+    private LoanCOBStateIndex index;
+
+    private FineractProperties fineractProperties;
+
+    @BeforeEach
+    void setUp() {
+        FineractLoanCobFilterIndexProperties indexProperties = new FineractLoanCobFilterIndexProperties();
+        indexProperties.setEnabled(true);
+        indexProperties.setLockTtlSeconds(60);
+        indexProperties.setMaxEntries(1000);
+        FineractLoanProperties loanProperties = new FineractLoanProperties();
+        loanProperties.setCobFilterIndex(indexProperties);
+        FineractQueryProperties queryProperties = new FineractQueryProperties();
+        queryProperties.setInClauseParameterSizeLimit(100);
+        fineractProperties = new FineractProperties();
+        fineractProperties.setNodeId("1");
+        fineractProperties.setLoan(loanProperties);
+        fineractProperties.setQuery(queryProperties);
+
+        when(invalidationChannel.isDistributed()).thenReturn(true);
+        index = new LoanCOBStateIndex(fineractProperties, invalidationChannel, loanAccountLockRepository, retrieveLoanIdService);
+        index.afterPropertiesSet();
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void indexDoesNotStartWithoutDistributedInvalidation() {
+        when(invalidationChannel.isDistributed()).thenReturn(false);
+
+        assertThrows(IllegalStateException.class, index::afterPropertiesSet);
+    }
+
+    @Test
+    void lockStatesAreLoadedOnceAndServedFromTheIndex() {
+        LoanAccountLock failedLock = new LoanAccountLock(2L, LockOwner.LOAN_COB_CHUNK_PROCESSING, COB_DATE);
+        failedLock.setError("failed", "stacktrace");
+        when(loanAccountLockRepository.findAllByLoanIdIn(anyList()))
+                .thenReturn(List.of(new LoanAccountLock(1L, LockOwner.LOAN_INLINE_COB_PROCESSING, COB_DATE), failedLock));
+
+        Map<Long, LockState> states = index.getLockStates(List.of(1L, 2L, 3L));
+        Map<Long, LockState> cachedStates = index.getLockStates(List.of(1L, 2L, 3L));
+
+        assertEquals(Map.of(1L, LockState.HARD_LOCKED, 2L, LockState.OVERRULABLE, 3L, LockState.UNLOCKED), states);
+        assertEquals(states, cachedStates);
+        verify(loanAccountLockRepository, times(1)).findAllByLoanIdIn(List.of(1L, 2L, 3L));
+    }
+
+    @Test
+    void invalidationEvictsLocallyAndIsPublished() {
+        when(loanAccountLockRepository.findAllByLoanIdIn(anyList())).thenReturn(List.of());
+        index.getLockStates(List.of(1L, 2L));
+
+        index.invalidate(List.of(1L, 2L));
+        index.getLockStates(List.of(1L, 2L));
+
+        verify(invalidationChannel)
+                .publish(argThat(message -> "loanCOBState:default".equals(message.cacheName()) && "1,2".equals(message.key())));
+        verify(loanAccountLockRepository, times(2)).findAllByLoanIdIn(List.of(1L, 2L));
+    }
+
+    @Test
+    void invalidationOfOtherNodeEvictsTheLoans() {
+        when(loanAccountLockRepository.findAllByLoanIdIn(anyList())).thenReturn(List.of());
+        index.getLockStates(List.of(1L, 2L));
+
+        index.onInvalidation(new CacheInvalidationMessage("2", "loanCOBState:default", "2"));
+        index.onInvalidation(new CacheInvalidationMessage("2", "loanCOBState:other", null));
+        index.getLockStates(List.of(1L, 2L));
+
+        verify(loanAccountLockRepository).findAllByLoanIdIn(List.of(1L, 2L));
+        verify(loanAccountLockRepository).findAllByLoanIdIn(List.of(2L));
+    }
+
+    @Test
+    void replicasWithTheSameNodeIdReceiveEachOthersInvalidations() {
+        InMemoryInvalidationChannel sharedChannel = new InMemoryInvalidationChannel();
+        LoanCOBStateIndex firstReplica = new LoanCOBStateIndex(fineractProperties, sharedChannel, loanAccountLockRepository,
+                retrieveLoanIdService);
+        LoanCOBStateIndex secondReplica = new LoanCOBStateIndex(fineractProperties, sharedChannel, loanAccountLockRepository,
+                retrieveLoanIdService);
+        firstReplica.afterPropertiesSet();
+        secondReplica.afterPropertiesSet();
+        when(loanAccountLockRepository.findAllByLoanIdIn(anyList())).thenReturn(List.of());
+        firstReplica.getLockStates(List.of(1L));
+        secondReplica.getLockStates(List.of(1L));
+
+        when(loanAccountLockRepository.findAllByLoanIdIn(anyList()))
+                .thenReturn(List.of(new LoanAccountLock(1L, LockOwner.LOAN_COB_CHUNK_PROCESSING, COB_DATE)));
+        firstReplica.invalidate(List.of(1L));
+
+        assertEquals(1, sharedChannel.published.size());
+        assertEquals(LockState.HARD_LOCKED, secondReplica.getLockStates(List.of(1L)).get(1L));
+        assertEquals(LockState.HARD_LOCKED, firstReplica.getLockStates(List.of(1L)).get(1L));
+        verify(loanAccountLockRepository, times(4)).findAllByLoanIdIn(List.of(1L));
+    }
+
+    @Test
+    void loanClosedOnTheCobDateIsNotCheckedAgainstTheDatabase() {
+        index.recordClosed(Map.of(1L, COB_DATE));
+
+        assertFalse(index.isAnyLoanBehind(List.of(1L), COB_DATE));
+        verify(retrieveLoanIdService, never()).retrieveLastClosedBusinessDates(any());
+    }
+
+    @Test
+    void loanBehindIsDetectedAndUpToDateLoanIsIndexed() {
+        LoanIdAndLastClosedBusinessDate upToDate = loan(1L, COB_DATE);
+        LoanIdAndLastClosedBusinessDate behind = loan(2L, COB_DATE.minusDays(1));
+        when(retrieveLoanIdService.retrieveLastClosedBusinessDates(List.of(1L, 2L))).thenReturn(List.of(upToDate, behind));
+        when(retrieveLoanIdService.retrieveLastClosedBusinessDates(List.of(2L))).thenReturn(List.of(behind));
+
+        assertTrue(index.isAnyLoanBehind(List.of(1L, 2L), COB_DATE));
+        assertTrue(index.isAnyLoanBehind(List.of(1L, 2L), COB_DATE));
+        assertFalse(index.isAnyLoanBehind(List.of(1L), COB_DATE));
+
+        verify(retrieveLoanIdService).retrieveLastClosedBusinessDates(List.of(1L, 2L));
+        verify(retrieveLoanIdService).retrieveLastClosedBusinessDates(List.of(2L));
+    }
+
+    private LoanIdAndLastClosedBusinessDate loan(Long id, LocalDate lastClosedBusinessDate) {
+        LoanIdAndLastClosedBusinessDate loan = mock(LoanIdAndLastClosedBusinessDate.class);
+        when(loan.getId()).thenReturn(id);
+        when(loan.getLastClosedBusinessDate()).thenReturn(lastClosedBusinessDate);
+        return loan;
+    }
+
+    private static final class InMemoryInvalidationChannel implements CacheInvalidationChannel {
+
+        private final List<Consumer<CacheInvalidationMessage>> listeners = new ArrayList<>();
+        private final List<CacheInvalidationMessage> published = new ArrayList<>();
+
+        @Override
+        public void publish(CacheInvalidationMessage message) {
+            published.add(message);
+            listeners.forEach(listener -> listener.accept(message));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+            listeners.add(listener);
+        }
+    }
+}
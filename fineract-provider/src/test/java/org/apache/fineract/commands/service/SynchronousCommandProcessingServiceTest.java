@@ -20,11 +20,14 @@ package org.apache.fineract.commands.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import jakarta.servlet.http.HttpServletRequest;
+import java.util.List;
 import java.util.Map;
 import org.apache.fineract.commands.domain.CommandProcessingResultType;
 import org.apache.fineract.commands.domain.CommandSource;
@@ -33,6 +36,9 @@ import org.apache.fineract.commands.handler.NewCommandSourceHandler;
 import org.apache.fineract.commands.provider.CommandHandlerProvider;
 import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractCommandProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractCommandSingleTransactionProperties;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
 import org.apache.fineract.infrastructure.core.domain.FineractRequestContextHolder;
 import org.apache.fineract.infrastructure.core.exception.PlatformApiDataValidationException;
@@ -47,6 +53,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
@@ -69,6 +76,10 @@ public class SynchronousCommandProcessingServiceTest {
     private IdempotencyKeyResolver idempotencyKeyResolver;
     @Mock
     private CommandSourceService commandSourceService;
+    @Mock
+    private FineractProperties fineractProperties;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @Spy
     private FineractRequestContextHolder fineractRequestContextHolder;
@@ -174,6 +185,47 @@ public class SynchronousCommandProcessingServiceTest {
         verify(commandSourceService).generateErrorInfo(runtimeException);
     }
 
+    @Test
+    public void testExecuteCommandInSingleTransaction() {
+        CommandWrapper commandWrapper = Mockito.mock(CommandWrapper.class);
+        when(commandWrapper.entityName()).thenReturn("LOAN");
+        when(commandWrapper.actionName()).thenReturn("REPAYMENT");
+        JsonCommand jsonCommand = Mockito.mock(JsonCommand.class);
+
+        FineractCommandSingleTransactionProperties singleTransactionProperties = new FineractCommandSingleTransactionProperties();
+        singleTransactionProperties.setEnabled(true);
+        singleTransactionProperties.setCommands(List.of("LOAN:REPAYMENT"));
+        FineractCommandProperties commandProperties = new FineractCommandProperties();
+        commandProperties.setSingleTransaction(singleTransactionProperties);
+        when(fineractProperties.getCommand()).thenReturn(commandProperties);
+
+        NewCommandSourceHandler commandHandler = Mockito.mock(NewCommandSourceHandler.class);
+        when(commandHandlerProvider.getHandler(Mockito.any(), Mockito.any())).thenReturn(commandHandler);
+        CommandProcessingResult commandProcessingResult = Mockito.mock(CommandProcessingResult.class);
+
+        when(configurationDomainService.isMakerCheckerEnabledForTask(Mockito.any())).thenReturn(false);
+        String idk = "idk";
+        when(idempotencyKeyResolver.resolve(commandWrapper)).thenReturn(idk);
+        when(commandSourceService.findCommandSource(commandWrapper, idk)).thenReturn(null);
+
+        AppUser appUser = Mockito.mock(AppUser.class);
+        when(context.authenticatedUser(Mockito.any(CommandWrapper.class))).thenReturn(appUser);
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        when(commandSource.getId()).thenReturn(1L);
+        when(commandSourceService.saveInitialSameTransaction(commandWrapper, jsonCommand, appUser, idk)).thenReturn(commandSource);
+        when(commandSourceService.saveResultSameTransaction(commandSource)).thenReturn(commandSource);
+        when(commandSourceService.processCommand(commandHandler, jsonCommand, commandSource, appUser, false, false))
+                .thenReturn(commandProcessingResult);
+
+        CommandProcessingResult actualCommandProcessingResult = underTest.executeCommand(commandWrapper, jsonCommand, false);
+
+        assertEquals(commandProcessingResult, actualCommandProcessingResult);
+        verify(commandSourceService, never()).saveInitialNewTransaction(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+        verify(commandSourceService).saveResultSameTransaction(commandSource);
+        verify(commandSource).setStatus(CommandProcessingResultType.PROCESSED.getValue());
+        verify(transactionManager, times(1)).commit(Mockito.any());
+    }
+
     @Test
     public void publishHookEventHandlesInvalidJson() {
         String entityName = "entity";
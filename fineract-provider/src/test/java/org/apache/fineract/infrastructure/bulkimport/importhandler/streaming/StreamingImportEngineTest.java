@@ -0,0 +1,151 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.bulkimport.importhandler.streaming;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import org.apache.fineract.commands.domain.CommandWrapper;
+import org.apache.fineract.commands.service.CommandWrapperBuilder;
+import org.apache.fineract.commands.service.PortfolioCommandSourceWritePlatformService;
+import org.apache.fineract.infrastructure.bulkimport.data.Count;
+import org.apache.fineract.infrastructure.bulkimport.data.GlobalEntityType;
+import org.apache.fineract.infrastructure.bulkimport.data.ImportFormatType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+class StreamingImportEngineTest {
+
+    private final PortfolioCommandSourceWritePlatformService commandService = mock(PortfolioCommandSourceWritePlatformService.class);
+    private final Map<Long, List<String>> executedByLoan = new ConcurrentHashMap<>();
+    private ThreadPoolTaskExecutor executor;
+    private StreamingImportEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.initialize();
+
+        FineractProperties.FineractBulkImportProperties bulkImport = new FineractProperties.FineractBulkImportProperties();
+        bulkImport.setStreamingChunkSize(3);
+        FineractProperties properties = new FineractProperties();
+        properties.setBulkImport(bulkImport);
+        engine = new StreamingImportEngine(commandService, executor, properties);
+
+        when(commandService.logCommandSource(any(CommandWrapper.class))).thenAnswer(invocation -> {
+            CommandWrapper command = invocation.getArgument(0);
+            if ("fail".equals(command.getJson())) {
+                throw new IllegalStateException("rejected");
+            }
+            executedByLoan.computeIfAbsent(command.getLoanId(), key -> new CopyOnWriteArrayList<>()).add(command.getJson());
+            return CommandProcessingResult.empty();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void importsRowsInOrderPerKeyAndWritesStatuses() throws IOException {
+        String csv = """
+                loan,value
+                1,a
+                2,a
+                1,b
+                x,a
+                2,b
+                1,c
+                2,fail
+                1,d
+                """;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<Count> progress = new CopyOnWriteArrayList<>();
+
+        Count count;
+        try (ImportResultWriter writer = ImportResultWriter.of(ImportFormatType.CSV, output, "Loans", 2)) {
+            ImportRowReader reader = ImportRowReader.of(ImportFormatType.CSV,
+                    new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "Loans");
+            count = engine.process(new TestHandler(), reader, writer, "en", "dd MMMM yyyy", progress::add);
+        }
+
+        assertEquals(6, count.getSuccessCount());
+        assertEquals(2, count.getErrorCount());
+        assertEquals(List.of("a", "b", "c", "d"), executedByLoan.get(1L));
+        assertEquals(List.of("a", "b"), executedByLoan.get(2L));
+        assertEquals(3, progress.size());
+        assertEquals(6, progress.get(progress.size() - 1).getSuccessCount());
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(List.of("loan,value", "1,a,Imported", "2,a,Imported", "1,b,Imported", "x,a,invalid loan", "2,b,Imported",
+                "1,c,Imported", "2,fail,rejected", "1,d,Imported"), lines);
+    }
+
+    private static final class TestHandler implements StreamingImportHandler {
+
+        @Override
+        public GlobalEntityType getEntityType() {
+            return GlobalEntityType.LOAN_TRANSACTIONS;
+        }
+
+        @Override
+        public String getSheetName() {
+            return "Loans";
+        }
+
+        @Override
+        public int getStatusColumn() {
+            return 2;
+        }
+
+        @Override
+        public boolean isDataRow(ImportRow row) {
+            return row.rowIndex() > 0 && row.get(0) != null;
+        }
+
+        @Override
+        public Function<ImportRow, ImportCommand> createRowParser(String locale, String dateFormat) {
+            return row -> {
+                if (!row.get(0).chars().allMatch(Character::isDigit)) {
+                    throw new IllegalArgumentException("invalid loan");
+                }
+                Long loanId = Long.valueOf(row.get(0));
+                return new ImportCommand(loanId, new CommandWrapperBuilder().loanRepaymentTransaction(loanId).withJson(row.get(1)).build());
+            };
+        }
+    }
+}
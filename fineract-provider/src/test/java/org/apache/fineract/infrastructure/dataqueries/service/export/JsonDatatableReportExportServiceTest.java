@@ -0,0 +1,100 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.dataqueries.service.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.serialization.ToApiJsonSerializer;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseType;
+import org.apache.fineract.infrastructure.dataqueries.data.GenericResultsetData;
+import org.apache.fineract.infrastructure.dataqueries.data.ReportData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetColumnHeaderData;
+import org.apache.fineract.infrastructure.dataqueries.data.ResultsetRowData;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericDataServiceImpl;
+import org.apache.fineract.infrastructure.dataqueries.service.GenericResultsetStreamHandler;
+import org.apache.fineract.infrastructure.dataqueries.service.ReadReportingService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class JsonDatatableReportExportServiceTest {
+
+    private static final List<ResultsetColumnHeaderData> COLUMN_HEADERS = List.of(
+            ResultsetColumnHeaderData.basic("name", "VARCHAR", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("amount", "DECIMAL", DatabaseType.MYSQL),
+            ResultsetColumnHeaderData.basic("due_date", "DATE", DatabaseType.MYSQL));
+
+    private static final List<List<Object>> ROWS = List.of(
+            Arrays.asList("Loan \"A\"", new BigDecimal("10.50"), LocalDate.of(2024, 1, 31)), Arrays.asList("Loan B", null, null));
+
+    @Mock
+    private ReadReportingService readReportingService;
+
+    @Mock
+    private ToApiJsonSerializer<ReportData> toApiJsonSerializer;
+
+    private final GenericDataServiceImpl genericDataService = new GenericDataServiceImpl(null, null, null, null, null);
+
+    @Test
+    void testStreamedFlatJsonMatchesMaterializedJson() throws Exception {
+        when(readReportingService.isStreamingEnabled()).thenReturn(true);
+        doAnswer(invocation -> {
+            GenericResultsetStreamHandler handler = invocation.getArgument(4);
+            handler.start(COLUMN_HEADERS);
+            for (List<Object> row : ROWS) {
+                handler.row(row);
+            }
+            handler.end();
+            return null;
+        }).when(readReportingService).streamGenericResultset(anyString(), anyString(), anyMap(), anyBoolean(), any());
+        MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+        queryParams.putSingle("genericResultSet", "false");
+
+        JsonDatatableReportExportService underTest = new JsonDatatableReportExportService(readReportingService, toApiJsonSerializer,
+                genericDataService);
+        ResponseHolder responseHolder = underTest.export("report", queryParams, new HashMap<>(), false, "report");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) responseHolder.entity()).write(out);
+        String expected = genericDataService.generateJsonFromGenericResultsetData(
+                new GenericResultsetData(COLUMN_HEADERS, ROWS.stream().map(ResultsetRowData::create).toList()));
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+        verify(readReportingService, never()).retrieveGenericResultset(anyString(), anyString(), anyMap(), anyBoolean());
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.business.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractBusinessEventsProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractEventsProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.AfterCommitBusinessEventListener;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BusinessEventListenerLanesTest {
+
+    private final FineractBusinessEventsProperties businessEventsProperties = new FineractBusinessEventsProperties();
+    private final AfterCommitBusinessEventListener<?, ?> listener = new AfterCommitBusinessEventListener<BusinessEvent<?>, Object>() {
+
+        @Override
+        public Object capture(BusinessEvent<?> event) {
+            return event;
+        }
+
+        @Override
+        public void afterCommit(Object captured) {}
+    };
+    private BusinessEventListenerLanes underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractEventsProperties eventsProperties = new FineractEventsProperties();
+        eventsProperties.setBusiness(businessEventsProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setEvents(eventsProperties);
+        businessEventsProperties.setAsyncListenerPoolSize(1);
+        businessEventsProperties.setAsyncListenerQueueCapacity(10);
+        underTest = new BusinessEventListenerLanes(fineractProperties);
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null));
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 1))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        underTest.destroy();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void disabledLanesRunListenerOnCallingThreadAndSwallowFailures() {
+        businessEventsProperties.setAsyncListenersEnabled(false);
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+
+        underTest.dispatch(listener, () -> executingThread.set(Thread.currentThread()));
+        underTest.dispatch(listener, () -> {
+            throw new IllegalStateException("listener failure");
+        });
+
+        assertThat(executingThread.get()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    void enabledLanesRunListenerOnItsOwnThreadWithCallerTenant() throws InterruptedException {
+        businessEventsProperties.setAsyncListenersEnabled(true);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<Thread> executingThread = new AtomicReference<>();
+        AtomicReference<String> tenant = new AtomicReference<>();
+
+        underTest.dispatch(listener, () -> {
+            executingThread.set(Thread.currentThread());
+            tenant.set(ThreadLocalContextUtil.getTenant().getTenantIdentifier());
+            done.countDown();
+        });
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executingThread.get()).isNotSameAs(Thread.currentThread());
+        assertThat(executingThread.get().getName()).startsWith("event-listener-");
+        assertThat(tenant.get()).isEqualTo("default");
+    }
+}
@@ -20,9 +20,12 @@ package org.apache.fineract.infrastructure.event.business.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -32,6 +35,7 @@ import java.util.HashMap;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.event.business.AfterCommitBusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.BusinessEventListener;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
@@ -64,6 +68,9 @@ class BusinessEventNotifierServiceImplTest {
     @Mock
     private TransactionHelper transactionHelper;
 
+    @Mock
+    private BusinessEventListenerLanes businessEventListenerLanes;
+
     @InjectMocks
     private BusinessEventNotifierServiceImpl underTest;
 
@@ -86,11 +93,15 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
         // simulate finish transaction
         underTest.beforeCommit(mockTransaction);
-        verify(externalEventService).postEvent(event);
+        verifyPostedInBatch(event);
         underTest.afterCommit(mockTransaction, null);
         verifyNoInteractions(mockTransaction);
     }
 
+    private void verifyPostedInBatch(MockBusinessEvent event) {
+        verify(externalEventService).postEvents(argThat(events -> events.size() == 1 && events.get(0).getEvent() == event));
+    }
+
     private void setBusinessDate() {
         HashMap<BusinessDateType, LocalDate> map = new HashMap<>(2);
         map.put(BusinessDateType.BUSINESS_DATE, LocalDate.of(2023, 2, 1));
@@ -125,10 +136,10 @@ class BusinessEventNotifierServiceImplTest {
         // simulate commit nested transaction
         underTest.beforeCommit(mockTransaction);
         underTest.afterCommit(mockTransaction, null);
-        verify(externalEventService).postEvent(nestedEvent);
+        verifyPostedInBatch(nestedEvent);
         // simulate commit outer transaction
         underTest.beforeCommit(mockTransaction);
-        verify(externalEventService).postEvent(event);
+        verifyPostedInBatch(event);
         underTest.afterCommit(mockTransaction, null);
         verifyNoInteractions(mockTransaction);
     }
@@ -162,7 +173,7 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
         // simulate commit outer transaction
         underTest.beforeCommit(mockTransaction);
-        verify(externalEventService).postEvent(event);
+        verifyPostedInBatch(event);
         underTest.afterCommit(mockTransaction, null);
         verifyNoInteractions(mockTransaction);
     }
@@ -324,6 +335,94 @@ class BusinessEventNotifierServiceImplTest {
         verifyNoInteractions(externalEventService);
     }
 
+    @Test
+    public void testNotifyPostBusinessEventShouldPickUpListenersRegisteredAfterTheFirstDispatch() {
+        // given
+        configureExternalEventsProperties(false);
+        MockBusinessEvent event = new MockBusinessEvent();
+        BusinessEventListener<MockBusinessEvent> postListener = mockListener();
+        BusinessEventListener<BusinessEvent> lateListener = mock(BusinessEventListener.class);
+        underTest.addPostBusinessEventListener(MockBusinessEvent.class, postListener);
+        underTest.notifyPostBusinessEvent(event);
+        // when
+        underTest.addPostBusinessEventListener(BusinessEvent.class, lateListener);
+        underTest.notifyPostBusinessEvent(event);
+        // then
+        verify(postListener, times(2)).onBusinessEvent(event);
+        verify(lateListener).onBusinessEvent(event);
+    }
+
+    @Test
+    public void testAfterCommitListenerShouldCaptureInTransactionAndBeDispatchedOnlyAfterCommit() {
+        // given
+        configureExternalEventsProperties(false);
+        MockBusinessEvent event = new MockBusinessEvent();
+        AfterCommitBusinessEventListener<MockBusinessEvent, Object> afterCommitListener = mockAfterCommitListener();
+        Object captured = new Object();
+        when(afterCommitListener.capture(event)).thenReturn(captured);
+        underTest.addAfterCommitBusinessEventListener(MockBusinessEvent.class, afterCommitListener);
+        TransactionExecution mockTransaction = mock(TransactionExecution.class);
+        when(transactionHelper.hasTransaction()).thenReturn(true);
+        underTest.afterBegin(mockTransaction, null);
+        // when
+        underTest.notifyPostBusinessEvent(event);
+        underTest.beforeCommit(mockTransaction);
+        // then
+        verify(afterCommitListener).capture(event);
+        verifyNoInteractions(businessEventListenerLanes);
+        underTest.afterCommit(mockTransaction, null);
+        ArgumentCaptor<Runnable> invocation = ArgumentCaptor.forClass(Runnable.class);
+        verify(businessEventListenerLanes).dispatch(eq(afterCommitListener), invocation.capture());
+        verify(afterCommitListener, never()).afterCommit(any());
+        invocation.getValue().run();
+        verify(afterCommitListener).afterCommit(captured);
+    }
+
+    @Test
+    public void testAfterCommitListenerShouldNotBeDispatchedOnRollback() {
+        // given
+        configureExternalEventsProperties(false);
+        AfterCommitBusinessEventListener<MockBusinessEvent, Object> afterCommitListener = mockAfterCommitListener();
+        when(afterCommitListener.capture(any())).thenReturn(new Object());
+        underTest.addAfterCommitBusinessEventListener(MockBusinessEvent.class, afterCommitListener);
+        TransactionExecution mockTransaction = mock(TransactionExecution.class);
+        when(transactionHelper.hasTransaction()).thenReturn(true);
+        underTest.afterBegin(mockTransaction, null);
+        // when
+        underTest.notifyPostBusinessEvent(new MockBusinessEvent());
+        underTest.afterRollback(mockTransaction, null);
+        // then
+        verifyNoInteractions(businessEventListenerLanes);
+        verify(afterCommitListener, never()).afterCommit(any());
+    }
+
+    @Test
+    public void testAfterCommitListenerShouldBeDispatchedImmediatelyWithoutTransaction() {
+        // given
+        configureExternalEventsProperties(false);
+        AfterCommitBusinessEventListener<MockBusinessEvent, Object> afterCommitListener = mockAfterCommitListener();
+        when(afterCommitListener.capture(any())).thenReturn(new Object());
+        underTest.addAfterCommitBusinessEventListener(MockBusinessEvent.class, afterCommitListener);
+        when(transactionHelper.hasTransaction()).thenReturn(false);
+        // when
+        underTest.notifyPostBusinessEvent(new MockBusinessEvent());
+        // then
+        verify(businessEventListenerLanes).dispatch(eq(afterCommitListener), any());
+    }
+
+    @Test
+    public void testAfterCommitListenerShouldNotBeDispatchedWhenNothingIsCaptured() {
+        // given
+        configureExternalEventsProperties(false);
+        AfterCommitBusinessEventListener<MockBusinessEvent, Object> afterCommitListener = mockAfterCommitListener();
+        underTest.addAfterCommitBusinessEventListener(MockBusinessEvent.class, afterCommitListener);
+        when(transactionHelper.hasTransaction()).thenReturn(false);
+        // when
+        underTest.notifyPostBusinessEvent(new MockBusinessEvent());
+        // then
+        verifyNoInteractions(businessEventListenerLanes);
+    }
+
     private void configureExternalEventsProperties(boolean isExternalEventsEnabled) {
         FineractProperties.FineractEventsProperties eventsProperties = new FineractProperties.FineractEventsProperties();
         FineractProperties.FineractExternalEventsProperties externalProperties = new FineractProperties.FineractExternalEventsProperties();
@@ -336,6 +435,10 @@ class BusinessEventNotifierServiceImplTest {
         return (BusinessEventListener<MockBusinessEvent>) mock(BusinessEventListener.class);
     }
 
+    private AfterCommitBusinessEventListener<MockBusinessEvent, Object> mockAfterCommitListener() {
+        return (AfterCommitBusinessEventListener<MockBusinessEvent, Object>) mock(AfterCommitBusinessEventListener.class);
+    }
+
     private static final class MockBusinessEvent implements BusinessEvent<Object> {
 
         @Override
@@ -93,6 +93,8 @@ class SendAsynchronousEventsTaskletTest {
     private TransactionTemplate transactionTemplate;
     @Mock
     private TransactionStatus transactionStatus;
+    @Mock
+    private ExternalEventSendingMetrics sendingMetrics;
     private SendAsynchronousEventsTasklet underTest;
     private RepeatStatus resultStatus;
 
@@ -111,7 +113,7 @@ class SendAsynchronousEventsTaskletTest {
         when(transactionTemplate.execute(ArgumentMatchers.any()))
                 .thenAnswer(invocation -> invocation.<TransactionCallback<Boolean>>getArgument(0).doInTransaction(transactionStatus));
         underTest = new SendAsynchronousEventsTasklet(fineractProperties, repository, eventProducer, messageFactory, byteBufferConverter,
-                configurationDomainService, transactionTemplate, taskExecutor);
+                configurationDomainService, transactionTemplate, taskExecutor, sendingMetrics);
     }
 
     @AfterEach
@@ -132,6 +134,9 @@ class SendAsynchronousEventsTaskletTest {
         externalProperties.setThreadPoolCorePoolSize(1);
         externalProperties.setThreadPoolMaxPoolSize(1);
         externalProperties.setThreadPoolQueueCapacity(10);
+        FineractProperties.FineractExternalEventsRelayProperties relayProperties = new FineractProperties.FineractExternalEventsRelayProperties();
+        relayProperties.setMaxRunDurationInSeconds(60);
+        externalProperties.setRelay(relayProperties);
         eventsProperties.setExternal(externalProperties);
         when(fineractProperties.getEvents()).thenReturn(eventsProperties);
         when(configurationDomainService.retrieveExternalEventBatchSize()).thenReturn(10L);
@@ -235,6 +240,33 @@ class SendAsynchronousEventsTaskletTest {
         assertThat(externalEventPageSizeArgumentCaptor.getValue().getPageSize()).isEqualTo(10);
     }
 
+    @Test
+    public void givenRelayEnabledWhenBacklogIsLargerThanBatchThenAllBatchesAreSent() throws Exception {
+        // given
+        fineractProperties.getEvents().getExternal().getRelay().setEnabled(true);
+        when(configurationDomainService.retrieveExternalEventBatchSize()).thenReturn(2L);
+        List<ExternalEventView> firstBatch = Arrays.asList(
+                createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 1L),
+                createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 1L));
+        List<ExternalEventView> secondBatch = Arrays
+                .asList(createExternalEventView("aType", "aCategory", "aSchema", new byte[0], "aIdempotencyKey", 2L));
+        MessageV1 dummyMessage = new MessageV1(1L, "aSource", "aType", "nocategory", "aCreateDate", "aBusinessDate", "aTenantId",
+                "anidempotencyKey", "aSchema", Mockito.mock(ByteBuffer.class));
+        when(repository.findByStatusOrderByBusinessDateAscIdAsc(Mockito.any(), Mockito.any())).thenReturn(firstBatch);
+        when(repository.findByStatusAfterBusinessDateAndId(Mockito.any(), Mockito.any(), Mockito.eq(firstBatch.get(1).getId()),
+                Mockito.any())).thenReturn(secondBatch);
+        when(messageFactory.createMessage(Mockito.any())).thenReturn(dummyMessage);
+        when(byteBufferConverter.convert(Mockito.any(ByteBuffer.class))).thenReturn(new byte[0]);
+        // when
+        resultStatus = underTest.execute(stepContribution, chunkContext);
+        // then
+        verify(eventProducer, times(2)).sendEvents(Mockito.any());
+        verify(repository).markEventsSent(Mockito.eq(firstBatch.stream().map(ExternalEventView::getId).toList()), Mockito.any());
+        verify(repository).markEventsSent(Mockito.eq(secondBatch.stream().map(ExternalEventView::getId).toList()), Mockito.any());
+        verify(sendingMetrics, times(2)).recordSent(Mockito.anyInt(), Mockito.any());
+        assertEquals(RepeatStatus.FINISHED, resultStatus);
+    }
+
     private ExternalEventView createExternalEventView(String type, String category, String schema, byte[] data, String idempotencyKey,
             Long aggregateRootId) {
         ExternalEventView result = Mockito.mock(ExternalEventView.class);
@@ -21,9 +21,12 @@ package org.apache.fineract.infrastructure.event.external.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import jakarta.persistence.EntityManager;
@@ -42,18 +45,20 @@ import org.apache.fineract.avro.loan.v1.LoanAccountDataV1;
 import org.apache.fineract.avro.loan.v1.LoanTransactionAdjustmentDataV1;
 import org.apache.fineract.avro.loan.v1.LoanTransactionDataV1;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
 import org.apache.fineract.infrastructure.core.service.DataEnricherProcessor;
 import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
 import org.apache.fineract.infrastructure.event.business.domain.BulkBusinessEvent;
 import org.apache.fineract.infrastructure.event.business.domain.BusinessEvent;
+import org.apache.fineract.infrastructure.event.business.domain.BusinessEventWithContext;
 import org.apache.fineract.infrastructure.event.external.repository.ExternalEventRepository;
 import org.apache.fineract.infrastructure.event.external.repository.domain.ExternalEvent;
 import org.apache.fineract.infrastructure.event.external.service.idempotency.ExternalEventIdempotencyKeyGenerator;
 import org.apache.fineract.infrastructure.event.external.service.message.BulkMessageItemFactory;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializer;
 import org.apache.fineract.infrastructure.event.external.service.serialization.serializer.BusinessEventSerializerFactory;
-import org.apache.fineract.infrastructure.event.external.service.support.ByteBufferConverter;
+import org.apache.fineract.infrastructure.event.external.service.support.ExternalEventPayloadSerializer;
 import org.apache.fineract.investor.enricher.LoanAccountDataV1Enricher;
 import org.apache.fineract.investor.enricher.LoanTransactionAdjustmentDataV1Enricher;
 import org.apache.fineract.investor.enricher.LoanTransactionDataV1Enricher;
@@ -80,7 +85,7 @@ class ExternalEventServiceTest {
     @Mock
     private BusinessEventSerializerFactory serializerFactory;
     @Mock
-    private ByteBufferConverter byteBufferConverter;
+    private ExternalEventPayloadSerializer payloadSerializer;
     @Mock
     private BulkMessageItemFactory bulkMessageItemFactory;
     @Mock
@@ -102,7 +107,7 @@ class ExternalEventServiceTest {
                 .thenReturn(true);
         DataEnricherProcessor dataEnricherProcessor = new DataEnricherProcessor(
                 Optional.of(List.of(loanAccountDataV1Enricher, loanTransactionAdjustmentDataV1Enricher, loanTransactionDataV1Enricher)));
-        underTest = new ExternalEventService(repository, idempotencyKeyGenerator, serializerFactory, byteBufferConverter,
+        underTest = new ExternalEventService(repository, idempotencyKeyGenerator, serializerFactory, payloadSerializer,
                 bulkMessageItemFactory, dataEnricherProcessor);
         underTest.setEntityManager(entityManager);
         FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default Tenant", "Europe/Budapest", null);
@@ -134,13 +139,13 @@ class ExternalEventServiceTest {
         given(eventSerializer.getSupportedSchema()).will(invocation -> LoanAccountDataV1.class);
         ByteBufferSerializable byteBuffer = mock(LoanAccountDataV1.class);
         given(eventSerializer.toAvroDTO(event)).willReturn(byteBuffer);
-        given(byteBuffer.toByteBuffer()).willThrow(new IOException(""));
+        given(payloadSerializer.serialize(byteBuffer, false)).willThrow(new IOException(""));
         // when & then
         assertThatThrownBy(() -> underTest.postEvent(event)).isExactlyInstanceOf(RuntimeException.class);
     }
 
     @Test
-    public void testPostEventShouldWorkWithRegularEvent() {
+    public void testPostEventShouldWorkWithRegularEvent() throws IOException {
         // given
         ArgumentCaptor<ExternalEvent> externalEventArgumentCaptor = ArgumentCaptor.forClass(ExternalEvent.class);
 
@@ -157,7 +162,7 @@ class ExternalEventServiceTest {
         LoanAccountDataV1 loanAccountData = new LoanAccountDataV1();
         given(eventSerializer.getSupportedSchema()).will(invocation -> LoanAccountDataV1.class);
         given(eventSerializer.toAvroDTO(event)).willReturn(loanAccountData);
-        given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(data);
+        given(payloadSerializer.serialize(any(ByteBufferSerializable.class), eq(false))).willReturn(data);
         // when
         underTest.postEvent(event);
         // then
@@ -186,7 +191,7 @@ class ExternalEventServiceTest {
 
         given(bulkMessageItemFactory.createBulkMessageItem(1, event)).willReturn(messageItem);
         given(idempotencyKeyGenerator.generate(bulkEvent)).willReturn(idempotencyKey);
-        given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(data);
+        given(payloadSerializer.serialize(any(ByteBufferSerializable.class), eq(false))).willReturn(data);
         // when
         underTest.postEvent(bulkEvent);
         // then
@@ -250,7 +255,7 @@ class ExternalEventServiceTest {
     }
 
     @Test
-    public void testPostEventShouldWorkWithTransactionEvent() {
+    public void testPostEventShouldWorkWithTransactionEvent() throws IOException {
         // given
         ArgumentCaptor<ExternalEvent> externalEventArgumentCaptor = ArgumentCaptor.forClass(ExternalEvent.class);
 
@@ -267,7 +272,7 @@ class ExternalEventServiceTest {
         LoanTransactionDataV1 loanTransactionData = new LoanTransactionDataV1();
         given(eventSerializer.getSupportedSchema()).will(invocation -> LoanTransactionDataV1.class);
         given(eventSerializer.toAvroDTO(event)).willReturn(loanTransactionData);
-        given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(data);
+        given(payloadSerializer.serialize(any(ByteBufferSerializable.class), eq(false))).willReturn(data);
         // when
         underTest.postEvent(event);
         // then
@@ -282,7 +287,7 @@ class ExternalEventServiceTest {
     }
 
     @Test
-    public void testPostEventShouldWorkWithTransactionAdjustEvent() {
+    public void testPostEventShouldWorkWithTransactionAdjustEvent() throws IOException {
         // given
         ArgumentCaptor<ExternalEvent> externalEventArgumentCaptor = ArgumentCaptor.forClass(ExternalEvent.class);
 
@@ -299,7 +304,7 @@ class ExternalEventServiceTest {
         LoanTransactionAdjustmentDataV1 loanTransactionAdjustmentData = new LoanTransactionAdjustmentDataV1();
         given(eventSerializer.getSupportedSchema()).will(invocation -> LoanTransactionAdjustmentDataV1.class);
         given(eventSerializer.toAvroDTO(event)).willReturn(loanTransactionAdjustmentData);
-        given(byteBufferConverter.convert(any(ByteBuffer.class))).willReturn(data);
+        given(payloadSerializer.serialize(any(ByteBufferSerializable.class), eq(false))).willReturn(data);
         // when
         underTest.postEvent(event);
         // then
@@ -312,4 +317,73 @@ class ExternalEventServiceTest {
         assertThat(externalEvent.getType()).isEqualTo(eventType);
         assertThat(externalEvent.getSchema()).isEqualTo(eventSchema);
     }
+
+    @Test
+    public void testPostEventsShouldInsertAllEventsInOneBatchWithTheirOwnContext() throws IOException {
+        // given
+        ArgumentCaptor<List<ExternalEvent>> externalEventsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+        FineractContext originalContext = ThreadLocalContextUtil.getContext();
+        LocalDate firstBusinessDate = LocalDate.of(2024, 1, 1);
+        LocalDate secondBusinessDate = LocalDate.of(2024, 1, 2);
+        BusinessEvent firstEvent = mockRegularEvent("first");
+        BusinessEvent secondEvent = mockRegularEvent("second");
+        given(payloadSerializer.serialize(any(ByteBufferSerializable.class), eq(false))).willReturn(new byte[0]);
+        List<BusinessEventWithContext> events = List.of(
+                new BusinessEventWithContext(firstEvent, contextWithBusinessDate(firstBusinessDate)),
+                new BusinessEventWithContext(secondEvent, contextWithBusinessDate(secondBusinessDate)));
+        // when
+        underTest.postEvents(events);
+        // then
+        verify(entityManager).flush();
+        verify(repository).insertAll(externalEventsArgumentCaptor.capture());
+        verify(repository, never()).save(any());
+        List<ExternalEvent> externalEvents = externalEventsArgumentCaptor.getValue();
+        assertThat(externalEvents).extracting(ExternalEvent::getIdempotencyKey).containsExactly("first", "second");
+        assertThat(externalEvents).extracting(ExternalEvent::getBusinessDate).containsExactly(firstBusinessDate, secondBusinessDate);
+        assertThat(externalEvents).extracting(ExternalEvent::isDataCompressed).containsOnly(false);
+        assertThat(ThreadLocalContextUtil.getBusinessDate())
+                .isEqualTo(originalContext.getBusinessDateContext().get(BusinessDateType.BUSINESS_DATE));
+    }
+
+    @Test
+    public void testPostEventsShouldMarkPayloadsAsCompressedWhenEnabled() throws IOException {
+        // given
+        ArgumentCaptor<List<ExternalEvent>> externalEventsArgumentCaptor = ArgumentCaptor.forClass(List.class);
+        BusinessEvent event = mockRegularEvent("key");
+        byte[] compressed = new byte[] { 1, 2, 3 };
+        given(payloadSerializer.isCompressionEnabled()).willReturn(true);
+        given(payloadSerializer.serialize(any(ByteBufferSerializable.class), eq(true))).willReturn(compressed);
+        // when
+        underTest.postEvents(List.of(new BusinessEventWithContext(event, ThreadLocalContextUtil.getContext())));
+        // then
+        verify(repository).insertAll(externalEventsArgumentCaptor.capture());
+        ExternalEvent externalEvent = externalEventsArgumentCaptor.getValue().get(0);
+        assertThat(externalEvent.isDataCompressed()).isTrue();
+        assertThat(externalEvent.getData()).isEqualTo(compressed);
+    }
+
+    @Test
+    public void testPostEventsShouldNotTouchTheDatabaseWithoutEvents() {
+        // when
+        underTest.postEvents(List.of());
+        // then
+        verify(entityManager, never()).flush();
+        verify(repository, never()).insertAll(anyList());
+    }
+
+    private BusinessEvent mockRegularEvent(String idempotencyKey) {
+        BusinessEvent event = mock(BusinessEvent.class);
+        BusinessEventSerializer eventSerializer = mock(BusinessEventSerializer.class);
+        given(idempotencyKeyGenerator.generate(event)).willReturn(idempotencyKey);
+        given(serializerFactory.create(event)).willReturn(eventSerializer);
+        given(eventSerializer.getSupportedSchema()).will(invocation -> LoanAccountDataV1.class);
+        given(eventSerializer.toAvroDTO(event)).willReturn(new LoanAccountDataV1());
+        return event;
+    }
+
+    private FineractContext contextWithBusinessDate(LocalDate businessDate) {
+        FineractContext current = ThreadLocalContextUtil.getContext();
+        return new FineractContext(current.getContextHolder(), current.getTenantContext(), current.getAuthTokenContext(),
+                new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, businessDate)), current.getActionContext());
+    }
 }
@@ -0,0 +1,81 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.event.external.service.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.apache.fineract.avro.BulkMessageItemV1;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.junit.jupiter.api.Test;
+
+class ExternalEventPayloadSerializerTest {
+
+    private final ByteBufferConverter byteBufferConverter = new ByteBufferConverter();
+    private final ExternalEventPayloadSerializer underTest = new ExternalEventPayloadSerializer(new FineractProperties());
+
+    @Test
+    void serializeWithoutCompressionMatchesByteBufferOfTheDto() throws IOException {
+        BulkMessageItemV1 item = item(1L, 300);
+
+        byte[] result = underTest.serialize(item, false);
+
+        assertThat(result).isEqualTo(byteBufferConverter.convert(item.toByteBuffer()));
+    }
+
+    @Test
+    void compressedPayloadRoundTrips() throws IOException {
+        BulkMessageItemV1 item = item(2L, 20_000);
+        byte[] expected = byteBufferConverter.convert(item.toByteBuffer());
+
+        byte[] compressed = underTest.serialize(item, true);
+
+        assertThat(compressed.length).isLessThan(expected.length);
+        assertThat(underTest.decompress(compressed)).isEqualTo(expected);
+        assertThat(BulkMessageItemV1.fromByteBuffer(ByteBuffer.wrap(underTest.decompress(compressed)))).isEqualTo(item);
+    }
+
+    @Test
+    void reusedBufferDoesNotLeakBetweenPayloads() throws IOException {
+        BulkMessageItemV1 large = item(3L, 5_000);
+        BulkMessageItemV1 small = item(4L, 10);
+
+        underTest.serialize(large, false);
+        byte[] result = underTest.serialize(small, false);
+
+        assertThat(result).isEqualTo(byteBufferConverter.convert(small.toByteBuffer()));
+    }
+
+    @Test
+    void decompressRejectsTruncatedPayload() throws IOException {
+        byte[] compressed = underTest.serialize(item(5L, 2_000), true);
+        byte[] truncated = new byte[compressed.length / 2];
+        System.arraycopy(compressed, 0, truncated, 0, truncated.length);
+
+        assertThatThrownBy(() -> underTest.decompress(truncated)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private BulkMessageItemV1 item(long id, int size) {
+        byte[] data = "repayment;".repeat(size / 10 + 1).substring(0, size).getBytes(StandardCharsets.UTF_8);
+        return new BulkMessageItemV1(id, "type", "category", "schema", ByteBuffer.wrap(data));
+    }
+}
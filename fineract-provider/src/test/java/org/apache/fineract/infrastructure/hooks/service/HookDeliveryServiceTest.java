@@ -0,0 +1,178 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.hooks.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.businessdate.service.BusinessDateReadPlatformService;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.tenant.TenantDetailsService;
+import org.apache.fineract.infrastructure.hooks.domain.Hook;
+import org.apache.fineract.infrastructure.hooks.domain.HookDelivery;
+import org.apache.fineract.infrastructure.hooks.domain.HookDeliveryRepository;
+import org.apache.fineract.infrastructure.hooks.domain.HookDeliveryStatus;
+import org.apache.fineract.infrastructure.hooks.domain.HookRepository;
+import org.apache.fineract.infrastructure.hooks.processor.HookProcessor;
+import org.apache.fineract.infrastructure.hooks.processor.HookProcessorProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@ExtendWith(MockitoExtension.class)
+class HookDeliveryServiceTest {
+
+    @Mock
+    private HookDeliveryRepository deliveryRepository;
+    @Mock
+    private HookRepository hookRepository;
+    @Mock
+    private HookProcessorProvider hookProcessorProvider;
+    @Mock
+    private HookProcessor processor;
+    @Mock
+    private ThreadPoolTaskExecutor executor;
+    @Mock
+    private TenantDetailsService tenantDetailsService;
+    @Mock
+    private BusinessDateReadPlatformService businessDateReadPlatformService;
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private final List<HookDelivery> saved = new ArrayList<>();
+    private final FineractPlatformTenant tenant = new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null);
+    private final HashMap<BusinessDateType, LocalDate> businessDates = new HashMap<>(
+            Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.now(ZoneId.systemDefault())));
+    private final Hook hook = new Hook().setName("receiver").setIsActive(true);
+    private HookDeliveryService underTest;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(tenant);
+        ThreadLocalContextUtil.setBusinessDates(businessDates);
+
+        FineractProperties.FineractHookDeliveryProperties delivery = new FineractProperties.FineractHookDeliveryProperties();
+        delivery.setMaxConcurrentPerHook(1);
+        delivery.setMaxAttempts(2);
+        delivery.setInitialBackoffSeconds(10);
+        delivery.setMaxBackoffSeconds(60);
+        delivery.setPollIntervalSeconds(15);
+        delivery.setBatchSize(10);
+        delivery.setConnectTimeoutSeconds(1);
+        delivery.setReadTimeoutSeconds(1);
+        FineractProperties.FineractHookProperties hookProperties = new FineractProperties.FineractHookProperties();
+        hookProperties.setDelivery(delivery);
+        FineractProperties properties = new FineractProperties();
+        properties.setHook(hookProperties);
+
+        underTest = new HookDeliveryService(deliveryRepository, hookRepository, hookProcessorProvider, tenantDetailsService,
+                businessDateReadPlatformService, taskScheduler, executor, properties);
+
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(deliveryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(deliveryRepository.findById(any())).thenAnswer(invocation -> Optional.of(saved.get(0)));
+        when(deliveryRepository.lease(any(), eq(HookDeliveryStatus.PENDING), any(), any())).thenReturn(1);
+        when(hookRepository.findById(any())).thenReturn(Optional.of(hook));
+        when(hookProcessorProvider.getProcessor(hook)).thenReturn(processor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void successfulDeliveryIsMarkedDelivered() {
+        underTest.enqueue(List.of(hook), "LOAN", "CREATE", "{}");
+
+        HookDelivery delivery = saved.get(0);
+        assertEquals(HookDeliveryStatus.DELIVERED, delivery.getStatus());
+        assertEquals(1, delivery.getAttempts());
+        assertNull(delivery.getLastError());
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithBackoffThenDeadLettered() throws Exception {
+        doThrow(new IOException("URL: http://receiver - Status: 503")).when(processor).process(eq(hook), eq("{}"), eq("LOAN"),
+                eq("CREATE"), any());
+
+        underTest.enqueue(List.of(hook), "LOAN", "CREATE", "{}");
+
+        HookDelivery delivery = saved.get(0);
+        assertEquals(HookDeliveryStatus.PENDING, delivery.getStatus());
+        assertEquals(1, delivery.getAttempts());
+        assertTrue(delivery.getLastError().contains("503"));
+        assertTrue(delivery.getNextAttemptAt().isAfter(OffsetDateTime.now().plusSeconds(5)));
+
+        when(tenantDetailsService.findAllTenants()).thenReturn(List.of(tenant));
+        when(businessDateReadPlatformService.getBusinessDates()).thenReturn(businessDates);
+        when(deliveryRepository.findDueIds(eq(HookDeliveryStatus.PENDING), any(), any(Pageable.class))).thenReturn(List.of(1L));
+        underTest.afterPropertiesSet();
+        ArgumentCaptor<Runnable> poll = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(poll.capture(), any(Trigger.class));
+        poll.getValue().run();
+
+        assertEquals(HookDeliveryStatus.DEAD, delivery.getStatus());
+        assertEquals(2, delivery.getAttempts());
+    }
+
+    @Test
+    void backoffDoublesUpToTheMaximum() {
+        assertEquals(Duration.ofSeconds(10), HookDeliveryService.backoff(1, 10, 3600));
+        assertEquals(Duration.ofSeconds(20), HookDeliveryService.backoff(2, 10, 3600));
+        assertEquals(Duration.ofSeconds(80), HookDeliveryService.backoff(4, 10, 3600));
+        assertEquals(Duration.ofSeconds(3600), HookDeliveryService.backoff(10, 10, 3600));
+        assertEquals(Duration.ofSeconds(3600), HookDeliveryService.backoff(200, 10, 3600));
+    }
+}
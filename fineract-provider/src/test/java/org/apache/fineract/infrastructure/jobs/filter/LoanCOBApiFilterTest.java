@@ -52,6 +52,7 @@ import org.apache.fineract.cob.data.LoanIdAndLastClosedBusinessDate;
 import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.cob.service.InlineLoanCOBExecutorServiceImpl;
 import org.apache.fineract.cob.service.LoanAccountLockService;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
@@ -105,6 +106,8 @@ class LoanCOBApiFilterTest {
     private LoanRescheduleRequestRepository loanRescheduleRequestRepository;
     @Mock
     private RetrieveLoanIdService retrieveLoanIdService;
+    @Mock
+    private LoanCOBStateIndex loanCOBStateIndex;
 
     @BeforeEach
     public void setUp() {
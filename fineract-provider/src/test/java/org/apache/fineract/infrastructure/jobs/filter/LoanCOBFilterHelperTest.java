@@ -25,6 +25,7 @@ import java.util.List;
 import org.apache.fineract.cob.loan.RetrieveLoanIdService;
 import org.apache.fineract.cob.service.InlineLoanCOBExecutorServiceImpl;
 import org.apache.fineract.cob.service.LoanAccountLockService;
+import org.apache.fineract.cob.service.LoanCOBStateIndex;
 import org.apache.fineract.infrastructure.core.config.FineractProperties;
 import org.apache.fineract.infrastructure.core.http.BodyCachingHttpServletRequestWrapper;
 import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
@@ -57,6 +58,8 @@ public class LoanCOBFilterHelperTest {
     private FineractProperties fineractProperties;
     @Mock
     private RetrieveLoanIdService retrieveLoanIdService;
+    @Mock
+    private LoanCOBStateIndex loanCOBStateIndex;
 
     @Mock
     private LoanRescheduleRequestRepository loanRescheduleRequestRepository;
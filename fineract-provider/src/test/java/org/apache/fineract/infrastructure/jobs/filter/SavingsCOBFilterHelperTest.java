@@ -0,0 +1,127 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.jobs.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.apache.fineract.cob.domain.LockOwner;
+import org.apache.fineract.cob.domain.SavingsAccountLock;
+import org.apache.fineract.cob.savings.SavingsLockingService;
+import org.apache.fineract.infrastructure.core.domain.ExternalId;
+import org.apache.fineract.infrastructure.core.http.BodyCachingHttpServletRequestWrapper;
+import org.apache.fineract.infrastructure.security.service.PlatformSecurityContext;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SavingsCOBFilterHelperTest {
+
+    private static final LocalDate COB_DATE = LocalDate.of(2024, 3, 14);
+
+    @Mock
+    private PlatformSecurityContext context;
+    @Mock
+    private SavingsAccountRepository savingsAccountRepository;
+    @Mock
+    private SavingsLockingService savingsLockingService;
+
+    @InjectMocks
+    private SavingsCOBFilterHelper helper;
+
+    @BeforeEach
+    void setUp() {
+        helper.afterPropertiesSet();
+    }
+
+    @Test
+    void onlyWritesOfSavingsAccountsAreChecked() throws IOException {
+        assertTrue(helper.isOnApiList(request("POST", "/v1/savingsaccounts/5/transactions")));
+        assertTrue(helper.isOnApiList(request("PUT", "/v1/fixeddepositaccounts/5")));
+        assertFalse(helper.isOnApiList(request("GET", "/v1/savingsaccounts/5")));
+        assertFalse(helper.isOnApiList(request("POST", "/v1/savingsaccounts/5/transactions/search")));
+        assertFalse(helper.isOnApiList(request("POST", "/v1/loans/5")));
+    }
+
+    @Test
+    void accountLockedByTheCOBIsFound() throws IOException {
+        when(savingsLockingService.findAllBySavingsIdInAndLockOwner(List.of(5L), LockOwner.SAVINGS_COB_CHUNK_PROCESSING))
+                .thenReturn(List.of(new SavingsAccountLock(5L, LockOwner.SAVINGS_COB_CHUNK_PROCESSING, COB_DATE)));
+
+        assertEquals(Optional.of(5L), helper.findLockedSavingsId(request("POST", "/v1/savingsaccounts/5/transactions")));
+    }
+
+    @Test
+    void accountWhoseCOBFailedIsWritable() throws IOException {
+        SavingsAccountLock failedLock = new SavingsAccountLock(5L, LockOwner.SAVINGS_COB_CHUNK_PROCESSING, COB_DATE);
+        failedLock.setError("failed", "stacktrace");
+        when(savingsLockingService.findAllBySavingsIdInAndLockOwner(List.of(5L), LockOwner.SAVINGS_COB_CHUNK_PROCESSING))
+                .thenReturn(List.of(failedLock));
+
+        assertEquals(Optional.empty(), helper.findLockedSavingsId(request("POST", "/v1/savingsaccounts/5")));
+    }
+
+    @Test
+    void externalIdIsResolved() throws IOException {
+        when(savingsAccountRepository.findIdByExternalId(new ExternalId("sav-1"))).thenReturn(7L);
+        when(savingsLockingService.findAllBySavingsIdInAndLockOwner(List.of(7L), LockOwner.SAVINGS_COB_CHUNK_PROCESSING))
+                .thenReturn(List.of(new SavingsAccountLock(7L, LockOwner.SAVINGS_COB_CHUNK_PROCESSING, COB_DATE)));
+
+        assertEquals(Optional.of(7L), helper.findLockedSavingsId(request("POST", "/v1/savingsaccounts/external-id/sav-1")));
+    }
+
+    @Test
+    void batchRequestsAreChecked() throws IOException {
+        String json = """
+                [
+                    {"requestId": 1, "relativeUrl": "savingsaccounts/9/transactions?command=deposit", "method": "POST", "body": "{}"},
+                    {"requestId": 2, "relativeUrl": "savingsaccounts/$.resourceId", "method": "PUT", "body": "{}"}
+                ]
+                """;
+        BodyCachingHttpServletRequestWrapper request = request("POST", "/v1/batches");
+        when(request.getInputStream()).thenAnswer(invocation -> new BodyCachingHttpServletRequestWrapper.CachedBodyServletInputStream(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+        when(savingsLockingService.findAllBySavingsIdInAndLockOwner(List.of(9L), LockOwner.SAVINGS_COB_CHUNK_PROCESSING))
+                .thenReturn(List.of(new SavingsAccountLock(9L, LockOwner.SAVINGS_COB_CHUNK_PROCESSING, COB_DATE)));
+
+        assertTrue(helper.isOnApiList(request));
+        assertEquals(Optional.of(9L), helper.findLockedSavingsId(request));
+    }
+
+    private static BodyCachingHttpServletRequestWrapper request(String method, String pathInfo) {
+        BodyCachingHttpServletRequestWrapper request = Mockito.mock(BodyCachingHttpServletRequestWrapper.class);
+        Mockito.lenient().when(request.getMethod()).thenReturn(method);
+        Mockito.lenient().when(request.getPathInfo()).thenReturn(pathInfo);
+        return request;
+    }
+}
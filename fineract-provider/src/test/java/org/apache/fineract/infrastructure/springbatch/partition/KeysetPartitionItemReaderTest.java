@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.infrastructure.springbatch.partition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+class KeysetPartitionItemReaderTest {
+
+    private static final String CHECKPOINT = "test.lastId";
+
+    @Test
+    void testReaderCheckpointsOnlyCompletedKeys() {
+        TestReader reader = new TestReader(Map.of(1L, List.of("1a", "1b"), 2L, List.of("2a")), 0L, 10L);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+
+        assertEquals("1a", reader.read());
+        reader.update(executionContext);
+        // the second item of key 1 was not handed out yet
+        assertEquals(0L, executionContext.getLong(CHECKPOINT));
+        assertEquals("1b", reader.read());
+        reader.update(executionContext);
+        assertEquals(1L, executionContext.getLong(CHECKPOINT));
+        assertEquals("2a", reader.read());
+        assertNull(reader.read());
+        reader.update(executionContext);
+        assertEquals(2L, executionContext.getLong(CHECKPOINT));
+    }
+
+    @Test
+    void testReaderSkipsKeysWithoutItemsTogetherWithTheirPage() {
+        Map<Long, List<String>> items = new TreeMap<>();
+        items.put(1L, List.of("1a"));
+        items.put(2L, List.of());
+        items.put(3L, List.of());
+        items.put(4L, List.of());
+        items.put(5L, List.of("5a"));
+        TestReader reader = new TestReader(items, 0L, 10L);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+
+        assertEquals("1a", reader.read());
+        reader.update(executionContext);
+        assertEquals(2L, executionContext.getLong(CHECKPOINT));
+        assertEquals("5a", reader.read());
+        assertNull(reader.read());
+        reader.update(executionContext);
+        assertEquals(5L, executionContext.getLong(CHECKPOINT));
+        assertEquals(List.of(0L, 2L, 4L, 5L), reader.keyQueries);
+    }
+
+    @Test
+    void testReaderResumesAfterCheckpointOnRestart() {
+        TestReader reader = new TestReader(Map.of(5L, List.of("5a"), 6L, List.of("6a"), 11L, List.of("11a")), 0L, 10L);
+        ExecutionContext executionContext = new ExecutionContext();
+        executionContext.putLong(CHECKPOINT, 5L);
+        reader.open(executionContext);
+
+        assertEquals("6a", reader.read());
+        assertNull(reader.read());
+        assertEquals(1, reader.initCount);
+    }
+
+    private static final class TestReader extends KeysetPartitionItemReader<String> {
+
+        private final TreeMap<Long, List<String>> itemsByKey;
+        private final List<Long> keyQueries = new ArrayList<>();
+        private int initCount;
+
+        private TestReader(Map<Long, List<String>> itemsByKey, Long minId, Long maxId) {
+            super(CHECKPOINT, minId, maxId, 2);
+            this.itemsByKey = new TreeMap<>(itemsByKey);
+        }
+
+        @Override
+        protected void init() {
+            initCount++;
+        }
+
+        @Override
+        protected List<Long> retrieveKeys(Long afterId, Long maxId, int limit) {
+            keyQueries.add(afterId);
+            return itemsByKey.subMap(afterId, false, maxId, true).keySet().stream().limit(limit).toList();
+        }
+
+        @Override
+        protected List<String> retrieveItems(Long fromIdExclusive, Long toIdInclusive) {
+            return itemsByKey.subMap(fromIdExclusive, false, toIdInclusive, true).values().stream().flatMap(List::stream).toList();
+        }
+
+        @Override
+        protected Long keyOf(String item) {
+            return Long.valueOf(item.substring(0, item.length() - 1));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.core.service.database.DatabaseSpecificSQLGenerator;
+import org.apache.fineract.portfolio.account.PortfolioAccountType;
+import org.apache.fineract.portfolio.account.data.AccountTransferDTO;
+import org.apache.fineract.portfolio.account.data.PortfolioAccountData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionDuesData;
+import org.apache.fineract.portfolio.account.domain.AccountTransferRecurrenceType;
+import org.apache.fineract.portfolio.account.domain.AccountTransferType;
+import org.apache.fineract.portfolio.account.domain.StandingInstructionType;
+import org.apache.fineract.portfolio.account.service.AccountTransfersWritePlatformService;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class StandingInstructionExecutorTest {
+
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 31);
+    private static final Long LOAN_ID = 5L;
+
+    @Mock
+    private StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private DatabaseSpecificSQLGenerator sqlGenerator;
+    @Mock
+    private AccountTransfersWritePlatformService accountTransfersWritePlatformService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Captor
+    private ArgumentCaptor<AccountTransferDTO> transferCaptor;
+
+    private StandingInstructionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+        executor = new StandingInstructionExecutor(standingInstructionReadPlatformService, jdbcTemplate, sqlGenerator,
+                accountTransfersWritePlatformService, transactionManager);
+        when(standingInstructionReadPlatformService.retrieveLoanDuesData(Set.of(LOAN_ID)))
+                .thenReturn(Map.of(LOAN_ID, new StandingInstructionDuesData(BUSINESS_DATE.minusDays(1), BigDecimal.valueOf(100))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testSecondDuesInstructionOfTheSameLoanIsNotPaidTwice() {
+        List<Throwable> errors = executor.execute(
+                List.of(duesInstruction(1L, StandingInstructionType.DUES, null), duesInstruction(2L, StandingInstructionType.DUES, null)));
+
+        assertEquals(List.of(), errors);
+        verify(accountTransfersWritePlatformService, times(1)).transferFunds(transferCaptor.capture());
+        assertEquals(0, BigDecimal.valueOf(100).compareTo(transferCaptor.getValue().getTransactionAmount()));
+    }
+
+    @Test
+    void testDuesInstructionOnlyPaysWhatIsLeftAfterFixedTransfer() {
+        List<Throwable> errors = executor.execute(List.of(duesInstruction(1L, StandingInstructionType.FIXED, BigDecimal.valueOf(30)),
+                duesInstruction(2L, StandingInstructionType.DUES, null)));
+
+        assertEquals(List.of(), errors);
+        verify(accountTransfersWritePlatformService, times(2)).transferFunds(transferCaptor.capture());
+        assertEquals(0, BigDecimal.valueOf(30).compareTo(transferCaptor.getAllValues().get(0).getTransactionAmount()));
+        assertEquals(0, BigDecimal.valueOf(70).compareTo(transferCaptor.getAllValues().get(1).getTransactionAmount()));
+    }
+
+    @Test
+    void testFailedTransferIsNotDeductedFromDues() {
+        when(accountTransfersWritePlatformService.transferFunds(any())).thenThrow(new IllegalStateException("failed"))
+                .thenReturn(1L);
+
+        List<Throwable> errors = executor.execute(
+                List.of(duesInstruction(1L, StandingInstructionType.DUES, null), duesInstruction(2L, StandingInstructionType.DUES, null)));
+
+        assertEquals(1, errors.size());
+        verify(accountTransfersWritePlatformService, times(2)).transferFunds(transferCaptor.capture());
+        assertEquals(0, BigDecimal.valueOf(100).compareTo(transferCaptor.getAllValues().get(1).getTransactionAmount()));
+    }
+
+    private static StandingInstructionData duesInstruction(Long sourceAccountId, StandingInstructionType instructionType,
+            BigDecimal amount) {
+        // instructions that find no dues left stop before the transfer, so their transfer details stay unused
+        PortfolioAccountData sourceAccount = mock(PortfolioAccountData.class, withSettings().strictness(Strictness.LENIENT));
+        when(sourceAccount.getId()).thenReturn(sourceAccountId);
+        PortfolioAccountData loanAccount = mock(PortfolioAccountData.class);
+        when(loanAccount.getId()).thenReturn(LOAN_ID);
+        StandingInstructionData instruction = mock(StandingInstructionData.class, withSettings().strictness(Strictness.LENIENT));
+        when(instruction.getId()).thenReturn(sourceAccountId);
+        when(instruction.fromAccount()).thenReturn(sourceAccount);
+        when(instruction.fromAccountType()).thenReturn(PortfolioAccountType.SAVINGS);
+        when(instruction.toAccount()).thenReturn(loanAccount);
+        when(instruction.toAccountType()).thenReturn(PortfolioAccountType.LOAN);
+        when(instruction.recurrenceType()).thenReturn(AccountTransferRecurrenceType.AS_PER_DUES);
+        when(instruction.instructionType()).thenReturn(instructionType);
+        when(instruction.transferType()).thenReturn(AccountTransferType.LOAN_REPAYMENT);
+        when(instruction.amount()).thenReturn(amount);
+        return instruction;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.portfolio.account.data.PortfolioAccountData;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.apache.fineract.portfolio.account.domain.StandingInstructionStatus;
+import org.apache.fineract.portfolio.account.service.StandingInstructionReadPlatformService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class StandingInstructionItemReaderTest {
+
+    private static final Integer ACTIVE = StandingInstructionStatus.ACTIVE.getValue();
+    private static final LocalDate BUSINESS_DATE = LocalDate.of(2024, 1, 31);
+
+    @Mock
+    private StandingInstructionReadPlatformService standingInstructionReadPlatformService;
+
+    @BeforeEach
+    void setUp() {
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, BUSINESS_DATE)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testReaderCheckpointsOnlyCompletedSourceAccounts() {
+        StandingInstructionData first = instruction(1L);
+        StandingInstructionData second = instruction(1L);
+        StandingInstructionData third = instruction(2L);
+        when(standingInstructionReadPlatformService.retrieveDueStandingInstructionSourceAccountIds(ACTIVE, BUSINESS_DATE, 2, 0L, 10L))
+                .thenReturn(List.of(1L, 2L));
+        when(standingInstructionReadPlatformService.retrieveDueStandingInstructions(ACTIVE, BUSINESS_DATE, 0L, 2L))
+                .thenReturn(List.of(first, second, third));
+        when(standingInstructionReadPlatformService.retrieveDueStandingInstructionSourceAccountIds(ACTIVE, BUSINESS_DATE, 2, 2L, 10L))
+                .thenReturn(List.of());
+
+        StandingInstructionItemReader reader = new StandingInstructionItemReader(standingInstructionReadPlatformService,
+                new StandingInstructionsParameter(0L, 10L), 2);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+
+        assertEquals(first, reader.read());
+        reader.update(executionContext);
+        // the second instruction of source account 1 was not handed out yet
+        assertEquals(0L, executionContext.getLong(StandingInstructionItemReader.LAST_SOURCE_ACCOUNT_ID));
+        assertEquals(second, reader.read());
+        reader.update(executionContext);
+        assertEquals(1L, executionContext.getLong(StandingInstructionItemReader.LAST_SOURCE_ACCOUNT_ID));
+        assertEquals(third, reader.read());
+        assertNull(reader.read());
+        reader.update(executionContext);
+        assertEquals(2L, executionContext.getLong(StandingInstructionItemReader.LAST_SOURCE_ACCOUNT_ID));
+    }
+
+    private static StandingInstructionData instruction(Long sourceAccountId) {
+        PortfolioAccountData sourceAccount = mock(PortfolioAccountData.class);
+        when(sourceAccount.getId()).thenReturn(sourceAccountId);
+        StandingInstructionData instruction = mock(StandingInstructionData.class);
+        when(instruction.fromAccount()).thenReturn(sourceAccount);
+        return instruction;
+    }
+}
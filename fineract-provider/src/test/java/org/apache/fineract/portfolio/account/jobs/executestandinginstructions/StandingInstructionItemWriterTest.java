@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.account.jobs.executestandinginstructions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.jobs.exception.JobExecutionException;
+import org.apache.fineract.portfolio.account.data.StandingInstructionData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+
+@ExtendWith(MockitoExtension.class)
+class StandingInstructionItemWriterTest {
+
+    @Mock
+    private StandingInstructionExecutor standingInstructionExecutor;
+
+    @Test
+    void testFailedTransfersOfAllChunksFailTheStep() throws Exception {
+        Exception first = new Exception("first");
+        Exception second = new Exception("second");
+        when(standingInstructionExecutor.execute(anyList())).thenReturn(List.of(first)).thenReturn(List.of()).thenReturn(List.of(second));
+        StandingInstructionItemWriter writer = new StandingInstructionItemWriter(standingInstructionExecutor);
+        StepExecution stepExecution = new StepExecution("step", null);
+        stepExecution.setStatus(BatchStatus.COMPLETED);
+
+        for (int i = 0; i < 3; i++) {
+            writer.write(new Chunk<>(mock(StandingInstructionData.class)));
+        }
+
+        assertEquals(ExitStatus.FAILED, writer.afterStep(stepExecution));
+        assertEquals(BatchStatus.FAILED, stepExecution.getStatus());
+        JobExecutionException failure = assertInstanceOf(JobExecutionException.class, stepExecution.getFailureExceptions().get(0));
+        assertEquals(List.of(first, second), failure.getCauses());
+    }
+
+    @Test
+    void testStepWithoutFailedTransfersKeepsItsExitStatus() throws Exception {
+        when(standingInstructionExecutor.execute(anyList())).thenReturn(List.of());
+        StandingInstructionItemWriter writer = new StandingInstructionItemWriter(standingInstructionExecutor);
+        StepExecution stepExecution = new StepExecution("step", null);
+        stepExecution.setExitStatus(ExitStatus.COMPLETED);
+
+        writer.write(new Chunk<>(mock(StandingInstructionData.class)));
+
+        assertEquals(ExitStatus.COMPLETED, writer.afterStep(stepExecution));
+        assertEquals(List.of(), stepExecution.getFailureExceptions());
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.loanaccount.jobs.applyholidaystoloans;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.apache.fineract.organisation.holiday.domain.Holiday;
+import org.apache.fineract.organisation.holiday.domain.HolidayRepositoryWrapper;
+import org.apache.fineract.organisation.holiday.domain.RescheduleType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class ApplyHolidaysItemReaderTest {
+
+    private static final LocalDate FROM_DATE = LocalDate.of(2024, 3, 4);
+    private static final LocalDate TO_DATE = LocalDate.of(2024, 3, 8);
+
+    @Mock
+    private RetrieveHolidayLoanIdService retrieveHolidayLoanIdService;
+    @Mock
+    private HolidayRepositoryWrapper holidayRepository;
+
+    @Test
+    void testReaderReturnsEveryPendingHolidayOfALoanInOneItem() {
+        when(holidayRepository.findOneWithNotFoundDetection(1L)).thenReturn(holiday(1L, RescheduleType.RESCHEDULETOSPECIFICDATE));
+        when(holidayRepository.findOneWithNotFoundDetection(2L)).thenReturn(holiday(2L, RescheduleType.RESCHEDULETONEXTREPAYMENTDATE));
+        List<HolidayDueDateWindow> windows = List.of(new HolidayDueDateWindow(1L, FROM_DATE, TO_DATE),
+                new HolidayDueDateWindow(2L, TO_DATE.minusDays(29), TO_DATE));
+        HolidayLoan first = new HolidayLoan(3L, List.of(1L, 2L));
+        HolidayLoan second = new HolidayLoan(7L, List.of(2L));
+        when(retrieveHolidayLoanIdService.retrieveHolidayLoanIds(windows, 0L, 10L, 2)).thenReturn(List.of(3L, 7L));
+        when(retrieveHolidayLoanIdService.retrieveHolidayLoans(windows, 0L, 7L)).thenReturn(List.of(first, second));
+        when(retrieveHolidayLoanIdService.retrieveHolidayLoanIds(windows, 7L, 10L, 2)).thenReturn(List.of());
+
+        ApplyHolidaysItemReader reader = new ApplyHolidaysItemReader(retrieveHolidayLoanIdService, holidayRepository,
+                new ApplyHolidaysParameter(0L, 10L, List.of(1L, 2L)), 2);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+
+        assertEquals(first, reader.read());
+        reader.update(executionContext);
+        assertEquals(3L, executionContext.getLong(ApplyHolidaysItemReader.LAST_LOAN_ID));
+        assertEquals(second, reader.read());
+        assertNull(reader.read());
+        reader.update(executionContext);
+        assertEquals(7L, executionContext.getLong(ApplyHolidaysItemReader.LAST_LOAN_ID));
+    }
+
+    @Test
+    void testReaderWithoutHolidaysDoesNotQuery() {
+        ApplyHolidaysItemReader reader = new ApplyHolidaysItemReader(retrieveHolidayLoanIdService, holidayRepository,
+                new ApplyHolidaysParameter(-1L, 0L, List.of()), 2);
+        reader.open(new ExecutionContext());
+
+        assertNull(reader.read());
+        verifyNoInteractions(retrieveHolidayLoanIdService);
+    }
+
+    private static Holiday holiday(Long id, RescheduleType rescheduleType) {
+        Holiday holiday = mock(Holiday.class);
+        when(holiday.getId()).thenReturn(id);
+        when(holiday.getReScheduleType()).thenReturn(rescheduleType);
+        if (rescheduleType.isResheduleToNextRepaymentDate()) {
+            when(holiday.getToDate()).thenReturn(TO_DATE);
+        } else {
+            when(holiday.getFromDate()).thenReturn(FROM_DATE);
+            when(holiday.getToDate()).thenReturn(TO_DATE);
+        }
+        return holiday;
+    }
+}
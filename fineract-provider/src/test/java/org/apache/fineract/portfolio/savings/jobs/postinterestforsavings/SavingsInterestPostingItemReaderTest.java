@@ -0,0 +1,77 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.jobs.postinterestforsavings;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.fineract.infrastructure.configuration.domain.ConfigurationDomainService;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
+import org.apache.fineract.portfolio.savings.domain.SavingsAccountStatusType;
+import org.apache.fineract.portfolio.savings.service.SavingsAccountReadPlatformService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+@ExtendWith(MockitoExtension.class)
+class SavingsInterestPostingItemReaderTest {
+
+    private static final Integer ACTIVE = SavingsAccountStatusType.ACTIVE.getValue();
+
+    @Mock
+    private SavingsAccountReadPlatformService savingsAccountReadPlatformService;
+    @Mock
+    private ConfigurationDomainService configurationDomainService;
+
+    @Test
+    void testReaderWalksPartitionByKeysetAndCheckpointsLastId() {
+        SavingsAccountData account1 = account(1L);
+        SavingsAccountData account3 = account(3L);
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 2, 0L, 10L)).thenReturn(List.of(1L, 2L));
+        when(savingsAccountReadPlatformService.retrieveAllSavingsDataForInterestPosting(false, ACTIVE, 0L, 2L))
+                .thenReturn(List.of(account1));
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 2, 2L, 10L)).thenReturn(List.of(3L));
+        when(savingsAccountReadPlatformService.retrieveAllSavingsDataForInterestPosting(false, ACTIVE, 2L, 3L))
+                .thenReturn(List.of(account3));
+        when(savingsAccountReadPlatformService.getAccountsIdsByStatusPaged(ACTIVE, 2, 3L, 10L)).thenReturn(List.of());
+
+        SavingsInterestPostingItemReader reader = new SavingsInterestPostingItemReader(savingsAccountReadPlatformService,
+                configurationDomainService, new SavingsInterestPostingParameter(0L, 10L), 2);
+        ExecutionContext executionContext = new ExecutionContext();
+        reader.open(executionContext);
+
+        assertEquals(account1, reader.read());
+        reader.update(executionContext);
+        // account 2 was filtered out by the posting query, so the checkpoint covers the whole page
+        assertEquals(2L, executionContext.getLong(SavingsInterestPostingItemReader.LAST_SAVINGS_ID));
+        assertEquals(account3, reader.read());
+        assertNull(reader.read());
+        reader.update(executionContext);
+        assertEquals(3L, executionContext.getLong(SavingsInterestPostingItemReader.LAST_SAVINGS_ID));
+    }
+
+    private static SavingsAccountData account(Long id) {
+        return mock(SavingsAccountData.class, "savings" + id);
+    }
+}
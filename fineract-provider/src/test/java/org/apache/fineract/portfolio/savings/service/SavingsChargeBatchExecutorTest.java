@@ -0,0 +1,133 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.savings.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.fineract.infrastructure.businessdate.domain.BusinessDateType;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.jobs.service.JobName;
+import org.apache.fineract.infrastructure.springbatch.PropertyService;
+import org.apache.fineract.portfolio.savings.data.SavingsAccountAnnualFeeData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class SavingsChargeBatchExecutorTest {
+
+    @Mock
+    private SavingsAccountWritePlatformService savingsAccountWritePlatformService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private PropertyService propertyService;
+
+    private final FineractProperties fineractProperties = new FineractProperties();
+    private ThreadPoolTaskExecutor taskExecutor;
+
+    @BeforeEach
+    void setUp() {
+        fineractProperties.setJob(new FineractProperties.FineractJobProperties());
+        ThreadLocalContextUtil.setTenant(new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null));
+        ThreadLocalContextUtil.setActionContext(ActionContext.DEFAULT);
+        ThreadLocalContextUtil.setBusinessDates(new HashMap<>(Map.of(BusinessDateType.BUSINESS_DATE, LocalDate.of(2024, 1, 31))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (taskExecutor != null) {
+            taskExecutor.shutdown();
+        }
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void testChargesOfAnAccountAreAppliedTogether() {
+        when(propertyService.getPartitionSize(JobName.PAY_DUE_SAVINGS_CHARGES.name())).thenReturn(100);
+        List<Throwable> errors = executor().applyChargesDue(List.of(charge(1L, 10L), charge(2L, 20L), charge(3L, 10L)));
+
+        assertTrue(errors.isEmpty());
+        verify(savingsAccountWritePlatformService).applyChargesDue(10L, List.of(1L, 3L));
+        verify(savingsAccountWritePlatformService).applyChargesDue(20L, List.of(2L));
+        verify(savingsAccountWritePlatformService, never()).applyChargeDue(anyLong(), anyLong());
+    }
+
+    @Test
+    void testChargesAreAppliedOneByOneWhenTheAccountFails() {
+        when(propertyService.getPartitionSize(JobName.APPLY_ANNUAL_FEE_FOR_SAVINGS.name())).thenReturn(100);
+        RuntimeException insufficientBalance = new RuntimeException("insufficient balance");
+        doThrow(new RuntimeException("batch failed")).when(savingsAccountWritePlatformService).applyAnnualFees(10L, List.of(1L, 2L));
+        doThrow(insufficientBalance).when(savingsAccountWritePlatformService).applyAnnualFee(2L, 10L);
+
+        List<Throwable> errors = executor().applyAnnualFees(List.of(charge(1L, 10L), charge(2L, 10L)));
+
+        verify(savingsAccountWritePlatformService).applyAnnualFee(1L, 10L);
+        assertEquals(1, errors.size());
+        assertSame(insufficientBalance, errors.get(0));
+    }
+
+    @Test
+    void testAccountPartitionsAreProcessedInParallel() {
+        fineractProperties.getJob().setSavingsChargesThreadPoolSize(4);
+        when(propertyService.getPartitionSize(JobName.PAY_DUE_SAVINGS_CHARGES.name())).thenReturn(100);
+        List<SavingsAccountAnnualFeeData> charges = new ArrayList<>();
+        for (long accountId = 1; accountId <= 350; accountId++) {
+            charges.add(charge(accountId * 10, accountId));
+        }
+
+        List<Throwable> errors = executor().applyChargesDue(charges);
+
+        assertTrue(errors.isEmpty());
+        verify(savingsAccountWritePlatformService, times(350)).applyChargesDue(anyLong(), anyList());
+        verify(savingsAccountWritePlatformService).applyChargesDue(350L, List.of(3500L));
+    }
+
+    private SavingsChargeBatchExecutor executor() {
+        taskExecutor = new SavingsChargeTaskExecutorConfig(fineractProperties).savingsChargeExecutor();
+        return new SavingsChargeBatchExecutor(savingsAccountWritePlatformService, fineractProperties, propertyService, taskExecutor,
+                transactionManager);
+    }
+
+    private static SavingsAccountAnnualFeeData charge(Long chargeId, Long accountId) {
+        return SavingsAccountAnnualFeeData.instance(chargeId, accountId, "0000" + accountId, null);
+    }
+}
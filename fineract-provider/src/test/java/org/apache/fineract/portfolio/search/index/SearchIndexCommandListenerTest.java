@@ -0,0 +1,136 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import org.apache.fineract.infrastructure.core.config.FineractProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSearchIndexProperties;
+import org.apache.fineract.infrastructure.core.config.FineractProperties.FineractSearchProperties;
+import org.apache.fineract.infrastructure.core.domain.ActionContext;
+import org.apache.fineract.infrastructure.core.domain.FineractContext;
+import org.apache.fineract.infrastructure.core.domain.FineractPlatformTenant;
+import org.apache.fineract.infrastructure.core.service.ThreadLocalContextUtil;
+import org.apache.fineract.infrastructure.hooks.event.HookEvent;
+import org.apache.fineract.infrastructure.hooks.event.HookEventSource;
+import org.apache.fineract.portfolio.search.data.SearchConditions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+
+class SearchIndexCommandListenerTest {
+
+    private static final FineractPlatformTenant TENANT = new FineractPlatformTenant(1L, "default", "Default", "Asia/Kolkata", null);
+    private static final String HEAD_OFFICE = ".";
+
+    @TempDir
+    private Path directory;
+
+    private final SearchIndexDocumentLoader documentLoader = mock(SearchIndexDocumentLoader.class);
+    private SearchIndexService searchIndexService;
+    private SearchIndexCommandListener underTest;
+
+    @BeforeEach
+    void setUp() {
+        FineractSearchIndexProperties indexProperties = new FineractSearchIndexProperties();
+        indexProperties.setEnabled(true);
+        indexProperties.setDirectory(directory.toString());
+        indexProperties.setMaxHits(10);
+        indexProperties.setRebuildPeriodSeconds(60);
+        FineractSearchProperties searchProperties = new FineractSearchProperties();
+        searchProperties.setIndex(indexProperties);
+        FineractProperties fineractProperties = new FineractProperties();
+        fineractProperties.setSearch(searchProperties);
+        searchIndexService = new SearchIndexService(documentLoader, new SyncTaskExecutor(), mock(TaskScheduler.class),
+                fineractProperties);
+        underTest = new SearchIndexCommandListener(searchIndexService);
+
+        // the first search builds the (empty) index of the tenant on the calling thread
+        ThreadLocalContextUtil.setTenant(TENANT);
+        searchIndexService.search(new SearchConditions("smith", null, false), HEAD_OFFICE);
+        ThreadLocalContextUtil.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchIndexService.destroy();
+        ThreadLocalContextUtil.reset();
+    }
+
+    @Test
+    void updatedClientIsSearchableUnderTheTenantOfTheEvent() {
+        when(documentLoader.load(SearchIndexEntityType.CLIENT, List.of(5L)))
+                .thenReturn(List.of(new SearchIndexDocument(SearchIndexEntityType.CLIENT, 5L, HEAD_OFFICE, "John Smith", List.of())));
+
+        // delivered on a multicaster thread, which has no tenant of its own
+        underTest.onApplicationEvent(event("CLIENT", "UPDATE", "{\"response\":{\"officeId\":null,\"clientId\":5,\"resourceId\":5}}"));
+
+        assertNull(ThreadLocalContextUtil.getTenant());
+        ThreadLocalContextUtil.setTenant(TENANT);
+        assertEquals(List.of(new SearchIndexHit(SearchIndexEntityType.CLIENT, 5L)),
+                searchIndexService.search(new SearchConditions("smith", null, false), HEAD_OFFICE).orElseThrow());
+    }
+
+    @Test
+    void loanIsReindexedByItsIdNotByTheTransactionId() {
+        underTest.onApplicationEvent(event("LOAN", "REPAYMENT", "{\"response\":{\"loanId\":7,\"resourceId\":300}}"));
+
+        verify(documentLoader).load(SearchIndexEntityType.LOAN, List.of(7L));
+    }
+
+    @Test
+    void deletedClientIdentifierIsReindexedByItsOwnId() {
+        underTest.onApplicationEvent(event("CLIENTIDENTIFIER", "DELETE", "{\"response\":{\"clientId\":5,\"resourceId\":12}}"));
+
+        verify(documentLoader).load(SearchIndexEntityType.CLIENTIDENTIFIER, List.of(12L));
+    }
+
+    @Test
+    void centerIsReindexedAsGroup() {
+        underTest.onApplicationEvent(event("CENTER", "UPDATE", "{\"response\":{\"groupId\":3,\"resourceId\":3}}"));
+
+        verify(documentLoader).load(SearchIndexEntityType.GROUP, List.of(3L));
+    }
+
+    @Test
+    void failedCommandsAndOtherEntitiesAreIgnored() {
+        underTest.onApplicationEvent(event("CLIENT", "UPDATE", "{\"status\":\"Exception\",\"response\":{\"errorCode\":\"x\"}}"));
+        underTest.onApplicationEvent(event("OFFICE", "UPDATE", "{\"response\":{\"resourceId\":1}}"));
+
+        verify(documentLoader, never()).load(any(), any());
+        assertNull(ThreadLocalContextUtil.getTenant());
+    }
+
+    private static HookEvent event(String entityName, String actionName, String payload) {
+        FineractContext context = new FineractContext(null, TENANT, null, new HashMap<>(), ActionContext.DEFAULT);
+        return new HookEvent(new HookEventSource(entityName, actionName), payload, null, context);
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership. The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.fineract.portfolio.search.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TenantSearchIndexTest {
+
+    private static final Set<SearchIndexEntityType> ALL = EnumSet.allOf(SearchIndexEntityType.class);
+    private static final String HEAD_OFFICE = ".";
+    private static final String BRANCH = ".2.";
+    private static final String OTHER_BRANCH = ".3.";
+
+    private TenantSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new TenantSearchIndex(new ByteBuffersDirectory());
+        index.index(document(SearchIndexEntityType.CLIENT, 1L, BRANCH, "John Smith", "000000001", "EXT-JS", "5551234"));
+        index.index(document(SearchIndexEntityType.CLIENT, 2L, OTHER_BRANCH, "Jane Doe", "000000002", null, null));
+        index.index(document(SearchIndexEntityType.LOAN, 10L, BRANCH, null, "000000010", "loan-ext-10"));
+        index.index(document(SearchIndexEntityType.LOAN, 11L, null, null, "000000011", null));
+        index.index(document(SearchIndexEntityType.GROUP, 20L, BRANCH, "Smithfield Traders", "000000020", null));
+        index.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void exactMatchRequiresTheWholeValue() throws IOException {
+        assertEquals(List.of(hit(SearchIndexEntityType.CLIENT, 1L)), search("ext-js", true, ALL, HEAD_OFFICE));
+        assertEquals(List.of(hit(SearchIndexEntityType.CLIENT, 1L)), search("john smith", true, ALL, HEAD_OFFICE));
+        assertTrue(search("ext", true, ALL, HEAD_OFFICE).isEmpty());
+    }
+
+    @Test
+    void identifiersMatchByPrefixAndWithoutPadding() throws IOException {
+        assertEquals(List.of(hit(SearchIndexEntityType.LOAN, 10L)), search("loan-ext", false, ALL, HEAD_OFFICE));
+        assertEquals(List.of(hit(SearchIndexEntityType.LOAN, 10L)), search("10", false, ALL, HEAD_OFFICE));
+        assertEquals(List.of(hit(SearchIndexEntityType.LOAN, 11L)), search("0000011", false, ALL, HEAD_OFFICE));
+    }
+
+    @Test
+    void nameWordsMatchByPrefixAndEditDistance() throws IOException {
+        assertEquals(Set.of(hit(SearchIndexEntityType.CLIENT, 1L), hit(SearchIndexEntityType.GROUP, 20L)),
+                Set.copyOf(search("smith", false, ALL, HEAD_OFFICE)));
+        assertEquals(List.of(hit(SearchIndexEntityType.CLIENT, 1L)), search("jhon smith", false, ALL, HEAD_OFFICE));
+        assertEquals(List.of(hit(SearchIndexEntityType.GROUP, 20L)), search("trad", false, ALL, HEAD_OFFICE));
+    }
+
+    @Test
+    void resultsAreRestrictedToTheOfficeHierarchyAndEntityTypes() throws IOException {
+        assertTrue(search("jane", false, ALL, BRANCH).isEmpty());
+        assertEquals(List.of(hit(SearchIndexEntityType.CLIENT, 2L)), search("jane", false, ALL, OTHER_BRANCH));
+        // accounts without an office are visible everywhere, like in the database search
+        assertEquals(List.of(hit(SearchIndexEntityType.LOAN, 11L)), search("000000011", true, ALL, OTHER_BRANCH));
+        assertEquals(List.of(hit(SearchIndexEntityType.GROUP, 20L)),
+                search("smith", false, EnumSet.of(SearchIndexEntityType.GROUP), HEAD_OFFICE));
+    }
+
+    @Test
+    void reindexReplacesAndDeleteRemovesTheDocument() throws IOException {
+        index.index(document(SearchIndexEntityType.CLIENT, 1L, BRANCH, "John Brown", "000000001", null, null));
+        index.delete(SearchIndexEntityType.GROUP, 20L);
+        index.refresh();
+
+        assertTrue(search("smith", false, ALL, HEAD_OFFICE).isEmpty());
+        assertEquals(List.of(hit(SearchIndexEntityType.CLIENT, 1L)), search("brown", false, ALL, HEAD_OFFICE));
+    }
+
+    private List<SearchIndexHit> search(String text, boolean exactMatch, Set<SearchIndexEntityType> entityTypes, String hierarchy)
+            throws IOException {
+        return index.search(text, exactMatch, entityTypes, hierarchy, 50);
+    }
+
+    private static SearchIndexDocument document(SearchIndexEntityType entityType, Long entityId, String hierarchy, String name,
+            String... keys) {
+        return new SearchIndexDocument(entityType, entityId, hierarchy, name, Arrays.asList(keys));
+    }
+
+    private static SearchIndexHit hit(SearchIndexEntityType entityType, Long entityId) {
+        return new SearchIndexHit(entityType, entityId);
+    }
+}
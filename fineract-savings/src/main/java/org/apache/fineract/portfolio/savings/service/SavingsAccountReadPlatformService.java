@@ -27,6 +27,7 @@ import org.apache.fineract.infrastructure.core.service.SearchParameters;
 import org.apache.fineract.portfolio.savings.DepositAccountType;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountData;
 import org.apache.fineract.portfolio.savings.data.SavingsAccountTransactionData;
+import org.apache.fineract.portfolio.savings.data.SavingsInterestPostingPartition;
 
 public interface SavingsAccountReadPlatformService {
 
@@ -63,9 +64,16 @@ public interface SavingsAccountReadPlatformService {
 
     List<Long> getAccountsIdsByStatusPaged(Integer status, int pageSize, Long maxSavingsIdInList);
 
+    List<Long> getAccountsIdsByStatusPaged(Integer status, int pageSize, Long minSavingsIdExclusive, Long maxSavingsIdInclusive);
+
     List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(boolean backdatedTxnsAllowedTill, int pageSize, Integer status,
             Long maxSavingsId);
 
+    List<SavingsAccountData> retrieveAllSavingsDataForInterestPosting(boolean backdatedTxnsAllowedTill, Integer status,
+            Long minSavingsIdExclusive, Long maxSavingsIdInclusive);
+
+    List<SavingsInterestPostingPartition> retrieveSavingsInterestPostingPartitions(Integer status, int partitionSize);
+
     List<SavingsAccountTransactionData> retrieveAllTransactionData(List<String> refNo);
 
     Long retrieveAccountIdByExternalId(ExternalId externalId);
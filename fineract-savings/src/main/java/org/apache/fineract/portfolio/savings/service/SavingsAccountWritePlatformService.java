@@ -20,6 +20,7 @@ package org.apache.fineract.portfolio.savings.service;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Set;
 import org.apache.fineract.infrastructure.core.api.JsonCommand;
 import org.apache.fineract.infrastructure.core.data.CommandProcessingResult;
@@ -39,6 +40,11 @@ public interface SavingsAccountWritePlatformService {
 
     CommandProcessingResult applyAnnualFee(Long savingsAccountChargeId, Long accountId);
 
+    /**
+     * Applies the due annual fees of one account in a single load, interest recalculation and save of the account.
+     */
+    void applyAnnualFees(Long accountId, List<Long> savingsAccountChargeIds);
+
     CommandProcessingResult calculateInterest(Long savingsId);
 
     CommandProcessingResult reverseTransaction(Long savingsId, Long transactionId, boolean allowAccountTransferModification,
@@ -76,6 +82,11 @@ public interface SavingsAccountWritePlatformService {
 
     void applyChargeDue(Long savingsAccountChargeId, Long accountId);
 
+    /**
+     * Pays the due charges of one account in a single load, interest recalculation and save of the account.
+     */
+    void applyChargesDue(Long accountId, List<Long> savingsAccountChargeIds);
+
     void processPostActiveActions(SavingsAccount account, DateTimeFormatter fmt, Set<Long> existingTransactionIds,
             Set<Long> existingReversedTransactionIds);
 
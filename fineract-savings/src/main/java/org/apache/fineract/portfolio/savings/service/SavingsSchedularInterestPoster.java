@@ -94,6 +94,14 @@ public class SavingsSchedularInterestPoster {
         }
     }
 
+    /**
+     * Bulk writes the interest posting transactions, the account summaries and the journal entries of already processed
+     * accounts. Runs in the caller's transaction.
+     */
+    public void writePostedInterest(final List<SavingsAccountData> postedSavingsAccounts) throws DataAccessException {
+        batchUpdate(postedSavingsAccounts);
+    }
+
     private void batchUpdateJournalEntries(final List<SavingsAccountData> savingsAccountDataList,
             final HashMap<String, SavingsAccountTransactionData> savingsAccountTransactionDataHashMap)
             throws DataAccessException, NullPointerException {
@@ -156,7 +164,6 @@ public class SavingsSchedularInterestPoster {
         return this.savingsAccountReadPlatformService.retrieveAllTransactionData(refNo);
     }
 
-    @SuppressWarnings("unused")
     private void batchUpdate(final List<SavingsAccountData> savingsAccountDataList) throws DataAccessException {
         String queryForSavingsUpdate = batchQueryForSavingsSummaryUpdate();
         String queryForTransactionInsertion = batchQueryForTransactionInsertion();